@@ -0,0 +1,89 @@
+package targeter.aim.domain.challenge.timer;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import targeter.aim.system.configuration.timer.TimerProperties;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 운영 경로(ChallengeRunningSessionManager, 저널 기록 포함)의 START -> isRunning -> STOP 한 사이클 비용.
+ * 스레드마다 다른 방을 쓰는 경우(세그먼트가 갈림)와 모든 스레드가 한 방에 몰리는 경우(한 세그먼트)를 비교한다.
+ *
+ * ./gradlew jmh -Pjmh.includes=ChallengeRunningSessionManagerBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(8)
+public class ChallengeRunningSessionManagerBenchmark {
+
+    private static final long HOT_ROOM = 1L;
+
+    @Param({"1000", "100000"})
+    private int activeSessions;
+
+    private Path dir;
+    private ChallengeRunningSessionManager manager;
+    private final AtomicLong threadSeq = new AtomicLong();
+
+    @State(Scope.Thread)
+    public static class Ids {
+        long base;
+        long next;
+
+        @Setup(Level.Trial)
+        public void setUp(ChallengeRunningSessionManagerBenchmark benchmark) {
+            // 스레드끼리 같은 (challengeId, userId) 를 만들지 않도록 구간을 나눈다
+            base = 10_000_000L * (benchmark.threadSeq.incrementAndGet() + 1);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("timer-bench");
+        TimerProperties properties = new TimerProperties();
+        properties.getJournal().setPath(dir.resolve("sessions.journal").toString());
+
+        manager = new ChallengeRunningSessionManager(properties);
+        manager.recover();
+
+        // 실제 피크처럼 이미 실행 중인 세션들이 깔려 있는 상태에서 측정
+        for (int i = 1; i <= activeSessions; i++) {
+            manager.start(i + 1_000L, i + 1_000_000L, 0L);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        manager.flush();
+        try (var files = Files.list(dir)) {
+            for (Path file : files.toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+        Files.deleteIfExists(dir);
+    }
+
+    @Benchmark
+    public void separateRooms(Ids ids, Blackhole bh) {
+        long id = ids.base + (ids.next++ & 0xFFFFF);
+        cycle(id, id, bh);
+    }
+
+    @Benchmark
+    public void sameRoom(Ids ids, Blackhole bh) {
+        long userId = ids.base + (ids.next++ & 0xFFFFF);
+        cycle(HOT_ROOM, userId, bh);
+    }
+
+    private void cycle(long challengeId, long userId, Blackhole bh) {
+        bh.consume(manager.start(challengeId, userId, 0L));
+        bh.consume(manager.isRunning(challengeId, userId));
+        bh.consume(manager.stop(challengeId, userId));
+    }
+}
@@ -0,0 +1,70 @@
+package targeter.aim.domain.challenge.timer;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기존 ConcurrentHashMap&lt;String, LocalDateTime&gt; 방식과 RunningSessionTable 의
+ * START -> isRunning -> STOP 한 사이클 비용 비교.
+ *
+ * ./gradlew jmh -Pjmh.includes=RunningSessionTableBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(8)
+public class RunningSessionTableBenchmark {
+
+    @Param({"1000", "100000"})
+    private int activeSessions;
+
+    private ConcurrentHashMap<String, LocalDateTime> stringMap;
+    private RunningSessionTable table;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        stringMap = new ConcurrentHashMap<>();
+        table = new RunningSessionTable();
+
+        // 실제 피크처럼 이미 실행 중인 세션들이 깔려 있는 상태에서 측정
+        for (int i = 1; i <= activeSessions; i++) {
+            long challengeId = i;
+            long userId = i + 1_000_000L;
+            stringMap.put(challengeId + ":" + userId, LocalDateTime.now());
+            table.putIfAbsent(challengeId, userId, System.nanoTime());
+        }
+    }
+
+    @Benchmark
+    public void concurrentHashMapStringKey(Blackhole bh) {
+        Long challengeId = 2_000_000L + ThreadLocalRandom.current().nextInt(1_000_000);
+        Long userId = 3_000_000L + ThreadLocalRandom.current().nextInt(1_000_000);
+
+        String key = challengeId + ":" + userId;
+        if (stringMap.putIfAbsent(key, LocalDateTime.now()) != null) {
+            return;
+        }
+        bh.consume(stringMap.containsKey(challengeId + ":" + userId));
+        LocalDateTime startedAt = stringMap.remove(challengeId + ":" + userId);
+        bh.consume(Duration.between(startedAt, LocalDateTime.now()).getSeconds());
+    }
+
+    @Benchmark
+    public void runningSessionTable(Blackhole bh) {
+        long challengeId = 2_000_000L + ThreadLocalRandom.current().nextInt(1_000_000);
+        long userId = 3_000_000L + ThreadLocalRandom.current().nextInt(1_000_000);
+
+        if (!table.putIfAbsent(challengeId, userId, System.nanoTime())) {
+            return;
+        }
+        bh.consume(table.contains(challengeId, userId));
+        long startNanos = table.remove(challengeId, userId);
+        bh.consume(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startNanos));
+    }
+}
@@ -18,8 +18,9 @@ import targeter.aim.domain.file.entity.ProfileImage;
 import targeter.aim.domain.file.handler.FileHandler;
 import targeter.aim.domain.user.dto.UserDto;
 import targeter.aim.domain.user.entity.Tier;
+import targeter.aim.domain.user.entity.TierGrade;
 import targeter.aim.domain.user.entity.User;
-import targeter.aim.domain.user.repository.TierRepository;
+import targeter.aim.domain.user.registry.TierRegistry;
 import targeter.aim.domain.user.repository.UserRepository;
 import targeter.aim.system.exception.model.ErrorCode;
 import targeter.aim.system.exception.model.RestException;
@@ -35,7 +36,7 @@ import targeter.aim.system.security.utility.jwt.JwtTokenResolver;
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final TierRepository tierRepository;
+    private final TierRegistry tierRegistry;
 
     private final JwtTokenProvider jwtTokenProvider;
     private final JwtTokenResolver jwtTokenResolver;
@@ -59,8 +60,7 @@ public class AuthService {
 
         toSave.setLevel(1);
 
-        Tier bronze = tierRepository.findByName("BRONZE")
-                .orElseThrow(() -> new RestException(ErrorCode.TIER_NOT_FOUND));
+        Tier bronze = tierRegistry.reference(TierGrade.BRONZE);
         toSave.setTier(bronze);
 
         User saved = userRepository.save(toSave);
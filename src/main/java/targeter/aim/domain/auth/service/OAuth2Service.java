@@ -19,8 +19,9 @@ import targeter.aim.domain.auth.token.repository.RefreshTokenRepository;
 import targeter.aim.domain.user.dto.UserDto;
 import targeter.aim.domain.user.entity.SocialLogin;
 import targeter.aim.domain.user.entity.Tier;
+import targeter.aim.domain.user.entity.TierGrade;
 import targeter.aim.domain.user.entity.User;
-import targeter.aim.domain.user.repository.TierRepository;
+import targeter.aim.domain.user.registry.TierRegistry;
 import targeter.aim.domain.user.repository.UserRepository;
 import targeter.aim.system.exception.model.ErrorCode;
 import targeter.aim.system.exception.model.RestException;
@@ -37,7 +38,7 @@ import java.util.Optional;
 public class OAuth2Service {
 
     private final UserRepository userRepository;
-    private final TierRepository tierRepository;
+    private final TierRegistry tierRegistry;
     private final JwtTokenProvider jwtTokenProvider;
     private final JwtTokenResolver jwtTokenResolver;
     private final RefreshTokenRepository refreshTokenRepository;
@@ -149,8 +150,7 @@ public class OAuth2Service {
         } else {
             isNewUser = true;
 
-            Tier bronze = tierRepository.findByName("BRONZE")
-                    .orElseThrow(() -> new RestException(ErrorCode.TIER_NOT_FOUND));
+            Tier bronze = tierRegistry.reference(TierGrade.BRONZE);
 
             user = User.builder()
                     .nickname(generateUniqueNickname(nicknameFromKakao))
@@ -224,8 +224,7 @@ public class OAuth2Service {
     }
 
     private User createGoogleUser(String email, String googleSub) {
-        Tier bronze = tierRepository.findByName("BRONZE")
-                .orElseThrow(() -> new RestException(ErrorCode.TIER_NOT_FOUND));
+        Tier bronze = tierRegistry.reference(TierGrade.BRONZE);
 
         User user = User.builder()
                 .loginId(null)
@@ -0,0 +1,170 @@
+package targeter.aim.domain.challenge.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import targeter.aim.domain.challenge.dto.ChallengeDto;
+import targeter.aim.domain.challenge.entity.ChallengeVisibility;
+import targeter.aim.domain.challenge.event.ChallengeLikeToggledEvent;
+import targeter.aim.domain.challenge.event.ChallengeMembershipChangedEvent;
+import targeter.aim.domain.challenge.event.ChallengeProgressChangedEvent;
+import targeter.aim.domain.challenge.event.ChallengeSettledEvent;
+import targeter.aim.domain.challenge.event.ChallengeUpdatedEvent;
+import targeter.aim.system.configuration.cache.CacheNames;
+import targeter.aim.system.configuration.cache.CacheProperties;
+import targeter.aim.system.exception.model.ErrorCode;
+import targeter.aim.system.exception.model.RestException;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * VS 챌린지 Overview 결과 캐시.
+ * 챌린지마다 버전을 두고 (챌린지, 버전, 날짜) 로 양쪽 시점의 응답을 담는다.
+ * 타이머 STOP / 정산 / 멤버 변경 / 수정 / 좋아요 이벤트가 커밋되면 버전을 올려 이전 항목을 버린다.
+ * 조회 전에 읽은 버전으로 저장하므로, 계산 도중 바뀐 결과가 새 버전으로 남지 않는다.
+ *
+ * 버전과 캐시 모두 노드 메모리에 있고, 다른 노드의 변경은 ClusterEventRelay 가 같은 이벤트를 이 노드에 다시 발행해 반영된다.
+ * 버전은 노드 전체에서 한 번씩만 쓰는 값(stamp)이라 같은 (챌린지, 버전) 키가 다시 나오지 않는다.
+ * 정산 / 멤버 변경(삭제 포함) 때는 챌린지의 버전 항목을 지워 맵이 쌓이지 않게 하고, 그 챌린지에만 음수 stamp 묘비를 남긴다.
+ * 묘비는 Overview 캐시 만료 시간(+여유)이 지나면 사라지는데, 그때는 지우기 전 버전으로 저장된 항목도 모두 만료되어 있어
+ * 기본 버전(0)으로 돌아가도 이전 결과가 다시 읽히지 않는다. 다른 챌린지의 버전은 건드리지 않는다.
+ */
+@Component
+public class VsOverviewCache {
+
+    // 지우기 직전에 읽은 버전으로 계산 중이던 결과가 늦게 저장되는 경우까지 덮는 여유
+    private static final Duration TOMBSTONE_MARGIN = Duration.ofMinutes(10);
+
+    private final CacheManager cacheManager;
+
+    // 바뀐 적 있는 챌린지의 현재 버전 (양수)
+    private final ConcurrentHashMap<Long, Long> versions = new ConcurrentHashMap<>();
+    private final AtomicLong stamp = new AtomicLong();
+    // 버전 항목을 지운 챌린지의 버전 (음수 stamp)
+    private final ConcurrentMap<Long, Long> tombstones;
+
+    public VsOverviewCache(CacheManager cacheManager, CacheProperties cacheProperties) {
+        this.cacheManager = cacheManager;
+
+        Duration retention = max(
+                cacheProperties.expireAfterWriteOf(CacheNames.VS_OVERVIEW),
+                cacheProperties.expireAfterWriteOf(CacheNames.VS_OVERVIEW_LIKED)
+        ).plus(TOMBSTONE_MARGIN);
+        this.tombstones = Caffeine.newBuilder()
+                .expireAfterWrite(retention)
+                .<Long, Long>build()
+                .asMap();
+    }
+
+    // currentWeek 가 날짜에 따라 바뀌므로 날짜도 키에 넣는다
+    private record Key(Long challengeId, long version, LocalDate day) {}
+
+    private record LikedKey(Long challengeId, Long userId, long version) {}
+
+    /**
+     * 한 챌린지의 Overview. 방장 시점과 멤버 시점 응답을 함께 담으며, 좋아요 여부는 false 로 채워 둔다.
+     */
+    public record Snapshot(
+            ChallengeVisibility visibility,
+            Long hostId,
+            Long memberId,
+            ChallengeDto.VsChallengeOverviewResponse hostView,
+            ChallengeDto.VsChallengeOverviewResponse memberView
+    ) {
+        public void validateReadable(Long loginUserId) {
+            if (visibility != ChallengeVisibility.PRIVATE) return;
+
+            if (loginUserId == null) {
+                throw new RestException(ErrorCode.AUTH_AUTHENTICATION_FAILED);
+            }
+            if (!loginUserId.equals(hostId) && !loginUserId.equals(memberId)) {
+                throw new RestException(ErrorCode.AUTH_FORBIDDEN);
+            }
+        }
+
+        // 멤버 본인이면 멤버 시점, 그 외(방장 / 비로그인 / 구경하는 유저)는 방장 시점
+        public ChallengeDto.VsChallengeOverviewResponse viewFor(Long loginUserId) {
+            return memberView != null && Objects.equals(loginUserId, memberId) ? memberView : hostView;
+        }
+    }
+
+    public long version(Long challengeId) {
+        Long version = versions.get(challengeId);
+        if (version != null) return version;
+
+        Long tombstone = tombstones.get(challengeId);
+        return tombstone == null ? 0L : tombstone;
+    }
+
+    public Snapshot get(Long challengeId, long version, LocalDate day) {
+        return cache().get(new Key(challengeId, version, day), Snapshot.class);
+    }
+
+    public void put(Long challengeId, long version, LocalDate day, Snapshot snapshot) {
+        cache().put(new Key(challengeId, version, day), snapshot);
+    }
+
+    public Boolean liked(Long challengeId, Long userId, long version) {
+        return likedCache().get(new LikedKey(challengeId, userId, version), Boolean.class);
+    }
+
+    public void putLiked(Long challengeId, Long userId, long version, boolean liked) {
+        likedCache().put(new LikedKey(challengeId, userId, version), liked);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProgressChanged(ChallengeProgressChangedEvent event) {
+        bump(event.challengeId());
+    }
+
+    // 정산 후에는 타이머 / 멤버 변경이 더 없으므로 버전 항목을 지운다
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSettled(ChallengeSettledEvent event) {
+        prune(event.challengeId());
+    }
+
+    // 삭제된 챌린지도 이 이벤트로 오므로 버전 항목을 지운다
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipChanged(ChallengeMembershipChangedEvent event) {
+        prune(event.challengeId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUpdated(ChallengeUpdatedEvent event) {
+        bump(event.challengeId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLikeToggled(ChallengeLikeToggledEvent event) {
+        bump(event.challengeId());
+    }
+
+    private void bump(Long challengeId) {
+        versions.put(challengeId, stamp.incrementAndGet());
+    }
+
+    // 묘비를 먼저 남기고 지워야, 그 사이 읽는 쪽이 이전에 쓰던 기본 버전(0)을 보지 않는다
+    private void prune(Long challengeId) {
+        tombstones.put(challengeId, -stamp.incrementAndGet());
+        versions.remove(challengeId);
+    }
+
+    private static Duration max(Duration a, Duration b) {
+        return a.compareTo(b) >= 0 ? a : b;
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache(CacheNames.VS_OVERVIEW);
+    }
+
+    private Cache likedCache() {
+        return cacheManager.getCache(CacheNames.VS_OVERVIEW_LIKED);
+    }
+}
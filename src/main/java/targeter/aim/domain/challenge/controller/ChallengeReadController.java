@@ -1,6 +1,7 @@
 package targeter.aim.domain.challenge.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
@@ -13,6 +14,8 @@ import targeter.aim.domain.challenge.service.ChallengeReadService;
 import targeter.aim.system.security.annotation.NoJwtAuth;
 import targeter.aim.system.security.model.UserDetails;
 
+import static targeter.aim.system.paging.PageCountCache.COUNT_DESCRIPTION;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/challenges")
@@ -30,9 +33,10 @@ public class ChallengeReadController {
     public ChallengeDto.ChallengePageResponse getVsChallenges(
             @ModelAttribute @ParameterObject ChallengeDto.VsListSearchCondition condition,
             @PageableDefault(size = 16) @ParameterObject Pageable pageable,
+            @Parameter(description = COUNT_DESCRIPTION) @RequestParam(name = "count", defaultValue = "true") boolean count,
             @AuthenticationPrincipal UserDetails userDetails
     ) {
-        return challengeService.getVsChallenges(condition, userDetails, pageable);
+        return challengeService.getVsChallenges(condition, userDetails, pageable, count);
     }
 
     @NoJwtAuth("VS 챌린지 상세 조회는 인증을 필요로 하지 않음")
@@ -56,9 +60,10 @@ public class ChallengeReadController {
     public ChallengeDto.ChallengePageResponse getSoloChallenges(
             @ModelAttribute @ParameterObject ChallengeDto.SoloListSearchCondition request,
             @PageableDefault(size = 16) @ParameterObject Pageable pageable,
+            @Parameter(description = COUNT_DESCRIPTION) @RequestParam(name = "count", defaultValue = "true") boolean count,
             @AuthenticationPrincipal UserDetails userDetails
     ) {
-        return challengeService.getSoloChallenges(request, userDetails, pageable);
+        return challengeService.getSoloChallenges(request, userDetails, pageable, count);
     }
 
     @GetMapping("/solo/{challengeId}/overview")
@@ -81,9 +86,10 @@ public class ChallengeReadController {
     public ChallengeDto.ChallengePageResponse getAllChallenges(
             @ModelAttribute @ParameterObject ChallengeDto.AllListSearchCondition request,
             @PageableDefault(size = 16) @ParameterObject Pageable pageable,
+            @Parameter(description = COUNT_DESCRIPTION) @RequestParam(name = "count", defaultValue = "true") boolean count,
             @AuthenticationPrincipal UserDetails userDetails
     ) {
-        return challengeService.getAllChallenges(request, userDetails, pageable);
+        return challengeService.getAllChallenges(request, userDetails, pageable, count);
     }
 
     @GetMapping("/liked")
@@ -94,9 +100,10 @@ public class ChallengeReadController {
     public ChallengeDto.ChallengePageResponse getLikedChallenges(
             @ModelAttribute @ParameterObject ChallengeDto.AllListSearchCondition request,
             @PageableDefault(size = 16) @ParameterObject Pageable pageable,
+            @Parameter(description = COUNT_DESCRIPTION) @RequestParam(name = "count", defaultValue = "true") boolean count,
             @AuthenticationPrincipal UserDetails userDetails
     ) {
-        return challengeService.getLikedChallenges(request, userDetails, pageable);
+        return challengeService.getLikedChallenges(request, userDetails, pageable, count);
     }
 
     @NoJwtAuth
@@ -109,8 +116,9 @@ public class ChallengeReadController {
             @RequestParam(required = false) String keyword,
             @RequestParam(defaultValue = "LATEST") ChallengeDto.ChallengeSortType sort,
             @PageableDefault(size = 16) @ParameterObject Pageable pageable,
+            @Parameter(description = COUNT_DESCRIPTION) @RequestParam(name = "count", defaultValue = "true") boolean count,
             @AuthenticationPrincipal UserDetails userDetails
     ) {
-        return challengeService.searchChallenges(keyword, sort, pageable, userDetails);
+        return challengeService.searchChallenges(keyword, sort, pageable, count, userDetails);
     }
 }
\ No newline at end of file
@@ -8,24 +8,23 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import targeter.aim.domain.challenge.dto.TimerDto;
-import targeter.aim.domain.challenge.entity.Challenge;
-import targeter.aim.domain.challenge.repository.ChallengeRepository;
 import targeter.aim.domain.challenge.service.ChallengeTimerService;
-import targeter.aim.domain.user.entity.User;
-import targeter.aim.domain.user.repository.UserRepository;
+import targeter.aim.domain.challenge.timer.TimerBroadcaster;
+import targeter.aim.domain.challenge.timer.TimerFrame;
+import targeter.aim.domain.challenge.timer.TimerSessionContext;
+import targeter.aim.domain.challenge.timer.TimerSessionContextRegistry;
 import targeter.aim.system.exception.model.ErrorCode;
 import targeter.aim.system.exception.model.RestException;
 
-import java.security.Principal;
 import java.time.LocalDateTime;
-import java.util.Map;
 
 @Controller
 @RequiredArgsConstructor
@@ -33,82 +32,55 @@ import java.util.Map;
 public class ChallengeTimerWebSocketController {
 
     private final ChallengeTimerService challengeTimerService;
-    private final ChallengeRepository challengeRepository;
-    private final UserRepository userRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final TimerSessionContextRegistry contextRegistry;
+    private final TimerBroadcaster broadcaster;
 
     @MessageMapping("/challenge/{challengeId}/timer")
     public void handleTimerAction(
             @DestinationVariable Long challengeId,
             @Payload TimerDto.TimerActionRequest request,
-            Principal principal
+            @Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) String sessionId
     ) {
 
         try {
-            Long userId = Long.valueOf(principal.getName());
+            // CONNECT 시점에 인증된 유저 정보가 연결 컨텍스트에 들어있다
+            TimerSessionContext context = contextRegistry.get(sessionId);
 
-            if (userId == null) {
+            if (context == null) {
                 throw new RestException(ErrorCode.AUTH_LOGIN_REQUIRED);
             }
 
-            Challenge challenge = challengeRepository.findById(challengeId)
-                    .orElseThrow(() -> new RestException(ErrorCode.CHALLENGE_NOT_FOUND));
-
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new RestException(ErrorCode.USER_NOT_FOUND));
-
             switch (request.getAction()) {
-                case "START" -> handleStart(challenge, user);
-                case "STOP" -> handleStop(challenge, user);
+                case "START" -> handleStart(context, challengeId);
+                case "STOP" -> handleStop(context, challengeId);
+                case "HEARTBEAT" -> challengeTimerService.heartbeat(context, challengeId);
                 default -> throw new RestException(ErrorCode.CHALLENGE_INVALID_TIMER_ACTION);
             }
 
         } catch (RestException e) {
 
-            messagingTemplate.convertAndSend(
-                    "/sub/challenge/" + challengeId,
-                    Map.of(
-                            "status", "ERROR",
-                            "code", e.getErrorCode().name(),
-                            "message", e.getErrorCode().getMessage()
-                    )
-            );
+            broadcaster.broadcast(challengeId, TimerFrame.error(e.getErrorCode()));
         }
     }
 
-    private void handleStart(Challenge challenge, User user) {
+    private void handleStart(TimerSessionContext context, Long challengeId) {
 
         LocalDateTime startedAt =
-                challengeTimerService.startTimer(challenge, user);
-
-        TimerDto.TimerUpdateResponse response =
-                TimerDto.TimerUpdateResponse.builder()
-                        .senderId(user.getId())
-                        .status("ON")
-                        .startedAt(startedAt)
-                        .message("상대방이 챌린지를 시작했습니다.")
-                        .build();
-
-        messagingTemplate.convertAndSend(
-                "/sub/challenge/" + challenge.getId(),
-                response
-        );
+                challengeTimerService.startTimer(context, challengeId);
+
+        broadcaster.broadcast(challengeId, TimerFrame.on(context.getUserId(), startedAt));
     }
 
-    private void handleStop(Challenge challenge, User user) {
+    private void handleStop(TimerSessionContext context, Long challengeId) {
+
+        if (challengeTimerService.forwardStopToOwner(context, challengeId)) {
+            return;
+        }
 
         long accumulatedTime =
-                challengeTimerService.stopTimer(challenge, user);
-
-        messagingTemplate.convertAndSend(
-                "/sub/challenge/" + challenge.getId(),
-                TimerDto.TimerUpdateResponse.builder()
-                        .senderId(user.getId())
-                        .status("OFF")
-                        .accumulatedTime((int) accumulatedTime)
-                        .message("상대방이 챌린지를 종료했습니다.")
-                        .build()
-        );
+                challengeTimerService.stopTimer(context, challengeId);
+
+        broadcaster.broadcast(challengeId, TimerFrame.off(context.getUserId(), accumulatedTime));
     }
 
     @Operation(
@@ -123,14 +95,32 @@ public class ChallengeTimerWebSocketController {
                 ### 1. 연결 정보 (Connection)
                 - **Endpoint:** `wss://{host}/ws-stomp`
                 - **Auth:** Header에 `Authorization: Bearer {accesstoken}` 포함 필수
+                - **Format (선택):** Header `timer-format: JSON | COMPACT | CBOR` (기본 JSON)
+                  - COMPACT/CBOR: `{"t":"on","u":1,"s":1706749200000}`, `{"t":"off","u":1,"a":3600}`, `{"t":"err","c":"CHALLENGE_001"}`,
+                    `{"t":"snap","c":1,"r":[{"u":2,"s":1706781600000,"a":1320}]}`
+                  - CBOR 은 바이너리 WebSocket 메시지로 오며 MESSAGE 프레임에 `content-type: application/octet-stream`, `timer-format: CBOR` 헤더가 붙습니다.
+                  - 같은 유저의 연속 전환은 짧은 시간 안에 마지막 상태 하나로 합쳐 전송됩니다.
                 
                 ### 2. 구독 (Subscribe)
                 - **Path:** `/sub/challenge/{challengeId}`
                 - **설명:** 해당 챌린지 방의 타이머 상태 변경(본인 및 상대방 포함)을 실시간으로 수신합니다.
+                - 구독 직후 현재 실행 중인 타이머 목록이 `status: "SNAPSHOT"` 메시지로 한 번 전달됩니다. (연결 시 고른 형식으로 인코딩)
+                  - `elapsedTime`: 현재 세션 경과 시간(초), `accumulatedTime`: 이번 주차 누적 시간(초, 현재 세션 포함)
+                ```json
+                {
+                  "status": "SNAPSHOT",
+                  "challengeId": 1,
+                  "running": [
+                    { "userId": 2, "startedAt": "2024-02-01T10:00:00", "elapsedTime": 120, "accumulatedTime": 1320 }
+                  ]
+                }
+                ```
                 
                 ### 3. 요청 (Publish)
                 - **Path:** `/pub/challenge/{challengeId}/timer`
                 - **설명:** 타이머를 시작하거나 종료합니다.
+                - **HEARTBEAT:** 실행 중인 타이머의 유휴 종료 시간을 연장합니다. (브로드캐스트 없음)
+                - 최대 세션 길이를 넘기거나 마지막 연결이 끊기면 서버가 자동으로 종료(OFF)합니다.
                 
                 ### 4. 에러 응답 (Error Case)
                 로직 실패 시(예: 이미 시작됨, 권한 없음) `/sub` 경로로 아래 JSON이 내려옵니다.
@@ -0,0 +1,25 @@
+package targeter.aim.domain.challenge.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import targeter.aim.domain.challenge.service.ChallengeWeekBitsService;
+
+/**
+ * 주차 비트 요약 검증용 actuator 엔드포인트 (/actuator/weekbits, 관리 포트 전용)
+ * POST: weekly_progress 기준으로 전체 검증 후 불일치 교정, onlyMissing=true 면 비어 있는 행만 백필
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "weekbits")
+public class ChallengeWeekBitsEndpoint {
+
+    private final ChallengeWeekBitsService challengeWeekBitsService;
+
+    @WriteOperation
+    public ChallengeWeekBitsService.VerifyResult verify(@Nullable Boolean onlyMissing) {
+        return challengeWeekBitsService.verifyAll(Boolean.TRUE.equals(onlyMissing));
+    }
+}
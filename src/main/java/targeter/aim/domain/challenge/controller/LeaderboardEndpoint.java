@@ -0,0 +1,38 @@
+package targeter.aim.domain.challenge.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+import targeter.aim.domain.challenge.service.LeaderboardSnapshotService;
+
+import java.time.Instant;
+
+/**
+ * 랭킹 스냅샷 운영용 actuator 엔드포인트 (/actuator/leaderboard, 관리 포트 전용)
+ * GET: 현재 스냅샷 버전 확인, POST: 즉시 재계산
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "leaderboard")
+public class LeaderboardEndpoint {
+
+    private final LeaderboardSnapshotService leaderboardSnapshotService;
+
+    public record SnapshotInfo(long version, Instant builtAt, int size) {}
+
+    @ReadOperation
+    public SnapshotInfo info() {
+        return toInfo(leaderboardSnapshotService.current());
+    }
+
+    @WriteOperation
+    public SnapshotInfo rebuild() {
+        return toInfo(leaderboardSnapshotService.rebuild());
+    }
+
+    private SnapshotInfo toInfo(LeaderboardSnapshotService.Snapshot snapshot) {
+        return new SnapshotInfo(snapshot.version(), snapshot.builtAt(), snapshot.top20().size());
+    }
+}
@@ -2,6 +2,8 @@ package targeter.aim.domain.challenge.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.web.multipart.MultipartFile;
 import targeter.aim.domain.challenge.entity.*;
 import targeter.aim.domain.file.dto.FileDto;
@@ -231,9 +233,22 @@ public class ChallengeDto {
 
         private int number;
 
-        private long totalElements;
+        @Schema(description = "전체 개수 (count=false 요청이면 null)", example = "120")
+        private Long totalElements;
 
-        private int totalPages;
+        @Schema(description = "전체 페이지 수 (count=false 요청이면 null)", example = "8")
+        private Integer totalPages;
+
+        @Schema(description = "다음 페이지 존재 여부", example = "true")
+        private boolean hasNext;
+
+        // count=false 로 받은 Slice 는 전체 개수 없이 hasNext 만 채운다
+        public static PageInfo from(Slice<?> slice) {
+            if (slice instanceof Page<?> page) {
+                return new PageInfo(page.getSize(), page.getNumber(), page.getTotalElements(), page.getTotalPages(), page.hasNext());
+            }
+            return new PageInfo(slice.getSize(), slice.getNumber(), null, null, slice.hasNext());
+        }
     }
 
     @Data
@@ -244,15 +259,10 @@ public class ChallengeDto {
         private List<ChallengeListResponse> content;
         private PageInfo page;
 
-        public static ChallengePageResponse from(org.springframework.data.domain.Page<ChallengeListResponse> page) {
+        public static ChallengePageResponse from(Slice<ChallengeListResponse> page) {
             return new ChallengePageResponse(
                     page.getContent(),
-                    new PageInfo(
-                            page.getSize(),
-                            page.getNumber(),
-                            page.getTotalElements(),
-                            page.getTotalPages()
-                    )
+                    PageInfo.from(page)
             );
         }
     }
@@ -379,7 +389,7 @@ public class ChallengeDto {
     @Data
     @AllArgsConstructor
     @NoArgsConstructor
-    @Builder
+    @Builder(toBuilder = true)
     @Schema(description = "VS 챌린지 상세 Overview 응답 (챌린지 정보 + 우세현황 + 참여자 정보")
     public static class VsChallengeOverviewResponse {
         @Schema(description = "챌린지 기본 정보")
@@ -402,10 +412,17 @@ public class ChallengeDto {
                     .build();
         }
 
+        // 캐시된 응답은 공유되므로 보는 사람의 좋아요 여부만 바꾼 사본을 돌려준다
+        public VsChallengeOverviewResponse withLiked(boolean isLiked) {
+            return toBuilder()
+                    .challengeInfo(challengeInfo.toBuilder().isLiked(isLiked).build())
+                    .build();
+        }
+
         @Data
         @AllArgsConstructor
         @NoArgsConstructor
-        @Builder
+        @Builder(toBuilder = true)
         public static class ChallengeInfo {
             @Schema(description = "작성자 아이디", example = "1")
             private Long writerId;
@@ -7,6 +7,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class TimerDto {
 
@@ -16,7 +17,7 @@ public class TimerDto {
     @Schema(description = "타이머 액션 요청 DTO")
     public static class TimerActionRequest {
 
-        @Schema(description = "타이머 액션", example = "START", allowableValues = { "START", "STOP" })
+        @Schema(description = "타이머 액션", example = "START", allowableValues = { "START", "STOP", "HEARTBEAT" })
         private String action;
 
     }
@@ -43,6 +44,61 @@ public class TimerDto {
 
         @Schema(description = "상태 메시지", example = "상대방이 챌린지를 시작했습니다.")
         private String message;
+
+        public static TimerUpdateResponse on(Long senderId, LocalDateTime startedAt) {
+            return TimerUpdateResponse.builder()
+                    .senderId(senderId)
+                    .status("ON")
+                    .startedAt(startedAt)
+                    .message("상대방이 챌린지를 시작했습니다.")
+                    .build();
+        }
+
+        public static TimerUpdateResponse off(Long senderId, long accumulatedTime) {
+            return TimerUpdateResponse.builder()
+                    .senderId(senderId)
+                    .status("OFF")
+                    .accumulatedTime((int) accumulatedTime)
+                    .message("상대방이 챌린지를 종료했습니다.")
+                    .build();
+        }
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "챌린지 방 구독 직후 1회 전송되는 현재 타이머 상태")
+    public static class RoomSnapshotResponse {
+
+        @Schema(description = "메시지 종류", example = "SNAPSHOT")
+        private String status;
+
+        @Schema(description = "챌린지 ID", example = "1")
+        private Long challengeId;
+
+        @Schema(description = "현재 실행 중인 타이머 목록")
+        private List<RunningTimer> running;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "실행 중인 타이머")
+    public static class RunningTimer {
+
+        @Schema(description = "사용자 ID", example = "1")
+        private Long userId;
+
+        @Schema(description = "타이머 시작 시간", example = "2026-01-15T04:22:37.184284")
+        private LocalDateTime startedAt;
+
+        @Schema(description = "현재 세션 경과 시간 (초 단위)", example = "120")
+        private Long elapsedTime;
+
+        @Schema(description = "이번 주차 누적 시간 (이전 세션 + 현재 세션, 초 단위)", example = "1320")
+        private Long accumulatedTime;
     }
 
 }
@@ -22,7 +22,10 @@ import java.util.Set;
 @SuperBuilder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name="challenge")
+@Table(name="challenge", indexes = {
+        @Index(name = "IDX_CHALLENGE_STATUS_ENDED_AT", columnList = "status, ended_at"),
+        @Index(name = "IDX_CHALLENGE_MODE_STATUS_ENDED_AT", columnList = "mode, status, ended_at")
+})
 public class Challenge extends TimeStampedEntity {
 
     @Id
@@ -47,6 +50,11 @@ public class Challenge extends TimeStampedEntity {
     @Column(name = "duration_week", nullable = false)
     private Integer durationWeek;
 
+    // 종료일 (startedAt + durationWeek 주), 정산 대상 조회용. 저장 / 수정 시 자동으로 맞춰진다
+    @Column(name = "ended_at")
+    @Setter(AccessLevel.NONE)
+    private LocalDate endedAt;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private ChallengeMode mode;
@@ -86,6 +94,14 @@ public class Challenge extends TimeStampedEntity {
     @ToString.Exclude
     private Set<Field> fields = new HashSet<>();
 
+    @PrePersist
+    @PreUpdate
+    void syncEndedAt() {
+        if (startedAt != null && durationWeek != null) {
+            this.endedAt = startedAt.plusWeeks(durationWeek);
+        }
+    }
+
     public void canUpdateBy(UserDetails user) {
         if(this.host.getId().equals(user.getUser().getId())) {
             return;
@@ -25,4 +25,28 @@ public class ChallengeMember extends TimeStampedEntity {
     @Enumerated(EnumType.STRING)
     @Column
     private ChallengeResult result;
+
+    // n주차 완료 / 성공 여부를 (n-1)번 비트로 담은 요약. null 이면 아직 weekly_progress 에서 채우지 않은 행
+    @Column(name = "completed_weeks")
+    private Long completedWeeks;
+
+    @Column(name = "success_weeks")
+    private Long successWeeks;
+
+    public boolean hasWeekBits() {
+        return completedWeeks != null && successWeeks != null;
+    }
+
+    public int completedCount(int upToWeek) {
+        return WeekBits.count(completedWeeks, upToWeek);
+    }
+
+    public int successCount(int upToWeek) {
+        return WeekBits.count(successWeeks, upToWeek);
+    }
+
+    public void overwriteWeekBits(long completed, long success) {
+        this.completedWeeks = completed;
+        this.successWeeks = success;
+    }
 }
@@ -0,0 +1,69 @@
+package targeter.aim.domain.challenge.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import targeter.aim.common.auditor.TimeStampedEntity;
+
+import java.time.LocalDate;
+
+/**
+ * 일일 정산 실행의 진행 지점.
+ * lastChallengeId 이하의 후보는 모두 처리가 끝났으므로, 중단된 실행은 이 다음 id 부터 이어서 돈다.
+ * fencingToken 은 마지막으로 이 실행을 맡은 리스 토큰이며, 더 작은 토큰의 쓰기는 반영하지 않는다.
+ */
+@Entity
+@Getter
+@Setter
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "settlement_checkpoint")
+public class SettlementCheckpoint extends TimeStampedEntity {
+
+    @Id
+    @Column(name = "run_date")
+    private LocalDate runDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private SettlementRunStatus status;
+
+    @Column(name = "last_challenge_id", nullable = false)
+    @Builder.Default
+    private Long lastChallengeId = 0L;
+
+    @Column(name = "settled_count", nullable = false)
+    @Builder.Default
+    private Integer settledCount = 0;
+
+    @Column(name = "failed_count", nullable = false)
+    @Builder.Default
+    private Integer failedCount = 0;
+
+    @Column(name = "fencing_token", nullable = false)
+    @Builder.Default
+    private Long fencingToken = 0L;
+
+    public static SettlementCheckpoint start(LocalDate runDate) {
+        return SettlementCheckpoint.builder()
+                .runDate(runDate)
+                .status(SettlementRunStatus.RUNNING)
+                .build();
+    }
+
+    public boolean isDone() {
+        return status == SettlementRunStatus.DONE;
+    }
+
+    // 리스 토큰으로 실행을 넘겨받는다. 이미 더 최신 토큰이 맡았으면 false
+    public boolean claim(long token) {
+        if (fencingToken != null && fencingToken > token) return false;
+        this.fencingToken = token;
+        return true;
+    }
+
+    public boolean isOwnedBy(long token) {
+        return fencingToken != null && fencingToken == token;
+    }
+}
@@ -0,0 +1,6 @@
+package targeter.aim.domain.challenge.entity;
+
+public enum SettlementRunStatus {
+    RUNNING,
+    DONE
+}
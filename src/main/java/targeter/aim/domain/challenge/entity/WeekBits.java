@@ -0,0 +1,33 @@
+package targeter.aim.domain.challenge.entity;
+
+/**
+ * 주차 플래그 비트마스크 도우미. n주차는 (n-1)번 비트이며 63주차까지 담는다.
+ * 그보다 긴 챌린지는 비트 요약을 쓰지 않고 weekly_progress 집계로 계산한다.
+ */
+public final class WeekBits {
+
+    public static final int MAX_WEEKS = 63;
+
+    private WeekBits() {
+    }
+
+    public static boolean fits(Integer durationWeek) {
+        return durationWeek != null && durationWeek <= MAX_WEEKS;
+    }
+
+    public static long bit(int week) {
+        if (week < 1 || week > MAX_WEEKS) return 0L;
+        return 1L << (week - 1);
+    }
+
+    // 1 ~ week 주차
+    public static long upTo(int week) {
+        if (week <= 0) return 0L;
+        if (week >= MAX_WEEKS) return Long.MAX_VALUE;
+        return (1L << week) - 1;
+    }
+
+    public static int count(Long mask, int upToWeek) {
+        return mask == null ? 0 : Long.bitCount(mask & upTo(upToWeek));
+    }
+}
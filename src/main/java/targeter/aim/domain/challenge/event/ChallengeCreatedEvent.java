@@ -0,0 +1,5 @@
+package targeter.aim.domain.challenge.event;
+
+// 챌린지 생성(주차 계획 / 태그 / 분야 저장)이 끝났을 때 발행
+public record ChallengeCreatedEvent(Long challengeId) {
+}
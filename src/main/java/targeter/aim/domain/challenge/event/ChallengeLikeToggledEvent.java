@@ -0,0 +1,5 @@
+package targeter.aim.domain.challenge.event;
+
+// 챌린지 좋아요가 추가 / 취소되었을 때 발행
+public record ChallengeLikeToggledEvent(Long challengeId, Long userId) {
+}
@@ -0,0 +1,5 @@
+package targeter.aim.domain.challenge.event;
+
+// 챌린지 멤버 구성(참가 승인, 챌린지 삭제 등)이 바뀌었을 때 발행
+public record ChallengeMembershipChangedEvent(Long challengeId) {
+}
@@ -0,0 +1,5 @@
+package targeter.aim.domain.challenge.event;
+
+// 주차 진행(타이머 STOP 으로 주차 완료 / 결과 판정)이 바뀌었을 때 발행
+public record ChallengeProgressChangedEvent(Long challengeId) {
+}
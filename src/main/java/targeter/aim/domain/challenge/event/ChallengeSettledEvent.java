@@ -0,0 +1,5 @@
+package targeter.aim.domain.challenge.event;
+
+// 챌린지 정산(멤버 결과 확정 / 완료 처리)이 끝났을 때 발행
+public record ChallengeSettledEvent(Long challengeId) {
+}
@@ -0,0 +1,5 @@
+package targeter.aim.domain.challenge.event;
+
+// 챌린지 기본 정보(시작일, 기간 등)가 수정되었을 때 발행
+public record ChallengeUpdatedEvent(Long challengeId) {
+}
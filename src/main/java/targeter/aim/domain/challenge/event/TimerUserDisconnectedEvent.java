@@ -0,0 +1,5 @@
+package targeter.aim.domain.challenge.event;
+
+// 이 노드에서 유저의 마지막 STOMP 연결이 끊겼을 때 발행
+public record TimerUserDisconnectedEvent(Long userId) {
+}
@@ -0,0 +1,5 @@
+package targeter.aim.domain.challenge.event;
+
+// 타이머 STOP 으로 유저의 주차가 완료되었을 때 발행
+public record TimerWeekCompletedEvent(Long userId, Long challengeId, int weekNumber) {
+}
@@ -10,6 +10,8 @@ public interface ChallengeLikedRepository extends JpaRepository<ChallengeLiked,
 
     boolean existsByUserAndChallenge(User user, Challenge challenge);
 
+    boolean existsByUser_IdAndChallenge_Id(Long userId, Long challengeId);
+
     void deleteByUserAndChallenge(User user, Challenge challenge);
 
     void deleteByChallenge(Challenge challenge);
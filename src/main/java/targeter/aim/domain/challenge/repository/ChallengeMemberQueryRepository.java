@@ -1,14 +1,25 @@
 package targeter.aim.domain.challenge.repository;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
+import targeter.aim.domain.challenge.entity.ChallengeMember;
 import targeter.aim.domain.challenge.entity.ChallengeMode;
 import targeter.aim.domain.challenge.entity.ChallengeResult;
-import targeter.aim.domain.user.entity.User;
+import targeter.aim.domain.challenge.entity.WeekBits;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 import static targeter.aim.domain.challenge.entity.QChallenge.challenge;
 import static targeter.aim.domain.challenge.entity.QChallengeMember.challengeMember;
+import static targeter.aim.domain.user.entity.QUser.user;
 
 @Repository
 @RequiredArgsConstructor
@@ -16,58 +27,108 @@ public class ChallengeMemberQueryRepository {
 
     private final JPAQueryFactory queryFactory;
 
-    public int countByUserAndResult(User user, ChallengeResult result) {
-        Long count = queryFactory
-                .select(challengeMember.count())
-                .from(challengeMember)
-                .where(
-                        challengeMember.id.user.eq(user),
-                        challengeMember.result.eq(result)
-                )
-                .fetchOne();
-        return count != null ? count.intValue() : 0;
+    // 정산 배치용: 여러 챌린지의 멤버를 유저와 함께 한 번에
+    public List<ChallengeMember> findAllWithUserByChallengeIds(Collection<Long> challengeIds) {
+        if (challengeIds == null || challengeIds.isEmpty()) {
+            return List.of();
+        }
+
+        return queryFactory
+                .selectFrom(challengeMember)
+                .join(challengeMember.id.user, user).fetchJoin()
+                .where(challengeMember.id.challenge.id.in(challengeIds))
+                .orderBy(challengeMember.id.challenge.id.asc(), challengeMember.role.asc())
+                .fetch();
     }
 
-    public int countFinishedChallenges(User user) {
-        Long count = queryFactory
-                .select(challengeMember.count())
-                .from(challengeMember)
-                .where(
-                        challengeMember.id.user.eq(user),
-                        challengeMember.result.isNotNull()
-                )
-                .fetchOne();
+    // 주차 비트 검증 / 백필용: 멤버 행을 잠근 뒤 weekly_progress 를 읽어야 동시에 들어온 STOP 반영이 유실되지 않는다
+    public List<ChallengeMember> findAllForUpdateByChallengeIds(Collection<Long> challengeIds) {
+        if (challengeIds == null || challengeIds.isEmpty()) {
+            return List.of();
+        }
 
-        return count != null ? count.intValue() : 0;
+        return queryFactory
+                .selectFrom(challengeMember)
+                .where(challengeMember.id.challenge.id.in(challengeIds))
+                .orderBy(challengeMember.id.challenge.id.asc(), challengeMember.id.user.id.asc())
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .fetch();
     }
 
-    public int countFinishedChallengesByMode(User user, ChallengeMode mode) {
-        Long count = queryFactory
-                .select(challengeMember.count())
+    public List<Long> weekBitsTargetChallengeIds(Long afterId, int size, boolean onlyMissing) {
+        return queryFactory
+                .select(challengeMember.id.challenge.id)
+                .distinct()
                 .from(challengeMember)
-                .join(challengeMember.id.challenge, challenge)
                 .where(
-                        challengeMember.id.user.eq(user),
-                        challenge.mode.eq(mode),
-                        challengeMember.result.isNotNull()
+                        challengeMember.id.challenge.id.gt(afterId),
+                        onlyMissing
+                                ? challengeMember.completedWeeks.isNull().or(challengeMember.successWeeks.isNull())
+                                : null
                 )
-                .fetchOne();
+                .orderBy(challengeMember.id.challenge.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    /**
+     * 타이머 STOP 으로 완료된 주차를 비트 요약에 더한다.
+     * 주차 완료 UPDATE 는 주차당 한 번만 성공하므로 OR 대신 덧셈으로 비트를 켠다.
+     * 아직 백필 전(null)인 행은 건드리지 않고 백필이 원본에서 채우게 둔다.
+     */
+    public long addCompletedWeek(Long challengeId, Long userId, int weekNumber, boolean success) {
+        long bit = WeekBits.bit(weekNumber);
+        if (bit == 0L) return 0L;
 
-        return count != null ? count.intValue() : 0;
+        return queryFactory
+                .update(challengeMember)
+                .set(challengeMember.completedWeeks, challengeMember.completedWeeks.add(bit))
+                .set(challengeMember.successWeeks, challengeMember.successWeeks.add(success ? bit : 0L))
+                .set(challengeMember.lastModifiedAt, LocalDateTime.now())
+                .where(
+                        challengeMember.id.challenge.id.eq(challengeId),
+                        challengeMember.id.user.id.eq(userId),
+                        challengeMember.completedWeeks.isNotNull(),
+                        challengeMember.successWeeks.isNotNull()
+                )
+                .execute();
     }
 
-    public int countByUserAndResultAndMode(User user, ChallengeResult result, ChallengeMode mode) {
-        Long count = queryFactory
-                .select(challengeMember.count())
+    public record SettledCount(Long userId, ChallengeMode mode, long attempt, long success) {}
+
+    // 유저 통계 재계산용: 정산이 끝난 참가 기록을 (유저, 모드) 단위로 센다
+    public List<SettledCount> settledCountsByUsers(Collection<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return List.of();
+        }
+
+        NumberExpression<Integer> successCnt = new CaseBuilder()
+                .when(challengeMember.result.eq(ChallengeResult.SUCCESS)).then(1)
+                .otherwise(0)
+                .sum();
+
+        List<Tuple> rows = queryFactory
+                .select(challengeMember.id.user.id, challenge.mode, challengeMember.count(), successCnt)
                 .from(challengeMember)
                 .join(challengeMember.id.challenge, challenge)
                 .where(
-                        challengeMember.id.user.eq(user),
-                        challenge.mode.eq(mode),
-                        challengeMember.result.eq(result)
+                        challengeMember.id.user.id.in(userIds),
+                        challengeMember.result.isNotNull()
                 )
-                .fetchOne();
+                .groupBy(challengeMember.id.user.id, challenge.mode)
+                .fetch();
 
-        return count != null ? count.intValue() : 0;
+        List<SettledCount> result = new ArrayList<>(rows.size());
+        for (Tuple t : rows) {
+            Long attempt = t.get(challengeMember.count());
+            Number success = t.get(3, Number.class);
+            result.add(new SettledCount(
+                    t.get(challengeMember.id.user.id),
+                    t.get(challenge.mode),
+                    attempt == null ? 0 : attempt,
+                    success == null ? 0 : success.longValue()
+            ));
+        }
+        return result;
     }
-}
\ No newline at end of file
+}
@@ -6,10 +6,11 @@ import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Repository;
 import targeter.aim.domain.challenge.dto.ChallengeDto;
 import targeter.aim.domain.challenge.entity.Challenge;
@@ -24,14 +25,14 @@ import targeter.aim.domain.label.entity.QField;
 import targeter.aim.domain.label.entity.QTag;
 import targeter.aim.domain.user.dto.TierDto;
 import targeter.aim.domain.user.entity.User;
+import targeter.aim.system.paging.PageCountCache;
 import targeter.aim.system.security.model.UserDetails;
 
 import java.time.LocalDate;
-import java.util.Comparator;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import static targeter.aim.domain.challenge.entity.QChallenge.challenge;
 import static targeter.aim.domain.challenge.entity.QChallengeLiked.challengeLiked;
@@ -44,36 +45,40 @@ import static targeter.aim.domain.label.entity.QTag.tag;
 public class ChallengeQueryRepository {
 
     private final JPAQueryFactory queryFactory;
+    private final PageCountCache pageCountCache;
 
     /**
      * 1. VS 챌린지용 Query
      */
 
     // 기존 전체 조회용
-    public Page<ChallengeDto.ChallengeListResponse> paginateVsByType(
+    public Slice<ChallengeDto.ChallengeListResponse> paginateVsByType(
             UserDetails userDetails,
             Pageable pageable,
+            boolean withCount,
             ChallengeDto.ChallengeFilterType filterType,
             ChallengeDto.ChallengeSortType sortType
     ) {
-        return paginateVsByTypeAndKeywordAndField(userDetails, pageable, filterType, sortType, null, null);
+        return paginateVsByTypeAndKeywordAndField(userDetails, pageable, withCount, filterType, sortType, null, null);
     }
 
     // 검색 전용
-    public Page<ChallengeDto.ChallengeListResponse> paginateVsByTypeAndKeyword(
+    public Slice<ChallengeDto.ChallengeListResponse> paginateVsByTypeAndKeyword(
             UserDetails userDetails,
             Pageable pageable,
+            boolean withCount,
             ChallengeDto.ChallengeFilterType filterType,
             ChallengeDto.ChallengeSortType sortType,
             String keyword
     ) {
-        return paginateVsByTypeAndKeywordAndField(userDetails, pageable, filterType, sortType, keyword, null);
+        return paginateVsByTypeAndKeywordAndField(userDetails, pageable, withCount, filterType, sortType, keyword, null);
     }
 
     // 분야 필터링
-    public Page<ChallengeDto.ChallengeListResponse> paginateVsByTypeAndKeywordAndField(
+    public Slice<ChallengeDto.ChallengeListResponse> paginateVsByTypeAndKeywordAndField(
             UserDetails userDetails,
             Pageable pageable,
+            boolean withCount,
             ChallengeDto.ChallengeFilterType filterType,
             ChallengeDto.ChallengeSortType sortType,
             String keyword,
@@ -84,27 +89,9 @@ public class ChallengeQueryRepository {
             return new PageImpl<>(List.of(), pageable, 0);
         }
 
-        // IN_PROGRESS / COMPLETED → 메모리 정렬
+        // IN_PROGRESS / COMPLETED → 상태별 구간을 이어 붙임
         if (sortType == ChallengeDto.ChallengeSortType.IN_PROGRESS || sortType == ChallengeDto.ChallengeSortType.COMPLETED) {
-            List<Tuple> tuples = buildVsBaseQuery(userDetails, filterType, keyword, field).fetch();
-            List<ChallengeDto.ChallengeListResponse> all = enrichDetails(tuples);
-
-            List<ChallengeDto.ChallengeListResponse> inProgress = all.stream()
-                    .filter(dto -> dto.getStatus() == ChallengeStatus.IN_PROGRESS)
-                    .sorted(Comparator.comparing(this::endDate))
-                    .toList();
-
-            List<ChallengeDto.ChallengeListResponse> completed = all.stream()
-                    .filter(dto -> dto.getStatus() == ChallengeStatus.COMPLETED)
-                    .sorted(Comparator.comparing(this::endDate).reversed())
-                    .toList();
-
-            List<ChallengeDto.ChallengeListResponse> sorted =
-                    sortType == ChallengeDto.ChallengeSortType.IN_PROGRESS
-                            ? Stream.concat(inProgress.stream(), completed.stream()).toList()
-                            : Stream.concat(completed.stream(), inProgress.stream()).toList();
-
-            return slice(sorted, pageable);
+            return paginateVsByStatus(userDetails, pageable, withCount, filterType, sortType, keyword, field);
         }
 
         JPAQuery<Tuple> query = buildVsBaseQuery(userDetails, filterType, keyword, field);
@@ -112,18 +99,98 @@ public class ChallengeQueryRepository {
 
         List<Tuple> tuples = query
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .limit(pageCountCache.fetchSize(pageable, withCount))
                 .fetch();
 
-        Long total = buildCountVsQuery(userDetails, filterType, keyword, field).fetchOne();
+        return pageCountCache.page(
+                enrichDetails(tuples),
+                pageable,
+                withCount,
+                PageCountCache.Scope.CHALLENGE,
+                () -> buildCountVsQuery(userDetails, filterType, keyword, field).fetchOne(),
+                "vs", filterType, PageCountCache.keyword(keyword), field == null || field.isBlank() ? null : field.trim(),
+                filterType == ChallengeDto.ChallengeFilterType.MY ? PageCountCache.viewer(userDetails) : null
+        );
+    }
+
+    /**
+     * 진행 중(종료일 가까운 순) / 완료(최근 종료 순) 두 구간을 정렬 기준이 고른 상태부터 이어 붙인 페이지.
+     * 구간마다 status 조건 + ended_at 정렬로 필요한 행만 읽으므로 (mode, status, ended_at) 인덱스를 그대로 탄다.
+     * 앞 구간의 개수로 페이지가 어느 구간에 걸치는지 정한다.
+     */
+    private Slice<ChallengeDto.ChallengeListResponse> paginateVsByStatus(
+            UserDetails userDetails,
+            Pageable pageable,
+            boolean withCount,
+            ChallengeDto.ChallengeFilterType filterType,
+            ChallengeDto.ChallengeSortType sortType,
+            String keyword,
+            String field
+    ) {
+        ChallengeStatus first = sortType == ChallengeDto.ChallengeSortType.IN_PROGRESS
+                ? ChallengeStatus.IN_PROGRESS
+                : ChallengeStatus.COMPLETED;
+        ChallengeStatus second = first == ChallengeStatus.IN_PROGRESS
+                ? ChallengeStatus.COMPLETED
+                : ChallengeStatus.IN_PROGRESS;
+
+        String fieldKey = field == null || field.isBlank() ? null : field.trim();
+        Long viewerKey = filterType == ChallengeDto.ChallengeFilterType.MY ? PageCountCache.viewer(userDetails) : null;
+
+        long firstCount = pageCountCache.count(
+                PageCountCache.Scope.CHALLENGE,
+                () -> buildCountVsQuery(userDetails, filterType, keyword, field)
+                        .where(challenge.status.eq(first))
+                        .fetchOne(),
+                "vsStatus", first, filterType, PageCountCache.keyword(keyword), fieldKey, viewerKey
+        );
+
+        long offset = pageable.getOffset();
+        int size = pageCountCache.fetchSize(pageable, withCount);
 
-        return new PageImpl<>(
+        List<Tuple> tuples = new ArrayList<>(size);
+        if (offset < firstCount) {
+            tuples.addAll(fetchVsStatusSegment(userDetails, filterType, keyword, field, first, offset, size));
+        }
+        if (tuples.size() < size) {
+            long secondOffset = Math.max(0, offset - firstCount);
+            tuples.addAll(fetchVsStatusSegment(userDetails, filterType, keyword, field, second, secondOffset, size - tuples.size()));
+        }
+
+        return pageCountCache.page(
                 enrichDetails(tuples),
                 pageable,
-                total == null ? 0 : total
+                withCount,
+                PageCountCache.Scope.CHALLENGE,
+                () -> buildCountVsQuery(userDetails, filterType, keyword, field).fetchOne(),
+                "vs", filterType, PageCountCache.keyword(keyword), fieldKey, viewerKey
         );
     }
 
+    private List<Tuple> fetchVsStatusSegment(
+            UserDetails userDetails,
+            ChallengeDto.ChallengeFilterType filterType,
+            String keyword,
+            String field,
+            ChallengeStatus status,
+            long offset,
+            int limit
+    ) {
+        JPAQuery<Tuple> query = buildVsBaseQuery(userDetails, filterType, keyword, field)
+                .where(challenge.status.eq(status));
+
+        if (status == ChallengeStatus.IN_PROGRESS) {
+            query.orderBy(challenge.endedAt.asc(), challenge.id.asc());
+        } else {
+            query.orderBy(challenge.endedAt.desc(), challenge.id.desc());
+        }
+
+        return query
+                .offset(offset)
+                .limit(limit)
+                .fetch();
+    }
+
     private JPAQuery<Tuple> buildVsBaseQuery(
             UserDetails userDetails,
             ChallengeDto.ChallengeFilterType filterType,
@@ -242,18 +309,20 @@ public class ChallengeQueryRepository {
     /**
      * 2. SOLO 챌린지용 Query
      */
-    public Page<ChallengeDto.ChallengeListResponse> paginateSoloByType(
+    public Slice<ChallengeDto.ChallengeListResponse> paginateSoloByType(
             UserDetails userDetails,
             Pageable pageable,
+            boolean withCount,
             ChallengeDto.ChallengeFilterType filterType,
             ChallengeDto.ChallengeSortType sortType
     ) {
-        return paginateSoloByTypeAndKeyword(userDetails, pageable, filterType, sortType, null);
+        return paginateSoloByTypeAndKeyword(userDetails, pageable, withCount, filterType, sortType, null);
     }
 
-    public Page<ChallengeDto.ChallengeListResponse> paginateSoloByTypeAndKeyword(
+    public Slice<ChallengeDto.ChallengeListResponse> paginateSoloByTypeAndKeyword(
             UserDetails userDetails,
             Pageable pageable,
+            boolean withCount,
             ChallengeDto.ChallengeFilterType filterType,
             ChallengeDto.ChallengeSortType sortType,
             String keyword
@@ -268,15 +337,16 @@ public class ChallengeQueryRepository {
 
         List<Tuple> tuples = query
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .limit(pageCountCache.fetchSize(pageable, withCount))
                 .fetch();
 
-        Long total = buildCountSoloQuery(userDetails, filterType, keyword).fetchOne();
-
-        return new PageImpl<>(
+        return pageCountCache.page(
                 enrichDetails(tuples),
                 pageable,
-                total == null ? 0 : total
+                withCount,
+                PageCountCache.Scope.CHALLENGE,
+                () -> buildCountSoloQuery(userDetails, filterType, keyword).fetchOne(),
+                "solo", filterType, PageCountCache.keyword(keyword), PageCountCache.viewer(userDetails)
         );
     }
 
@@ -357,17 +427,19 @@ public class ChallengeQueryRepository {
     /**
      * 3. 전체(VS+SOLO) 챌린지용 Query
      */
-    public Page<ChallengeDto.ChallengeListResponse> paginateAllByType (
+    public Slice<ChallengeDto.ChallengeListResponse> paginateAllByType (
             UserDetails userDetails,
             Pageable pageable,
+            boolean withCount,
             ChallengeDto.ChallengeSortType sortType
     ) {
-        return paginateAllByTypeAndKeyword(userDetails, pageable, sortType, null);
+        return paginateAllByTypeAndKeyword(userDetails, pageable, withCount, sortType, null);
     }
 
-    public Page<ChallengeDto.ChallengeListResponse> paginateAllByTypeAndKeyword (
+    public Slice<ChallengeDto.ChallengeListResponse> paginateAllByTypeAndKeyword (
             UserDetails userDetails,
             Pageable pageable,
+            boolean withCount,
             ChallengeDto.ChallengeSortType sortType,
             String keyword
     ) {
@@ -381,15 +453,16 @@ public class ChallengeQueryRepository {
 
         List<Tuple> tuples = query
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .limit(pageCountCache.fetchSize(pageable, withCount))
                 .fetch();
 
-        Long total = buildCountAllQuery(userDetails, keyword).fetchOne();
-
-        return new PageImpl<>(
+        return pageCountCache.page(
                 enrichDetails(tuples),
                 pageable,
-                total == null ? 0 : total
+                withCount,
+                PageCountCache.Scope.CHALLENGE,
+                () -> buildCountAllQuery(userDetails, keyword).fetchOne(),
+                "all", PageCountCache.keyword(keyword), PageCountCache.viewer(userDetails)
         );
     }
 
@@ -577,24 +650,6 @@ public class ChallengeQueryRepository {
                 .build();
     }
 
-    private PageImpl<ChallengeDto.ChallengeListResponse> slice(
-            List<ChallengeDto.ChallengeListResponse> list,
-            Pageable pageable
-    ) {
-        int start = (int) pageable.getOffset();
-        int end = Math.min(start + pageable.getPageSize(), list.size());
-
-        return new PageImpl<>(
-                start >= list.size() ? List.of() : list.subList(start, end),
-                pageable,
-                list.size()
-        );
-    }
-
-    private LocalDate endDate(ChallengeDto.ChallengeListResponse dto) {
-        return dto.getStartedAt().plusWeeks(dto.getDurationWeek());
-    }
-
     public List<Challenge> findSimpleMyChallenges(Long userId, ChallengeMode mode) {
         return queryFactory
                 .selectFrom(challenge)
@@ -611,17 +666,19 @@ public class ChallengeQueryRepository {
     /**
      * 4. 전체(공개 + 내가 참여한 비공개) 검색용 Query
      */
-    public Page<ChallengeDto.ChallengeListResponse> paginateSearchAll(
+    public Slice<ChallengeDto.ChallengeListResponse> paginateSearchAll(
             UserDetails userDetails,
             Pageable pageable,
+            boolean withCount,
             ChallengeDto.ChallengeSortType sortType
     ) {
-        return paginateSearchAllByKeyword(userDetails, pageable, sortType, null);
+        return paginateSearchAllByKeyword(userDetails, pageable, withCount, sortType, null);
     }
 
-    public Page<ChallengeDto.ChallengeListResponse> paginateSearchAllByKeyword(
+    public Slice<ChallengeDto.ChallengeListResponse> paginateSearchAllByKeyword(
             UserDetails userDetails,
             Pageable pageable,
+            boolean withCount,
             ChallengeDto.ChallengeSortType sortType,
             String keyword
     ) {
@@ -630,15 +687,16 @@ public class ChallengeQueryRepository {
 
         List<Tuple> tuples = query
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .limit(pageCountCache.fetchSize(pageable, withCount))
                 .fetch();
 
-        Long total = buildCountPublicAllQuery(userDetails, keyword).fetchOne();
-
-        return new PageImpl<>(
+        return pageCountCache.page(
                 enrichDetails(tuples),
                 pageable,
-                total == null ? 0 : total
+                withCount,
+                PageCountCache.Scope.CHALLENGE,
+                () -> buildCountPublicAllQuery(userDetails, keyword).fetchOne(),
+                "searchAll", PageCountCache.keyword(keyword), PageCountCache.viewer(userDetails)
         );
     }
 
@@ -716,17 +774,19 @@ public class ChallengeQueryRepository {
     /**
      * 5. 내가 좋아요 누른 챌린지 목록 조회용 Query
      */
-    public Page<ChallengeDto.ChallengeListResponse> paginateLiked(
+    public Slice<ChallengeDto.ChallengeListResponse> paginateLiked(
             UserDetails userDetails,
             Pageable pageable,
+            boolean withCount,
             ChallengeDto.ChallengeSortType sortType
     ) {
-        return paginateLikedByKeyword(userDetails, pageable, sortType, null);
+        return paginateLikedByKeyword(userDetails, pageable, withCount, sortType, null);
     }
 
-    public Page<ChallengeDto.ChallengeListResponse> paginateLikedByKeyword(
+    public Slice<ChallengeDto.ChallengeListResponse> paginateLikedByKeyword(
             UserDetails userDetails,
             Pageable pageable,
+            boolean withCount,
             ChallengeDto.ChallengeSortType sortType,
             String keyword
     ) {
@@ -740,15 +800,17 @@ public class ChallengeQueryRepository {
 
         List<Tuple> tuples = query
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .limit(pageCountCache.fetchSize(pageable, withCount))
                 .fetch();
 
-        Long total = buildCountLikedQuery(userDetails, keyword).fetchOne();
-
-        return new PageImpl<>(
+        return pageCountCache.pageLiked(
                 enrichDetails(tuples),
                 pageable,
-                total == null ? 0 : total
+                withCount,
+                PageCountCache.Scope.CHALLENGE,
+                userDetails.getUser().getId(),
+                () -> buildCountLikedQuery(userDetails, keyword).fetchOne(),
+                "liked", PageCountCache.keyword(keyword)
         );
     }
 
@@ -796,4 +858,53 @@ public class ChallengeQueryRepository {
 
         return query;
     }
-}
\ No newline at end of file
+
+    /**
+     * 정산 대상 id (id 오름차순 keyset): 진행 중이고 종료일이 today 이하인 챌린지.
+     * (status, ended_at) 인덱스를 타므로 비용이 진행 중 챌린지 전체가 아니라 실제로 끝난 챌린지 수에 비례한다.
+     */
+    public List<Long> findDueChallengeIds(Long afterId, int limit, LocalDate today) {
+        return queryFactory
+                .select(challenge.id)
+                .from(challenge)
+                .where(
+                        challenge.status.eq(ChallengeStatus.IN_PROGRESS),
+                        challenge.endedAt.loe(today),
+                        challenge.id.gt(afterId)
+                )
+                .orderBy(challenge.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // 정산 청크용: id 순으로 행 잠금을 잡아, 인계 직후 이전 소유 노드와 겹쳐도 같은 챌린지를 두 번 정산하지 않는다
+    public List<Challenge> findAllByIdForUpdate(List<Long> challengeIds) {
+        if (challengeIds == null || challengeIds.isEmpty()) return List.of();
+
+        return queryFactory
+                .selectFrom(challenge)
+                .where(challenge.id.in(challengeIds))
+                .orderBy(challenge.id.asc())
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .fetch();
+    }
+
+    // 종료일 컬럼 도입 이전 행 백필용
+    public List<Tuple> findEndedAtMissingRows(int limit) {
+        return queryFactory
+                .select(challenge.id, challenge.startedAt, challenge.durationWeek)
+                .from(challenge)
+                .where(challenge.endedAt.isNull())
+                .orderBy(challenge.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    public long updateEndedAt(List<Long> challengeIds, LocalDate endedAt) {
+        return queryFactory
+                .update(challenge)
+                .set(challenge.endedAt, endedAt)
+                .where(challenge.id.in(challengeIds))
+                .execute();
+    }
+}
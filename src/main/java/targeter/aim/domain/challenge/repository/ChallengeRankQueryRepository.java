@@ -3,18 +3,21 @@ package targeter.aim.domain.challenge.repository;
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.dsl.CaseBuilder;
 import com.querydsl.core.types.dsl.NumberExpression;
-import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import targeter.aim.domain.challenge.entity.ChallengeMode;
+import targeter.aim.domain.challenge.entity.WeekBits;
 
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static targeter.aim.domain.challenge.entity.QChallenge.challenge;
+import static targeter.aim.domain.challenge.entity.QChallengeMember.challengeMember;
 import static targeter.aim.domain.challenge.entity.QWeeklyProgress.weeklyProgress;
 
 @Repository
@@ -23,37 +26,66 @@ public class ChallengeRankQueryRepository {
 
     private final JPAQueryFactory queryFactory;
 
-    public record Record(long attempt, long success) {}
+    public record Record(long attempt, long success) {
+        public static final Record EMPTY = new Record(0, 0);
+    }
+
+    public record ModeRecords(Record all, Record solo, Record vs) {
+        public static final ModeRecords EMPTY = new ModeRecords(Record.EMPTY, Record.EMPTY, Record.EMPTY);
+    }
 
     /**
      * challenge 1개 단위로 유저 성공률(complete/total) >= 0.7 이면 성공으로 카운트.
      * attempt = 참여한 챌린지 수
      * success = 성공 챌린지 수
+     *
+     * 멤버 행의 완료 주차 비트 수 / 챌린지 기간으로 판정해 weekly_progress 를 읽지 않는다.
+     * 비트 요약이 없는 참가 기록(백필 전 / 63주 초과)이 섞인 유저만 {@link #calcRecordsByUsersFromRows} 로 계산한다.
      */
-    public Map<Long, Record> calcRecordByUsers(List<Long> userIds, ChallengeMode mode) {
+    public Map<Long, ModeRecords> calcRecordsByUsers(Collection<Long> userIds) {
         if (userIds == null || userIds.isEmpty()) {
             return Map.of();
         }
 
-        List<Tuple> attemptRows = queryFactory
-                .select(weeklyProgress.user.id, weeklyProgress.challenge.id.countDistinct())
-                .from(weeklyProgress)
-                .join(weeklyProgress.challenge, challenge)
-                .where(
-                        weeklyProgress.user.id.in(userIds),
-                        mode == null ? null : challenge.mode.eq(mode)
-                )
-                .groupBy(weeklyProgress.user.id)
+        List<Tuple> rows = queryFactory
+                .select(challengeMember.id.user.id, challenge.mode, challengeMember.completedWeeks, challenge.durationWeek)
+                .from(challengeMember)
+                .join(challengeMember.id.challenge, challenge)
+                .where(challengeMember.id.user.id.in(userIds))
                 .fetch();
 
-        Map<Long, Long> attemptMap = new HashMap<>();
-        for (Tuple t : attemptRows) {
-            Long uid = t.get(weeklyProgress.user.id);
-            Long cnt = t.get(weeklyProgress.challenge.id.countDistinct());
-            attemptMap.put(uid, cnt == null ? 0L : cnt);
+        Map<Long, long[]> counts = new HashMap<>();
+        Set<Long> fallbackUsers = new HashSet<>();
+        for (Tuple t : rows) {
+            Long userId = t.get(challengeMember.id.user.id);
+            Long completedWeeks = t.get(challengeMember.completedWeeks);
+            Integer durationWeek = t.get(challenge.durationWeek);
+
+            if (completedWeeks == null || !WeekBits.fits(durationWeek)) {
+                fallbackUsers.add(userId);
+                continue;
+            }
+            long total = durationWeek;
+            long complete = Long.bitCount(completedWeeks);
+            count(counts.computeIfAbsent(userId, id -> new long[6]), t.get(challenge.mode), total > 0 && complete * 10L >= total * 7L);
+        }
+
+        Map<Long, ModeRecords> result = toRecords(userIds, counts);
+        if (!fallbackUsers.isEmpty()) {
+            result.putAll(calcRecordsByUsersFromRows(fallbackUsers));
+        }
+        return result;
+    }
+
+    /**
+     * weekly_progress 행을 (유저, 챌린지) 단위로 그룹핑해 완료 주차 수 / 전체 주차 수를 세는 원본 집계.
+     * 비트 요약이 없는 경우의 대체 경로이자 검증용.
+     */
+    public Map<Long, ModeRecords> calcRecordsByUsersFromRows(Collection<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return Map.of();
         }
 
-        // completeCnt / totalCnt (challenge 단위)
         NumberExpression<Integer> completeCnt = new CaseBuilder()
                 .when(weeklyProgress.isComplete.isTrue()).then(1)
                 .otherwise(0)
@@ -61,48 +93,46 @@ public class ChallengeRankQueryRepository {
 
         NumberExpression<Long> totalCnt = weeklyProgress.id.count();
 
-        NumberExpression<Double> ratio = Expressions.numberTemplate(
-                Double.class,
-                "({0} * 1.0) / {1}",
-                completeCnt,
-                totalCnt
-        );
-
-        List<Tuple> successRows = queryFactory
-                .select(weeklyProgress.user.id, weeklyProgress.challenge.id.countDistinct())
+        List<Tuple> rows = queryFactory
+                .select(weeklyProgress.user.id, challenge.mode, completeCnt, totalCnt)
                 .from(weeklyProgress)
                 .join(weeklyProgress.challenge, challenge)
-                .where(
-                        weeklyProgress.user.id.in(userIds),
-                        mode == null ? null : challenge.mode.eq(mode),
-                        Expressions.list(weeklyProgress.user.id, weeklyProgress.challenge.id).in(
-                                JPAExpressions
-                                        .select(weeklyProgress.user.id, weeklyProgress.challenge.id)
-                                        .from(weeklyProgress)
-                                        .join(weeklyProgress.challenge, challenge)
-                                        .where(
-                                                weeklyProgress.user.id.in(userIds),
-                                                mode == null ? null : challenge.mode.eq(mode)
-                                        )
-                                        .groupBy(weeklyProgress.user.id, weeklyProgress.challenge.id)
-                                        .having(ratio.goe(0.7))
-                        )
-                )
-                .groupBy(weeklyProgress.user.id)
+                .where(weeklyProgress.user.id.in(userIds))
+                .groupBy(weeklyProgress.user.id, challenge.id, challenge.mode)
                 .fetch();
 
-        Map<Long, Long> successMap = new HashMap<>();
-        for (Tuple t : successRows) {
-            Long uid = t.get(weeklyProgress.user.id);
-            Long cnt = t.get(weeklyProgress.challenge.id.countDistinct());
-            successMap.put(uid, cnt == null ? 0L : cnt);
+        Map<Long, long[]> counts = new HashMap<>();
+        for (Tuple t : rows) {
+            // SUM 결과 타입은 방언마다 Integer / Long 이 섞이므로 Number 로 읽는다
+            Number complete = t.get(2, Number.class);
+            Long total = t.get(totalCnt);
+            boolean success = total != null && total > 0 && (complete == null ? 0 : complete.longValue()) * 10L >= total * 7L;
+
+            count(counts.computeIfAbsent(t.get(weeklyProgress.user.id), id -> new long[6]), t.get(challenge.mode), success);
         }
 
-        Map<Long, Record> result = new HashMap<>();
+        return toRecords(userIds, counts);
+    }
+
+    // c = [allAttempt, allSuccess, soloAttempt, soloSuccess, vsAttempt, vsSuccess]
+    private void count(long[] c, ChallengeMode mode, boolean success) {
+        int offset = mode == ChallengeMode.SOLO ? 2 : mode == ChallengeMode.VS ? 4 : -1;
+
+        c[0]++;
+        if (success) c[1]++;
+        if (offset > 0) {
+            c[offset]++;
+            if (success) c[offset + 1]++;
+        }
+    }
+
+    private Map<Long, ModeRecords> toRecords(Collection<Long> userIds, Map<Long, long[]> counts) {
+        Map<Long, ModeRecords> result = new HashMap<>();
         for (Long uid : userIds) {
-            long attempt = attemptMap.getOrDefault(uid, 0L);
-            long success = successMap.getOrDefault(uid, 0L);
-            result.put(uid, new Record(attempt, success));
+            long[] c = counts.get(uid);
+            result.put(uid, c == null
+                    ? ModeRecords.EMPTY
+                    : new ModeRecords(new Record(c[0], c[1]), new Record(c[2], c[3]), new Record(c[4], c[5])));
         }
         return result;
     }
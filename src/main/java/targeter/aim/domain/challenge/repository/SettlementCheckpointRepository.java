@@ -0,0 +1,23 @@
+package targeter.aim.domain.challenge.repository;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import targeter.aim.domain.challenge.entity.SettlementCheckpoint;
+import targeter.aim.domain.challenge.entity.SettlementRunStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface SettlementCheckpointRepository extends JpaRepository<SettlementCheckpoint, LocalDate> {
+
+    List<SettlementCheckpoint> findAllByStatusOrderByRunDateAsc(SettlementRunStatus status);
+
+    // 토큰 비교 후 쓰기 사이에 다른 노드가 실행을 넘겨받지 못하도록 행을 잠근다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from SettlementCheckpoint c where c.runDate = :runDate")
+    Optional<SettlementCheckpoint> findByIdForUpdate(@Param("runDate") LocalDate runDate);
+}
@@ -1,15 +1,23 @@
 package targeter.aim.domain.challenge.repository;
 
 import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
+import targeter.aim.domain.challenge.entity.WeekBits;
 import targeter.aim.domain.challenge.entity.WeeklyStatus;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import static targeter.aim.domain.challenge.entity.QChallenge.challenge;
+import static targeter.aim.domain.challenge.entity.QChallengeMember.challengeMember;
 import static targeter.aim.domain.challenge.entity.QWeeklyProgress.weeklyProgress;
 
 @Repository
@@ -18,6 +26,9 @@ public class WeeklyProgressQueryRepository {
 
     private final JPAQueryFactory queryFactory;
 
+    // 타이머 STOP 결과: 갱신된 누적 시간(초)과 주차 성공 여부
+    public record CompletedWeek(int elapsedSeconds, boolean success) {}
+
     public Map<Long, Long> completedCountByUsers(Long challengeId, List<Long> userIds, int endWeek) {
         if (endWeek <= 0 || userIds == null || userIds.isEmpty()) {
             return Map.of();
@@ -64,6 +75,60 @@ public class WeeklyProgressQueryRepository {
         ));
     }
 
+    public record OverviewCounts(long completed, long successToCurrent, long successToPrev) {
+        public static final OverviewCounts EMPTY = new OverviewCounts(0, 0, 0);
+    }
+
+    /**
+     * VS Overview 용: 전체 기간 완료 주차 / 현재 주차까지 성공 / 지난 주차까지 성공 수를 조건부 집계 한 번으로 센다.
+     * 주차 비트 요약을 쓸 수 없을 때의 경로.
+     */
+    public Map<Long, OverviewCounts> overviewCountsByUsers(
+            Long challengeId, List<Long> userIds, int totalWeeks, int successEndWeek, int dominanceEndWeek
+    ) {
+        if (userIds == null || userIds.isEmpty()) {
+            return Map.of();
+        }
+
+        NumberExpression<Integer> completed = new CaseBuilder()
+                .when(weeklyProgress.isComplete.isTrue().and(weeklyProgress.weekNumber.between(1, totalWeeks))).then(1)
+                .otherwise(0)
+                .sum();
+        NumberExpression<Integer> successToCurrent = new CaseBuilder()
+                .when(weeklyProgress.weeklyStatus.eq(WeeklyStatus.SUCCESS).and(weeklyProgress.weekNumber.between(1, successEndWeek))).then(1)
+                .otherwise(0)
+                .sum();
+        NumberExpression<Integer> successToPrev = new CaseBuilder()
+                .when(weeklyProgress.weeklyStatus.eq(WeeklyStatus.SUCCESS).and(weeklyProgress.weekNumber.between(1, dominanceEndWeek))).then(1)
+                .otherwise(0)
+                .sum();
+
+        List<Tuple> rows = queryFactory
+                .select(weeklyProgress.user.id, completed, successToCurrent, successToPrev)
+                .from(weeklyProgress)
+                .where(
+                        weeklyProgress.challenge.id.eq(challengeId),
+                        weeklyProgress.user.id.in(userIds)
+                )
+                .groupBy(weeklyProgress.user.id)
+                .fetch();
+
+        // SUM 결과 타입은 방언마다 Integer / Long 이 섞이므로 Number 로 읽는다
+        Map<Long, OverviewCounts> result = new HashMap<>();
+        for (Tuple t : rows) {
+            result.put(t.get(weeklyProgress.user.id), new OverviewCounts(
+                    longValue(t.get(1, Number.class)),
+                    longValue(t.get(2, Number.class)),
+                    longValue(t.get(3, Number.class))
+            ));
+        }
+        return result;
+    }
+
+    private long longValue(Number n) {
+        return n == null ? 0L : n.longValue();
+    }
+
     public List<Tuple> weekCompletionRows(Long challengeId, List<Long> userIds) {
         if (userIds == null || userIds.isEmpty()) return List.of();
 
@@ -76,4 +141,155 @@ public class WeeklyProgressQueryRepository {
                 )
                 .fetch();
     }
-}
\ No newline at end of file
+
+    // 정산 배치용: 챌린지 -> 유저 -> SUCCESS 주차 수
+    public Map<Long, Map<Long, Long>> successWeeksByChallenges(Collection<Long> challengeIds) {
+        if (challengeIds == null || challengeIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Tuple> rows = queryFactory
+                .select(weeklyProgress.challenge.id, weeklyProgress.user.id, weeklyProgress.count())
+                .from(weeklyProgress)
+                .where(
+                        weeklyProgress.challenge.id.in(challengeIds),
+                        weeklyProgress.weeklyStatus.eq(WeeklyStatus.SUCCESS)
+                )
+                .groupBy(weeklyProgress.challenge.id, weeklyProgress.user.id)
+                .fetch();
+
+        Map<Long, Map<Long, Long>> result = new HashMap<>();
+        for (Tuple t : rows) {
+            result.computeIfAbsent(t.get(weeklyProgress.challenge.id), id -> new HashMap<>())
+                    .put(t.get(weeklyProgress.user.id), t.get(weeklyProgress.count()));
+        }
+        return result;
+    }
+
+    /**
+     * 주차 비트 요약 검증 / 백필용: 챌린지 -> 유저 -> [완료 마스크, 성공 마스크] 를 weekly_progress 행에서 다시 만든다.
+     */
+    public Map<Long, Map<Long, long[]>> weekBitsByChallenges(Collection<Long> challengeIds) {
+        if (challengeIds == null || challengeIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Tuple> rows = queryFactory
+                .select(
+                        weeklyProgress.challenge.id,
+                        weeklyProgress.user.id,
+                        weeklyProgress.weekNumber,
+                        weeklyProgress.isComplete,
+                        weeklyProgress.weeklyStatus
+                )
+                .from(weeklyProgress)
+                .where(
+                        weeklyProgress.challenge.id.in(challengeIds),
+                        weeklyProgress.isComplete.isTrue().or(weeklyProgress.weeklyStatus.eq(WeeklyStatus.SUCCESS))
+                )
+                .fetch();
+
+        Map<Long, Map<Long, long[]>> result = new HashMap<>();
+        for (Tuple t : rows) {
+            long bit = WeekBits.bit(t.get(weeklyProgress.weekNumber));
+            long[] masks = result.computeIfAbsent(t.get(weeklyProgress.challenge.id), id -> new HashMap<>())
+                    .computeIfAbsent(t.get(weeklyProgress.user.id), id -> new long[2]);
+
+            if (Boolean.TRUE.equals(t.get(weeklyProgress.isComplete))) masks[0] |= bit;
+            if (t.get(weeklyProgress.weeklyStatus) == WeeklyStatus.SUCCESS) masks[1] |= bit;
+        }
+        return result;
+    }
+
+    // 유저 통계 재계산용: 유저별 누적 학습 시간(초)
+    public Map<Long, Long> elapsedSecondsByUsers(Collection<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Tuple> rows = queryFactory
+                .select(weeklyProgress.user.id, weeklyProgress.elapsedTimeSeconds.sum())
+                .from(weeklyProgress)
+                .where(weeklyProgress.user.id.in(userIds))
+                .groupBy(weeklyProgress.user.id)
+                .fetch();
+
+        Map<Long, Long> result = new HashMap<>();
+        for (Tuple t : rows) {
+            Number seconds = t.get(1, Number.class);
+            result.put(t.get(weeklyProgress.user.id), seconds == null ? 0L : seconds.longValue());
+        }
+        return result;
+    }
+
+    // 타이머 컨텍스트용: 참가자인 경우에만 주차별 진행 id / 완료 여부 / 누적 시간 + 챌린지 시작일, 기간
+    public List<Tuple> timerSlotRows(Long challengeId, Long userId) {
+        return queryFactory
+                .select(
+                        weeklyProgress.id,
+                        weeklyProgress.weekNumber,
+                        weeklyProgress.isComplete,
+                        weeklyProgress.elapsedTimeSeconds,
+                        challenge.startedAt,
+                        challenge.durationWeek
+                )
+                .from(weeklyProgress)
+                .join(weeklyProgress.challenge, challenge)
+                .join(challengeMember)
+                .on(
+                        challengeMember.id.challenge.eq(challenge),
+                        challengeMember.id.user.id.eq(userId)
+                )
+                .where(
+                        challenge.id.eq(challengeId),
+                        weeklyProgress.user.id.eq(userId)
+                )
+                .fetch();
+    }
+
+    /**
+     * 타이머 STOP 반영: 엔티티를 읽지 않고 누적 시간 / 주차 결과 / 완료 여부를 조건부 UPDATE 한 번으로 갱신한다.
+     * 결과 판정은 {@link targeter.aim.domain.challenge.entity.WeeklyProgress#decideWeeklyStatusOnComplete()} 와 같다.
+     *
+     * @return 갱신된 누적 시간(초)과 성공 여부, 이미 완료된 주차라 갱신되지 않았으면 null
+     */
+    public CompletedWeek completeWithElapsedTime(Long progressId, int seconds) {
+        NumberExpression<Integer> newElapsed = weeklyProgress.elapsedTimeSeconds.add(seconds);
+
+        // MariaDB 는 SET 절을 앞에서부터 적용하므로 결과 판정을 누적 시간 갱신보다 먼저 둔다
+        long updated = queryFactory
+                .update(weeklyProgress)
+                .set(
+                        weeklyProgress.weeklyStatus,
+                        new CaseBuilder()
+                                .when(
+                                        weeklyProgress.targetTimeSeconds.gt(0)
+                                                .and(newElapsed.multiply(10).goe(weeklyProgress.targetTimeSeconds.multiply(8)))
+                                )
+                                .then(WeeklyStatus.SUCCESS)
+                                .otherwise(WeeklyStatus.FAIL)
+                )
+                .set(weeklyProgress.elapsedTimeSeconds, newElapsed)
+                .set(weeklyProgress.isComplete, true)
+                .set(weeklyProgress.lastModifiedAt, LocalDateTime.now())
+                .where(
+                        weeklyProgress.id.eq(progressId),
+                        weeklyProgress.isComplete.isFalse()
+                )
+                .execute();
+
+        if (updated == 0) return null;
+
+        // 같은 트랜잭션이 행 잠금을 쥐고 있으므로 방금 쓴 값을 그대로 읽는다
+        Tuple row = queryFactory
+                .select(weeklyProgress.elapsedTimeSeconds, weeklyProgress.weeklyStatus)
+                .from(weeklyProgress)
+                .where(weeklyProgress.id.eq(progressId))
+                .fetchOne();
+
+        return new CompletedWeek(
+                row.get(weeklyProgress.elapsedTimeSeconds),
+                row.get(weeklyProgress.weeklyStatus) == WeeklyStatus.SUCCESS
+        );
+    }
+}
@@ -1,26 +1,73 @@
 package targeter.aim.domain.challenge.scheduler;
 
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import targeter.aim.domain.challenge.service.ChallengeService;
+import targeter.aim.domain.challenge.service.ChallengeSettlementService;
 
+import java.time.LocalDate;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 정산 트리거.
+ * 정산은 수 분이 걸릴 수 있으므로 스케줄러 스레드(저널 heartbeat / 클러스터 ALIVE 등과 공유)에서는 전용 스레드에 넘기기만 한다.
+ * 일일 정산과 인계 확인은 같은 스레드에서 차례로 실행된다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ChallengeScheduler {
 
-    private final ChallengeService challengeService;
+    private final ChallengeSettlementService challengeSettlementService;
+
+    private final ExecutorService settlementExecutor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("settlement-runner").daemon().factory()
+    );
+    private final AtomicBoolean takeoverQueued = new AtomicBoolean();
 
     @Scheduled(cron = "0 0 0 * * *")
     public void autoSettleChallenges() {
-        log.info("[Scheduler] 일일 챌린지 정산 시작...");
-        long start = System.currentTimeMillis();
+        LocalDate runDate = LocalDate.now();
+        settlementExecutor.execute(() -> {
+            log.info("[Scheduler] 일일 챌린지 정산 시작...");
+            long start = System.currentTimeMillis();
+            try {
+                challengeSettlementService.settle(runDate);
+            } catch (RuntimeException e) {
+                log.error("[Scheduler] {} 정산 실패: {}", runDate, e.getMessage());
+            }
+
+            long end = System.currentTimeMillis();
+            log.info("[Scheduler] 정산 종료. 소요 시간: {}ms", (end - start));
+        });
+    }
+
+    // 정산 중이던 노드가 죽었으면 리스 만료 후 이 노드가 체크포인트부터 이어받는다
+    @Scheduled(
+            initialDelayString = "#{@settlementProperties.takeoverCheckInterval.toMillis()}",
+            fixedDelayString = "#{@settlementProperties.takeoverCheckInterval.toMillis()}"
+    )
+    public void takeOverAbandonedSettlement() {
+        // 앞선 정산이 길어져 확인이 밀려 있으면 하나만 남긴다
+        if (!takeoverQueued.compareAndSet(false, true)) return;
 
-        challengeService.settleAllFinishedChallenges();
+        settlementExecutor.execute(() -> {
+            try {
+                challengeSettlementService.resumeAbandoned();
+            } catch (RuntimeException e) {
+                log.warn("[Scheduler] 정산 인계 확인 실패: {}", e.getMessage());
+            } finally {
+                takeoverQueued.set(false);
+            }
+        });
+    }
 
-        long end = System.currentTimeMillis();
-        log.info("[Scheduler] 정산 종료. 소요 시간: {}ms", (end - start));
+    @PreDestroy
+    public void shutdown() {
+        settlementExecutor.shutdownNow();
     }
 }
@@ -1,10 +1,12 @@
 package targeter.aim.domain.challenge.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import targeter.aim.domain.challenge.entity.Challenge;
+import targeter.aim.domain.challenge.event.ChallengeMembershipChangedEvent;
 import targeter.aim.domain.challenge.repository.ChallengeMemberRepository;
 import targeter.aim.domain.challenge.repository.ChallengeRepository;
 import targeter.aim.domain.challenge.repository.WeeklyProgressRepository;
@@ -18,6 +20,7 @@ public class ChallengeCleanupService {
     private final WeeklyProgressRepository weeklyProgressRepository;
     private final ChallengeMemberRepository challengeMemberRepository;
     private final ChallengeRepository challengeRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void deleteChallengeAtomic(Long challengeId) {
@@ -29,5 +32,7 @@ public class ChallengeCleanupService {
         weeklyProgressRepository.deleteAllByChallenge(challenge);
         challengeMemberRepository.deleteAllById_Challenge(challenge);
         challengeRepository.deleteById(challengeId);
+
+        eventPublisher.publishEvent(new ChallengeMembershipChangedEvent(challengeId));
     }
 }
@@ -1,10 +1,12 @@
 package targeter.aim.domain.challenge.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import targeter.aim.domain.challenge.entity.Challenge;
 import targeter.aim.domain.challenge.entity.ChallengeLiked;
+import targeter.aim.domain.challenge.event.ChallengeLikeToggledEvent;
 import targeter.aim.domain.challenge.repository.ChallengeLikedRepository;
 import targeter.aim.domain.challenge.repository.ChallengeRepository;
 import targeter.aim.domain.user.entity.User;
@@ -19,6 +21,7 @@ public class ChallengeLikedService {
     private final ChallengeLikedRepository challengeLikedRepository;
     private final UserRepository userRepository;
     private final ChallengeRepository challengeRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public boolean toggleLike(Long userId, Long challengeId) {
@@ -32,6 +35,8 @@ public class ChallengeLikedService {
         boolean exists =
                 challengeLikedRepository.existsByUserAndChallenge(user, challenge);
 
+        eventPublisher.publishEvent(new ChallengeLikeToggledEvent(challengeId, userId));
+
         if (exists) {
             challengeLikedRepository.deleteByUserAndChallenge(user, challenge);
             challenge.subtractLikedCount();
@@ -3,8 +3,10 @@ package targeter.aim.domain.challenge.service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import targeter.aim.domain.challenge.cache.VsOverviewCache;
 import targeter.aim.domain.challenge.dto.ChallengeDto;
 import targeter.aim.domain.challenge.entity.*;
 import targeter.aim.domain.challenge.repository.*;
@@ -16,6 +18,7 @@ import targeter.aim.system.security.model.UserDetails;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.function.ToIntFunction;
 
 @Service
 @RequiredArgsConstructor
@@ -29,10 +32,13 @@ public class ChallengeReadService {
     private final ChallengeQueryRepository challengeQueryRepository;
     private final WeeklyProgressQueryRepository weeklyProgressQueryRepository;
 
+    private final VsOverviewCache vsOverviewCache;
+
     public ChallengeDto.ChallengePageResponse getVsChallenges(
             ChallengeDto.VsListSearchCondition condition,
             UserDetails userDetails,
-            Pageable pageable
+            Pageable pageable,
+            boolean withCount
     ) {
         ChallengeDto.ChallengeFilterType filterType = condition.getFilterType();
         ChallengeDto.ChallengeSortType sortType = condition.getSort();
@@ -45,20 +51,20 @@ public class ChallengeReadService {
         String keyword = normalizeKeyword(condition.getKeyword());
         String field = normalizeField(condition.getField());
 
-        Page<ChallengeDto.ChallengeListResponse> page;
+        Slice<ChallengeDto.ChallengeListResponse> page;
 
         if (field != null) {
             page = challengeQueryRepository.paginateVsByTypeAndKeywordAndField(
-                    userDetails, pageable, filterType, sortType, keyword, field
+                    userDetails, pageable, withCount, filterType, sortType, keyword, field
             );
         } else {
             if (keyword != null) {
                 page = challengeQueryRepository.paginateVsByTypeAndKeyword(
-                        userDetails, pageable, filterType, sortType, keyword
+                        userDetails, pageable, withCount, filterType, sortType, keyword
                 );
             } else {
                 page = challengeQueryRepository.paginateVsByType(
-                        userDetails, pageable, filterType, sortType
+                        userDetails, pageable, withCount, filterType, sortType
                 );
             }
         }
@@ -84,11 +90,38 @@ public class ChallengeReadService {
         return upper;
     }
 
-    // VS 챌린지 Overview 조회
+    // VS 챌린지 Overview 조회: 캐시가 있으면 좋아요 여부만 확인하고 바로 돌려준다
     public ChallengeDto.VsChallengeOverviewResponse getVsChallengeOverview(
             Long challengeId,
             UserDetails userDetails
     ) {
+        Long loginUserId = (userDetails == null) ? null : userDetails.getUser().getId();
+
+        LocalDate today = LocalDate.now();
+        long version = vsOverviewCache.version(challengeId);
+
+        VsOverviewCache.Snapshot snapshot = vsOverviewCache.get(challengeId, version, today);
+        if (snapshot == null) {
+            snapshot = loadVsOverview(challengeId, today);
+            vsOverviewCache.put(challengeId, version, today, snapshot);
+        }
+
+        snapshot.validateReadable(loginUserId);
+
+        ChallengeDto.VsChallengeOverviewResponse view = snapshot.viewFor(loginUserId);
+        if (loginUserId == null) {
+            return view;
+        }
+
+        Boolean isLiked = vsOverviewCache.liked(challengeId, loginUserId, version);
+        if (isLiked == null) {
+            isLiked = challengeLikedRepository.existsByUser_IdAndChallenge_Id(loginUserId, challengeId);
+            vsOverviewCache.putLiked(challengeId, loginUserId, version, isLiked);
+        }
+        return isLiked ? view.withLiked(true) : view;
+    }
+
+    private VsOverviewCache.Snapshot loadVsOverview(Long challengeId, LocalDate today) {
         Challenge challenge = challengeRepository.findById(challengeId)
                 .orElseThrow(() -> new RestException(ErrorCode.GLOBAL_NOT_FOUND));
 
@@ -110,68 +143,65 @@ public class ChallengeReadService {
                 .findFirst()
                 .orElse(null);
 
-        Long loginUserId = (userDetails == null) ? null : userDetails.getUser().getId();
-
-        if (challenge.getVisibility() == ChallengeVisibility.PRIVATE) {
-            if (loginUserId == null) {
-                throw new RestException(ErrorCode.AUTH_AUTHENTICATION_FAILED);
-            }
-            boolean isMember = members.stream()
-                    .anyMatch(m -> m.getId().getUser().getId().equals(loginUserId));
-
-            if (!isMember) {
-                throw new RestException(ErrorCode.AUTH_FORBIDDEN);
-            }
-        }
-
-        User me = hostUser;
-        User opponent = memberUser;
-
-        if (loginUserId != null && memberUser != null && loginUserId.equals(memberUser.getId())) {
-            me = memberUser;
-            opponent = hostUser;
-        }
-
         int totalWeeks = challenge.getDurationWeek();
-        int currentWeek = calcCurrentWeek(challenge.getStartedAt(), totalWeeks);
+        int currentWeek = calcCurrentWeek(challenge.getStartedAt(), totalWeeks, today);
 
-        // 6) userIds 구성 (상대 없으면 나만)
+        // (성공률) 현재주차는 "진행 중인 주차"까지 포함해서 분모로 잡는다
+        int successEndWeek = Math.max(currentWeek, 1);
+        // (우세현황) 지난주차까지 기준 성공률로 막대폭 산정
+        int dominanceEndWeek = Math.max(currentWeek - 1, 0);
+
+        // userIds 구성 (상대 없으면 나만)
         List<Long> userIds = (memberUser == null)
                 ? List.of(hostUser.getId())
                 : List.of(hostUser.getId(), memberUser.getId());
 
-        // 7) (진도율) 완료주차/전체주차 %
-        Map<Long, Long> completedTotalMap =
-                safeMap(weeklyProgressQueryRepository.completedCountByUsers(challengeId, userIds, totalWeeks));
+        Map<Long, WeeklyProgressQueryRepository.OverviewCounts> counts =
+                overviewCounts(challenge, members, userIds, totalWeeks, successEndWeek, dominanceEndWeek);
 
-        int myProgressRate = percent(completedTotalMap.getOrDefault(me.getId(), 0L), totalWeeks);
-        int oppoProgressRate = opponent == null ? 0
-                : percent(completedTotalMap.getOrDefault(opponent.getId(), 0L), totalWeeks);
+        ChallengeDto.VsChallengeOverviewResponse hostView =
+                buildVsOverview(challenge, hostUser, memberUser, counts, totalWeeks, successEndWeek, dominanceEndWeek);
+        ChallengeDto.VsChallengeOverviewResponse memberView = memberUser == null ? null
+                : buildVsOverview(challenge, memberUser, hostUser, counts, totalWeeks, successEndWeek, dominanceEndWeek);
 
-        // 8) (성공률) 성공주차/현재주차 %
-        //    - 현재주차는 "진행 중인 주차"까지 포함해서 분모로 잡는다 (요구사항/정책에 따라 바꿔도 됨)
-        int successEndWeek = Math.max(currentWeek, 1);
+        return new VsOverviewCache.Snapshot(
+                challenge.getVisibility(),
+                hostUser.getId(),
+                memberUser == null ? null : memberUser.getId(),
+                hostView,
+                memberView
+        );
+    }
 
-        Map<Long, Long> successUpToCurrentMap =
-                safeMap(weeklyProgressQueryRepository.successCountByUsers(challengeId, userIds, successEndWeek));
+    private ChallengeDto.VsChallengeOverviewResponse buildVsOverview(
+            Challenge challenge,
+            User me,
+            User opponent,
+            Map<Long, WeeklyProgressQueryRepository.OverviewCounts> counts,
+            int totalWeeks,
+            int successEndWeek,
+            int dominanceEndWeek
+    ) {
+        WeeklyProgressQueryRepository.OverviewCounts mine =
+                counts.getOrDefault(me.getId(), WeeklyProgressQueryRepository.OverviewCounts.EMPTY);
+        WeeklyProgressQueryRepository.OverviewCounts theirs = opponent == null
+                ? WeeklyProgressQueryRepository.OverviewCounts.EMPTY
+                : counts.getOrDefault(opponent.getId(), WeeklyProgressQueryRepository.OverviewCounts.EMPTY);
 
-        int mySuccessRate = percent(successUpToCurrentMap.getOrDefault(me.getId(), 0L), successEndWeek);
-        int oppoSuccessRate = opponent == null ? 0
-                : percent(successUpToCurrentMap.getOrDefault(opponent.getId(), 0L), successEndWeek);
+        // (진도율) 완료주차/전체주차 %
+        int myProgressRate = percent(mine.completed(), totalWeeks);
+        int oppoProgressRate = opponent == null ? 0 : percent(theirs.completed(), totalWeeks);
 
-        // 9) (우세현황) 지난주차까지 기준 성공률로 막대폭 산정
-        int dominanceEndWeek = Math.max(currentWeek - 1, 0);
+        // (성공률) 성공주차/현재주차 %
+        int mySuccessRate = percent(mine.successToCurrent(), successEndWeek);
+        int oppoSuccessRate = opponent == null ? 0 : percent(theirs.successToCurrent(), successEndWeek);
 
         int myDominanceRate = 0;
         int oppoDominanceRate = 0;
 
         if (dominanceEndWeek > 0) {
-            Map<Long, Long> successUpToPrevMap =
-                    safeMap(weeklyProgressQueryRepository.successCountByUsers(challengeId, userIds, dominanceEndWeek));
-
-            myDominanceRate = percent(successUpToPrevMap.getOrDefault(me.getId(), 0L), dominanceEndWeek);
-            oppoDominanceRate = opponent == null ? 0
-                    : percent(successUpToPrevMap.getOrDefault(opponent.getId(), 0L), dominanceEndWeek);
+            myDominanceRate = percent(mine.successToPrev(), dominanceEndWeek);
+            oppoDominanceRate = opponent == null ? 0 : percent(theirs.successToPrev(), dominanceEndWeek);
         }
 
         int myPercent;
@@ -200,15 +230,10 @@ public class ChallengeReadService {
                         myPercent
                 );
 
-        boolean isLiked = false;
-        if (loginUserId != null) {
-            isLiked = challengeLikedRepository.existsByUserAndChallenge(userDetails.getUser(), challenge);
-        }
-
-        // 10) DTO 반환
+        // 좋아요 여부는 보는 사람마다 달라 캐시에는 false 로 두고 조회 시 덮어쓴다
         return ChallengeDto.VsChallengeOverviewResponse.from(
                 challenge,
-                isLiked,
+                false,
                 dominance,
                 me, myProgressRate, mySuccessRate,
                 opponent, oppoProgressRate, oppoSuccessRate
@@ -216,7 +241,11 @@ public class ChallengeReadService {
     }
 
     private int calcCurrentWeek(LocalDate startedAt, int totalWeeks) {
-        long days = Duration.between(startedAt.atStartOfDay(), LocalDate.now().atStartOfDay()).toDays();
+        return calcCurrentWeek(startedAt, totalWeeks, LocalDate.now());
+    }
+
+    private int calcCurrentWeek(LocalDate startedAt, int totalWeeks, LocalDate today) {
+        long days = Duration.between(startedAt.atStartOfDay(), today.atStartOfDay()).toDays();
         int week = (int) (days / 7) + 1;
         return Math.min(Math.max(week, 1), totalWeeks);
     }
@@ -230,25 +259,68 @@ public class ChallengeReadService {
         return map == null ? Map.of() : map;
     }
 
+    // 멤버 행의 주차 비트 요약으로 세고, 요약이 없으면(백필 전 / 63주 초과) weekly_progress 집계로 센다
+    private Map<Long, Long> completedCounts(Challenge challenge, List<ChallengeMember> members, List<Long> userIds, int endWeek) {
+        if (canUseWeekBits(challenge, members)) {
+            return countByUser(members, m -> m.completedCount(endWeek));
+        }
+        return safeMap(weeklyProgressQueryRepository.completedCountByUsers(challenge.getId(), userIds, endWeek));
+    }
+
+    // 세 가지 수를 주차 비트로 한 번에 세고, 비트 요약을 쓸 수 없으면 조건부 집계 쿼리 한 번으로 센다
+    private Map<Long, WeeklyProgressQueryRepository.OverviewCounts> overviewCounts(
+            Challenge challenge, List<ChallengeMember> members, List<Long> userIds,
+            int totalWeeks, int successEndWeek, int dominanceEndWeek
+    ) {
+        if (!canUseWeekBits(challenge, members)) {
+            return weeklyProgressQueryRepository.overviewCountsByUsers(
+                    challenge.getId(), userIds, totalWeeks, successEndWeek, dominanceEndWeek
+            );
+        }
+
+        Map<Long, WeeklyProgressQueryRepository.OverviewCounts> result = new HashMap<>();
+        for (ChallengeMember member : members) {
+            result.put(member.getId().getUser().getId(), new WeeklyProgressQueryRepository.OverviewCounts(
+                    member.completedCount(totalWeeks),
+                    member.successCount(successEndWeek),
+                    member.successCount(dominanceEndWeek)
+            ));
+        }
+        return result;
+    }
+
+    private boolean canUseWeekBits(Challenge challenge, List<ChallengeMember> members) {
+        return WeekBits.fits(challenge.getDurationWeek()) && members.stream().allMatch(ChallengeMember::hasWeekBits);
+    }
+
+    private Map<Long, Long> countByUser(List<ChallengeMember> members, ToIntFunction<ChallengeMember> counter) {
+        Map<Long, Long> result = new HashMap<>();
+        for (ChallengeMember member : members) {
+            result.put(member.getId().getUser().getId(), (long) counter.applyAsInt(member));
+        }
+        return result;
+    }
+
     public ChallengeDto.ChallengePageResponse getSoloChallenges(
             ChallengeDto.SoloListSearchCondition condition,
             UserDetails userDetails,
-            Pageable pageable
+            Pageable pageable,
+            boolean withCount
     ) {
         ChallengeDto.ChallengeFilterType filterType = condition.getFilterType();
         ChallengeDto.ChallengeSortType sortType = condition.getSort();
 
         String keyword = normalizeKeyword(condition.getKeyword());
 
-        Page<ChallengeDto.ChallengeListResponse> page;
+        Slice<ChallengeDto.ChallengeListResponse> page;
 
         if (keyword != null) {
             page = challengeQueryRepository.paginateSoloByTypeAndKeyword(
-                    userDetails, pageable, filterType, sortType, keyword
+                    userDetails, pageable, withCount, filterType, sortType, keyword
             );
         } else {
             page = challengeQueryRepository.paginateSoloByType(
-                    userDetails, pageable, filterType, sortType
+                    userDetails, pageable, withCount, filterType, sortType
             );
         }
 
@@ -284,13 +356,9 @@ public class ChallengeReadService {
         int currentWeek = calcCurrentWeek(challenge.getStartedAt(), totalWeeks);
 
         List<Long> userIds = List.of(host.getId());
+        List<ChallengeMember> members = challengeMemberRepository.findAllById_Challenge(challenge);
 
-        Map<Long, Long> completedTotalMap =
-                safeMap(weeklyProgressQueryRepository.completedCountByUsers(
-                        challengeId,
-                        userIds,
-                        totalWeeks
-                ));
+        Map<Long, Long> completedTotalMap = completedCounts(challenge, members, userIds, totalWeeks);
 
         int progressRate = percent(
                 completedTotalMap.getOrDefault(host.getId(), 0L),
@@ -299,12 +367,7 @@ public class ChallengeReadService {
 
         int successEndWeek = Math.max(currentWeek, 1);
 
-        Map<Long, Long> completedUpToCurrentMap =
-                safeMap(weeklyProgressQueryRepository.completedCountByUsers(
-                        challengeId,
-                        userIds,
-                        successEndWeek
-                ));
+        Map<Long, Long> completedUpToCurrentMap = completedCounts(challenge, members, userIds, successEndWeek);
 
         int successRate = percent(
                 completedUpToCurrentMap.getOrDefault(host.getId(), 0L),
@@ -328,21 +391,22 @@ public class ChallengeReadService {
     public ChallengeDto.ChallengePageResponse getAllChallenges(
             ChallengeDto.AllListSearchCondition condition,
             UserDetails userDetails,
-            Pageable pageable
+            Pageable pageable,
+            boolean withCount
     ) {
         ChallengeDto.ChallengeSortType sortType = condition.getSort();
 
         String keyword = normalizeKeyword(condition.getKeyword());
 
-        Page<ChallengeDto.ChallengeListResponse> page;
+        Slice<ChallengeDto.ChallengeListResponse> page;
 
         if (keyword != null) {
             page = challengeQueryRepository.paginateAllByTypeAndKeyword(
-                    userDetails, pageable, sortType, keyword
+                    userDetails, pageable, withCount, sortType, keyword
             );
         } else {
             page = challengeQueryRepository.paginateAllByType(
-                    userDetails, pageable, sortType
+                    userDetails, pageable, withCount, sortType
             );
         }
 
@@ -353,18 +417,19 @@ public class ChallengeReadService {
     public ChallengeDto.ChallengePageResponse searchAllChallenges(
             ChallengeDto.AllListSearchCondition condition,
             UserDetails userDetails,
-            Pageable pageable
+            Pageable pageable,
+            boolean withCount
     ) {
         ChallengeDto.ChallengeSortType sortType = condition.getSort();
         String keyword = normalizeKeyword(condition.getKeyword());
 
-        Page<ChallengeDto.ChallengeListResponse> page =
+        Slice<ChallengeDto.ChallengeListResponse> page =
                 keyword != null
                         ? challengeQueryRepository.paginateSearchAllByKeyword(
-                        userDetails, pageable, sortType, keyword
+                        userDetails, pageable, withCount, sortType, keyword
                 )
                         : challengeQueryRepository.paginateSearchAll(
-                        userDetails, pageable, sortType
+                        userDetails, pageable, withCount, sortType
                 );
 
         return ChallengeDto.ChallengePageResponse.from(page);
@@ -374,17 +439,18 @@ public class ChallengeReadService {
             String keyword,
             ChallengeDto.ChallengeSortType sortType,
             Pageable pageable,
+            boolean withCount,
             UserDetails userDetails
     ) {
         String k = normalizeKeyword(keyword);
 
-        Page<ChallengeDto.ChallengeListResponse> page =
+        Slice<ChallengeDto.ChallengeListResponse> page =
                 k != null
                         ? challengeQueryRepository.paginateSearchAllByKeyword(
-                        userDetails, pageable, sortType, k
+                        userDetails, pageable, withCount, sortType, k
                 )
                         : challengeQueryRepository.paginateSearchAll(
-                        userDetails, pageable, sortType
+                        userDetails, pageable, withCount, sortType
                 );
 
         return ChallengeDto.ChallengePageResponse.from(page);
@@ -394,7 +460,8 @@ public class ChallengeReadService {
     public ChallengeDto.ChallengePageResponse getLikedChallenges(
             ChallengeDto.AllListSearchCondition condition,
             UserDetails userDetails,
-            Pageable pageable
+            Pageable pageable,
+            boolean withCount
     ) {
         if (userDetails == null) {
             return ChallengeDto.ChallengePageResponse.from(Page.empty(pageable));
@@ -403,13 +470,13 @@ public class ChallengeReadService {
         ChallengeDto.ChallengeSortType sortType = condition.getSort();
         String keyword = normalizeKeyword(condition.getKeyword());
 
-        Page<ChallengeDto.ChallengeListResponse> page =
+        Slice<ChallengeDto.ChallengeListResponse> page =
                 keyword != null
                         ? challengeQueryRepository.paginateLikedByKeyword(
-                        userDetails, pageable, sortType, keyword
+                        userDetails, pageable, withCount, sortType, keyword
                 )
                         : challengeQueryRepository.paginateLiked(
-                        userDetails, pageable, sortType
+                        userDetails, pageable, withCount, sortType
                 );
 
         return ChallengeDto.ChallengePageResponse.from(page);
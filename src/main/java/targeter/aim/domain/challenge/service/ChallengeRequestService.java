@@ -2,6 +2,7 @@ package targeter.aim.domain.challenge.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.BeanUtils;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -9,6 +10,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import targeter.aim.domain.challenge.dto.ChallengeRequestDto;
 import targeter.aim.domain.challenge.entity.*;
+import targeter.aim.domain.challenge.event.ChallengeMembershipChangedEvent;
 import targeter.aim.domain.challenge.repository.*;
 import targeter.aim.domain.user.entity.User;
 import targeter.aim.system.exception.model.ErrorCode;
@@ -28,6 +30,7 @@ public class ChallengeRequestService {
     private final ChallengeMemberRepository challengeMemberRepository;
     private final ChallengeRepository challengeRepository;
     private final WeeklyProgressRepository weeklyProgressRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ChallengeRequestDto.SendRequestResponse sendRequest(Long challengeId, UserDetails userDetails) {
@@ -134,19 +137,25 @@ public class ChallengeRequestService {
 
         challengeMemberRepository.save(challengeMember);
 
-        copyHostWeeklyProgressToMember(challenge, hostUser, memberUser);
+        // 합류 이전 주차는 FAIL 로 완료 처리되므로 비트 요약도 같이 채운다
+        Long completedWeeks = copyHostWeeklyProgressToMember(challenge, hostUser, memberUser);
+        challengeMember.setCompletedWeeks(completedWeeks);
+        challengeMember.setSuccessWeeks(completedWeeks == null ? null : 0L);
 
         challenge.startVs();
         challengeRequest.approve();
 
+        eventPublisher.publishEvent(new ChallengeMembershipChangedEvent(challenge.getId()));
+
         return ChallengeRequestDto.RequestAccessResponse.from(challengeRequest);
     }
 
-    private void copyHostWeeklyProgressToMember(Challenge challenge, User hostUser, User memberUser) {
+    // 복사 후 완료 처리된 주차의 비트마스크. 이미 주차 데이터가 있어 건너뛰면 null (백필에 맡긴다)
+    private Long copyHostWeeklyProgressToMember(Challenge challenge, User hostUser, User memberUser) {
 
         boolean memberAlreadyHas = weeklyProgressRepository.existsByChallengeAndUser(challenge, memberUser);
         if (memberAlreadyHas) {
-            return;
+            return null;
         }
 
         List<WeeklyProgress> hostProgressList =
@@ -163,6 +172,7 @@ public class ChallengeRequestService {
         int currentWeek = (int) ChronoUnit.WEEKS.between(startDate, today) + 1;
 
         List<WeeklyProgress> toSave = new ArrayList<>();
+        long completedWeeks = 0L;
 
         for (WeeklyProgress src : hostProgressList) {
             WeeklyProgress cloned = new WeeklyProgress();
@@ -189,6 +199,7 @@ public class ChallengeRequestService {
                 cloned.setElapsedTimeSeconds(0);
                 cloned.setWeeklyStatus(WeeklyStatus.FAIL);
                 cloned.setIsComplete(true);
+                completedWeeks |= WeekBits.bit(src.getWeekNumber());
             } else {
                 cloned.setElapsedTimeSeconds(0);
                 cloned.setWeeklyStatus(WeeklyStatus.PENDING);
@@ -202,6 +213,7 @@ public class ChallengeRequestService {
         }
 
         weeklyProgressRepository.saveAll(toSave);
+        return completedWeeks;
     }
 
     @Transactional
@@ -61,6 +61,8 @@ public class ChallengeRoutePersistService {
         ChallengeMember hostMember = ChallengeMember.builder()
                 .id(ChallengeMemberId.of(savedChallenge, host))
                 .role(MemberRole.HOST)
+                .completedWeeks(0L)
+                .successWeeks(0L)
                 .build();
         challengeMemberRepository.save(hostMember);
 
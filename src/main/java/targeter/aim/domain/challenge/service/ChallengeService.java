@@ -2,6 +2,7 @@ package targeter.aim.domain.challenge.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -10,24 +11,29 @@ import org.springframework.web.multipart.MultipartFile;
 import targeter.aim.domain.ai.llm.dto.RoutePayload;
 import targeter.aim.domain.challenge.dto.ChallengeDto;
 import targeter.aim.domain.challenge.entity.*;
+import targeter.aim.domain.challenge.event.ChallengeCreatedEvent;
+import targeter.aim.domain.challenge.event.ChallengeMembershipChangedEvent;
+import targeter.aim.domain.challenge.event.ChallengeSettledEvent;
+import targeter.aim.domain.challenge.event.ChallengeUpdatedEvent;
 import targeter.aim.domain.challenge.repository.*;
 import targeter.aim.domain.file.entity.ChallengeImage;
 import targeter.aim.domain.file.handler.FileHandler;
 import targeter.aim.domain.label.entity.Field;
 import targeter.aim.domain.label.entity.Tag;
-import targeter.aim.domain.label.repository.FieldRepository;
+import targeter.aim.domain.label.registry.FieldRegistry;
 import targeter.aim.domain.label.repository.TagRepository;
 import targeter.aim.domain.label.service.FieldService;
 import targeter.aim.domain.label.service.TagService;
 import targeter.aim.domain.user.entity.User;
 import targeter.aim.domain.user.repository.UserRepository;
+import targeter.aim.domain.user.entity.UserChallengeStats;
+import targeter.aim.domain.user.service.UserChallengeStatsService;
 import targeter.aim.domain.user.service.UserService;
 import targeter.aim.system.exception.model.ErrorCode;
 import targeter.aim.system.exception.model.RestException;
 import targeter.aim.system.security.model.UserDetails;
 
 import java.time.Duration;
-import java.time.LocalDate;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -37,14 +43,13 @@ import java.util.stream.Collectors;
 public class ChallengeService {
 
     private final UserRepository userRepository;
-    private final ChallengeMemberQueryRepository challengeMemberQueryRepository;
 
     private final ChallengeRepository challengeRepository;
     private final ChallengeMemberRepository challengeMemberRepository;
     private final WeeklyProgressRepository weeklyProgressRepository;
     private final ChallengeLikedRepository challengeLikedRepository;
     private final TagRepository tagRepository;
-    private final FieldRepository fieldRepository;
+    private final FieldRegistry fieldRegistry;
 
     private final ChallengeQueryRepository challengeQueryRepository;
     private final WeeklyProgressQueryRepository weeklyProgressQueryRepository;
@@ -54,8 +59,10 @@ public class ChallengeService {
     private final ChallengeCleanupService cleanupService;
     private final TagService tagService;
     private final UserService userService;
+    private final UserChallengeStatsService userChallengeStatsService;
     private final FieldService fieldService;
     private final FileHandler fileHandler;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ChallengeDto.ChallengeIdResponse createChallenge(
@@ -84,6 +91,8 @@ public class ChallengeService {
         // 4. 태그 / 분야 연관관계 매핑
         updateChallengeLabels(challenge, request.getTags(), request.getFields());
 
+        eventPublisher.publishEvent(new ChallengeCreatedEvent(challengeId));
+
         return ChallengeDto.ChallengeIdResponse.from(challenge);
     }
 
@@ -111,9 +120,7 @@ public class ChallengeService {
             List<String> trimFieldNames = fieldNames.stream()
                     .map(String::trim)
                     .collect(Collectors.toList());
-            List<Field> existFields = fieldRepository.findAllByNameIn(trimFieldNames);
-
-            challenge.setFields(new HashSet<>(existFields));
+            challenge.setFields(new HashSet<>(fieldRegistry.references(trimFieldNames)));
         }
     }
 
@@ -185,6 +192,8 @@ public class ChallengeService {
 
         User winner = winnerId.equals(hostUser.getId()) ? hostUser : memberUser;
 
+        eventPublisher.publishEvent(new ChallengeSettledEvent(challenge.getId()));
+
         return ChallengeDto.VsResultResponse.from(challenge, winner);
     }
 
@@ -227,53 +236,17 @@ public class ChallengeService {
         // 변경사항 저장 (JPA Dirty Checking이 동작하지만, 확실한 순서를 위해 flush 권장)
         challengeMemberRepository.saveAndFlush(member);
 
+        // 유저 통계 반영 (레벨업 판정이 이 값을 읽으므로 먼저)
+        userChallengeStatsService.recordResult(
+                member.getId().getUser().getId(),
+                member.getId().getChallenge().getMode(),
+                isSuccess
+        );
+
         // 레벨업 서비스 호출
         userService.checkAndApplyLevelUp(member.getId().getUser());
     }
 
-    @Transactional
-    public void settleAllFinishedChallenges() {
-        List<Challenge> activeChallenges = challengeRepository.findAllByStatus(ChallengeStatus.IN_PROGRESS);
-
-        LocalDate today = LocalDate.now();
-        int count = 0;
-
-        for (Challenge challenge : activeChallenges) {
-            LocalDate endDate = challenge.getStartedAt().plusWeeks(challenge.getDurationWeek());
-
-            if (!today.isBefore(endDate)) {
-                try {
-                    // 챌린지에 속한 모든 멤버(Host, Member)를 가져옴
-                    List<ChallengeMember> members = challengeMemberRepository.findAllById_Challenge(challenge);
-
-                    for (ChallengeMember member : members) {
-                        // 각 멤버별로 정산 수행 (SOLO는 Host만, VS는 Host/Guest 모두 루프 돔)
-                        calculateAndSettle(challenge, member);
-                    }
-
-                    // 4. 챌린지 상태 "완료"로 변경
-                    challenge.setStatus(ChallengeStatus.COMPLETED);
-                    count++;
-                } catch (Exception e) {
-                    log.error("챌린지 자동 정산 실패 (ID: {}): {}", challenge.getId(), e.getMessage());
-                }
-            }
-        }
-        log.info("[Scheduler] 총 {}건의 챌린지 정산 및 종료 처리 완료", count);
-    }
-
-    private void calculateAndSettle(Challenge challenge, ChallengeMember member) {
-        User user = member.getId().getUser();
-
-        List<WeeklyProgress> weeks = weeklyProgressRepository.findAllByChallengeAndUser(challenge, user);
-
-        int successWeeks = (int) weeks.stream()
-                .filter(w -> w.getWeeklyStatus() == WeeklyStatus.SUCCESS)
-                .count();
-
-        processSettlement(member, successWeeks, challenge.getDurationWeek());
-    }
-
     @Transactional
     public ChallengeDto.ChallengeIdResponse updateChallenge(
             Long challengeId,
@@ -308,6 +281,8 @@ public class ChallengeService {
             challenge.setChallengeImage(newImage);
         }
 
+        eventPublisher.publishEvent(new ChallengeUpdatedEvent(challenge.getId()));
+
         return ChallengeDto.ChallengeIdResponse.from(challenge);
     }
 
@@ -329,6 +304,8 @@ public class ChallengeService {
 
         challengeLikedRepository.deleteByChallenge(challenge);
         challengeRepository.delete(challenge);
+
+        eventPublisher.publishEvent(new ChallengeMembershipChangedEvent(challengeId));
     }
 
     @Transactional(readOnly = true)
@@ -348,23 +325,19 @@ public class ChallengeService {
 
     @Transactional(readOnly = true)
     public ChallengeDto.RecordResponse getMyChallengeRecords(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RestException(ErrorCode.USER_NOT_FOUND));
-
-        int allAttempt = challengeMemberQueryRepository.countFinishedChallenges(user);
-        int allSuccess = challengeMemberQueryRepository.countByUserAndResult(user, ChallengeResult.SUCCESS);
-
-        int soloAttempt = challengeMemberQueryRepository.countFinishedChallengesByMode(user, ChallengeMode.SOLO);
-        int soloSuccess = challengeMemberQueryRepository.countByUserAndResultAndMode(user, ChallengeResult.SUCCESS, ChallengeMode.SOLO);
-
-        int vsAttempt = challengeMemberQueryRepository.countFinishedChallengesByMode(user, ChallengeMode.VS);
-        int vsSuccess = challengeMemberQueryRepository.countByUserAndResultAndMode(user, ChallengeResult.SUCCESS, ChallengeMode.VS);
+        // 통계 행이 없을 때만 유저 존재 여부를 확인한다
+        UserChallengeStats stats = userChallengeStatsService.find(userId).orElseGet(() -> {
+            if (!userRepository.existsById(userId)) {
+                throw new RestException(ErrorCode.USER_NOT_FOUND);
+            }
+            return UserChallengeStats.empty(userId);
+        });
 
-        ChallengeDto.RecordDetail solo = toDetail(soloAttempt, soloSuccess);
-        ChallengeDto.RecordDetail vs = toDetail(vsAttempt, vsSuccess);
+        ChallengeDto.RecordDetail solo = toDetail(stats.getSoloAttempt(), stats.getSoloSuccess());
+        ChallengeDto.RecordDetail vs = toDetail(stats.getVsAttempt(), stats.getVsSuccess());
 
         return ChallengeDto.RecordResponse.builder()
-                .allSuccessRate(calcRate(allAttempt, allSuccess))
+                .allSuccessRate(calcRate(stats.getAllAttempt(), stats.getAllSuccess()))
                 .soloRecord(solo)
                 .vsRecord(vs)
                 .build();
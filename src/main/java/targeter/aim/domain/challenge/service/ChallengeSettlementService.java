@@ -0,0 +1,375 @@
+package targeter.aim.domain.challenge.service;
+
+import com.querydsl.core.Tuple;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import targeter.aim.domain.challenge.entity.*;
+import targeter.aim.domain.challenge.event.ChallengeSettledEvent;
+import targeter.aim.domain.challenge.repository.ChallengeMemberQueryRepository;
+import targeter.aim.domain.challenge.repository.ChallengeQueryRepository;
+import targeter.aim.domain.challenge.repository.SettlementCheckpointRepository;
+import targeter.aim.domain.challenge.repository.WeeklyProgressQueryRepository;
+import targeter.aim.domain.user.entity.UserChallengeStats;
+import targeter.aim.domain.user.service.UserChallengeStatsService;
+import targeter.aim.domain.user.service.UserService;
+import targeter.aim.system.configuration.settlement.SettlementProperties;
+import targeter.aim.system.scheduler.HeldLease;
+import targeter.aim.system.scheduler.SchedulerLockManager;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static targeter.aim.domain.challenge.entity.QChallenge.challenge;
+
+/**
+ * 일일 챌린지 정산 파이프라인.
+ * 정산 후보를 id 순 keyset 청크로 읽어 청크마다 별도 트랜잭션으로 병렬 정산한다.
+ * 청크 안에서는 멤버 / 주차 결과를 한 번에 읽고 통계 반영과 레벨업 판정도 묶어서 처리한다.
+ * 연속으로 끝난 청크까지를 체크포인트로 남기므로, 중간에 죽어도 재시작 시 그 다음부터 이어서 돈다.
+ * 대상은 ended_at <= runDate 인 진행 중 챌린지이므로, 서버가 내려가 있던 날의 정산도 다음 실행이 함께 처리한다.
+ * 여러 노드가 떠 있어도 scheduler_lease 리스를 잡은 한 노드만 실행하며, 체크포인트와 청크 쓰기는 리스 토큰으로 보호한다.
+ * 실행 중인 노드가 죽으면 다른 노드가 리스 만료 뒤 {@link #resumeAbandoned()} 에서 체크포인트부터 이어받는다.
+ */
+@Slf4j
+@Service
+public class ChallengeSettlementService {
+
+    private static final String LOCK_NAME = "challenge-settlement";
+
+    private final ChallengeQueryRepository challengeQueryRepository;
+    private final ChallengeMemberQueryRepository challengeMemberQueryRepository;
+    private final WeeklyProgressQueryRepository weeklyProgressQueryRepository;
+    private final SettlementCheckpointRepository checkpointRepository;
+    private final UserChallengeStatsService userChallengeStatsService;
+    private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SchedulerLockManager schedulerLockManager;
+    private final TransactionTemplate tx;
+
+    private final int chunkSize;
+    private final int parallelism;
+    private final boolean catchUpOnStartup;
+    private final ExecutorService chunkExecutor;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public record ChunkResult(int settled, int failed) {}
+
+    public ChallengeSettlementService(
+            ChallengeQueryRepository challengeQueryRepository,
+            ChallengeMemberQueryRepository challengeMemberQueryRepository,
+            WeeklyProgressQueryRepository weeklyProgressQueryRepository,
+            SettlementCheckpointRepository checkpointRepository,
+            UserChallengeStatsService userChallengeStatsService,
+            UserService userService,
+            ApplicationEventPublisher eventPublisher,
+            SchedulerLockManager schedulerLockManager,
+            PlatformTransactionManager transactionManager,
+            SettlementProperties settlementProperties
+    ) {
+        this.challengeQueryRepository = challengeQueryRepository;
+        this.challengeMemberQueryRepository = challengeMemberQueryRepository;
+        this.weeklyProgressQueryRepository = weeklyProgressQueryRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.userChallengeStatsService = userChallengeStatsService;
+        this.userService = userService;
+        this.eventPublisher = eventPublisher;
+        this.schedulerLockManager = schedulerLockManager;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(settlementProperties.getChunkSize(), 1);
+        this.parallelism = Math.max(settlementProperties.getParallelism(), 1);
+        this.catchUpOnStartup = settlementProperties.isCatchUpOnStartup();
+        this.chunkExecutor = Executors.newFixedThreadPool(
+                parallelism, Thread.ofPlatform().name("settlement-", 0).daemon().factory()
+        );
+    }
+
+    /**
+     * runDate 기준 정산을 실행한다. 이미 끝난 날짜면 아무것도 하지 않고, 중단된 실행이면 체크포인트부터 이어간다.
+     *
+     * @return 다른 노드가 정산 리스를 쥐고 있어 건너뛰었으면 null
+     */
+    public synchronized SettlementCheckpoint settle(LocalDate runDate) {
+        running.set(true);
+        try {
+            return schedulerLockManager.runWithLease(LOCK_NAME, lease -> settleWithLease(runDate, lease))
+                    .orElseGet(() -> {
+                        log.info("[Settlement] 다른 노드가 정산 리스를 보유 중이라 {} 정산을 건너뜁니다.", runDate);
+                        return null;
+                    });
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 멈춘 실행(RUNNING 체크포인트)을 이어받는다. 소유 노드가 살아 있으면 리스를 얻지 못해 그대로 지나간다.
+     */
+    public void resumeAbandoned() {
+        if (running.get()) return;
+
+        for (SettlementCheckpoint checkpoint :
+                checkpointRepository.findAllByStatusOrderByRunDateAsc(SettlementRunStatus.RUNNING)) {
+            if (settle(checkpoint.getRunDate()) == null) return;
+        }
+    }
+
+    private SettlementCheckpoint settleWithLease(LocalDate runDate, HeldLease lease) {
+        long token = lease.getFencingToken();
+        SettlementCheckpoint checkpoint = tx.execute(status -> {
+            SettlementCheckpoint c = checkpointRepository.findByIdForUpdate(runDate)
+                    .orElseGet(() -> checkpointRepository.save(SettlementCheckpoint.start(runDate)));
+            return c.claim(token) ? c : null;
+        });
+
+        if (checkpoint == null) {
+            log.warn("[Settlement] {} 정산은 더 최신 리스 토큰이 맡고 있어 중단합니다. (token={})", runDate, token);
+            return null;
+        }
+        if (checkpoint.isDone()) {
+            log.info("[Settlement] {} 정산은 이미 완료되었습니다.", runDate);
+            return checkpoint;
+        }
+        if (checkpoint.getLastChallengeId() > 0) {
+            log.info("[Settlement] {} 정산을 챌린지 id {} 이후부터 이어서 진행합니다.", runDate, checkpoint.getLastChallengeId());
+        }
+
+        Progress progress = new Progress(runDate, token);
+        Semaphore permits = new Semaphore(parallelism);
+        List<CompletableFuture<Void>> chunks = new ArrayList<>();
+
+        long cursor = checkpoint.getLastChallengeId();
+        long seq = 0;
+        while (!lease.isLost()) {
+            List<Long> ids = challengeQueryRepository.findDueChallengeIds(cursor, chunkSize, runDate);
+            if (ids.isEmpty()) break;
+
+            long chunkSeq = seq++;
+            long chunkLastId = ids.get(ids.size() - 1);
+            cursor = chunkLastId;
+
+            permits.acquireUninterruptibly();
+            chunks.add(CompletableFuture.runAsync(() -> {
+                try {
+                    progress.complete(chunkSeq, chunkLastId, settleChunk(ids, runDate, lease));
+                } finally {
+                    permits.release();
+                }
+            }, chunkExecutor));
+        }
+
+        CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new)).join();
+
+        if (lease.isLost()) {
+            log.warn("[Settlement] {} 정산 중 리스를 잃어 중단합니다. 체크포인트부터 다른 노드가 이어받습니다.", runDate);
+            return null;
+        }
+
+        SettlementCheckpoint finished = tx.execute(status -> {
+            SettlementCheckpoint c = checkpointRepository.findByIdForUpdate(runDate).orElseThrow();
+            if (!c.isOwnedBy(token) || !schedulerLockManager.isHeld(lease)) return null;
+            c.setStatus(SettlementRunStatus.DONE);
+            return c;
+        });
+        if (finished == null) {
+            log.warn("[Settlement] {} 정산 완료 기록 전에 리스를 잃었습니다. (token={})", runDate, token);
+            return null;
+        }
+        log.info("[Settlement] {} 정산 완료: 정산 {}건, 실패 {}건", runDate, finished.getSettledCount(), finished.getFailedCount());
+        return finished;
+    }
+
+    /**
+     * 기동 시: 종료일 백필 -> 중단된 실행 재개 -> (catch-up) 오늘 정산이 아직 없으면 자정을 기다리지 않고 바로 실행.
+     * 내려가 있던 동안 끝난 챌린지는 오늘 실행의 ended_at <= today 조건에 모두 걸린다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        Thread.ofPlatform().name("settlement-startup").daemon().start(() -> {
+            try {
+                backfillEndedAt();
+
+                resumeAbandoned();
+
+                LocalDate today = LocalDate.now();
+                if (catchUpOnStartup && !checkpointRepository.existsById(today)) {
+                    log.info("[Settlement] 오늘({}) 정산 기록이 없어 catch-up 정산을 실행합니다.", today);
+                    settle(today);
+                }
+            } catch (RuntimeException e) {
+                log.error("[Settlement] 기동 시 정산 처리 실패: {}", e.getMessage());
+            }
+        });
+    }
+
+    // ended_at 도입 이전에 만들어진 챌린지의 종료일을 채운다 (같은 종료일끼리 UPDATE 한 번)
+    private void backfillEndedAt() {
+        int total = 0;
+        while (true) {
+            Integer filled = tx.execute(status -> {
+                List<Tuple> rows = challengeQueryRepository.findEndedAtMissingRows(chunkSize * 10);
+
+                Map<LocalDate, List<Long>> idsByEndDate = new HashMap<>();
+                for (Tuple row : rows) {
+                    LocalDate endedAt = row.get(challenge.startedAt).plusWeeks(row.get(challenge.durationWeek));
+                    idsByEndDate.computeIfAbsent(endedAt, d -> new ArrayList<>()).add(row.get(challenge.id));
+                }
+                idsByEndDate.forEach((endedAt, ids) -> challengeQueryRepository.updateEndedAt(ids, endedAt));
+                return rows.size();
+            });
+            if (filled == null || filled == 0) break;
+            total += filled;
+        }
+        if (total > 0) {
+            log.info("[Settlement] 챌린지 종료일 백필 {}건", total);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        chunkExecutor.shutdownNow();
+    }
+
+    // 청크 트랜잭션이 실패하면 챌린지 단위로 나눠 다시 시도해 실패를 해당 챌린지에만 가둔다
+    private ChunkResult settleChunk(List<Long> ids, LocalDate runDate, HeldLease lease) {
+        if (lease.isLost()) {
+            return new ChunkResult(0, 0);
+        }
+        try {
+            return tx.execute(status -> settleInTransaction(ids, runDate, lease));
+        } catch (RuntimeException e) {
+            if (lease.isLost()) {
+                // 리스를 잃은 경우 재시도하지 않는다: 체크포인트가 전진하지 않으므로 다음 소유자가 다시 처리한다
+                log.warn("[Settlement] 리스를 잃어 청크 ({}~{}) 정산을 중단합니다.", ids.get(0), ids.get(ids.size() - 1));
+                return new ChunkResult(0, 0);
+            }
+            if (ids.size() == 1) {
+                log.error("챌린지 자동 정산 실패 (ID: {}): {}", ids.get(0), e.getMessage());
+                return new ChunkResult(0, 1);
+            }
+            log.warn("[Settlement] 청크 정산 실패 ({}~{}), 개별 재시도: {}", ids.get(0), ids.get(ids.size() - 1), e.getMessage());
+
+            int settled = 0;
+            int failed = 0;
+            for (Long id : ids) {
+                ChunkResult result = settleChunk(List.of(id), runDate, lease);
+                settled += result.settled();
+                failed += result.failed();
+            }
+            return new ChunkResult(settled, failed);
+        }
+    }
+
+    private ChunkResult settleInTransaction(List<Long> ids, LocalDate runDate, HeldLease lease) {
+        // 행 잠금을 먼저 잡고 리스를 확인하므로, 리스가 넘어간 뒤 늦게 도착한 청크는 여기서 멈추고
+        // 잠금을 기다린 새 소유자의 청크는 이미 COMPLETED 인 챌린지를 아래 상태 검사에서 걸러낸다
+        List<Challenge> locked = challengeQueryRepository.findAllByIdForUpdate(ids);
+        if (!schedulerLockManager.isHeld(lease)) {
+            throw new IllegalStateException("정산 리스를 잃었습니다.");
+        }
+
+        Map<Long, Challenge> due = new LinkedHashMap<>();
+        for (Challenge c : locked) {
+            // id 를 읽은 뒤 수정 / 정산된 챌린지는 제외
+            if (c.getStatus() == ChallengeStatus.IN_PROGRESS && c.getEndedAt() != null && !runDate.isBefore(c.getEndedAt())) {
+                due.put(c.getId(), c);
+            }
+        }
+        if (due.isEmpty()) {
+            return new ChunkResult(0, 0);
+        }
+
+        List<ChallengeMember> members = challengeMemberQueryRepository.findAllWithUserByChallengeIds(due.keySet());
+
+        // 주차 비트 요약이 없는 멤버가 있을 때만 weekly_progress 를 집계한다
+        boolean needsRows = members.stream().anyMatch(m ->
+                !m.hasWeekBits() || !WeekBits.fits(due.get(m.getId().getChallenge().getId()).getDurationWeek()));
+        Map<Long, Map<Long, Long>> successWeeks = needsRows
+                ? weeklyProgressQueryRepository.successWeeksByChallenges(due.keySet())
+                : Map.of();
+
+        List<UserChallengeStatsService.SettledResult> results = new ArrayList<>();
+        for (ChallengeMember member : members) {
+            // 이미 정산된 경우(결과가 있는 경우) 중복 실행 방지
+            if (member.getResult() != null) continue;
+
+            Challenge challenge = due.get(member.getId().getChallenge().getId());
+            Long userId = member.getId().getUser().getId();
+            long successCount = member.hasWeekBits() && WeekBits.fits(challenge.getDurationWeek())
+                    ? member.successCount(challenge.getDurationWeek())
+                    : successWeeks.getOrDefault(challenge.getId(), Map.of()).getOrDefault(userId, 0L);
+
+            // 달성률 80% 이상이면 SUCCESS
+            boolean isSuccess = (double) successCount / challenge.getDurationWeek() >= 0.8;
+            member.setResult(isSuccess ? ChallengeResult.SUCCESS : ChallengeResult.FAIL);
+
+            results.add(new UserChallengeStatsService.SettledResult(userId, challenge.getMode(), isSuccess));
+        }
+
+        Map<Long, UserChallengeStats> statsByUser = userChallengeStatsService.recordResults(results);
+        userService.applyLevelUps(results, statsByUser);
+
+        for (Challenge challenge : due.values()) {
+            challenge.setStatus(ChallengeStatus.COMPLETED);
+            eventPublisher.publishEvent(new ChallengeSettledEvent(challenge.getId()));
+        }
+        return new ChunkResult(due.size(), 0);
+    }
+
+    /**
+     * 병렬 청크의 완료 순서는 뒤섞이므로, 앞 번호부터 빠짐없이 끝난 구간까지만 체크포인트를 전진시킨다.
+     */
+    private final class Progress {
+
+        private final LocalDate runDate;
+        private final long token;
+        private final TreeMap<Long, Long> finishedLastIds = new TreeMap<>();
+        private long nextSeq;
+        private int settled;
+        private int failed;
+
+        private Progress(LocalDate runDate, long token) {
+            this.runDate = runDate;
+            this.token = token;
+        }
+
+        synchronized void complete(long seq, long lastId, ChunkResult result) {
+            finishedLastIds.put(seq, lastId);
+            settled += result.settled();
+            failed += result.failed();
+
+            Long watermark = null;
+            while (finishedLastIds.containsKey(nextSeq)) {
+                watermark = finishedLastIds.remove(nextSeq++);
+            }
+            if (watermark == null) return;
+
+            long lastChallengeId = watermark;
+            int settledSoFar = settled;
+            int failedSoFar = failed;
+            try {
+                tx.executeWithoutResult(status -> checkpointRepository.findByIdForUpdate(runDate)
+                        .filter(c -> c.isOwnedBy(token))   // 실행을 넘겨받은 노드의 체크포인트를 되돌리지 않는다
+                        .ifPresent(c -> {
+                            c.setLastChallengeId(lastChallengeId);
+                            c.setSettledCount(c.getSettledCount() + settledSoFar);
+                            c.setFailedCount(c.getFailedCount() + failedSoFar);
+                        }));
+                settled = 0;
+                failed = 0;
+            } catch (RuntimeException e) {
+                log.warn("[Settlement] 체크포인트 저장 실패 ({}): {}", lastChallengeId, e.getMessage());
+            }
+        }
+    }
+}
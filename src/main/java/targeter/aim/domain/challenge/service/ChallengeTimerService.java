@@ -2,18 +2,24 @@ package targeter.aim.domain.challenge.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import targeter.aim.domain.challenge.entity.Challenge;
-import targeter.aim.domain.challenge.entity.WeeklyProgress;
-import targeter.aim.domain.challenge.repository.ChallengeMemberRepository;
-import targeter.aim.domain.challenge.repository.WeeklyProgressRepository;
+import targeter.aim.domain.challenge.event.ChallengeProgressChangedEvent;
+import targeter.aim.domain.challenge.event.TimerWeekCompletedEvent;
+import targeter.aim.domain.challenge.repository.ChallengeMemberQueryRepository;
+import targeter.aim.domain.challenge.repository.WeeklyProgressQueryRepository;
 import targeter.aim.domain.challenge.timer.ChallengeRunningSessionManager;
-import targeter.aim.domain.user.entity.User;
+import targeter.aim.domain.challenge.timer.TimerClusterMessage;
+import targeter.aim.domain.challenge.timer.TimerDeadlineScheduler;
+import targeter.aim.domain.challenge.timer.TimerMembership;
+import targeter.aim.domain.challenge.timer.TimerOwnershipRegistry;
+import targeter.aim.domain.challenge.timer.TimerSessionContext;
+import targeter.aim.domain.challenge.timer.TimerSessionContextRegistry;
+import targeter.aim.domain.user.service.UserChallengeStatsService;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
 
 @Slf4j
 @Service
@@ -21,84 +27,94 @@ import java.time.temporal.ChronoUnit;
 public class ChallengeTimerService {
 
     private final ChallengeRunningSessionManager sessionManager;
-    private final WeeklyProgressRepository weeklyProgressRepository;
-    private final ChallengeMemberRepository memberRepository;
+    private final TimerSessionContextRegistry contextRegistry;
+    private final WeeklyProgressQueryRepository weeklyProgressQueryRepository;
+    private final ChallengeMemberQueryRepository challengeMemberQueryRepository;
+    private final TimerDeadlineScheduler deadlineScheduler;
+    private final TimerOwnershipRegistry ownershipRegistry;
+    private final UserChallengeStatsService userChallengeStatsService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    // 현재 주차 계산
-    public int calculateCurrentWeek(Challenge challenge) {
-        LocalDate startDate = challenge.getStartedAt();
-        LocalDate today = LocalDate.now();
+    // 참가 정보는 연결 컨텍스트에 캐시되어 있으므로 START 는 DB 를 거치지 않는다
+    public LocalDateTime startTimer(TimerSessionContext context, Long challengeId) {
+        Long userId = context.getUserId();
 
-        long days = ChronoUnit.DAYS.between(startDate, today);
-        int week = (int) (days / 7) + 1;
+        TimerMembership membership = contextRegistry.membership(context, challengeId);
+        int weekNumber = membership.currentWeek(LocalDate.now());
 
-        if (week < 1) {
-            return 1;
-        }
-        if (week > challenge.getDurationWeek()) {
-            return challenge.getDurationWeek();
+        log.debug("START user={} challenge={} week={}", userId, challengeId, weekNumber);
+
+        validateWeek(membership, weekNumber);
+
+        if (sessionManager.isRunning(challengeId, userId) || ownershipRegistry.isOwnedElsewhere(challengeId, userId)) {
+            throw new IllegalStateException("이미 실행 중입니다.");
         }
 
-        return week;
+        int weekBaseSeconds = membership.elapsedSecondsOf(weekNumber);
+        LocalDateTime startedAt = sessionManager.start(challengeId, userId, weekBaseSeconds);
+        deadlineScheduler.schedule(challengeId, userId, System.nanoTime());
+        ownershipRegistry.claim(challengeId, userId, startedAt, weekBaseSeconds);
+
+        return startedAt;
+    }
+
+    public void heartbeat(TimerSessionContext context, Long challengeId) {
+        if (ownershipRegistry.forwardIfRemote(TimerClusterMessage.Type.HEARTBEAT, challengeId, context.getUserId())) {
+            return;
+        }
+        if (!sessionManager.isRunning(challengeId, context.getUserId())) {
+            throw new IllegalStateException("이미 정지된 타이머입니다.");
+        }
+        deadlineScheduler.touch(challengeId, context.getUserId());
     }
 
     @Transactional
-    public LocalDateTime startTimer(Challenge challenge, User user) {
+    public long stopTimer(TimerSessionContext context, Long challengeId) {
+        Long userId = context.getUserId();
 
-        log.error("START user={} challenge={} week={}",
-                user.getId(),
-                challenge.getId(),
-                calculateCurrentWeek(challenge)
-        );
+        TimerMembership membership = contextRegistry.membership(context, challengeId);
+        int weekNumber = membership.currentWeek(LocalDate.now());
 
-        int weekNumber = calculateCurrentWeek(challenge);
+        Long progressId = validateWeek(membership, weekNumber);
 
-        if (!memberRepository.existsById_ChallengeAndId_User(challenge, user)) {
-            throw new IllegalStateException("챌린지 참가자가 아닙니다.");
-        }
+        long elapsedSeconds = sessionManager.stop(challengeId, userId);
+        deadlineScheduler.cancel(challengeId, userId);
+        ownershipRegistry.release(challengeId, userId);
 
-        WeeklyProgress progress =
-                weeklyProgressRepository
-                        .findByChallengeAndUserAndWeekNumber(challenge, user, weekNumber)
-                        .orElseThrow(() -> new IllegalStateException("주차 기록이 없습니다."));
+        // 진행시간 더하기 + 성공여부 체크 + 완료 처리를 UPDATE 한 번으로
+        WeeklyProgressQueryRepository.CompletedWeek completed =
+                weeklyProgressQueryRepository.completeWithElapsedTime(progressId, (int) elapsedSeconds);
 
-        if (progress.isComplete()) {
+        if (completed == null) {
+            // 다른 연결에서 먼저 완료(커밋)된 주차이므로 바로 반영해도 된다
+            contextRegistry.markWeekComplete(userId, challengeId, weekNumber);
             throw new IllegalStateException("이미 완료된 주차 챌린지입니다.");
         }
 
-        if (sessionManager.isRunning(challenge.getId(), user.getId())) {
-            throw new IllegalStateException("이미 실행 중입니다.");
-        }
+        challengeMemberQueryRepository.addCompletedWeek(challengeId, userId, weekNumber, completed.success());
+        eventPublisher.publishEvent(new ChallengeProgressChangedEvent(challengeId));
+        // 연결 컨텍스트의 완료 표시는 커밋 후에 (롤백되면 남기지 않는다)
+        eventPublisher.publishEvent(new TimerWeekCompletedEvent(userId, challengeId, weekNumber));
+        userChallengeStatsService.addStudySeconds(userId, elapsedSeconds);
 
-        return sessionManager.start(challenge.getId(), user.getId());
+        return completed.elapsedSeconds();
     }
 
-    @Transactional
-    public long stopTimer(Challenge challenge, User user) {
-
-        int weekNumber = calculateCurrentWeek(challenge);
+    // 다른 노드에서 시작된 세션이면 STOP 을 소유 노드로 넘긴다 (OFF 브로드캐스트도 소유 노드가 한다)
+    public boolean forwardStopToOwner(TimerSessionContext context, Long challengeId) {
+        return ownershipRegistry.forwardIfRemote(TimerClusterMessage.Type.STOP, challengeId, context.getUserId());
+    }
 
-        if (!memberRepository.existsById_ChallengeAndId_User(challenge, user)) {
-            throw new IllegalStateException("챌린지 참가자가 아닙니다.");
+    private Long validateWeek(TimerMembership membership, int weekNumber) {
+        Long progressId = membership.progressIdOf(weekNumber);
+        if (progressId == null) {
+            throw new IllegalStateException("주차 기록이 없습니다.");
         }
 
-        WeeklyProgress progress =
-                weeklyProgressRepository
-                        .findByChallengeAndUserAndWeekNumber(challenge, user, weekNumber)
-                        .orElseThrow(() -> new IllegalStateException("주차 기록이 없습니다."));
-
-        if (progress.isComplete()) {
+        if (membership.isComplete(weekNumber)) {
             throw new IllegalStateException("이미 완료된 주차 챌린지입니다.");
         }
 
-        long elapsedSeconds = sessionManager.stop(challenge.getId(), user.getId());
-
-        progress.addElapsedTime((int) elapsedSeconds);  // 진행시간 저장 후 더하기
-        progress.decideWeeklyStatusOnComplete();        // 성공여부 체크
-        progress.complete();
-
-        return progress.getElapsedTimeSeconds();
+        return progressId;
     }
-
 }
-
@@ -0,0 +1,124 @@
+package targeter.aim.domain.challenge.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import targeter.aim.domain.challenge.entity.ChallengeMember;
+import targeter.aim.domain.challenge.repository.ChallengeMemberQueryRepository;
+import targeter.aim.domain.challenge.repository.WeeklyProgressQueryRepository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 멤버 행의 주차 비트 요약(completed_weeks / success_weeks) 검증 및 백필.
+ * weekly_progress 행에서 마스크를 다시 만들어 저장된 값과 비교하고, 다르거나 비어 있으면 덮어쓴다.
+ */
+@Slf4j
+@Service
+public class ChallengeWeekBitsService {
+
+    private static final int CHUNK_SIZE = 200;
+
+    private final ChallengeMemberQueryRepository challengeMemberQueryRepository;
+    private final WeeklyProgressQueryRepository weeklyProgressQueryRepository;
+    private final TransactionTemplate newTx;
+
+    private final ExecutorService verifyExecutor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("week-bits-verify").daemon().factory()
+    );
+
+    public record VerifyResult(int checkedMembers, int filledMembers, int mismatchedMembers) {}
+
+    public ChallengeWeekBitsService(
+            ChallengeMemberQueryRepository challengeMemberQueryRepository,
+            WeeklyProgressQueryRepository weeklyProgressQueryRepository,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.challengeMemberQueryRepository = challengeMemberQueryRepository;
+        this.weeklyProgressQueryRepository = weeklyProgressQueryRepository;
+        this.newTx = new TransactionTemplate(transactionManager);
+        this.newTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 챌린지 id 순으로 청크를 나눠 청크마다 별도 트랜잭션에서 검증한다.
+     *
+     * @param onlyMissing true 면 비트 요약이 비어 있는 멤버가 있는 챌린지만 채운다 (배포 직후 백필)
+     */
+    public VerifyResult verifyAll(boolean onlyMissing) {
+        long lastId = 0L;
+        int[] totals = new int[3];
+
+        while (true) {
+            List<Long> ids = challengeMemberQueryRepository.weekBitsTargetChallengeIds(lastId, CHUNK_SIZE, onlyMissing);
+            if (ids.isEmpty()) break;
+
+            int[] counts = newTx.execute(status -> verify(ids));
+            if (counts != null) {
+                for (int i = 0; i < totals.length; i++) totals[i] += counts[i];
+            }
+            lastId = ids.get(ids.size() - 1);
+        }
+
+        VerifyResult result = new VerifyResult(totals[0], totals[1], totals[2]);
+        if (result.mismatchedMembers() > 0) {
+            log.warn("[WeekBits] 주차 비트 요약 불일치 {}건을 원본 기준으로 바로잡았습니다.", result.mismatchedMembers());
+        }
+        log.info("[WeekBits] 검증 완료 {} (onlyMissing={})", result, onlyMissing);
+        return result;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        verifyExecutor.execute(() -> {
+            try {
+                verifyAll(true);
+            } catch (RuntimeException e) {
+                log.warn("[WeekBits] 백필 실패: {}", e.getMessage());
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        verifyExecutor.shutdownNow();
+    }
+
+    // 멤버 행을 먼저 잠근 뒤 원본을 읽는다: 진행 중인 STOP 은 잠금을 기다렸다가 새 마스크 위에 비트를 더한다
+    private int[] verify(List<Long> challengeIds) {
+        List<ChallengeMember> members = challengeMemberQueryRepository.findAllForUpdateByChallengeIds(challengeIds);
+        Map<Long, Map<Long, long[]>> expected = weeklyProgressQueryRepository.weekBitsByChallenges(challengeIds);
+
+        int checked = 0;
+        int filled = 0;
+        int mismatched = 0;
+        for (ChallengeMember member : members) {
+            long[] masks = expected
+                    .getOrDefault(member.getId().getChallenge().getId(), Map.of())
+                    .getOrDefault(member.getId().getUser().getId(), new long[2]);
+            checked++;
+
+            if (!member.hasWeekBits()) {
+                filled++;
+            } else if (member.getCompletedWeeks() != masks[0] || member.getSuccessWeeks() != masks[1]) {
+                mismatched++;
+                log.warn("[WeekBits] 불일치 challenge={} user={} completed {} -> {}, success {} -> {}",
+                        member.getId().getChallenge().getId(), member.getId().getUser().getId(),
+                        Long.toBinaryString(member.getCompletedWeeks()), Long.toBinaryString(masks[0]),
+                        Long.toBinaryString(member.getSuccessWeeks()), Long.toBinaryString(masks[1]));
+            } else {
+                continue;
+            }
+            member.overwriteWeekBits(masks[0], masks[1]);
+        }
+        return new int[]{ checked, filled, mismatched };
+    }
+}
@@ -0,0 +1,198 @@
+package targeter.aim.domain.challenge.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import targeter.aim.domain.challenge.dto.RankDto;
+import targeter.aim.domain.challenge.event.ChallengeSettledEvent;
+import targeter.aim.domain.challenge.repository.ChallengeRankQueryRepository;
+import targeter.aim.domain.file.dto.FileDto;
+import targeter.aim.domain.user.entity.User;
+import targeter.aim.domain.user.event.UserDeletedEvent;
+import targeter.aim.domain.user.event.UserLevelChangedEvent;
+import targeter.aim.domain.user.repository.UserRepository;
+import targeter.aim.system.configuration.rank.RankProperties;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * TOP20 랭킹 스냅샷.
+ * 정산 / 레벨업 이벤트가 오면 백그라운드에서 새 스냅샷을 만든 뒤 참조만 바꿔 끼우므로,
+ * 조회는 계산 중에도 이전 스냅샷을 그대로 돌려준다. (DB 조회 없음)
+ */
+@Slf4j
+@Service
+public class LeaderboardSnapshotService {
+
+    private static final int TOP_SIZE = 20;
+    private static final int DETAIL_RANK = 3;   // 1~3위만 solo/vs 포함
+
+    private final UserRepository userRepository;
+    private final ChallengeRankQueryRepository challengeRankQueryRepository;
+    private final TransactionTemplate readOnlyTx;
+    private final Duration maxAge;
+
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("leaderboard-rebuild").daemon().factory()
+    );
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+
+    private volatile Snapshot current;
+    private long version;
+
+    public record Snapshot(long version, Instant builtAt, List<RankDto.Top20RankResponse> top20) {}
+
+    public LeaderboardSnapshotService(
+            UserRepository userRepository,
+            ChallengeRankQueryRepository challengeRankQueryRepository,
+            PlatformTransactionManager transactionManager,
+            RankProperties rankProperties
+    ) {
+        this.userRepository = userRepository;
+        this.challengeRankQueryRepository = challengeRankQueryRepository;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.maxAge = rankProperties.getSnapshot().getMaxAge();
+    }
+
+    public Snapshot current() {
+        Snapshot snapshot = current;
+        if (snapshot == null) {
+            return rebuild();
+        }
+        if (Duration.between(snapshot.builtAt(), Instant.now()).compareTo(maxAge) > 0) {
+            requestRebuild();
+        }
+        return snapshot;
+    }
+
+    // 이미 대기 중인 재계산이 있으면 합친다
+    public void requestRebuild() {
+        if (rebuildQueued.compareAndSet(false, true)) {
+            rebuildExecutor.execute(() -> {
+                rebuildQueued.set(false);
+                try {
+                    rebuild();
+                } catch (RuntimeException e) {
+                    log.warn("[Leaderboard] 스냅샷 재계산 실패: {}", e.getMessage());
+                }
+            });
+        }
+    }
+
+    public synchronized Snapshot rebuild() {
+        List<RankDto.Top20RankResponse> top20 = readOnlyTx.execute(status -> buildTop20());
+        Snapshot snapshot = new Snapshot(++version, Instant.now(), List.copyOf(top20));
+        current = snapshot;
+        log.debug("[Leaderboard] 스냅샷 v{} ({}명)", snapshot.version(), top20.size());
+        return snapshot;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSettled(ChallengeSettledEvent event) {
+        requestRebuild();
+    }
+
+    // 레벨은 오르기만 하므로, 스냅샷에 없던 유저가 20위 레벨에 못 미치면 순위가 바뀌지 않는다
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLevelChanged(UserLevelChangedEvent event) {
+        Snapshot snapshot = current;
+        if (snapshot != null && !affects(snapshot, event.userId(), event.level())) {
+            return;
+        }
+        requestRebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserDeleted(UserDeletedEvent event) {
+        Snapshot snapshot = current;
+        if (snapshot != null && snapshot.top20().stream().noneMatch(entry -> entry.getUserId().equals(event.userId()))) {
+            return;
+        }
+        requestRebuild();
+    }
+
+    private boolean affects(Snapshot snapshot, Long userId, int level) {
+        List<RankDto.Top20RankResponse> top20 = snapshot.top20();
+        if (top20.size() < TOP_SIZE) return true;
+        if (top20.stream().anyMatch(entry -> entry.getUserId().equals(userId))) return true;
+        return level >= top20.get(top20.size() - 1).getUserInfo().getLevel();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdown();
+    }
+
+    private List<RankDto.Top20RankResponse> buildTop20() {
+        List<User> users = userRepository.findAllByOrderByLevelDescIdAsc(PageRequest.of(0, TOP_SIZE)).getContent();
+        if (users.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> userIds = users.stream().map(User::getId).toList();
+
+        // ALL / SOLO / VS 기록을 한 번의 쿼리로
+        Map<Long, ChallengeRankQueryRepository.ModeRecords> recordMap =
+                challengeRankQueryRepository.calcRecordsByUsers(userIds);
+
+        List<RankDto.Top20RankResponse> result = new ArrayList<>(users.size());
+        for (int i = 0; i < users.size(); i++) {
+            User u = users.get(i);
+            int rank = i + 1;
+            ChallengeRankQueryRepository.ModeRecords records =
+                    recordMap.getOrDefault(u.getId(), ChallengeRankQueryRepository.ModeRecords.EMPTY);
+
+            RankDto.UserInfo userInfo = RankDto.UserInfo.builder()
+                    .nickname(u.getNickname())
+                    .profileImage(u.getProfileImage() == null ? null : FileDto.FileResponse.from(u.getProfileImage()))
+                    .tier(RankDto.TierResponse.builder().name(u.getTier().getName()).build())
+                    .level(u.getLevel())
+                    .build();
+
+            result.add(RankDto.Top20RankResponse.builder()
+                    .rank(rank)
+                    .userId(u.getId())
+                    .userInfo(userInfo)
+                    .allRecord(toRecordDto(records.all()))
+                    .soloRecord(rank <= DETAIL_RANK ? toRecordDto(records.solo()) : null)
+                    .vsRecord(rank <= DETAIL_RANK ? toRecordDto(records.vs()) : null)
+                    .build());
+        }
+        return result;
+    }
+
+    private RankDto.ChallengeRecord toRecordDto(ChallengeRankQueryRepository.Record record) {
+        if (record == null) {
+            return RankDto.ChallengeRecord.builder()
+                    .attemptCount(0)
+                    .successCount(0)
+                    .failCount(0)
+                    .successRate(0)
+                    .build();
+        }
+
+        long attempt = record.attempt();
+        long success = record.success();
+        long fail = attempt - success;
+        int successRate = attempt == 0 ? 0 : (int) Math.round((success * 100.0) / attempt);
+
+        return RankDto.ChallengeRecord.builder()
+                .attemptCount(attempt)
+                .successCount(success)
+                .failCount(fail)
+                .successRate(successRate)
+                .build();
+    }
+}
@@ -0,0 +1,79 @@
+package targeter.aim.domain.challenge.timer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 챌린지 방을 구독한 클라이언트에게 현재 실행 중인 타이머 상태를 한 번 보내준다.
+ * 브로커를 거치지 않고 해당 세션/구독으로만 전송하므로 방의 다른 구독자는 받지 않는다.
+ * {@link TimerFrame} 으로 보내므로 다른 타이머 이벤트처럼 {@link TimerFrameOutboundInterceptor} 가 세션 형식으로 인코딩한다.
+ */
+@Slf4j
+@Component
+public class ChallengeRoomSnapshotSender {
+
+    private static final String ROOM_PREFIX = "/sub/challenge/";
+
+    private final ChallengeRunningSessionManager sessionManager;
+    private final TimerOwnershipRegistry ownershipRegistry;
+    private final MessageChannel clientOutboundChannel;
+
+    public ChallengeRoomSnapshotSender(
+            ChallengeRunningSessionManager sessionManager,
+            TimerOwnershipRegistry ownershipRegistry,
+            @Qualifier("clientOutboundChannel") MessageChannel clientOutboundChannel
+    ) {
+        this.sessionManager = sessionManager;
+        this.ownershipRegistry = ownershipRegistry;
+        this.clientOutboundChannel = clientOutboundChannel;
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        SimpMessageHeaderAccessor subscribe = SimpMessageHeaderAccessor.wrap(event.getMessage());
+
+        Long challengeId = challengeIdOf(subscribe.getDestination());
+        if (challengeId == null) return;
+
+        // 다른 노드에서 실행 중인 세션도 함께 (relay 모드)
+        List<TimerFrame.Running> running = Stream.concat(
+                        sessionManager.runningSessionsOf(challengeId).stream(),
+                        ownershipRegistry.remoteSessionsOf(challengeId).stream()
+                )
+                .map(s -> new TimerFrame.Running(s.userId(), s.startedAt(), s.elapsedSeconds(), s.accumulatedSeconds()))
+                .toList();
+
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        headers.setSessionId(subscribe.getSessionId());
+        headers.setSubscriptionId(subscribe.getSubscriptionId());
+        headers.setDestination(subscribe.getDestination());
+        headers.setLeaveMutable(true);
+
+        Message<?> message = MessageBuilder.createMessage(
+                TimerFrame.snapshot(challengeId, running), headers.getMessageHeaders());
+        if (!clientOutboundChannel.send(message)) {
+            log.warn("[Timer] 방 스냅샷 전송 실패 challenge={}", challengeId);
+        }
+    }
+
+    // "/sub/challenge/{challengeId}" 만 대상으로 한다
+    private Long challengeIdOf(String destination) {
+        if (destination == null || !destination.startsWith(ROOM_PREFIX)) return null;
+        try {
+            return Long.parseLong(destination.substring(ROOM_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
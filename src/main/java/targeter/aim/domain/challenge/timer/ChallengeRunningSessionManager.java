@@ -1,46 +1,203 @@
 package targeter.aim.domain.challenge.timer;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import targeter.aim.system.configuration.timer.TimerProperties;
 
-import java.time.Duration;
+import java.nio.file.Path;
+import java.time.Instant;
 import java.time.LocalDateTime;
-import java.util.concurrent.ConcurrentHashMap;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
+@Slf4j
 @Component
-public class ChallengeRunningSessionManager {
+@RequiredArgsConstructor
+public class ChallengeRunningSessionManager implements RunningSessionTable.Listener {
 
-    private final ConcurrentHashMap<String, LocalDateTime> runningSessions =
-            new ConcurrentHashMap<>();
+    private final TimerProperties timerProperties;
 
-    public LocalDateTime start(Long challengeId, Long userId) {
-        String key = key(challengeId, userId);
-        LocalDateTime startedAt = LocalDateTime.now();
+    // START / STOP 과 저널 기록은 그 세션이 속한 세그먼트 락 안에서 함께 일어난다 (전역 락 없음)
+    private final RunningSessionTable runningSessions = new RunningSessionTable();
 
-        if (runningSessions.putIfAbsent(key, startedAt) != null) {
+    // nanoTime 은 벽시계와 무관하므로 기동 시점의 두 값을 기준점으로 삼아 변환한다
+    private final long anchorEpochMillis = System.currentTimeMillis();
+    private final long anchorNanos = System.nanoTime();
+
+    private volatile ChallengeSessionJournal journal;
+
+    // elapsedSeconds: 현재 세션 경과, accumulatedSeconds: 이번 주차 누적 (시작 전 누적 + 현재 세션)
+    public record ActiveSession(Long userId, LocalDateTime startedAt, long elapsedSeconds, long accumulatedSeconds) {}
+
+    // 재시작 전에 실행 중이던 세션을 저널에서 복구
+    @PostConstruct
+    public void recover() {
+        runningSessions.setListener(this);
+
+        TimerProperties.Journal props = timerProperties.getJournal();
+        if (!props.isEnabled()) {
+            log.warn("[Timer] 세션 저널이 비활성화되어 있어 재시작 시 실행 중인 타이머가 유실됩니다.");
+            return;
+        }
+
+        ChallengeSessionJournal recovered = new ChallengeSessionJournal(
+                Path.of(props.getPath()), props.getCapacityBytes(), props.isForceOnWrite()
+        );
+
+        // 복구한 세션은 recover 가 압축하며 이미 다시 적었으므로, 저널을 붙이기 전에 테이블에 넣는다
+        for (ChallengeSessionJournal.OpenSession session : recovered.recover(System.currentTimeMillis())) {
+            runningSessions.putIfAbsent(session.challengeId(), session.userId(), toNanos(session.startedAtMillis()));
+        }
+        journal = recovered;
+    }
+
+    // 정상 종료 시 실행 중인 세션을 저널에 남기고 디스크에 반영
+    @PreDestroy
+    public void flush() {
+        ChallengeSessionJournal current = journal;
+        if (current == null) return;
+        runningSessions.lockAll(() -> current.close(openSessions(), System.currentTimeMillis()));
+    }
+
+    // 비정상 종료 후 복구할 때 마지막 heartbeat 이후(서버가 내려가 있던 시간)는 세션 시간에서 뺀다
+    @Scheduled(
+            initialDelayString = "#{@timerProperties.journal.heartbeatInterval.toMillis()}",
+            fixedDelayString = "#{@timerProperties.journal.heartbeatInterval.toMillis()}"
+    )
+    public void heartbeat() {
+        ChallengeSessionJournal current = journal;
+        if (current != null) {
+            current.heartbeat(System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * @param weekBaseSeconds 이번 주차에 이미 쌓여 있던 시간(초)
+     */
+    public LocalDateTime start(long challengeId, long userId, long weekBaseSeconds) {
+        long startNanos = System.nanoTime();
+
+        if (!register(challengeId, userId, startNanos, weekBaseSeconds)) {
             throw new IllegalStateException("이미 실행 중인 타이머입니다.");
         }
+        return toLocalDateTime(toEpochMillis(startNanos));
+    }
 
-        return startedAt;
+    /**
+     * 죽은 노드가 들고 있던 세션을 원래 시작 시각 그대로 이어받는다.
+     *
+     * @return 시작 시각 (System.nanoTime 기준), 이미 실행 중이면 {@link RunningSessionTable#NO_VALUE}
+     */
+    public long adopt(long challengeId, long userId, long startedAtMillis, long weekBaseSeconds) {
+        long startNanos = toNanos(startedAtMillis);
+        return register(challengeId, userId, startNanos, weekBaseSeconds) ? startNanos : RunningSessionTable.NO_VALUE;
     }
 
-    public long stop(Long challengeId, Long userId) {
-        String key = key(challengeId, userId);
+    private boolean register(long challengeId, long userId, long startNanos, long weekBaseSeconds) {
+        if (!runningSessions.putIfAbsent(challengeId, userId, startNanos, weekBaseSeconds)) {
+            return false;
+        }
+
+        ChallengeSessionJournal current = journal;
+        if (current != null && current.needsCompaction()) {
+            // 압축 스냅샷은 모든 세그먼트를 멈춘 채 만든다 (세그먼트 -> 저널 순서로 락을 잡는다)
+            runningSessions.lockAll(() -> current.compactIfNeeded(this::openSessions));
+        }
+        return true;
+    }
 
-        LocalDateTime startedAt = runningSessions.remove(key);
-        if (startedAt == null) {
+    public long stop(long challengeId, long userId) {
+        long startNanos = runningSessions.remove(challengeId, userId);
+        if (startNanos == RunningSessionTable.NO_VALUE) {
             throw new IllegalStateException("이미 정지된 타이머입니다.");
         }
+        return TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startNanos);
+    }
+
+    // 세그먼트 락 안에서 불린다
+    @Override
+    public void started(long challengeId, long userId, long startNanos) {
+        ChallengeSessionJournal current = journal;
+        if (current != null) {
+            current.appendStart(challengeId, userId, toEpochMillis(startNanos));
+        }
+    }
+
+    // 세그먼트 락 안에서 불린다
+    @Override
+    public void stopped(long challengeId, long userId, long startNanos) {
+        ChallengeSessionJournal current = journal;
+        if (current != null) {
+            current.appendStop(challengeId, userId, toEpochMillis(System.nanoTime()));
+        }
+    }
+
+    public boolean isRunning(long challengeId, long userId) {
+        return runningSessions.contains(challengeId, userId);
+    }
+
+    // 유저가 이 노드에서 실행 중인 타이머의 challengeId (어느 연결에서 시작했는지와 무관)
+    public List<Long> runningChallengesOf(Long userId) {
+        return Arrays.stream(runningSessions.challengesOf(userId)).boxed().toList();
+    }
+
+    // 실행 중이 아니면 0
+    public long startedAtMillisOf(long challengeId, long userId) {
+        long startNanos = runningSessions.get(challengeId, userId);
+        return startNanos == RunningSessionTable.NO_VALUE ? 0L : toEpochMillis(startNanos);
+    }
+
+    public long baseSecondsOf(long challengeId, long userId) {
+        return runningSessions.baseSecondsOf(challengeId, userId);
+    }
 
-        long seconds = Duration.between(startedAt, LocalDateTime.now()).getSeconds();
+    // 챌린지 방에서 현재 실행 중인 타이머 목록
+    public List<ActiveSession> runningSessionsOf(Long challengeId) {
+        long now = System.nanoTime();
+        return runningSessions.sessionsOf(challengeId).stream()
+                .map(e -> {
+                    long elapsed = TimeUnit.NANOSECONDS.toSeconds(now - e.startNanos());
+                    return new ActiveSession(
+                            e.userId(),
+                            toLocalDateTime(toEpochMillis(e.startNanos())),
+                            elapsed,
+                            e.baseSeconds() + elapsed
+                    );
+                })
+                .toList();
+    }
+
+    // 실행 중인 전체 세션 순회 (startNanos 는 System.nanoTime 기준)
+    public void forEachRunning(RunningSessionTable.EntryConsumer consumer) {
+        runningSessions.forEach(consumer);
+    }
+
+    // 실행 중인 전체 세션 (시작 시각은 epoch millis)
+    public Collection<ChallengeSessionJournal.OpenSession> openSessions() {
+        List<ChallengeSessionJournal.OpenSession> sessions = new ArrayList<>(runningSessions.size());
+        runningSessions.forEach((challengeId, userId, startNanos) ->
+                sessions.add(new ChallengeSessionJournal.OpenSession(challengeId, userId, toEpochMillis(startNanos)))
+        );
+        return sessions;
+    }
 
-        return seconds;
+    private long toEpochMillis(long nanos) {
+        return anchorEpochMillis + TimeUnit.NANOSECONDS.toMillis(nanos - anchorNanos);
     }
 
-    public boolean isRunning(Long challengeId, Long userId) {
-        return runningSessions.containsKey(key(challengeId, userId));
+    private long toNanos(long epochMillis) {
+        return anchorNanos + TimeUnit.MILLISECONDS.toNanos(epochMillis - anchorEpochMillis);
     }
 
-    private String key(Long challengeId, Long userId) {
-        return challengeId + ":" + userId;
+    private LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
     }
 }
@@ -0,0 +1,291 @@
+package targeter.aim.domain.challenge.timer;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.zip.CRC32C;
+
+/**
+ * 실행 중인 타이머 세션을 기록하는 append-only 저널.
+ * 메모리 매핑된 파일에 START / STOP 레코드를 고정 길이로 이어 쓰고,
+ * 재시작 시 STOP 이 없는 START 만 골라 세션을 복구한다.
+ * 헤더에는 주기적으로 마지막 생존 시각(heartbeat)을 남겨, 복구한 세션의 시작 시각을 서버가 내려가 있던 시간만큼 뒤로 민다.
+ *
+ * 헤더(16 bytes)   : [magic 4][version 4][lastAliveMillis 8]
+ * 레코드(32 bytes) : [type 1][padding 3][challengeId 8][userId 8][epochMillis 8][crc32c 4]
+ */
+@Slf4j
+public class ChallengeSessionJournal {
+
+    private static final int MAGIC = 0x41494D4A; // "AIMJ"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+    private static final int LAST_ALIVE_OFFSET = 8;
+
+    private static final int RECORD_SIZE = 32;
+    private static final int PAYLOAD_SIZE = RECORD_SIZE - Integer.BYTES;
+
+    private static final byte TYPE_START = 1;
+    private static final byte TYPE_STOP = 2;
+
+    public record OpenSession(long challengeId, long userId, long startedAtMillis) {}
+
+    private record SessionKey(long challengeId, long userId) {}
+
+    private final Path path;
+    private final int initialCapacity;
+    private final boolean forceOnWrite;
+
+    private final Object lock = new Object();
+
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int capacity;
+    private int position;
+    private boolean closed;
+
+    public ChallengeSessionJournal(Path path, int capacityBytes, boolean forceOnWrite) {
+        this.path = path;
+        this.initialCapacity = Math.max(capacityBytes, HEADER_SIZE + RECORD_SIZE * 64);
+        this.forceOnWrite = forceOnWrite;
+    }
+
+    /**
+     * 저널 파일을 열고 아직 종료되지 않은 세션 목록을 반환한다.
+     * 마지막 생존 시각(헤더 heartbeat 와 마지막 레코드 중 늦은 쪽)부터 nowMillis 까지는 서버가 내려가 있던 시간이므로
+     * 그만큼 시작 시각을 뒤로 밀어 공부 시간에 넣지 않는다.
+     * 복구 직후 살아있는 세션만 남기도록 한 번 압축한다.
+     */
+    public List<OpenSession> recover(long nowMillis) {
+        synchronized (lock) {
+            try {
+                if (path.getParent() != null) {
+                    Files.createDirectories(path.getParent());
+                }
+                int size = Files.exists(path) ? (int) Math.max(Files.size(path), initialCapacity) : initialCapacity;
+                map(path, size);
+
+                Map<SessionKey, OpenSession> open = new LinkedHashMap<>();
+
+                if (buffer.getInt(0) != MAGIC) {
+                    writeHeader(buffer, nowMillis);
+                    position = HEADER_SIZE;
+                    return List.of();
+                }
+
+                long lastAliveMillis = buffer.getLong(LAST_ALIVE_OFFSET);
+                int offset = HEADER_SIZE;
+                while (offset + RECORD_SIZE <= capacity) {
+                    byte type = buffer.get(offset);
+                    if (type == 0 || !validChecksum(offset)) {
+                        break; // 빈 영역 또는 기록 도중 중단된 레코드
+                    }
+
+                    long challengeId = buffer.getLong(offset + 4);
+                    long userId = buffer.getLong(offset + 12);
+                    long epochMillis = buffer.getLong(offset + 20);
+                    SessionKey key = new SessionKey(challengeId, userId);
+                    lastAliveMillis = Math.max(lastAliveMillis, epochMillis);
+
+                    if (type == TYPE_START) {
+                        open.put(key, new OpenSession(challengeId, userId, epochMillis));
+                    } else if (type == TYPE_STOP) {
+                        open.remove(key);
+                    }
+                    offset += RECORD_SIZE;
+                }
+                position = offset;
+
+                long downtimeMillis = Math.max(nowMillis - lastAliveMillis, 0L);
+                List<OpenSession> sessions = new ArrayList<>(open.size());
+                for (OpenSession session : open.values()) {
+                    sessions.add(new OpenSession(
+                            session.challengeId(), session.userId(), session.startedAtMillis() + downtimeMillis
+                    ));
+                }
+                compact(sessions, nowMillis);
+
+                log.info("[SessionJournal] 저널 복구 완료. 실행 중 세션 {}건, 중단 {}ms 제외 (path: {})",
+                        sessions.size(), downtimeMillis, path);
+                return sessions;
+            } catch (IOException e) {
+                throw new UncheckedIOException("타이머 저널을 열 수 없습니다: " + path, e);
+            }
+        }
+    }
+
+    public void appendStart(long challengeId, long userId, long epochMillis) {
+        append(TYPE_START, challengeId, userId, epochMillis);
+    }
+
+    public void appendStop(long challengeId, long userId, long epochMillis) {
+        append(TYPE_STOP, challengeId, userId, epochMillis);
+    }
+
+    /**
+     * 마지막 생존 시각 기록. 비정상 종료 시 이 시각 이후는 세션 시간에 넣지 않는다.
+     */
+    public void heartbeat(long epochMillis) {
+        synchronized (lock) {
+            if (closed || buffer == null) {
+                return;
+            }
+            buffer.putLong(LAST_ALIVE_OFFSET, epochMillis);
+            if (forceOnWrite) {
+                buffer.force(0, HEADER_SIZE);
+            }
+        }
+    }
+
+    // 압축 스냅샷을 만들기 위해 모든 세그먼트를 멈출지 미리 보는 용도 (실제 판단은 compactIfNeeded 가 다시 한다)
+    public boolean needsCompaction() {
+        synchronized (lock) {
+            return !closed && buffer != null && position >= capacity - capacity / 4;
+        }
+    }
+
+    /**
+     * 사용량이 3/4 을 넘으면 현재 실행 중인 세션만으로 저널을 다시 쓴다.
+     * 스냅샷은 저널 락 안에서 만들어지므로 동시에 들어온 레코드를 잃지 않는다.
+     */
+    public void compactIfNeeded(Supplier<Collection<OpenSession>> liveSessions) {
+        synchronized (lock) {
+            if (closed || position < capacity - capacity / 4) {
+                return;
+            }
+            compact(liveSessions.get(), System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * 정상 종료 시 살아있는 세션만 남기고 디스크에 강제 기록한 뒤 더 이상 쓰기를 받지 않는다.
+     */
+    public void close(Collection<OpenSession> liveSessions, long nowMillis) {
+        synchronized (lock) {
+            if (closed || buffer == null) {
+                return;
+            }
+            compact(liveSessions, nowMillis);
+            buffer.force();
+            closeChannel();
+            closed = true;
+            log.info("[SessionJournal] 저널 종료. 실행 중 세션 {}건 보존", liveSessions.size());
+        }
+    }
+
+    private void append(byte type, long challengeId, long userId, long epochMillis) {
+        synchronized (lock) {
+            if (closed || buffer == null) {
+                throw new IllegalStateException("타이머 저널이 열려있지 않습니다.");
+            }
+            if (position + RECORD_SIZE > capacity) {
+                // 압축 주기를 놓쳤을 때의 안전장치: 파일을 늘려서라도 기록은 남긴다
+                grow();
+            }
+
+            int offset = position;
+            buffer.putLong(offset + 4, challengeId);
+            buffer.putLong(offset + 12, userId);
+            buffer.putLong(offset + 20, epochMillis);
+            buffer.put(offset, type);
+            buffer.putInt(offset + PAYLOAD_SIZE, checksum(offset));
+            position += RECORD_SIZE;
+
+            if (forceOnWrite) {
+                buffer.force(offset, RECORD_SIZE);
+            }
+        }
+    }
+
+    private void compact(Collection<OpenSession> liveSessions, long lastAliveMillis) {
+        int required = HEADER_SIZE + liveSessions.size() * RECORD_SIZE;
+        int size = Math.max(initialCapacity, required * 2);
+        Path tmp = path.resolveSibling(path.getFileName() + ".compact");
+
+        try (FileChannel tmpChannel = FileChannel.open(tmp,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+
+            MappedByteBuffer tmpBuffer = tmpChannel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            writeHeader(tmpBuffer, lastAliveMillis);
+
+            int offset = HEADER_SIZE;
+            for (OpenSession session : liveSessions) {
+                tmpBuffer.putLong(offset + 4, session.challengeId());
+                tmpBuffer.putLong(offset + 12, session.userId());
+                tmpBuffer.putLong(offset + 20, session.startedAtMillis());
+                tmpBuffer.put(offset, TYPE_START);
+                tmpBuffer.putInt(offset + PAYLOAD_SIZE, checksum(tmpBuffer, offset));
+                offset += RECORD_SIZE;
+            }
+            tmpBuffer.force();
+
+            closeChannel();
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            map(path, size);
+            position = offset;
+        } catch (IOException e) {
+            throw new UncheckedIOException("타이머 저널 압축에 실패했습니다: " + path, e);
+        }
+    }
+
+    private void grow() {
+        try {
+            buffer.force();
+            map(path, capacity * 2);
+        } catch (IOException e) {
+            throw new UncheckedIOException("타이머 저널 확장에 실패했습니다: " + path, e);
+        }
+    }
+
+    private void map(Path target, int size) throws IOException {
+        closeChannel();
+        channel = FileChannel.open(target,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        capacity = size;
+    }
+
+    private void closeChannel() {
+        if (channel == null) return;
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("[SessionJournal] 채널 종료 실패: {}", e.getMessage());
+        }
+        channel = null;
+    }
+
+    private void writeHeader(MappedByteBuffer target, long lastAliveMillis) {
+        target.putInt(0, MAGIC);
+        target.putInt(4, VERSION);
+        target.putLong(LAST_ALIVE_OFFSET, lastAliveMillis);
+    }
+
+    private boolean validChecksum(int offset) {
+        return buffer.getInt(offset + PAYLOAD_SIZE) == checksum(offset);
+    }
+
+    private int checksum(int offset) {
+        return checksum(buffer, offset);
+    }
+
+    private int checksum(MappedByteBuffer target, int offset) {
+        CRC32C crc = new CRC32C();
+        crc.update(target.slice(offset, PAYLOAD_SIZE));
+        return (int) crc.getValue();
+    }
+}
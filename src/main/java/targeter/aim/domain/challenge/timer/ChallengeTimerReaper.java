@@ -0,0 +1,134 @@
+package targeter.aim.domain.challenge.timer;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import targeter.aim.domain.challenge.event.TimerUserDisconnectedEvent;
+import targeter.aim.domain.challenge.service.ChallengeTimerService;
+import targeter.aim.system.configuration.timer.TimerProperties;
+import targeter.aim.system.exception.model.RestException;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 방치된 타이머 세션 자동 종료.
+ * 최대 세션 길이/유휴 시간이 지나거나 유저의 마지막 연결이 끊기면 (다른 노드가 넘긴 STOP 도 같은 경로) STOP 과 동일하게 기록 후 OFF 를 브로드캐스트한다.
+ * 연결 종료는 disconnect-grace 동안 기다렸다가 그때도 연결이 없을 때만 유저가 이 노드에서 실행 중인 타이머를 모두 멈춘다. (잠깐의 네트워크 끊김으로 멈추지 않도록)
+ * 기록할 주차가 없는 검증 실패만 시간을 버리고 세션을 정리한다. DB 장애 같은 그 밖의 실패는 stop-retry-attempts 만큼 다시 시도하고,
+ * 끝내 기록하지 못하면 반영되지 않은 공부 시간을 에러 로그로 남긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChallengeTimerReaper {
+
+    private final TimerDeadlineScheduler deadlineScheduler;
+    private final ChallengeRunningSessionManager sessionManager;
+    private final ChallengeTimerService challengeTimerService;
+    private final TimerBroadcaster broadcaster;
+    private final TimerProperties timerProperties;
+    private final TimerOwnershipRegistry ownershipRegistry;
+    private final TimerSessionContextRegistry contextRegistry;
+
+    // userId -> 마지막 연결 종료 표식. 유예 중 다시 끊기면 새 표식으로 바뀌어 이전 예약은 무시된다
+    private final ConcurrentHashMap<Long, Object> pendingDisconnects = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void register() {
+        deadlineScheduler.onExpire(this::autoStop);
+        ownershipRegistry.onRemoteStop(this::autoStop);
+    }
+
+    // 저널에서 복구된 세션에도 마감을 건다
+    @EventListener(ApplicationReadyEvent.class)
+    public void scheduleRecovered() {
+        sessionManager.forEachRunning(deadlineScheduler::schedule);
+    }
+
+    @EventListener
+    public void onUserDisconnected(TimerUserDisconnectedEvent event) {
+        TimerProperties.Reaper reaper = timerProperties.getReaper();
+        if (!reaper.isStopOnDisconnect()) return;
+
+        Long userId = event.userId();
+        if (!reaper.getDisconnectGrace().isPositive()) {
+            stopAllOf(userId);
+            return;
+        }
+
+        Object marker = new Object();
+        pendingDisconnects.put(userId, marker);
+        deadlineScheduler.delay(() -> {
+            if (pendingDisconnects.remove(userId, marker) && contextRegistry.connectionCount(userId) == 0) {
+                stopAllOf(userId);
+            }
+        }, reaper.getDisconnectGrace());
+    }
+
+    private void stopAllOf(Long userId) {
+        for (Long challengeId : sessionManager.runningChallengesOf(userId)) {
+            if (sessionManager.isRunning(challengeId, userId)) {
+                autoStop(challengeId, userId);
+            }
+        }
+    }
+
+    private void autoStop(Long challengeId, Long userId) {
+        long startedAtMillis = sessionManager.startedAtMillisOf(challengeId, userId);
+        if (startedAtMillis != 0L) {
+            autoStop(challengeId, userId, startedAtMillis, 1);
+        }
+    }
+
+    private void autoStop(Long challengeId, Long userId, long startedAtMillis, int attempt) {
+        try {
+            long accumulatedTime =
+                    challengeTimerService.stopTimer(TimerSessionContext.detached(userId), challengeId);
+
+            broadcaster.broadcast(challengeId, TimerFrame.off(userId, accumulatedTime));
+        } catch (RestException | IllegalStateException e) {
+            // 주차가 바뀌었거나 참가 정보/챌린지가 사라진 세션은 기록할 주차가 없으므로 기록 없이 정리
+            log.warn("[Timer] 자동 종료 검증 실패, {}초 기록 없이 정리 challenge={} user={}: {}",
+                    elapsedSeconds(startedAtMillis), challengeId, userId, e.getMessage());
+            discard(challengeId, userId, startedAtMillis);
+        } catch (RuntimeException e) {
+            TimerProperties.Reaper reaper = timerProperties.getReaper();
+
+            // 기록 전에 실패해 세션이 그대로 남아 있으면 잠시 뒤 다시 시도
+            if (isSameSession(challengeId, userId, startedAtMillis) && attempt < reaper.getStopRetryAttempts()) {
+                log.warn("[Timer] 자동 종료 실패, {}회째 재시도 예약 challenge={} user={}: {}",
+                        attempt, challengeId, userId, e.getMessage());
+                deadlineScheduler.delay(() -> {
+                    if (isSameSession(challengeId, userId, startedAtMillis)) {
+                        autoStop(challengeId, userId, startedAtMillis, attempt + 1);
+                    }
+                }, reaper.getStopRetryDelay());
+                return;
+            }
+
+            log.error("[Timer] 자동 종료 기록 실패, 공부 시간 {}초 미반영 challenge={} user={} startedAt={}",
+                    elapsedSeconds(startedAtMillis), challengeId, userId, startedAtMillis, e);
+            discard(challengeId, userId, startedAtMillis);
+        }
+    }
+
+    // 그 사이 유저가 멈췄다가 다시 시작한 세션은 건드리지 않는다
+    private boolean isSameSession(Long challengeId, Long userId, long startedAtMillis) {
+        return sessionManager.startedAtMillisOf(challengeId, userId) == startedAtMillis;
+    }
+
+    private void discard(Long challengeId, Long userId, long startedAtMillis) {
+        if (isSameSession(challengeId, userId, startedAtMillis)) {
+            sessionManager.stop(challengeId, userId);
+            deadlineScheduler.cancel(challengeId, userId);
+            ownershipRegistry.release(challengeId, userId);
+        }
+    }
+
+    private static long elapsedSeconds(long startedAtMillis) {
+        return Math.max(System.currentTimeMillis() - startedAtMillis, 0L) / 1000;
+    }
+}
@@ -0,0 +1,472 @@
+package targeter.aim.domain.challenge.timer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * (challengeId, userId) -> (시작 시각(nanoTime), 시작 전 주차 누적 초) 를 담는 전용 해시 테이블.
+ * 두 id 를 평행한 long 배열에 그대로 두고 오픈 어드레싱(선형 탐사)으로 저장하므로 조회/갱신 시 객체를 만들지 않고, id 범위 제한도 없다.
+ *
+ * 세그먼트는 challengeId 기준으로 나뉘어 있어 한 챌린지 방의 세션은 항상 같은 세그먼트에 모이고,
+ * 서로 다른 세그먼트의 START / STOP 은 락을 공유하지 않는다.
+ * 세그먼트 안에서 같은 방 / 같은 유저의 칸은 int 인덱스 연결 리스트로 이어 두어(머리는 id -> 칸 번호 표)
+ * 방 단위 조회는 그 방의 세션 수에, 유저 단위 조회는 세그먼트 수 + 그 유저의 세션 수에만 비례한다.
+ *
+ * {@link Listener} 는 변경과 같은 세그먼트 락 안에서 불리므로, 한 세션의 START / STOP 이 리스너에 도착하는 순서는 테이블 변경 순서와 같다.
+ */
+public class RunningSessionTable {
+
+    public static final long NO_VALUE = Long.MIN_VALUE;
+
+    private static final long EMPTY = 0L;   // DB id 는 1 부터이므로 0 을 빈 칸으로 쓴다
+    private static final int NONE = -1;
+    private static final int SEGMENT_COUNT = 16;
+    private static final int INITIAL_SEGMENT_CAPACITY = 64;
+    private static final int INITIAL_HEAD_CAPACITY = 16;
+
+    public record Entry(long challengeId, long userId, long startNanos, long baseSeconds) {}
+
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(long challengeId, long userId, long startNanos);
+    }
+
+    // 세그먼트 락 안에서 호출된다. 다른 세그먼트의 락을 잡으면 안 된다
+    public interface Listener {
+        void started(long challengeId, long userId, long startNanos);
+
+        void stopped(long challengeId, long userId, long startNanos);
+    }
+
+    private static final Listener NO_LISTENER = new Listener() {
+        @Override
+        public void started(long challengeId, long userId, long startNanos) {}
+
+        @Override
+        public void stopped(long challengeId, long userId, long startNanos) {}
+    };
+
+    private final Segment[] segments = new Segment[SEGMENT_COUNT];
+    private volatile Listener listener = NO_LISTENER;
+
+    public RunningSessionTable() {
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment();
+        }
+    }
+
+    public void setListener(Listener listener) {
+        this.listener = listener == null ? NO_LISTENER : listener;
+    }
+
+    public boolean putIfAbsent(long challengeId, long userId, long startNanos) {
+        return putIfAbsent(challengeId, userId, startNanos, 0L);
+    }
+
+    /**
+     * @throws IllegalArgumentException id 가 양수가 아닌 경우
+     */
+    public boolean putIfAbsent(long challengeId, long userId, long startNanos, long baseSeconds) {
+        if (!isValid(challengeId, userId)) {
+            throw new IllegalArgumentException("세션 키는 양수 id 여야 합니다. challengeId=" + challengeId + ", userId=" + userId);
+        }
+        Segment segment = segmentOf(challengeId);
+        synchronized (segment) {
+            if (!segment.putIfAbsent(challengeId, userId, startNanos, baseSeconds)) {
+                return false;
+            }
+            listener.started(challengeId, userId, startNanos);
+            return true;
+        }
+    }
+
+    /**
+     * @return 제거된 세션의 시작 시각, 없으면 {@link #NO_VALUE}
+     */
+    public long remove(long challengeId, long userId) {
+        if (!isValid(challengeId, userId)) return NO_VALUE;
+        Segment segment = segmentOf(challengeId);
+        synchronized (segment) {
+            long startNanos = segment.remove(challengeId, userId);
+            if (startNanos != NO_VALUE) {
+                listener.stopped(challengeId, userId, startNanos);
+            }
+            return startNanos;
+        }
+    }
+
+    /**
+     * @return 세션의 시작 시각, 없으면 {@link #NO_VALUE}
+     */
+    public long get(long challengeId, long userId) {
+        if (!isValid(challengeId, userId)) return NO_VALUE;
+        Segment segment = segmentOf(challengeId);
+        synchronized (segment) {
+            int i = segment.indexOf(challengeId, userId);
+            return i < 0 ? NO_VALUE : segment.values[i];
+        }
+    }
+
+    // 실행 중이 아니면 0
+    public long baseSecondsOf(long challengeId, long userId) {
+        if (!isValid(challengeId, userId)) return 0L;
+        Segment segment = segmentOf(challengeId);
+        synchronized (segment) {
+            int i = segment.indexOf(challengeId, userId);
+            return i < 0 ? 0L : segment.bases[i];
+        }
+    }
+
+    public boolean contains(long challengeId, long userId) {
+        return get(challengeId, userId) != NO_VALUE;
+    }
+
+    // 한 챌린지 방에서 실행 중인 세션 목록
+    public List<Entry> sessionsOf(long challengeId) {
+        if (challengeId <= 0) return List.of();
+        Segment segment = segmentOf(challengeId);
+        synchronized (segment) {
+            return segment.sessionsOf(challengeId);
+        }
+    }
+
+    // 유저가 실행 중인 세션의 challengeId 목록
+    public long[] challengesOf(long userId) {
+        if (userId <= 0) return new long[0];
+        long[] result = new long[0];
+        int count = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                for (int i = segment.users.get(userId); i != NONE; i = segment.userNext[i]) {
+                    if (count == result.length) {
+                        result = Arrays.copyOf(result, Math.max(4, count * 2));
+                    }
+                    result[count++] = segment.challengeKeys[i];
+                }
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    public void forEach(EntryConsumer consumer) {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.forEach(consumer);
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * 모든 세그먼트 락을 번호 순으로 잡은 채 실행한다. (저널 압축처럼 전체가 멈춘 스냅샷이 필요할 때)
+     * 리스너는 세그먼트 락 하나만 잡고 불리므로, 그 안에서 잡는 락(저널 락)보다 이 순서가 항상 앞선다.
+     */
+    public void lockAll(Runnable action) {
+        lockFrom(0, action);
+    }
+
+    private void lockFrom(int index, Runnable action) {
+        if (index == SEGMENT_COUNT) {
+            action.run();
+            return;
+        }
+        synchronized (segments[index]) {
+            lockFrom(index + 1, action);
+        }
+    }
+
+    private static boolean isValid(long challengeId, long userId) {
+        return challengeId > 0 && userId > 0;
+    }
+
+    private Segment segmentOf(long challengeId) {
+        return segments[(int) mix(challengeId) & (SEGMENT_COUNT - 1)];
+    }
+
+    private static int slotOf(long challengeId, long userId, int mask) {
+        return (int) (mix(challengeId * 0x9E3779B97F4A7C15L + userId) >>> 32) & mask;
+    }
+
+    // murmur3 fmix64
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * id -> 연결 리스트 머리 칸 번호. 같은 방식(선형 탐사, 톰스톤 없는 삭제)의 long -> int 표.
+     */
+    private static final class Heads {
+
+        private long[] keys = new long[INITIAL_HEAD_CAPACITY];
+        private int[] slots = new int[INITIAL_HEAD_CAPACITY];
+        private int size;
+
+        int get(long key) {
+            int mask = keys.length - 1;
+            for (int i = (int) (mix(key) >>> 32) & mask; keys[i] != EMPTY; i = (i + 1) & mask) {
+                if (keys[i] == key) return slots[i];
+            }
+            return NONE;
+        }
+
+        void put(long key, int slot) {
+            int mask = keys.length - 1;
+            int i = (int) (mix(key) >>> 32) & mask;
+            while (keys[i] != EMPTY) {
+                if (keys[i] == key) {
+                    slots[i] = slot;
+                    return;
+                }
+                i = (i + 1) & mask;
+            }
+            keys[i] = key;
+            slots[i] = slot;
+            if (++size * 2 > keys.length) {
+                resize();
+            }
+        }
+
+        void remove(long key) {
+            int mask = keys.length - 1;
+            int hole = (int) (mix(key) >>> 32) & mask;
+            while (keys[hole] != key) {
+                if (keys[hole] == EMPTY) return;
+                hole = (hole + 1) & mask;
+            }
+            size--;
+
+            int i = hole;
+            while (true) {
+                i = (i + 1) & mask;
+                if (keys[i] == EMPTY) break;
+                int home = (int) (mix(keys[i]) >>> 32) & mask;
+                boolean movable = (hole <= i) ? (home <= hole || home > i) : (home <= hole && home > i);
+                if (movable) {
+                    keys[hole] = keys[i];
+                    slots[hole] = slots[i];
+                    hole = i;
+                }
+            }
+            keys[hole] = EMPTY;
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            int[] oldSlots = slots;
+            keys = new long[oldKeys.length * 2];
+            slots = new int[oldKeys.length * 2];
+            int mask = keys.length - 1;
+            for (int j = 0; j < oldKeys.length; j++) {
+                if (oldKeys[j] == EMPTY) continue;
+                int i = (int) (mix(oldKeys[j]) >>> 32) & mask;
+                while (keys[i] != EMPTY) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = oldKeys[j];
+                slots[i] = oldSlots[j];
+            }
+        }
+    }
+
+    // 락은 바깥(RunningSessionTable)에서 세그먼트 객체로 잡는다
+    private static final class Segment {
+
+        private long[] challengeKeys = new long[INITIAL_SEGMENT_CAPACITY];
+        private long[] userKeys = new long[INITIAL_SEGMENT_CAPACITY];
+        private long[] values = new long[INITIAL_SEGMENT_CAPACITY];
+        private long[] bases = new long[INITIAL_SEGMENT_CAPACITY];
+        // 같은 방 / 같은 유저의 다른 칸 (없으면 NONE)
+        private int[] roomPrev = new int[INITIAL_SEGMENT_CAPACITY];
+        private int[] roomNext = new int[INITIAL_SEGMENT_CAPACITY];
+        private int[] userPrev = new int[INITIAL_SEGMENT_CAPACITY];
+        private int[] userNext = new int[INITIAL_SEGMENT_CAPACITY];
+        private int size;
+
+        private Heads rooms = new Heads();
+        private Heads users = new Heads();
+
+        boolean putIfAbsent(long challengeId, long userId, long value, long base) {
+            int mask = challengeKeys.length - 1;
+            int i = slotOf(challengeId, userId, mask);
+            while (challengeKeys[i] != EMPTY) {
+                if (challengeKeys[i] == challengeId && userKeys[i] == userId) {
+                    return false;
+                }
+                i = (i + 1) & mask;
+            }
+            place(i, challengeId, userId, value, base);
+            if (++size * 2 > challengeKeys.length) {
+                resize();
+            }
+            return true;
+        }
+
+        long remove(long challengeId, long userId) {
+            int i = indexOf(challengeId, userId);
+            if (i < 0) {
+                return NO_VALUE;
+            }
+            long removed = values[i];
+            unlink(i);
+            shiftBack(i, challengeKeys.length - 1);
+            size--;
+            return removed;
+        }
+
+        List<Entry> sessionsOf(long challengeId) {
+            int head = rooms.get(challengeId);
+            if (head == NONE) {
+                return List.of();
+            }
+            List<Entry> result = new ArrayList<>(2);
+            for (int i = head; i != NONE; i = roomNext[i]) {
+                result.add(new Entry(challengeId, userKeys[i], values[i], bases[i]));
+            }
+            return result;
+        }
+
+        void forEach(EntryConsumer consumer) {
+            for (int i = 0; i < challengeKeys.length; i++) {
+                if (challengeKeys[i] != EMPTY) {
+                    consumer.accept(challengeKeys[i], userKeys[i], values[i]);
+                }
+            }
+        }
+
+        int indexOf(long challengeId, long userId) {
+            int mask = challengeKeys.length - 1;
+            int i = slotOf(challengeId, userId, mask);
+            while (challengeKeys[i] != EMPTY) {
+                if (challengeKeys[i] == challengeId && userKeys[i] == userId) {
+                    return i;
+                }
+                i = (i + 1) & mask;
+            }
+            return -1;
+        }
+
+        // 빈 칸 i 에 넣고 방 / 유저 리스트 맨 앞에 붙인다
+        private void place(int i, long challengeId, long userId, long value, long base) {
+            challengeKeys[i] = challengeId;
+            userKeys[i] = userId;
+            values[i] = value;
+            bases[i] = base;
+
+            int roomHead = rooms.get(challengeId);
+            roomPrev[i] = NONE;
+            roomNext[i] = roomHead;
+            if (roomHead != NONE) roomPrev[roomHead] = i;
+            rooms.put(challengeId, i);
+
+            int userHead = users.get(userId);
+            userPrev[i] = NONE;
+            userNext[i] = userHead;
+            if (userHead != NONE) userPrev[userHead] = i;
+            users.put(userId, i);
+        }
+
+        private void unlink(int i) {
+            if (roomPrev[i] != NONE) {
+                roomNext[roomPrev[i]] = roomNext[i];
+            } else if (roomNext[i] != NONE) {
+                rooms.put(challengeKeys[i], roomNext[i]);
+            } else {
+                rooms.remove(challengeKeys[i]);
+            }
+            if (roomNext[i] != NONE) roomPrev[roomNext[i]] = roomPrev[i];
+
+            if (userPrev[i] != NONE) {
+                userNext[userPrev[i]] = userNext[i];
+            } else if (userNext[i] != NONE) {
+                users.put(userKeys[i], userNext[i]);
+            } else {
+                users.remove(userKeys[i]);
+            }
+            if (userNext[i] != NONE) userPrev[userNext[i]] = userPrev[i];
+        }
+
+        // 칸 from 의 항목을 빈 칸 to 로 옮기고, 앞뒤 칸과 머리 표가 새 위치를 가리키게 한다
+        private void move(int from, int to) {
+            challengeKeys[to] = challengeKeys[from];
+            userKeys[to] = userKeys[from];
+            values[to] = values[from];
+            bases[to] = bases[from];
+            roomPrev[to] = roomPrev[from];
+            roomNext[to] = roomNext[from];
+            userPrev[to] = userPrev[from];
+            userNext[to] = userNext[from];
+
+            if (roomPrev[to] != NONE) roomNext[roomPrev[to]] = to;
+            else rooms.put(challengeKeys[to], to);
+            if (roomNext[to] != NONE) roomPrev[roomNext[to]] = to;
+
+            if (userPrev[to] != NONE) userNext[userPrev[to]] = to;
+            else users.put(userKeys[to], to);
+            if (userNext[to] != NONE) userPrev[userNext[to]] = to;
+        }
+
+        // 톰스톤 없이 삭제: 뒤따르는 클러스터를 제자리로 당긴다 (hole 은 이미 리스트에서 빠진 칸)
+        private void shiftBack(int hole, int mask) {
+            int i = hole;
+            while (true) {
+                i = (i + 1) & mask;
+                if (challengeKeys[i] == EMPTY) {
+                    break;
+                }
+                int home = slotOf(challengeKeys[i], userKeys[i], mask);
+                boolean movable = (hole <= i) ? (home <= hole || home > i) : (home <= hole && home > i);
+                if (movable) {
+                    move(i, hole);
+                    hole = i;
+                }
+            }
+            challengeKeys[hole] = EMPTY;
+            userKeys[hole] = EMPTY;
+            values[hole] = 0L;
+            bases[hole] = 0L;
+        }
+
+        private void resize() {
+            long[] oldChallengeKeys = challengeKeys;
+            long[] oldUserKeys = userKeys;
+            long[] oldValues = values;
+            long[] oldBases = bases;
+            int capacity = oldChallengeKeys.length * 2;
+            challengeKeys = new long[capacity];
+            userKeys = new long[capacity];
+            values = new long[capacity];
+            bases = new long[capacity];
+            roomPrev = new int[capacity];
+            roomNext = new int[capacity];
+            userPrev = new int[capacity];
+            userNext = new int[capacity];
+            rooms = new Heads();
+            users = new Heads();
+            int mask = capacity - 1;
+
+            for (int j = 0; j < oldChallengeKeys.length; j++) {
+                if (oldChallengeKeys[j] == EMPTY) continue;
+                int i = slotOf(oldChallengeKeys[j], oldUserKeys[j], mask);
+                while (challengeKeys[i] != EMPTY) {
+                    i = (i + 1) & mask;
+                }
+                place(i, oldChallengeKeys[j], oldUserKeys[j], oldValues[j], oldBases[j]);
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package targeter.aim.domain.challenge.timer;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import targeter.aim.system.configuration.timer.TimerProperties;
+import targeter.aim.system.configuration.websocket.WebSocketProperties;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 챌린지 방으로 타이머 이벤트를 내보낸다.
+ * 같은 방 / 같은 유저의 전환이 coalesce-window 안에 여러 번 일어나면 마지막 상태 하나만 보낸다. (예: START 직후 STOP -> OFF 만)
+ * 에러는 합치지 않고 즉시 보낸다.
+ */
+@Slf4j
+@Component
+public class TimerBroadcaster {
+
+    private static final String ROOM_PREFIX = "/sub/challenge/";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final TimerFrameCodec codec;
+    private final long windowMillis;
+    private final boolean relay;
+
+    private final ConcurrentHashMap<TimerSessionKey, TimerFrame> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("timer-broadcast").daemon().factory()
+    );
+
+    public TimerBroadcaster(
+            SimpMessagingTemplate messagingTemplate,
+            TimerFrameCodec codec,
+            TimerProperties timerProperties,
+            WebSocketProperties webSocketProperties
+    ) {
+        this.messagingTemplate = messagingTemplate;
+        this.codec = codec;
+        this.windowMillis = timerProperties.getBroadcast().getCoalesceWindow().toMillis();
+        this.relay = webSocketProperties.getBroker().getMode() == WebSocketProperties.BrokerMode.RELAY;
+    }
+
+    public void broadcast(Long challengeId, TimerFrame frame) {
+        if (windowMillis <= 0 || frame.getType() == TimerFrame.Type.ERROR) {
+            send(challengeId, frame);
+            return;
+        }
+
+        TimerSessionKey key = new TimerSessionKey(challengeId, frame.getUserId());
+
+        // 대기 중인 프레임이 없을 때만 전송을 예약하고, 있으면 최신 상태로 덮어쓴다
+        if (pending.put(key, frame) == null) {
+            flusher.schedule(() -> {
+                TimerFrame latest = pending.remove(key);
+                if (latest != null) {
+                    send(challengeId, latest);
+                }
+            }, windowMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // 직렬화는 구독자 세션으로 나갈 때 TimerFrameOutboundInterceptor 가 형식별로 한 번만 한다
+    // relay 모드는 외부 브로커가 바이트만 받으므로 COMPACT 로 보내고, 각 노드가 내보낼 때 세션 형식으로 바꾼다
+    private void send(Long challengeId, TimerFrame frame) {
+        try {
+            if (relay) {
+                SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create();
+                headers.setNativeHeader(TimerFrame.RELAY_HEADER, "compact");
+                headers.setContentType(MimeTypeUtils.APPLICATION_JSON);
+                headers.setLeaveMutable(true);
+                messagingTemplate.send(
+                        ROOM_PREFIX + challengeId,
+                        MessageBuilder.createMessage(codec.encode(frame, TimerWireFormat.COMPACT), headers.getMessageHeaders())
+                );
+                return;
+            }
+            messagingTemplate.send(ROOM_PREFIX + challengeId, MessageBuilder.withPayload(frame).build());
+        } catch (RuntimeException e) {
+            log.warn("[Timer] 브로드캐스트 실패 challenge={}: {}", challengeId, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+    }
+}
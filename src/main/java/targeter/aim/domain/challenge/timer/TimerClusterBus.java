@@ -0,0 +1,17 @@
+package targeter.aim.domain.challenge.timer;
+
+import java.util.function.Consumer;
+
+/**
+ * 노드 간 {@link TimerClusterMessage} 전달 통로.
+ * simple broker(단일 노드)에서는 아무 데도 보내지 않고, relay 모드에서는 외부 브로커의 클러스터 토픽을 쓴다.
+ */
+public interface TimerClusterBus {
+
+    String nodeId();
+
+    void publish(TimerClusterMessage message);
+
+    // 다른 노드가 보낸 메시지만 전달된다
+    void subscribe(Consumer<TimerClusterMessage> listener);
+}
@@ -0,0 +1,21 @@
+package targeter.aim.domain.challenge.timer;
+
+/**
+ * 노드 간 타이머 소유권 메시지.
+ * CLAIM / RELEASE 로 어느 노드가 세션을 들고 있는지 알리고, STOP / HEARTBEAT 는 소유 노드로 넘기는 요청이다.
+ * SYNC 를 받은 노드는 자신이 가진 세션을 다시 CLAIM 한다.
+ * EVICT 는 다른 노드의 연결 컨텍스트에 캐시된 그 유저의 참가 정보를 비운다. (챌린지 단위 변경은 {@code ClusterEventRelay} 로 전파)
+ * ALIVE 는 노드 생존 알림이다. 일정 시간 아무 메시지도 보내지 않은 노드의 세션은 남은 노드가 넘겨받는다.
+ * CLAIM 의 baseSeconds 는 세션 시작 전 그 주차에 쌓여 있던 시간이다. (방 스냅샷의 주차 누적 시간 계산용)
+ */
+public record TimerClusterMessage(
+        Type type,
+        String nodeId,
+        long challengeId,
+        long userId,
+        long startedAtMillis,
+        long baseSeconds
+) {
+
+    public enum Type { CLAIM, RELEASE, STOP, HEARTBEAT, SYNC, EVICT, ALIVE }
+}
@@ -0,0 +1,122 @@
+package targeter.aim.domain.challenge.timer;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import targeter.aim.system.configuration.timer.TimerProperties;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * 실행 중인 타이머 세션의 마감(최대 세션 길이 / 유휴 시간)을 타이밍 휠 하나로 관리한다.
+ * 세션마다 ScheduledFuture 를 만들지 않으므로 수십만 개의 마감도 휠 스레드 하나로 처리된다.
+ */
+@Slf4j
+@Component
+public class TimerDeadlineScheduler {
+
+    private final long maxSessionNanos;
+    private final long idleTimeoutNanos;
+
+    private final ExecutorService expiryExecutor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("timer-expiry-", 0).factory());
+    private final HashedTimingWheel wheel;
+
+    private final ConcurrentHashMap<TimerSessionKey, Deadline> deadlines = new ConcurrentHashMap<>();
+    private volatile BiConsumer<Long, Long> expiryHandler = (challengeId, userId) -> {};
+
+    private static final class Deadline {
+        private final long maxDeadlineNanos;
+        private volatile HashedTimingWheel.Timeout timeout;
+
+        private Deadline(long maxDeadlineNanos) {
+            this.maxDeadlineNanos = maxDeadlineNanos;
+        }
+    }
+
+    public TimerDeadlineScheduler(TimerProperties timerProperties) {
+        TimerProperties.Reaper reaper = timerProperties.getReaper();
+        this.maxSessionNanos = reaper.getMaxSessionLength().toNanos();
+        this.idleTimeoutNanos = reaper.getIdleTimeout().toNanos();
+        this.wheel = new HashedTimingWheel(
+                "timer-wheel",
+                reaper.getTick().toMillis(), TimeUnit.MILLISECONDS,
+                reaper.getWheelSize(),
+                expiryExecutor
+        );
+    }
+
+    // 마감이 지난 세션을 넘겨받을 핸들러 (challengeId, userId)
+    public void onExpire(BiConsumer<Long, Long> handler) {
+        this.expiryHandler = handler;
+    }
+
+    /**
+     * @param startNanos 세션 시작 시각 (System.nanoTime 기준)
+     */
+    public void schedule(long challengeId, long userId, long startNanos) {
+        TimerSessionKey key = new TimerSessionKey(challengeId, userId);
+        Deadline deadline = new Deadline(startNanos + maxSessionNanos);
+
+        Deadline previous = deadlines.put(key, deadline);
+        if (previous != null && previous.timeout != null) {
+            previous.timeout.cancel();
+        }
+        arm(key, challengeId, userId, deadline);
+    }
+
+    // HEARTBEAT 수신: 유휴 마감을 뒤로 민다 (최대 세션 길이는 넘지 않음)
+    public void touch(long challengeId, long userId) {
+        if (idleTimeoutNanos <= 0) return;
+
+        TimerSessionKey key = new TimerSessionKey(challengeId, userId);
+        Deadline deadline = deadlines.get(key);
+        if (deadline == null) return;
+
+        HashedTimingWheel.Timeout old = deadline.timeout;
+        if (old != null && !old.cancel()) {
+            return; // 이미 만료 처리 중
+        }
+        arm(key, challengeId, userId, deadline);
+    }
+
+    public void cancel(long challengeId, long userId) {
+        Deadline deadline = deadlines.remove(new TimerSessionKey(challengeId, userId));
+        if (deadline != null && deadline.timeout != null) {
+            deadline.timeout.cancel();
+        }
+    }
+
+    // 일회성 지연 작업 (연결 종료 유예 등). 마감과 같은 휠 / 실행기를 쓴다
+    public HashedTimingWheel.Timeout delay(Runnable task, Duration delay) {
+        return wheel.schedule(task, System.nanoTime() + delay.toNanos());
+    }
+
+    public int pendingCount() {
+        return wheel.pendingCount();
+    }
+
+    private void arm(TimerSessionKey key, long challengeId, long userId, Deadline deadline) {
+        long at = deadline.maxDeadlineNanos;
+        if (idleTimeoutNanos > 0) {
+            at = Math.min(at, System.nanoTime() + idleTimeoutNanos);
+        }
+
+        deadline.timeout = wheel.schedule(() -> {
+            if (deadlines.remove(key, deadline)) {
+                expiryHandler.accept(challengeId, userId);
+            }
+        }, at);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        wheel.stop();
+        expiryExecutor.shutdown();
+    }
+}
@@ -0,0 +1,173 @@
+package targeter.aim.domain.challenge.timer;
+
+import lombok.Getter;
+import targeter.aim.domain.challenge.dto.TimerDto;
+import targeter.aim.system.exception.model.ErrorCode;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 챌린지 방으로 나가는 타이머 이벤트 하나.
+ * 브로커까지는 객체 그대로 흐르고, 구독자 세션으로 나갈 때 세션이 고른 형식으로 인코딩된다.
+ * 인코딩 결과는 형식별로 한 번만 만들어 같은 방의 모든 구독자가 공유한다.
+ */
+@Getter
+public final class TimerFrame {
+
+    public enum Type { ON, OFF, ERROR, SNAPSHOT }
+
+    // 방 스냅샷의 실행 중인 타이머 하나. elapsedSeconds: 현재 세션, accumulatedSeconds: 이번 주차 누적
+    public record Running(Long userId, LocalDateTime startedAt, long elapsedSeconds, long accumulatedSeconds) {}
+
+    // relay 모드에서 외부 브로커를 거쳐 온 COMPACT 바이트임을 표시하는 STOMP 헤더
+    public static final String RELAY_HEADER = "timer-frame";
+
+    private final Type type;
+    private final Long userId;
+    private final LocalDateTime startedAt;
+    private final Long accumulatedTime;
+    private final ErrorCode errorCode;
+    private final Long challengeId;
+    private final List<Running> running;
+
+    // 형식별 인코딩 캐시 (여러 스레드가 동시에 채워도 결과가 같으므로 락 없이 둔다)
+    private final byte[][] encoded = new byte[TimerWireFormat.values().length][];
+
+    private TimerFrame(
+            Type type, Long userId, LocalDateTime startedAt, Long accumulatedTime, ErrorCode errorCode,
+            Long challengeId, List<Running> running
+    ) {
+        this.type = type;
+        this.userId = userId;
+        this.startedAt = startedAt;
+        this.accumulatedTime = accumulatedTime;
+        this.errorCode = errorCode;
+        this.challengeId = challengeId;
+        this.running = running;
+    }
+
+    public static TimerFrame on(Long userId, LocalDateTime startedAt) {
+        return new TimerFrame(Type.ON, userId, startedAt, null, null, null, null);
+    }
+
+    public static TimerFrame off(Long userId, long accumulatedTime) {
+        return new TimerFrame(Type.OFF, userId, null, accumulatedTime, null, null, null);
+    }
+
+    public static TimerFrame error(ErrorCode errorCode) {
+        return new TimerFrame(Type.ERROR, null, null, null, errorCode, null, null);
+    }
+
+    // 구독한 세션 한 곳으로만 나가므로 인코딩 캐시는 공유되지 않는다
+    public static TimerFrame snapshot(Long challengeId, List<Running> running) {
+        return new TimerFrame(Type.SNAPSHOT, null, null, null, null, challengeId, List.copyOf(running));
+    }
+
+    // JSON 형식: 기존 클라이언트가 받던 모양 그대로
+    Object toLegacy() {
+        return switch (type) {
+            case ON -> TimerDto.TimerUpdateResponse.on(userId, startedAt);
+            case OFF -> TimerDto.TimerUpdateResponse.off(userId, accumulatedTime);
+            case ERROR -> Map.of(
+                    "status", "ERROR",
+                    "code", errorCode.name(),
+                    "message", errorCode.getMessage()
+            );
+            case SNAPSHOT -> TimerDto.RoomSnapshotResponse.builder()
+                    .status("SNAPSHOT")
+                    .challengeId(challengeId)
+                    .running(running.stream()
+                            .map(r -> TimerDto.RunningTimer.builder()
+                                    .userId(r.userId())
+                                    .startedAt(r.startedAt())
+                                    .elapsedTime(r.elapsedSeconds())
+                                    .accumulatedTime(r.accumulatedSeconds())
+                                    .build())
+                            .toList())
+                    .build();
+        };
+    }
+
+    // COMPACT / CBOR 형식: t=종류, u=유저, s=시작(epoch millis), a=누적(초), c=에러 코드
+    // 스냅샷은 c=챌린지, r=[{u, s, a}] (경과 시간은 s 로 계산할 수 있으므로 뺀다)
+    Map<String, Object> toCompact() {
+        Map<String, Object> body = new LinkedHashMap<>(4);
+        switch (type) {
+            case ON -> {
+                body.put("t", "on");
+                body.put("u", userId);
+                body.put("s", toEpochMillis(startedAt));
+            }
+            case OFF -> {
+                body.put("t", "off");
+                body.put("u", userId);
+                body.put("a", accumulatedTime);
+            }
+            case ERROR -> {
+                body.put("t", "err");
+                body.put("c", errorCode.name());
+            }
+            case SNAPSHOT -> {
+                body.put("t", "snap");
+                body.put("c", challengeId);
+                body.put("r", running.stream()
+                        .map(r -> Map.<String, Object>of(
+                                "u", r.userId(),
+                                "s", toEpochMillis(r.startedAt()),
+                                "a", r.accumulatedSeconds()
+                        ))
+                        .toList());
+            }
+        }
+        return body;
+    }
+
+    static TimerFrame fromCompact(Map<String, Object> body) {
+        Long userId = body.get("u") instanceof Number n ? n.longValue() : null;
+        return switch (String.valueOf(body.get("t"))) {
+            case "on" -> on(userId, fromEpochMillis(body.get("s")));
+            case "off" -> off(userId, ((Number) body.get("a")).longValue());
+            case "err" -> error(ErrorCode.valueOf((String) body.get("c")));
+            case "snap" -> snapshotFromCompact(body);
+            default -> throw new IllegalArgumentException("알 수 없는 타이머 프레임입니다: " + body.get("t"));
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static TimerFrame snapshotFromCompact(Map<String, Object> body) {
+        long nowMillis = System.currentTimeMillis();
+        List<Running> running = ((List<Map<String, Object>>) body.get("r")).stream()
+                .map(r -> {
+                    long startedAtMillis = ((Number) r.get("s")).longValue();
+                    return new Running(
+                            ((Number) r.get("u")).longValue(),
+                            fromEpochMillis(startedAtMillis),
+                            Math.max((nowMillis - startedAtMillis) / 1000, 0),
+                            ((Number) r.get("a")).longValue()
+                    );
+                })
+                .toList();
+        return snapshot(((Number) body.get("c")).longValue(), running);
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime fromEpochMillis(Object millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(((Number) millis).longValue()), ZoneId.systemDefault());
+    }
+
+    byte[] cached(TimerWireFormat format) {
+        return encoded[format.ordinal()];
+    }
+
+    void cache(TimerWireFormat format, byte[] bytes) {
+        encoded[format.ordinal()] = bytes;
+    }
+}
@@ -0,0 +1,51 @@
+package targeter.aim.domain.challenge.timer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * {@link TimerFrame} 을 세션별 전송 형식으로 직렬화한다.
+ * JSON / COMPACT 는 STOMP 메시지 컨버터와 같은 애플리케이션 ObjectMapper 를 써서 기존 응답과 같은 직렬화 규칙을 따른다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TimerFrameCodec {
+
+    private final ObjectMapper objectMapper;
+    private final CBORMapper cborMapper = new CBORMapper();
+
+    private static final TypeReference<Map<String, Object>> COMPACT_BODY = new TypeReference<>() {};
+
+    public byte[] encode(TimerFrame frame, TimerWireFormat format) {
+        byte[] bytes = frame.cached(format);
+        if (bytes == null) {
+            try {
+                bytes = switch (format) {
+                    case JSON -> objectMapper.writeValueAsBytes(frame.toLegacy());
+                    case COMPACT -> objectMapper.writeValueAsBytes(frame.toCompact());
+                    case CBOR -> cborMapper.writeValueAsBytes(frame.toCompact());
+                };
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("타이머 프레임을 " + format + " 형식으로 변환하지 못했습니다.", e);
+            }
+            frame.cache(format, bytes);
+        }
+        return bytes;
+    }
+
+    // relay 모드: 외부 브로커를 거쳐 돌아온 COMPACT 바이트를 다시 프레임으로
+    public TimerFrame decodeRelayed(byte[] bytes) {
+        try {
+            return TimerFrame.fromCompact(objectMapper.readValue(bytes, COMPACT_BODY));
+        } catch (IOException e) {
+            throw new IllegalStateException("중계된 타이머 프레임을 읽지 못했습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package targeter.aim.domain.challenge.timer;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+
+/**
+ * clientOutboundChannel 에서 {@link TimerFrame} 페이로드를 받는 세션의 형식으로 바꿔 끼운다.
+ * 바이너리 형식(CBOR)은 octet-stream 으로 표시해 StompSubProtocolHandler 가 BinaryMessage 로 보내게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TimerFrameOutboundInterceptor implements ChannelInterceptor {
+
+    private final TimerSessionContextRegistry contextRegistry;
+    private final TimerFrameCodec codec;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        TimerFrame frame;
+        SimpMessageHeaderAccessor accessor;
+
+        if (message.getPayload() instanceof TimerFrame local) {
+            frame = local;
+            accessor = SimpMessageHeaderAccessor.wrap(message);
+        } else if (message.getPayload() instanceof byte[] bytes && isRelayed(message)) {
+            // relay 모드: 모든 노드가 같은 COMPACT 바이트를 받으므로 세션 형식에 맞게 다시 인코딩
+            frame = codec.decodeRelayed(bytes);
+            accessor = SimpMessageHeaderAccessor.wrap(message);
+            accessor.removeNativeHeader(TimerFrame.RELAY_HEADER);
+        } else {
+            return message;
+        }
+
+        TimerWireFormat format = contextRegistry.wireFormatOf(accessor.getSessionId());
+
+        accessor.setContentType(format.contentType());
+        if (format.binary()) {
+            accessor.setNativeHeader(TimerWireFormat.HEADER, format.name());
+        }
+        return MessageBuilder.createMessage(codec.encode(frame, format), accessor.getMessageHeaders());
+    }
+
+    private boolean isRelayed(Message<?> message) {
+        return SimpMessageHeaderAccessor.getFirstNativeHeader(TimerFrame.RELAY_HEADER, message.getHeaders()) != null;
+    }
+}
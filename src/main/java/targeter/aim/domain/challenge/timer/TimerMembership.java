@@ -0,0 +1,65 @@
+package targeter.aim.domain.challenge.timer;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 타이머 프레임 처리에 필요한 (유저, 챌린지) 참가 정보.
+ * 챌린지 시작일/기간과 주차별 WeeklyProgress id, 완료 여부, 누적 시간(조회 시점)을 들고 있어 프레임마다 DB 를 조회하지 않는다.
+ */
+@Getter
+public class TimerMembership {
+
+    private final Long challengeId;
+    private final LocalDate startedAt;
+    private final int durationWeek;
+    private final Map<Integer, Long> progressIdByWeek;
+    private final Map<Integer, Integer> elapsedSecondsByWeek;
+    private final Set<Integer> completedWeeks = ConcurrentHashMap.newKeySet();
+
+    public TimerMembership(
+            Long challengeId,
+            LocalDate startedAt,
+            int durationWeek,
+            Map<Integer, Long> progressIdByWeek,
+            Map<Integer, Integer> elapsedSecondsByWeek
+    ) {
+        this.challengeId = challengeId;
+        this.startedAt = startedAt;
+        this.durationWeek = durationWeek;
+        this.progressIdByWeek = Map.copyOf(progressIdByWeek);
+        this.elapsedSecondsByWeek = Map.copyOf(elapsedSecondsByWeek);
+    }
+
+    public int currentWeek(LocalDate today) {
+        long days = ChronoUnit.DAYS.between(startedAt, today);
+        int week = (int) (days / 7) + 1;
+
+        if (week < 1) {
+            return 1;
+        }
+        return Math.min(week, durationWeek);
+    }
+
+    public Long progressIdOf(int weekNumber) {
+        return progressIdByWeek.get(weekNumber);
+    }
+
+    // 주차에 이미 쌓여 있던 시간. 주차는 STOP 한 번으로 완료되므로 세션 시작 전 값은 바뀌지 않는다
+    public int elapsedSecondsOf(int weekNumber) {
+        return elapsedSecondsByWeek.getOrDefault(weekNumber, 0);
+    }
+
+    public boolean isComplete(int weekNumber) {
+        return completedWeeks.contains(weekNumber);
+    }
+
+    public void markComplete(int weekNumber) {
+        completedWeeks.add(weekNumber);
+    }
+}
@@ -0,0 +1,242 @@
+package targeter.aim.domain.challenge.timer;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import targeter.aim.system.configuration.timer.TimerProperties;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * 실행 중인 타이머 세션의 노드 소유권.
+ * 세션은 START 를 받은 노드의 메모리(세션 테이블 / 저널 / 마감)에만 있고, 다른 노드는 CLAIM 으로 누가 들고 있는지만 안다.
+ * 다른 노드 소유 세션에 대한 STOP / HEARTBEAT 는 클러스터 버스로 소유 노드에 넘긴다. 그래서 sticky session 이 필요 없다.
+ *
+ * 노드는 heartbeat-interval 마다 ALIVE 를 보낸다. node-timeout 동안 아무 메시지도 보내지 않은 노드는 죽은 것으로 보고,
+ * 남은 노드 중 nodeId 가 가장 작은 노드가 그 노드의 세션을 원래 시작 시각으로 이어받아 다시 CLAIM 한다.
+ * 같은 세션을 두 노드가 들고 있게 되면 (죽은 줄 알았던 노드가 돌아온 경우 등) nodeId 가 작은 쪽만 남긴다.
+ * 원격 CLAIM 은 최대 세션 길이가 지나면 무시한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TimerOwnershipRegistry {
+
+    private final TimerClusterBus clusterBus;
+    private final ChallengeRunningSessionManager sessionManager;
+    private final TimerDeadlineScheduler deadlineScheduler;
+    private final TimerProperties timerProperties;
+
+    // challengeId -> (userId -> 원격 소유 정보)
+    private final ConcurrentHashMap<Long, ConcurrentHashMap<Long, RemoteClaim>> remoteClaims = new ConcurrentHashMap<>();
+    // nodeId -> 마지막으로 메시지를 받은 시각 (System.nanoTime)
+    private final ConcurrentHashMap<String, Long> lastSeen = new ConcurrentHashMap<>();
+    private volatile BiConsumer<Long, Long> remoteStopHandler = (challengeId, userId) -> {};
+
+    private record RemoteClaim(String nodeId, long startedAtMillis, long baseSeconds, long expiresAtNanos) {}
+
+    @PostConstruct
+    public void init() {
+        clusterBus.subscribe(this::onMessage);
+    }
+
+    // 다른 노드가 넘긴 STOP 을 처리할 핸들러 (challengeId, userId)
+    public void onRemoteStop(BiConsumer<Long, Long> handler) {
+        this.remoteStopHandler = handler;
+    }
+
+    // 기동 시 저널에서 복구한 세션을 알리고, 다른 노드의 소유 정보를 요청
+    @EventListener(ApplicationReadyEvent.class)
+    public void announce() {
+        claimAllLocal();
+        publish(TimerClusterMessage.Type.SYNC, 0, 0, 0, 0);
+    }
+
+    public void claim(Long challengeId, Long userId, LocalDateTime startedAt, long weekBaseSeconds) {
+        publish(TimerClusterMessage.Type.CLAIM, challengeId, userId,
+                startedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(), weekBaseSeconds);
+    }
+
+    public void release(Long challengeId, Long userId) {
+        publish(TimerClusterMessage.Type.RELEASE, challengeId, userId, 0, 0);
+    }
+
+    // 생존 알림을 보내고, 소식이 끊긴 노드의 세션을 넘겨받는다
+    @Scheduled(
+            initialDelayString = "#{@timerProperties.cluster.heartbeatInterval.toMillis()}",
+            fixedDelayString = "#{@timerProperties.cluster.heartbeatInterval.toMillis()}"
+    )
+    public void heartbeat() {
+        publish(TimerClusterMessage.Type.ALIVE, 0, 0, 0, 0);
+        takeOverDeadNodes(System.nanoTime());
+    }
+
+    void takeOverDeadNodes(long nowNanos) {
+        long timeoutNanos = timerProperties.getCluster().getNodeTimeout().toNanos();
+
+        List<String> dead = new ArrayList<>();
+        lastSeen.forEach((nodeId, seenAt) -> {
+            if (nowNanos - seenAt > timeoutNanos && lastSeen.remove(nodeId, seenAt)) {
+                dead.add(nodeId);
+            }
+        });
+        if (dead.isEmpty()) return;
+
+        // 살아 있는 노드 모두가 같은 규칙으로 고르므로 한 노드만 넘겨받는다. 나머지는 그 노드의 CLAIM 으로 소유자가 바뀐다
+        String self = clusterBus.nodeId();
+        boolean successor = lastSeen.keySet().stream().allMatch(nodeId -> self.compareTo(nodeId) < 0);
+        log.warn("[TimerCluster] 응답 없는 노드 {} (이어받기: {})", dead, successor ? "이 노드" : "다른 노드");
+        if (!successor) return;
+
+        remoteClaims.forEach((challengeId, claims) -> claims.forEach((userId, claim) -> {
+            if (dead.contains(claim.nodeId()) && claims.remove(userId, claim)) {
+                adopt(challengeId, userId, claim);
+            }
+        }));
+        remoteClaims.values().removeIf(Map::isEmpty);
+    }
+
+    private void adopt(long challengeId, long userId, RemoteClaim claim) {
+        long startNanos = sessionManager.adopt(challengeId, userId, claim.startedAtMillis(), claim.baseSeconds());
+        if (startNanos != RunningSessionTable.NO_VALUE) {
+            deadlineScheduler.schedule(challengeId, userId, startNanos);
+            log.info("[TimerCluster] 세션 이어받음 challenge={} user={} from={}", challengeId, userId, claim.nodeId());
+        }
+        publish(TimerClusterMessage.Type.CLAIM, challengeId, userId, claim.startedAtMillis(), claim.baseSeconds());
+    }
+
+    public boolean isOwnedElsewhere(Long challengeId, Long userId) {
+        return remoteClaim(challengeId, userId) != null;
+    }
+
+    /**
+     * 이 노드에 없는 세션이면 소유 노드로 요청을 넘긴다.
+     *
+     * @return 넘겼으면 true
+     */
+    public boolean forwardIfRemote(TimerClusterMessage.Type action, Long challengeId, Long userId) {
+        if (sessionManager.isRunning(challengeId, userId) || !isOwnedElsewhere(challengeId, userId)) {
+            return false;
+        }
+        publish(action, challengeId, userId, 0, 0);
+        return true;
+    }
+
+    // 다른 노드에서 실행 중인 방의 세션 (방 스냅샷용)
+    public List<ChallengeRunningSessionManager.ActiveSession> remoteSessionsOf(Long challengeId) {
+        Map<Long, RemoteClaim> claims = remoteClaims.get(challengeId);
+        if (claims == null) return List.of();
+
+        long nowMillis = System.currentTimeMillis();
+        long nowNanos = System.nanoTime();
+        List<ChallengeRunningSessionManager.ActiveSession> result = new ArrayList<>(claims.size());
+        claims.forEach((userId, claim) -> {
+            if (claim.expiresAtNanos() - nowNanos > 0) {
+                long elapsed = TimeUnit.MILLISECONDS.toSeconds(nowMillis - claim.startedAtMillis());
+                result.add(new ChallengeRunningSessionManager.ActiveSession(
+                        userId,
+                        LocalDateTime.ofInstant(Instant.ofEpochMilli(claim.startedAtMillis()), ZoneId.systemDefault()),
+                        elapsed,
+                        claim.baseSeconds() + elapsed
+                ));
+            }
+        });
+        return result;
+    }
+
+    private void onMessage(TimerClusterMessage message) {
+        long challengeId = message.challengeId();
+        long userId = message.userId();
+        lastSeen.put(message.nodeId(), System.nanoTime());
+
+        switch (message.type()) {
+            case CLAIM -> {
+                if (sessionManager.isRunning(challengeId, userId) && !yieldTo(message)) {
+                    return;
+                }
+                long remaining = TimeUnit.MILLISECONDS.toNanos(message.startedAtMillis() - System.currentTimeMillis())
+                        + timerProperties.getReaper().getMaxSessionLength().toNanos();
+                remoteClaims.computeIfAbsent(challengeId, id -> new ConcurrentHashMap<>())
+                        .put(userId, new RemoteClaim(
+                                message.nodeId(), message.startedAtMillis(), message.baseSeconds(), System.nanoTime() + remaining
+                        ));
+            }
+            case RELEASE -> remoteClaims.computeIfPresent(challengeId, (id, claims) -> {
+                claims.computeIfPresent(userId, (u, claim) -> claim.nodeId().equals(message.nodeId()) ? null : claim);
+                return claims.isEmpty() ? null : claims;
+            });
+            case STOP -> {
+                if (sessionManager.isRunning(challengeId, userId)) {
+                    remoteStopHandler.accept(challengeId, userId);
+                }
+            }
+            case HEARTBEAT -> {
+                if (sessionManager.isRunning(challengeId, userId)) {
+                    deadlineScheduler.touch(challengeId, userId);
+                }
+            }
+            case SYNC -> claimAllLocal();
+            case EVICT, ALIVE -> {}
+        }
+    }
+
+    /**
+     * 이 노드도 들고 있는 세션을 다른 노드가 CLAIM 했을 때. nodeId 가 작은 쪽이 남는다.
+     *
+     * @return 이 노드가 세션을 내려놓았으면 true
+     */
+    private boolean yieldTo(TimerClusterMessage message) {
+        long challengeId = message.challengeId();
+        long userId = message.userId();
+
+        if (message.nodeId().compareTo(clusterBus.nodeId()) > 0) {
+            // 상대가 내려놓도록 다시 알린다
+            publish(TimerClusterMessage.Type.CLAIM, challengeId, userId,
+                    sessionManager.startedAtMillisOf(challengeId, userId), sessionManager.baseSecondsOf(challengeId, userId));
+            return false;
+        }
+
+        deadlineScheduler.cancel(challengeId, userId);
+        try {
+            sessionManager.stop(challengeId, userId);
+        } catch (IllegalStateException e) {
+            // 그 사이 정지됨
+        }
+        log.info("[TimerCluster] 중복 세션 정리 challenge={} user={} owner={}", challengeId, userId, message.nodeId());
+        return true;
+    }
+
+    private RemoteClaim remoteClaim(Long challengeId, Long userId) {
+        Map<Long, RemoteClaim> claims = remoteClaims.get(challengeId);
+        if (claims == null) return null;
+
+        RemoteClaim claim = claims.get(userId);
+        if (claim == null || claim.expiresAtNanos() - System.nanoTime() <= 0) {
+            return null;
+        }
+        return claim;
+    }
+
+    private void claimAllLocal() {
+        for (ChallengeSessionJournal.OpenSession session : sessionManager.openSessions()) {
+            publish(TimerClusterMessage.Type.CLAIM, session.challengeId(), session.userId(), session.startedAtMillis(),
+                    sessionManager.baseSecondsOf(session.challengeId(), session.userId()));
+        }
+    }
+
+    private void publish(TimerClusterMessage.Type type, long challengeId, long userId, long startedAtMillis, long baseSeconds) {
+        clusterBus.publish(new TimerClusterMessage(type, clusterBus.nodeId(), challengeId, userId, startedAtMillis, baseSeconds));
+    }
+}
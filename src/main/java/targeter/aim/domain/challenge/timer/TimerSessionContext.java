@@ -0,0 +1,43 @@
+package targeter.aim.domain.challenge.timer;
+
+import lombok.Getter;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * STOMP 연결 하나에 묶이는 타이머 컨텍스트.
+ * CONNECT 시 인증된 유저 id, 협상된 전송 형식과, 해당 연결에서 사용한 챌린지별 참가 정보를 보관한다.
+ */
+@Getter
+public class TimerSessionContext {
+
+    private final String sessionId;
+    private final Long userId;
+    private final TimerWireFormat wireFormat;
+
+    private final ConcurrentHashMap<Long, TimerMembership> memberships = new ConcurrentHashMap<>();
+
+    public TimerSessionContext(String sessionId, Long userId, TimerWireFormat wireFormat) {
+        this.sessionId = sessionId;
+        this.userId = userId;
+        this.wireFormat = wireFormat;
+    }
+
+    // 연결 없이 서버가 직접 타이머를 다룰 때(자동 정지 등) 쓰는 컨텍스트
+    public static TimerSessionContext detached(Long userId) {
+        return new TimerSessionContext(null, userId, TimerWireFormat.JSON);
+    }
+
+    TimerMembership membership(Long challengeId, Function<Long, TimerMembership> loader) {
+        return memberships.computeIfAbsent(challengeId, loader);
+    }
+
+    TimerMembership cachedMembership(Long challengeId) {
+        return memberships.get(challengeId);
+    }
+
+    void evict(Long challengeId) {
+        memberships.remove(challengeId);
+    }
+}
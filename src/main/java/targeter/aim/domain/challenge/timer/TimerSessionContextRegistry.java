@@ -0,0 +1,212 @@
+package targeter.aim.domain.challenge.timer;
+
+import com.querydsl.core.Tuple;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import targeter.aim.domain.challenge.event.ChallengeMembershipChangedEvent;
+import targeter.aim.domain.challenge.event.ChallengeSettledEvent;
+import targeter.aim.domain.challenge.event.ChallengeUpdatedEvent;
+import targeter.aim.domain.challenge.event.TimerUserDisconnectedEvent;
+import targeter.aim.domain.challenge.event.TimerWeekCompletedEvent;
+import targeter.aim.domain.challenge.repository.ChallengeRepository;
+import targeter.aim.domain.challenge.repository.WeeklyProgressQueryRepository;
+import targeter.aim.system.exception.model.ErrorCode;
+import targeter.aim.system.exception.model.RestException;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static targeter.aim.domain.challenge.entity.QChallenge.challenge;
+import static targeter.aim.domain.challenge.entity.QWeeklyProgress.weeklyProgress;
+
+/**
+ * STOMP 세션별 타이머 컨텍스트 저장소.
+ * CONNECT 에서 생성되고 DISCONNECT 에서 제거되며, 참가 정보는 챌린지별 첫 프레임에서 한 번만 조회한다.
+ * 멤버 구성/정산/챌린지 수정 이벤트가 커밋되면 해당 챌린지의 캐시를 비운다. (다른 노드에는 ClusterEventRelay 가 같은 이벤트를 전달)
+ * 주차 완료는 유저 단위라 클러스터 버스의 EVICT 로 다른 노드의 그 유저 캐시만 비운다.
+ * 유저의 마지막 연결이 닫히면 {@link TimerUserDisconnectedEvent} 를 발행한다. (어느 연결에서 시작했는지와 무관하게 유저 단위)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TimerSessionContextRegistry {
+
+    private final WeeklyProgressQueryRepository weeklyProgressQueryRepository;
+    private final ChallengeRepository challengeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TimerClusterBus clusterBus;
+
+    private final ConcurrentHashMap<String, TimerSessionContext> contexts = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Set<TimerSessionContext>> contextsByUser = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        clusterBus.subscribe(this::onClusterMessage);
+    }
+
+    /**
+     * 유저의 연결 수가 maxConnections 미만일 때만 컨텍스트를 만든다. (0 이하면 무제한)
+     * 개수 확인과 등록을 유저 키 하나의 compute 로 묶으므로 동시에 들어온 CONNECT 가 함께 상한을 넘지 못한다.
+     *
+     * @return 상한에 걸리면 null
+     */
+    public TimerSessionContext open(String sessionId, Long userId, TimerWireFormat wireFormat, int maxConnections) {
+        TimerSessionContext context = new TimerSessionContext(sessionId, userId, wireFormat);
+
+        boolean[] admitted = { false };
+        contextsByUser.compute(userId, (id, set) -> {
+            Set<TimerSessionContext> target = set == null ? ConcurrentHashMap.newKeySet() : set;
+            if (maxConnections <= 0 || target.size() < maxConnections) {
+                admitted[0] = target.add(context);
+            }
+            return target.isEmpty() ? null : target;
+        });
+        if (!admitted[0]) return null;
+
+        contexts.put(sessionId, context);
+        return context;
+    }
+
+    public TimerSessionContext get(String sessionId) {
+        return contexts.get(sessionId);
+    }
+
+    // 유저의 현재 STOMP 연결 수
+    public int connectionCount(Long userId) {
+        Set<TimerSessionContext> userContexts = contextsByUser.get(userId);
+        return userContexts == null ? 0 : userContexts.size();
+    }
+
+    public TimerWireFormat wireFormatOf(String sessionId) {
+        TimerSessionContext context = sessionId == null ? null : contexts.get(sessionId);
+        return context == null ? TimerWireFormat.JSON : context.getWireFormat();
+    }
+
+    public void close(String sessionId) {
+        TimerSessionContext context = contexts.remove(sessionId);
+        if (context == null) return;
+
+        boolean[] lastConnection = { false };
+        contextsByUser.computeIfPresent(context.getUserId(), (id, set) -> {
+            set.remove(context);
+            lastConnection[0] = set.isEmpty();
+            return lastConnection[0] ? null : set;
+        });
+
+        if (lastConnection[0]) {
+            eventPublisher.publishEvent(new TimerUserDisconnectedEvent(context.getUserId()));
+        }
+    }
+
+    public TimerMembership membership(TimerSessionContext context, Long challengeId) {
+        return context.membership(challengeId, id -> load(id, context.getUserId()));
+    }
+
+    // 같은 유저의 다른 연결(다른 탭/기기)에도 주차 완료를 반영
+    public void markWeekComplete(Long userId, Long challengeId, int weekNumber) {
+        Set<TimerSessionContext> userContexts = contextsByUser.get(userId);
+        if (userContexts == null) return;
+
+        for (TimerSessionContext context : userContexts) {
+            TimerMembership membership = context.cachedMembership(challengeId);
+            if (membership != null) {
+                membership.markComplete(weekNumber);
+            }
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        close(event.getSessionId());
+    }
+
+    // 다른 노드의 연결은 완료 주차를 DB 에서 다시 읽도록 캐시만 비운다
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWeekCompleted(TimerWeekCompletedEvent event) {
+        markWeekComplete(event.userId(), event.challengeId(), event.weekNumber());
+        publishEvict(event.challengeId(), event.userId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipChanged(ChallengeMembershipChangedEvent event) {
+        evictChallenge(event.challengeId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSettled(ChallengeSettledEvent event) {
+        evictChallenge(event.challengeId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUpdated(ChallengeUpdatedEvent event) {
+        evictChallenge(event.challengeId());
+    }
+
+    private void onClusterMessage(TimerClusterMessage message) {
+        if (message.type() == TimerClusterMessage.Type.EVICT) {
+            evictUser(message.challengeId(), message.userId());
+        }
+    }
+
+    private void evictChallenge(Long challengeId) {
+        for (TimerSessionContext context : contexts.values()) {
+            context.evict(challengeId);
+        }
+    }
+
+    private void evictUser(Long challengeId, Long userId) {
+        Set<TimerSessionContext> userContexts = contextsByUser.get(userId);
+        if (userContexts == null) return;
+
+        for (TimerSessionContext context : userContexts) {
+            context.evict(challengeId);
+        }
+    }
+
+    private void publishEvict(Long challengeId, Long userId) {
+        clusterBus.publish(new TimerClusterMessage(
+                TimerClusterMessage.Type.EVICT, clusterBus.nodeId(), challengeId, userId, 0L, 0L
+        ));
+    }
+
+    private TimerMembership load(Long challengeId, Long userId) {
+        List<Tuple> rows = weeklyProgressQueryRepository.timerSlotRows(challengeId, userId);
+
+        if (rows.isEmpty()) {
+            if (!challengeRepository.existsById(challengeId)) {
+                throw new RestException(ErrorCode.CHALLENGE_NOT_FOUND);
+            }
+            throw new IllegalStateException("챌린지 참가자가 아닙니다.");
+        }
+
+        Tuple first = rows.get(0);
+        LocalDate startedAt = first.get(challenge.startedAt);
+        Integer durationWeek = first.get(challenge.durationWeek);
+
+        Map<Integer, Long> progressIdByWeek = new HashMap<>();
+        Map<Integer, Integer> elapsedSecondsByWeek = new HashMap<>();
+        for (Tuple row : rows) {
+            progressIdByWeek.put(row.get(weeklyProgress.weekNumber), row.get(weeklyProgress.id));
+            elapsedSecondsByWeek.put(row.get(weeklyProgress.weekNumber), row.get(weeklyProgress.elapsedTimeSeconds));
+        }
+
+        TimerMembership membership =
+                new TimerMembership(challengeId, startedAt, durationWeek, progressIdByWeek, elapsedSecondsByWeek);
+        for (Tuple row : rows) {
+            if (Boolean.TRUE.equals(row.get(weeklyProgress.isComplete))) {
+                membership.markComplete(row.get(weeklyProgress.weekNumber));
+            }
+        }
+        return membership;
+    }
+}
@@ -0,0 +1,6 @@
+package targeter.aim.domain.challenge.timer;
+
+/**
+ * 세션 단위(challengeId, userId) 맵 키. id 범위 제한 없이 두 값을 그대로 비교한다.
+ */
+record TimerSessionKey(long challengeId, long userId) {}
@@ -0,0 +1,51 @@
+package targeter.aim.domain.challenge.timer;
+
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * 타이머 프레임 전송 형식. CONNECT 의 {@code timer-format} 헤더로 연결마다 고른다.
+ * <ul>
+ *     <li>JSON: 기존 {@code TimerUpdateResponse} 형태 (기본값)</li>
+ *     <li>COMPACT: 짧은 키 + epoch millis JSON</li>
+ *     <li>CBOR: COMPACT 와 같은 구조를 CBOR 로 인코딩</li>
+ * </ul>
+ * STOMP 는 content-type 이 application/octet-stream 호환일 때만 바이너리 WebSocket 메시지로 보내므로
+ * CBOR 은 octet-stream 으로 내보내고, 본문 형식은 MESSAGE 프레임의 {@code timer-format} 헤더로 알린다.
+ */
+public enum TimerWireFormat {
+
+    JSON(MimeTypeUtils.APPLICATION_JSON, false),
+    COMPACT(MimeTypeUtils.APPLICATION_JSON, false),
+    CBOR(MimeTypeUtils.APPLICATION_OCTET_STREAM, true);
+
+    public static final String HEADER = "timer-format";
+
+    private final MimeType contentType;
+    private final boolean binary;
+
+    TimerWireFormat(MimeType contentType, boolean binary) {
+        this.contentType = contentType;
+        this.binary = binary;
+    }
+
+    public MimeType contentType() {
+        return contentType;
+    }
+
+    // 바이너리 프레임은 content-type 만으로 본문 형식을 알 수 없어 timer-format 헤더를 붙인다
+    public boolean binary() {
+        return binary;
+    }
+
+    // 알 수 없는 값이면 기존 형식으로 응답
+    public static TimerWireFormat from(String header) {
+        if (header == null) return JSON;
+        for (TimerWireFormat format : values()) {
+            if (format.name().equalsIgnoreCase(header.trim())) {
+                return format;
+            }
+        }
+        return JSON;
+    }
+}
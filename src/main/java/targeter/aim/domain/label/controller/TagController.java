@@ -0,0 +1,36 @@
+package targeter.aim.domain.label.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import targeter.aim.domain.label.dto.TagDto;
+import targeter.aim.domain.label.service.TagService;
+import targeter.aim.system.security.annotation.NoJwtAuth;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/tags")
+@Tag(name = "Tag", description = "태그 관련 API")
+public class TagController {
+
+    private final TagService tagService;
+
+    @NoJwtAuth
+    @GetMapping("/suggest")
+    @Operation(
+            summary = "태그 자동완성",
+            description = "입력 중인 키워드로 시작하는 태그를 사용 수 순으로 최대 10개 돌려줍니다. 한글은 자모 단위로 비교하므로 \"개바\" 도 \"개발\" 에 맞습니다."
+    )
+    public List<TagDto.TagSuggestResponse> suggest(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return tagService.suggest(keyword, size);
+    }
+}
@@ -26,4 +26,20 @@ public class TagDto {
                     .build();
         }
     }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "태그 자동완성 응답")
+    public static class TagSuggestResponse {
+        @Schema(description = "태그 아이디", example = "1")
+        private Long id;
+
+        @Schema(description = "태그명", example = "개발")
+        private String name;
+
+        @Schema(description = "사용 수 (챌린지 + 게시글 + 관심 태그)", example = "12")
+        private long usageCount;
+    }
 }
@@ -0,0 +1,5 @@
+package targeter.aim.domain.label.event;
+
+// 새 태그가 만들어졌을 때 발행
+public record TagCreatedEvent(Long tagId, String name) {
+}
@@ -7,6 +7,7 @@ import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import targeter.aim.domain.label.entity.Field;
+import targeter.aim.domain.label.registry.FieldRegistry;
 import targeter.aim.domain.label.repository.FieldRepository;
 
 import java.util.Arrays;
@@ -19,6 +20,7 @@ import java.util.List;
 public class FieldInitializer implements CommandLineRunner {
 
     private final FieldRepository fieldRepository;
+    private final FieldRegistry fieldRegistry;
 
     @Override
     @Transactional
@@ -26,6 +28,7 @@ public class FieldInitializer implements CommandLineRunner {
         // 중복 생성 방지
         if(fieldRepository.count() > 0) {
             log.info("[FieldInitializer] 분야 정보가 이미 있으므로 초기화 건너뜀.");
+            fieldRegistry.load();
             return;
         }
 
@@ -46,5 +49,7 @@ public class FieldInitializer implements CommandLineRunner {
 
         fieldRepository.saveAll(fields);
         log.info("[FieldInitializer] 분야 정보 초기화 완료. (size: {})", fields.size());
+
+        fieldRegistry.load();
     }
 }
@@ -0,0 +1,74 @@
+package targeter.aim.domain.label.registry;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import targeter.aim.domain.label.entity.Field;
+import targeter.aim.domain.label.repository.FieldRepository;
+
+import java.util.*;
+
+/**
+ * 분야 참조 데이터. FieldInitializer 가 시드를 넣은 뒤 한 번 읽어 불변 스냅샷(name -> id, id -> name)으로 들고 있는다.
+ * 연관관계에 넣을 엔티티는 {@link #references(Collection)} 로 프록시만 만든다 (SELECT 없음).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FieldRegistry {
+
+    private final FieldRepository fieldRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile Snapshot snapshot;
+
+    private record Snapshot(Map<String, Long> idByName, Map<Long, String> nameById) {}
+
+    public synchronized void load() {
+        Map<String, Long> idByName = new HashMap<>();
+        Map<Long, String> nameById = new HashMap<>();
+
+        for (Field field : fieldRepository.findAll()) {
+            idByName.put(field.getName(), field.getId());
+            nameById.put(field.getId(), field.getName());
+        }
+
+        snapshot = new Snapshot(Map.copyOf(idByName), Map.copyOf(nameById));
+        log.info("[FieldRegistry] 분야 {}개 적재", idByName.size());
+    }
+
+    public Optional<Long> idOf(String name) {
+        return Optional.ofNullable(snapshot().idByName().get(name));
+    }
+
+    public Optional<String> nameOf(Long id) {
+        return Optional.ofNullable(snapshot().nameById().get(id));
+    }
+
+    // 존재하는 이름만 입력 순서대로 (없는 이름은 건너뜀)
+    public Set<Field> references(Collection<String> names) {
+        Map<String, Long> idByName = snapshot().idByName();
+
+        Set<Field> result = new LinkedHashSet<>();
+        for (String name : names) {
+            Long id = idByName.get(name);
+            if (id != null) {
+                result.add(entityManager.getReference(Field.class, id));
+            }
+        }
+        return result;
+    }
+
+    private Snapshot snapshot() {
+        Snapshot s = snapshot;
+        if (s == null) {
+            load();
+            s = snapshot;
+        }
+        return s;
+    }
+}
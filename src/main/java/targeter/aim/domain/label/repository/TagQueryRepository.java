@@ -0,0 +1,64 @@
+package targeter.aim.domain.label.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static targeter.aim.domain.challenge.entity.QChallenge.challenge;
+import static targeter.aim.domain.label.entity.QTag.tag;
+import static targeter.aim.domain.post.entity.QPost.post;
+import static targeter.aim.domain.user.entity.QUser.user;
+
+/**
+ * 태그 자동완성 적재용 조회. 태그 이름과 사용 수(챌린지 + 게시글 + 유저 관심 태그 매핑 수)만 가져온다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TagQueryRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    public record TagUsage(Long id, String name, long usage) {}
+
+    public List<TagUsage> loadUsages() {
+        Map<Long, Long> usage = new HashMap<>();
+        addCounts(usage, queryFactory
+                .select(tag.id, challenge.count())
+                .from(challenge)
+                .join(challenge.tags, tag)
+                .groupBy(tag.id)
+                .fetch());
+        addCounts(usage, queryFactory
+                .select(tag.id, post.count())
+                .from(post)
+                .join(post.tags, tag)
+                .groupBy(tag.id)
+                .fetch());
+        addCounts(usage, queryFactory
+                .select(tag.id, user.count())
+                .from(user)
+                .join(user.tags, tag)
+                .groupBy(tag.id)
+                .fetch());
+
+        return queryFactory
+                .select(tag.id, tag.name)
+                .from(tag)
+                .fetch()
+                .stream()
+                .map(row -> new TagUsage(row.get(tag.id), row.get(tag.name), usage.getOrDefault(row.get(tag.id), 0L)))
+                .toList();
+    }
+
+    private void addCounts(Map<Long, Long> usage, List<Tuple> rows) {
+        for (Tuple row : rows) {
+            Number count = row.get(1, Number.class);
+            usage.merge(row.get(0, Long.class), count == null ? 0L : count.longValue(), Long::sum);
+        }
+    }
+}
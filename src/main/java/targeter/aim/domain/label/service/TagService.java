@@ -1,10 +1,14 @@
 package targeter.aim.domain.label.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import targeter.aim.domain.label.dto.TagDto;
 import targeter.aim.domain.label.entity.Tag;
+import targeter.aim.domain.label.event.TagCreatedEvent;
 import targeter.aim.domain.label.repository.TagRepository;
+import targeter.aim.domain.label.suggest.TagSuggester;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -14,6 +18,8 @@ import java.util.stream.Collectors;
 public class TagService {
 
     private final TagRepository tagRepository;
+    private final TagSuggester tagSuggester;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final int MAX = 3;
 
@@ -32,12 +38,18 @@ public class TagService {
             Tag tag = foundMap.get(n);
             if (tag == null) {
                 tag = tagRepository.save(Tag.builder().name(n).build());
+                eventPublisher.publishEvent(new TagCreatedEvent(tag.getId(), tag.getName()));
             }
             result.add(tag);
         }
         return result;
     }
 
+    // 자동완성은 메모리 트라이에서만 찾는다 (DB 조회 없음)
+    public List<TagDto.TagSuggestResponse> suggest(String keyword, int size) {
+        return tagSuggester.suggest(keyword, size);
+    }
+
     private List<String> normalize(List<String> names) {
         if (names == null) return List.of();
         return names.stream()
@@ -0,0 +1,152 @@
+package targeter.aim.domain.label.suggest;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import targeter.aim.domain.label.dto.TagDto;
+import targeter.aim.domain.label.event.TagCreatedEvent;
+import targeter.aim.domain.label.repository.TagQueryRepository;
+import targeter.aim.system.configuration.label.TagSuggestProperties;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 태그 자동완성.
+ * 기동 시 전체 태그와 사용 수로 {@link TagTrie} 를 만들고, 이후 새로 만들어진 태그는 트라이를 다시 만들지 않고 작은 목록(delta)에 쌓아 함께 찾는다.
+ * delta 가 deltaRebuildThreshold 만큼 쌓이거나 rebuildInterval 이 지나면 트라이를 새로 만들어 교체한다 (사용 수도 이때 갱신).
+ * 구축은 전용 스레드 하나에서만 하므로 스케줄러 스레드를 잡고 있지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagSuggester {
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private final TagQueryRepository tagQueryRepository;
+    private final TagSuggestProperties properties;
+
+    private volatile TagTrie trie;
+
+    private record Pending(long sequence, String key, TagTrie.Entry entry) {}
+
+    private final CopyOnWriteArrayList<Pending> pending = new CopyOnWriteArrayList<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("tag-suggest-build").daemon().factory()
+    );
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (!properties.isEnabled()) return;
+        rebuildAsync();
+    }
+
+    // 기동 시 구축이 실패했어도 다음 주기에 다시 만든다
+    @Scheduled(
+            initialDelayString = "#{@tagSuggestProperties.rebuildInterval.toMillis()}",
+            fixedDelayString = "#{@tagSuggestProperties.rebuildInterval.toMillis()}"
+    )
+    public void scheduledRebuild() {
+        if (!properties.isEnabled()) return;
+        rebuildAsync();
+    }
+
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) return;
+
+        try {
+            long start = System.currentTimeMillis();
+            // 적재 전에 도착한 새 태그는 DB 에서 함께 읽히므로 교체 후 delta 에서 뺀다
+            long loadedUpTo = sequence.get();
+
+            List<TagTrie.Entry> entries = tagQueryRepository.loadUsages().stream()
+                    .map(row -> new TagTrie.Entry(row.id(), row.name(), row.usage()))
+                    .toList();
+            trie = TagTrie.build(entries, MAX_SUGGESTIONS);
+            pending.removeIf(p -> p.sequence() <= loadedUpTo);
+
+            log.info("[TagSuggester] 태그 {}개 적재 ({}ms)", entries.size(), System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            log.warn("[TagSuggester] 태그 트라이 구축 실패: {}", e.getMessage());
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    // 트라이가 아직 없으면 delta 만으로 찾는다
+    public List<TagDto.TagSuggestResponse> suggest(String keyword, int limit) {
+        if (!properties.isEnabled() || keyword == null) return List.of();
+
+        int size = Math.max(1, Math.min(limit, MAX_SUGGESTIONS));
+        String key = HangulJamo.decompose(keyword);
+
+        TagTrie current = trie;
+        List<TagTrie.Entry> hits = new ArrayList<>(current == null ? List.of() : current.search(key, size));
+
+        boolean fromPending = false;
+        for (Pending p : pending) {
+            if (p.key().startsWith(key)) {
+                hits.add(p.entry());
+                fromPending = true;
+            }
+        }
+
+        if (fromPending) {
+            // 재구축 도중 만들어진 태그는 양쪽에 있을 수 있으므로 id 로 한 번만
+            hits.sort(TagTrie.RANK);
+            Map<Long, TagTrie.Entry> unique = new LinkedHashMap<>();
+            hits.forEach(entry -> unique.putIfAbsent(entry.id(), entry));
+            hits = new ArrayList<>(unique.values());
+        }
+
+        return hits.stream()
+                .limit(size)
+                .map(entry -> new TagDto.TagSuggestResponse(entry.id(), entry.name(), entry.usage()))
+                .toList();
+    }
+
+    // 새 태그는 만들어지면서 바로 한 곳에 붙으므로 사용 수 1 로 둔다
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTagCreated(TagCreatedEvent event) {
+        if (!properties.isEnabled()) return;
+
+        TagTrie.Entry entry = new TagTrie.Entry(event.tagId(), event.name(), 1L);
+        pending.add(new Pending(sequence.incrementAndGet(), HangulJamo.decompose(event.name()), entry));
+
+        if (pending.size() >= Math.max(properties.getDeltaRebuildThreshold(), 1)) {
+            rebuildAsync();
+        }
+    }
+
+    // 이미 대기 중인 재구축이 있으면 합친다
+    private void rebuildAsync() {
+        if (rebuildQueued.compareAndSet(false, true)) {
+            rebuildExecutor.execute(() -> {
+                rebuildQueued.set(false);
+                rebuild();
+            });
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdown();
+    }
+}
@@ -0,0 +1,150 @@
+package targeter.aim.domain.label.suggest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 태그 자동완성용 불변 접두어 트라이.
+ * 키는 {@link HangulJamo#decompose(String)} 로 푼 태그 이름이고, 노드는 BFS 순서로 평행 배열에 놓여 자식이 연속 구간이다.
+ * 노드마다 하위 태그 중 순위가 높은 topK 개를 미리 담아 두므로 조회는 접두어 길이 + topK 에 비례한다.
+ */
+final class TagTrie {
+
+    record Entry(Long id, String name, long usage) {}
+
+    // 사용 수 많은 순, 같으면 짧은 이름, 이름순
+    static final Comparator<Entry> RANK = Comparator.comparingLong(Entry::usage).reversed()
+            .thenComparingInt(entry -> entry.name().length())
+            .thenComparing(Entry::name);
+
+    private final Entry[] tags;         // RANK 순서. 배열 위치가 곧 순위
+    private final char[] labels;        // 노드로 들어오는 간선 문자 (루트는 비움)
+    private final int[] firstChild;
+    private final int[] childCount;     // 자식은 firstChild 부터 childCount 개, labels 오름차순
+    private final int[] topOffset;      // 노드 n 의 상위 태그는 topTags[topOffset[n] .. topOffset[n + 1])
+    private final int[] topTags;
+
+    private TagTrie(Entry[] tags, char[] labels, int[] firstChild, int[] childCount, int[] topOffset, int[] topTags) {
+        this.tags = tags;
+        this.labels = labels;
+        this.firstChild = firstChild;
+        this.childCount = childCount;
+        this.topOffset = topOffset;
+        this.topTags = topTags;
+    }
+
+    static TagTrie build(List<Entry> entries, int topK) {
+        Entry[] tags = entries.toArray(Entry[]::new);
+        Arrays.sort(tags, RANK);
+
+        int n = tags.length;
+        String[] keys = new String[n];
+        int capacity = 1;
+        for (int i = 0; i < n; i++) {
+            keys[i] = HangulJamo.decompose(tags[i].name());
+            capacity += keys[i].length();
+        }
+
+        // 키 사전순으로 늘어놓으면 한 노드의 하위 태그가 연속 구간이 된다
+        Integer[] boxed = new Integer[n];
+        for (int i = 0; i < n; i++) boxed[i] = i;
+        Arrays.sort(boxed, Comparator.comparing((Integer i) -> keys[i]).thenComparingInt(i -> i));
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) order[i] = boxed[i];
+
+        char[] labels = new char[capacity];
+        int[] firstChild = new int[capacity];
+        int[] childCount = new int[capacity];
+        int[] lo = new int[capacity];
+        int[] hi = new int[capacity];
+        int[] depth = new int[capacity];
+        int[] topOffset = new int[capacity + 1];
+        // 노드별 min(topK, 하위 태그 수) 의 합은 (키 길이 + 1) 의 합을 넘지 않는다
+        int[] topTags = new int[capacity + n];
+        int[] buffer = new int[n];
+
+        hi[0] = n;
+        int nodeCount = 1;
+        int topCount = 0;
+
+        // 노드는 번호 순으로 처리되며, 처리하는 순간 자식 번호를 이어 붙인다 (BFS)
+        for (int node = 0; node < nodeCount; node++) {
+            int from = lo[node];
+            int to = hi[node];
+            int d = depth[node];
+
+            int size = to - from;
+            System.arraycopy(order, from, buffer, 0, size);
+            Arrays.sort(buffer, 0, size);
+            int take = Math.min(size, topK);
+            topOffset[node] = topCount;
+            System.arraycopy(buffer, 0, topTags, topCount, take);
+            topCount += take;
+
+            // 이 노드에서 끝나는 키는 구간 맨 앞에 모여 있다
+            int p = from;
+            while (p < to && keys[order[p]].length() == d) p++;
+
+            firstChild[node] = nodeCount;
+            while (p < to) {
+                char label = keys[order[p]].charAt(d);
+                int groupEnd = p + 1;
+                while (groupEnd < to && keys[order[groupEnd]].charAt(d) == label) groupEnd++;
+
+                labels[nodeCount] = label;
+                lo[nodeCount] = p;
+                hi[nodeCount] = groupEnd;
+                depth[nodeCount] = d + 1;
+                nodeCount++;
+                childCount[node]++;
+                p = groupEnd;
+            }
+        }
+        topOffset[nodeCount] = topCount;
+
+        return new TagTrie(
+                tags,
+                Arrays.copyOf(labels, nodeCount),
+                Arrays.copyOf(firstChild, nodeCount),
+                Arrays.copyOf(childCount, nodeCount),
+                Arrays.copyOf(topOffset, nodeCount + 1),
+                Arrays.copyOf(topTags, topCount)
+        );
+    }
+
+    // key 는 이미 decompose 된 접두어. 결과는 RANK 순
+    List<Entry> search(String key, int limit) {
+        int node = 0;
+        for (int i = 0; i < key.length(); i++) {
+            node = child(node, key.charAt(i));
+            if (node < 0) return List.of();
+        }
+
+        int from = topOffset[node];
+        int to = Math.min(topOffset[node + 1], from + limit);
+        List<Entry> result = new ArrayList<>(Math.max(to - from, 0));
+        for (int i = from; i < to; i++) {
+            result.add(tags[topTags[i]]);
+        }
+        return result;
+    }
+
+    int size() {
+        return tags.length;
+    }
+
+    private int child(int node, char label) {
+        int low = firstChild[node];
+        int high = low + childCount[node] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char c = labels[mid];
+            if (c < label) low = mid + 1;
+            else if (c > label) high = mid - 1;
+            else return mid;
+        }
+        return -1;
+    }
+}
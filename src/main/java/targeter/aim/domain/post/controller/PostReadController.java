@@ -16,6 +16,8 @@ import targeter.aim.system.security.model.UserDetails;
 
 import java.util.List;
 
+import static targeter.aim.system.paging.PageCountCache.COUNT_DESCRIPTION;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/posts")
@@ -33,9 +35,10 @@ public class PostReadController {
     public PostDto.VSRecruitPageResponse getVsRecruits(
             @ModelAttribute @ParameterObject PostDto.ListSearchCondition condition,
             @PageableDefault(size = 16) @ParameterObject Pageable pageable,
+            @Parameter(description = COUNT_DESCRIPTION) @RequestParam(name = "count", defaultValue = "true") boolean count,
             @AuthenticationPrincipal UserDetails userDetails
     ) {
-        return postService.getVsRecruits(condition, userDetails, pageable);
+        return postService.getVsRecruits(condition, userDetails, pageable, count);
     }
 
     @NoJwtAuth
@@ -60,9 +63,10 @@ public class PostReadController {
     public PostDto.PostPageResponse getQnaPosts(
             @ModelAttribute @ParameterObject PostDto.ListSearchCondition condition,
             @PageableDefault(size = 16) @ParameterObject Pageable pageable,
+            @Parameter(description = COUNT_DESCRIPTION) @RequestParam(name = "count", defaultValue = "true") boolean count,
             @AuthenticationPrincipal UserDetails userDetails
     ) {
-        return postService.getQnaPosts(condition, userDetails, pageable);
+        return postService.getQnaPosts(condition, userDetails, pageable, count);
     }
 
     @NoJwtAuth
@@ -87,9 +91,10 @@ public class PostReadController {
     public PostDto.PostPageResponse getReviewPosts(
             @ModelAttribute @ParameterObject PostDto.ListSearchCondition condition,
             @PageableDefault(size = 16) @ParameterObject Pageable pageable,
+            @Parameter(description = COUNT_DESCRIPTION) @RequestParam(name = "count", defaultValue = "true") boolean count,
             @AuthenticationPrincipal UserDetails userDetails
     ) {
-        return postService.getReviewPosts(condition, userDetails, pageable);
+        return postService.getReviewPosts(condition, userDetails, pageable, count);
     }
 
     @NoJwtAuth
@@ -134,9 +139,10 @@ public class PostReadController {
     public PostDto.HotPostPageResponse getHotSoloPosts(
             @ModelAttribute @ParameterObject PostDto.ListSearchCondition condition,
             @PageableDefault(size = 8) @ParameterObject Pageable pageable,
+            @Parameter(description = COUNT_DESCRIPTION) @RequestParam(name = "count", defaultValue = "true") boolean count,
             @AuthenticationPrincipal UserDetails userDetails
     ) {
-        return postService.getHotSoloPosts(condition, userDetails, pageable);
+        return postService.getHotSoloPosts(condition, userDetails, pageable, count);
     }
 
     @NoJwtAuth
@@ -148,9 +154,10 @@ public class PostReadController {
     public PostDto.HotPostPageResponse getHotVsPosts(
             @ModelAttribute @ParameterObject PostDto.ListSearchCondition condition,
             @PageableDefault(size = 8) @ParameterObject Pageable pageable,
+            @Parameter(description = COUNT_DESCRIPTION) @RequestParam(name = "count", defaultValue = "true") boolean count,
             @AuthenticationPrincipal UserDetails userDetails
     ) {
-        return postService.getHotVsPosts(condition, userDetails, pageable);
+        return postService.getHotVsPosts(condition, userDetails, pageable, count);
     }
 
     @GetMapping("/me")
@@ -161,12 +168,14 @@ public class PostReadController {
     public PostDto.PostPageResponse getMyPosts(
             @ModelAttribute @ParameterObject PostDto.ListSearchCondition condition,
             @PageableDefault(size = 16) @ParameterObject Pageable pageable,
+            @Parameter(description = COUNT_DESCRIPTION) @RequestParam(name = "count", defaultValue = "true") boolean count,
             @AuthenticationPrincipal UserDetails userDetails
     ) {
         return postService.getMyPosts(
                 condition,
                 userDetails,
-                pageable
+                pageable,
+                count
         );
     }
 
@@ -178,12 +187,14 @@ public class PostReadController {
     public PostDto.PostPageResponse getMyLikedPosts(
             @ModelAttribute @ParameterObject PostDto.ListSearchCondition condition,
             @PageableDefault(size = 16) @ParameterObject Pageable pageable,
+            @Parameter(description = COUNT_DESCRIPTION) @RequestParam(name = "count", defaultValue = "true") boolean count,
             @AuthenticationPrincipal UserDetails userDetails
     ) {
         return postService.getMyLikedPosts(
                 condition,
                 userDetails,
-                pageable
+                pageable,
+                count
         );
     }
 
@@ -197,8 +208,9 @@ public class PostReadController {
             @RequestParam(required = false) String keyword,
             @RequestParam(defaultValue = "LATEST") PostDto.PostSortType sort,
             @PageableDefault(size = 16) @ParameterObject Pageable pageable,
+            @Parameter(description = COUNT_DESCRIPTION) @RequestParam(name = "count", defaultValue = "true") boolean count,
             @AuthenticationPrincipal UserDetails userDetails
     ) {
-        return postService.searchPosts(keyword, sort, pageable, userDetails);
+        return postService.searchPosts(keyword, sort, pageable, count, userDetails);
     }
 }
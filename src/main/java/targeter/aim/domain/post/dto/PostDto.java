@@ -3,6 +3,7 @@ package targeter.aim.domain.post.dto;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.web.multipart.MultipartFile;
 import targeter.aim.domain.challenge.dto.ChallengeDto;
 import targeter.aim.domain.challenge.entity.Challenge;
@@ -86,9 +87,22 @@ public class PostDto {
 
         private int number;
 
-        private long totalElements;
+        @Schema(description = "전체 개수 (count=false 요청이면 null)", example = "120")
+        private Long totalElements;
 
-        private int totalPages;
+        @Schema(description = "전체 페이지 수 (count=false 요청이면 null)", example = "8")
+        private Integer totalPages;
+
+        @Schema(description = "다음 페이지 존재 여부", example = "true")
+        private boolean hasNext;
+
+        // count=false 로 받은 Slice 는 전체 개수 없이 hasNext 만 채운다
+        public static PageInfo from(Slice<?> slice) {
+            if (slice instanceof Page<?> page) {
+                return new PageInfo(page.getSize(), page.getNumber(), page.getTotalElements(), page.getTotalPages(), page.hasNext());
+            }
+            return new PageInfo(slice.getSize(), slice.getNumber(), null, null, slice.hasNext());
+        }
     }
 
     @Data
@@ -169,15 +183,10 @@ public class PostDto {
         private List<VSRecruitListResponse> content;
         private PageInfo page;
 
-        public static VSRecruitPageResponse from(Page<VSRecruitListResponse> page) {
+        public static VSRecruitPageResponse from(Slice<VSRecruitListResponse> page) {
             return new VSRecruitPageResponse(
                     page.getContent(),
-                    new PageInfo(
-                            page.getSize(),
-                            page.getNumber(),
-                            page.getTotalElements(),
-                            page.getTotalPages()
-                    )
+                    PageInfo.from(page)
             );
         }
     }
@@ -248,15 +257,10 @@ public class PostDto {
         private List<PostListResponse> content;
         private PageInfo page;
 
-        public static PostPageResponse from(Page<PostListResponse> page) {
+        public static PostPageResponse from(Slice<PostListResponse> page) {
             return new PostPageResponse(
                     page.getContent(),
-                    new PageInfo(
-                            page.getSize(),
-                            page.getNumber(),
-                            page.getTotalElements(),
-                            page.getTotalPages()
-                    )
+                    PageInfo.from(page)
             );
         }
     }
@@ -311,15 +315,10 @@ public class PostDto {
         private List<HotPostListResponse> content;
         private PageInfo page;
 
-        public static HotPostPageResponse from(Page<HotPostListResponse> page) {
+        public static HotPostPageResponse from(Slice<HotPostListResponse> page) {
             return new HotPostPageResponse(
                     page.getContent(),
-                    new PageInfo(
-                            page.getSize(),
-                            page.getNumber(),
-                            page.getTotalElements(),
-                            page.getTotalPages()
-                    )
+                    PageInfo.from(page)
             );
         }
     }
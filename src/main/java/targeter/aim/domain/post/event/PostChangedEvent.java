@@ -0,0 +1,5 @@
+package targeter.aim.domain.post.event;
+
+// 게시글이 생성 / 수정 / 삭제되었을 때 발행
+public record PostChangedEvent(Long postId) {
+}
@@ -0,0 +1,5 @@
+package targeter.aim.domain.post.event;
+
+// 게시글 좋아요가 추가 / 취소되었을 때 발행
+public record PostLikeToggledEvent(Long postId, Long userId) {
+}
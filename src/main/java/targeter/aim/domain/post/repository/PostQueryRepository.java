@@ -9,9 +9,8 @@ import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Repository;
 import targeter.aim.domain.challenge.entity.ChallengeMode;
 import targeter.aim.domain.file.dto.FileDto;
@@ -25,6 +24,7 @@ import targeter.aim.domain.post.entity.PostType;
 import targeter.aim.domain.post.entity.QPost;
 import targeter.aim.domain.user.dto.TierDto;
 import targeter.aim.domain.user.entity.User;
+import targeter.aim.system.paging.PageCountCache;
 import targeter.aim.system.security.model.UserDetails;
 
 import java.time.LocalDateTime;
@@ -43,10 +43,12 @@ import static targeter.aim.domain.post.entity.QPostLiked.postLiked;
 public class PostQueryRepository {
 
     private final JPAQueryFactory queryFactory;
+    private final PageCountCache pageCountCache;
 
-    public Page<PostDto.VSRecruitListResponse> paginateByType(
+    public Slice<PostDto.VSRecruitListResponse> paginateByType(
             UserDetails userDetails,
             Pageable pageable,
+            boolean withCount,
             PostDto.PostSortType sortType
     ) {
         JPAQuery<Tuple> query = buildBaseQuery(userDetails, null);
@@ -55,21 +57,23 @@ public class PostQueryRepository {
         List<Tuple> tuples = query
                 .leftJoin(post.challenge).fetchJoin()
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .limit(pageCountCache.fetchSize(pageable, withCount))
                 .fetch();
 
-        Long total = buildCountQuery(null).fetchOne();
-
-        return new PageImpl<>(
+        return pageCountCache.page(
                 enrichDetails(tuples),
                 pageable,
-                total == null ? 0 : total
+                withCount,
+                PageCountCache.Scope.POST,
+                () -> buildCountQuery(null).fetchOne(),
+                "vsRecruit", null
         );
     }
     // 분야 필터링
-    public Page<PostDto.VSRecruitListResponse> paginateByTypeAndKeyword(
+    public Slice<PostDto.VSRecruitListResponse> paginateByTypeAndKeyword(
             UserDetails userDetails,
             Pageable pageable,
+            boolean withCount,
             PostDto.PostSortType sortType,
             String keyword
     ) {
@@ -78,15 +82,16 @@ public class PostQueryRepository {
 
         List<Tuple> tuples = query
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .limit(pageCountCache.fetchSize(pageable, withCount))
                 .fetch();
 
-        Long total = buildCountQuery(keyword).fetchOne();
-
-        return new PageImpl<>(
+        return pageCountCache.page(
                 enrichDetails(tuples),
                 pageable,
-                total == null ? 0 : total
+                withCount,
+                PageCountCache.Scope.POST,
+                () -> buildCountQuery(keyword).fetchOne(),
+                "vsRecruit", PageCountCache.keyword(keyword)
         );
     }
 
@@ -138,9 +143,10 @@ public class PostQueryRepository {
         return query;
     }
 
-    public Page<PostDto.PostListResponse> paginateSearchAllByKeyword(
+    public Slice<PostDto.PostListResponse> paginateSearchAllByKeyword(
             UserDetails userDetails,
             Pageable pageable,
+            boolean withCount,
             PostDto.PostSortType sortType,
             String keyword
     ) {
@@ -149,15 +155,16 @@ public class PostQueryRepository {
 
         List<Tuple> tuples = query
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .limit(pageCountCache.fetchSize(pageable, withCount))
                 .fetch();
 
-        Long total = buildCountSearchAllQuery(keyword).fetchOne();
-
-        return new PageImpl<>(
+        return pageCountCache.page(
                 enrichPostListDetails(tuples),
                 pageable,
-                total == null ? 0 : total
+                withCount,
+                PageCountCache.Scope.POST,
+                () -> buildCountSearchAllQuery(keyword).fetchOne(),
+                "searchAll", PageCountCache.keyword(keyword)
         );
     }
 
@@ -405,9 +412,10 @@ public class PostQueryRepository {
                 .toList();
     }
     // HOT 게시글(SOLO/VS) 페이지네이션 조회
-    public Page<PostDto.HotPostListResponse> paginateHotPosts(
+    public Slice<PostDto.HotPostListResponse> paginateHotPosts(
             UserDetails userDetails,
             Pageable pageable,
+            boolean withCount,
             PostDto.PostSortType sortType,
             ChallengeMode mode
     ) {
@@ -449,23 +457,25 @@ public class PostQueryRepository {
 
         List<Tuple> tuples = query
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .limit(pageCountCache.fetchSize(pageable, withCount))
                 .fetch();
 
-        Long total = queryFactory
-                .select(post.countDistinct())
-                .from(post)
-                .where(
-                        post.type.in(PostType.Q_AND_A, PostType.REVIEW),
-                        post.createdAt.goe(threeMonthsAgo),
-                        post.challenge.mode.eq(mode)
-                )
-                .fetchOne();
-
-        return new PageImpl<>(
+        // 3개월 기준 시각은 매번 달라지지만 캐시 TTL 이 짧아 차이는 무시한다
+        return pageCountCache.page(
                 enrichHotDetails(tuples),
                 pageable,
-                total == null ? 0 : total
+                withCount,
+                PageCountCache.Scope.POST,
+                () -> queryFactory
+                        .select(post.countDistinct())
+                        .from(post)
+                        .where(
+                                post.type.in(PostType.Q_AND_A, PostType.REVIEW),
+                                post.createdAt.goe(threeMonthsAgo),
+                                post.challenge.mode.eq(mode)
+                        )
+                        .fetchOne(),
+                "hot", mode
         );
     }
 
@@ -532,9 +542,10 @@ public class PostQueryRepository {
                 .build();
     }
     // Qna, Review 게시글 목록 조회
-    public Page<PostDto.PostListResponse> paginateQnaAndReview(
+    public Slice<PostDto.PostListResponse> paginateQnaAndReview(
             UserDetails userDetails,
             Pageable pageable,
+            boolean withCount,
             PostType type,
             PostDto.PostSortType sortType,
             String keyword,
@@ -551,19 +562,16 @@ public class PostQueryRepository {
 
         List<Tuple> tuples = query
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .limit(pageCountCache.fetchSize(pageable, withCount))
                 .fetch();
 
-        Long total = buildCountQueryForQnaAndReview(
-                type,
-                keyword,
-                mode
-        ).fetchOne();
-
-        return new PageImpl<>(
+        return pageCountCache.page(
                 enrichPostListDetails(tuples),
                 pageable,
-                total == null ? 0 : total
+                withCount,
+                PageCountCache.Scope.POST,
+                () -> buildCountQueryForQnaAndReview(type, keyword, mode).fetchOne(),
+                "qnaAndReview", type, PageCountCache.keyword(keyword), mode
         );
     }
 
@@ -681,9 +689,10 @@ public class PostQueryRepository {
                 .build();
     }
     // 내가 쓴 게시글 목록 조회
-    public Page<PostDto.PostListResponse> paginateMyPosts(
+    public Slice<PostDto.PostListResponse> paginateMyPosts(
             UserDetails userDetails,
             Pageable pageable,
+            boolean withCount,
             PostDto.PostSortType sortType,
             String keyword,
             List<PostType> types
@@ -698,19 +707,16 @@ public class PostQueryRepository {
 
         List<Tuple> tuples = query
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .limit(pageCountCache.fetchSize(pageable, withCount))
                 .fetch();
 
-        Long total = buildCountQueryForMyPosts(
-                userDetails,
-                keyword,
-                types
-        ).fetchOne();
-
-        return new PageImpl<>(
+        return pageCountCache.page(
                 enrichPostListDetails(tuples),
                 pageable,
-                total == null ? 0 : total
+                withCount,
+                PageCountCache.Scope.POST,
+                () -> buildCountQueryForMyPosts(userDetails, keyword, types).fetchOne(),
+                "myPosts", PageCountCache.keyword(keyword), types, PageCountCache.viewer(userDetails)
         );
     }
 
@@ -770,9 +776,10 @@ public class PostQueryRepository {
         return query;
     }
     // 내가 좋아요 누른 게시글 목록 조회
-    public Page<PostDto.PostListResponse> paginateLikedPosts(
+    public Slice<PostDto.PostListResponse> paginateLikedPosts(
             UserDetails userDetails,
             Pageable pageable,
+            boolean withCount,
             PostDto.PostSortType sortType,
             String keyword,
             List<PostType> types
@@ -787,19 +794,17 @@ public class PostQueryRepository {
 
         List<Tuple> tuples = query
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .limit(pageCountCache.fetchSize(pageable, withCount))
                 .fetch();
 
-        Long total = buildCountQueryForLikedPosts(
-                userDetails,
-                keyword,
-                types
-        ).fetchOne();
-
-        return new PageImpl<>(
+        return pageCountCache.pageLiked(
                 enrichPostListDetails(tuples),
                 pageable,
-                total == null ? 0 : total
+                withCount,
+                PageCountCache.Scope.POST,
+                userDetails.getUser().getId(),
+                () -> buildCountQueryForLikedPosts(userDetails, keyword, types).fetchOne(),
+                "likedPosts", PageCountCache.keyword(keyword), types
         );
     }
 
@@ -1,11 +1,13 @@
 package targeter.aim.domain.post.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import targeter.aim.domain.post.dto.PostLikedDto;
 import targeter.aim.domain.post.entity.Post;
 import targeter.aim.domain.post.entity.PostLiked;
+import targeter.aim.domain.post.event.PostLikeToggledEvent;
 import targeter.aim.domain.post.repository.PostLikedRepository;
 import targeter.aim.domain.post.repository.PostRepository;
 import targeter.aim.domain.user.entity.User;
@@ -21,6 +23,7 @@ public class PostLikedService {
     private final PostLikedRepository postLikedRepository;
     private final UserRepository userRepository;
     private final PostRepository postRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public PostLikedDto.PostLikedResponse togglePostLikes(Long postId, UserDetails userDetails) {
@@ -33,6 +36,8 @@ public class PostLikedService {
 
         boolean exists = postLikedRepository.existsByPostAndUser(post, user);
 
+        eventPublisher.publishEvent(new PostLikeToggledEvent(post.getId(), user.getId()));
+
         if(exists) {
             postLikedRepository.deleteByPostAndUser(post, user);
             post.subtractLikedCount();
@@ -1,8 +1,8 @@
 package targeter.aim.domain.post.service;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import targeter.aim.domain.challenge.entity.ChallengeMode;
@@ -31,20 +31,21 @@ public class PostReadService {
     public PostDto.VSRecruitPageResponse getVsRecruits(
             PostDto.ListSearchCondition condition,
             UserDetails userDetails,
-            Pageable pageable
+            Pageable pageable,
+            boolean withCount
     ) {
         PostDto.PostSortType sortType = condition.getSort();
         String keyword = normalizeKeyword(condition.getKeyword());
 
-        Page<PostDto.VSRecruitListResponse> page;
+        Slice<PostDto.VSRecruitListResponse> page;
 
         if (keyword != null) {
             page = postQueryRepository.paginateByTypeAndKeyword(
-                    userDetails, pageable, sortType, keyword
+                    userDetails, pageable, withCount, sortType, keyword
             );
         } else {
             page = postQueryRepository.paginateByType(
-                    userDetails, pageable, sortType
+                    userDetails, pageable, withCount, sortType
             );
         }
 
@@ -54,13 +55,15 @@ public class PostReadService {
     public PostDto.HotPostPageResponse getHotSoloPosts(
             PostDto.ListSearchCondition condition,
             UserDetails userDetails,
-            Pageable pageable
+            Pageable pageable,
+            boolean withCount
     ) {
         PostDto.PostSortType sortType = condition.getSort();
 
-        Page<PostDto.HotPostListResponse> page = postQueryRepository.paginateHotPosts(
+        Slice<PostDto.HotPostListResponse> page = postQueryRepository.paginateHotPosts(
                 userDetails,
                 pageable,
+                withCount,
                 sortType,
                 ChallengeMode.SOLO
         );
@@ -71,13 +74,15 @@ public class PostReadService {
     public PostDto.HotPostPageResponse getHotVsPosts(
             PostDto.ListSearchCondition condition,
             UserDetails userDetails,
-            Pageable pageable
+            Pageable pageable,
+            boolean withCount
     ) {
         PostDto.PostSortType sortType = condition.getSort();
 
-        Page<PostDto.HotPostListResponse> page = postQueryRepository.paginateHotPosts(
+        Slice<PostDto.HotPostListResponse> page = postQueryRepository.paginateHotPosts(
                 userDetails,
                 pageable,
+                withCount,
                 sortType,
                 ChallengeMode.VS
         );
@@ -142,12 +147,14 @@ public class PostReadService {
     public PostDto.PostPageResponse getQnaPosts(
             PostDto.ListSearchCondition condition,
             UserDetails userDetails,
-            Pageable pageable
+            Pageable pageable,
+            boolean withCount
     ) {
         return getQnaAndReviewPosts(
                 condition,
                 userDetails,
                 pageable,
+                withCount,
                 PostType.Q_AND_A
         );
     }
@@ -155,12 +162,14 @@ public class PostReadService {
     public PostDto.PostPageResponse getReviewPosts(
             PostDto.ListSearchCondition condition,
             UserDetails userDetails,
-            Pageable pageable
+            Pageable pageable,
+            boolean withCount
     ) {
         return getQnaAndReviewPosts(
                 condition,
                 userDetails,
                 pageable,
+                withCount,
                 PostType.REVIEW
         );
     }
@@ -169,6 +178,7 @@ public class PostReadService {
             PostDto.ListSearchCondition condition,
             UserDetails userDetails,
             Pageable pageable,
+            boolean withCount,
             PostType postType
     ) {
         PostDto.PostSortType sortType = condition.getSort();
@@ -176,10 +186,11 @@ public class PostReadService {
         String keyword = normalizeKeyword(condition.getKeyword());
         ChallengeMode mode = parseFilterType(filterType);
 
-        Page<PostDto.PostListResponse> page =
+        Slice<PostDto.PostListResponse> page =
                 postQueryRepository.paginateQnaAndReview(
                         userDetails,
                         pageable,
+                        withCount,
                         postType,
                         sortType,
                         keyword,
@@ -204,7 +215,8 @@ public class PostReadService {
     public PostDto.PostPageResponse getMyPosts(
             PostDto.ListSearchCondition condition,
             UserDetails userDetails,
-            Pageable pageable
+            Pageable pageable,
+            boolean withCount
     ) {
         if (userDetails == null) {
             throw new RestException(ErrorCode.AUTH_LOGIN_REQUIRED);
@@ -224,10 +236,11 @@ public class PostReadService {
             };
         }
 
-        Page<PostDto.PostListResponse> page =
+        Slice<PostDto.PostListResponse> page =
                 postQueryRepository.paginateMyPosts(
                         userDetails,
                         pageable,
+                        withCount,
                         sortType,
                         keyword,
                         types
@@ -239,7 +252,8 @@ public class PostReadService {
     public PostDto.PostPageResponse getMyLikedPosts(
             PostDto.ListSearchCondition condition,
             UserDetails userDetails,
-            Pageable pageable
+            Pageable pageable,
+            boolean withCount
     ) {
         if (userDetails == null) {
             throw new RestException(ErrorCode.AUTH_LOGIN_REQUIRED);
@@ -260,10 +274,11 @@ public class PostReadService {
             };
         }
 
-        Page<PostDto.PostListResponse> page =
+        Slice<PostDto.PostListResponse> page =
                 postQueryRepository.paginateLikedPosts(
                         userDetails,
                         pageable,
+                        withCount,
                         sortType,
                         keyword,
                         types
@@ -276,12 +291,13 @@ public class PostReadService {
             String keyword,
             PostDto.PostSortType sort,
             Pageable pageable,
+            boolean withCount,
             UserDetails userDetails
     ) {
         String k = normalizeKeyword(keyword);
 
-        Page<PostDto.PostListResponse> page =
-                postQueryRepository.paginateSearchAllByKeyword(userDetails, pageable, sort, k);
+        Slice<PostDto.PostListResponse> page =
+                postQueryRepository.paginateSearchAllByKeyword(userDetails, pageable, withCount, sort, k);
 
         return PostDto.PostPageResponse.from(page);
     }
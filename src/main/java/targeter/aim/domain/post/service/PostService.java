@@ -1,6 +1,7 @@
 package targeter.aim.domain.post.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -15,11 +16,12 @@ import targeter.aim.domain.file.entity.PostImage;
 import targeter.aim.domain.file.handler.FileHandler;
 import targeter.aim.domain.label.entity.Field;
 import targeter.aim.domain.label.entity.Tag;
-import targeter.aim.domain.label.repository.FieldRepository;
+import targeter.aim.domain.label.registry.FieldRegistry;
 import targeter.aim.domain.label.repository.TagRepository;
 import targeter.aim.domain.label.service.FieldService;
 import targeter.aim.domain.label.service.TagService;
 import targeter.aim.domain.post.dto.PostDto;
+import targeter.aim.domain.post.event.PostChangedEvent;
 import targeter.aim.domain.post.repository.*;
 import targeter.aim.domain.post.entity.Post;
 import targeter.aim.domain.post.entity.PostType;
@@ -40,12 +42,13 @@ public class PostService {
     private final PostRepository postRepository;
     private final ChallengeRepository challengeRepository;
     private final TagRepository tagRepository;
-    private final FieldRepository fieldRepository;
+    private final FieldRegistry fieldRegistry;
     private final PostLikedRepository postLikedRepository;
 
     private final TagService tagService;
     private final FieldService fieldService;
     private final FileHandler fileHandler;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public PostDto.PostIdResponse createChallengePost(
@@ -81,6 +84,7 @@ public class PostService {
         updatePostLabels(saved, request.getTags(), request.getFields());
 
         postRepository.save(saved);
+        eventPublisher.publishEvent(new PostChangedEvent(saved.getId()));
 
         return PostDto.PostIdResponse.from(saved);
     }
@@ -120,6 +124,7 @@ public class PostService {
 
         updatePostLabels(saved, request.getTags(), request.getFields());
         postRepository.save(saved);
+        eventPublisher.publishEvent(new PostChangedEvent(saved.getId()));
 
         return PostDto.CreatePostResponse.from(saved);
     }
@@ -150,6 +155,7 @@ public class PostService {
 
         updatePostLabels(saved, request.getTags(), request.getFields());
         postRepository.save(saved);
+        eventPublisher.publishEvent(new PostChangedEvent(saved.getId()));
 
         return PostDto.CreatePostResponse.from(saved);
     }
@@ -200,9 +206,7 @@ public class PostService {
             List<String> trimFieldNames = fieldNames.stream()
                     .map(String::trim)
                     .collect(Collectors.toList());
-            List<Field> existFields = fieldRepository.findAllByNameIn(trimFieldNames);
-
-            post.setFields(new HashSet<>(existFields));
+            post.setFields(new HashSet<>(fieldRegistry.references(trimFieldNames)));
         }
     }
 
@@ -266,6 +270,8 @@ public class PostService {
             post.setThumbnail(newImage);
         }
 
+        eventPublisher.publishEvent(new PostChangedEvent(post.getId()));
+
         return PostDto.PostIdResponse.from(post);
     }
 
@@ -285,5 +291,7 @@ public class PostService {
 
         postLikedRepository.deleteByPost(post);
         postRepository.delete(post);
+
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
     }
 }
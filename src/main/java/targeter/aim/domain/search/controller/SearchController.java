@@ -1,6 +1,7 @@
 package targeter.aim.domain.search.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
@@ -15,6 +16,8 @@ import targeter.aim.domain.search.service.SearchService;
 import targeter.aim.system.security.annotation.NoJwtAuth;
 import targeter.aim.system.security.model.UserDetails;
 
+import static targeter.aim.system.paging.PageCountCache.COUNT_DESCRIPTION;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/search")
@@ -32,8 +35,24 @@ public class SearchController {
     public SearchDto.SearchPageResponse search(
             @ModelAttribute @ParameterObject SearchDto.ListSearchCondition condition,
             @PageableDefault(size = 16) @ParameterObject Pageable pageable,
+            @Parameter(description = COUNT_DESCRIPTION) @RequestParam(name = "count", defaultValue = "true") boolean count,
+            @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        return searchService.getSearchList(condition, userDetails, pageable, count);
+    }
+
+    @NoJwtAuth
+    @GetMapping("/feed")
+    @Operation(
+            summary = "통합 검색 (커서)",
+            description = "통합 검색을 커서 기반으로 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 넘기면 이어서 조회합니다. "
+                    + "커서는 같은 정렬 / 키워드로만 이어 쓸 수 있으며, 다르면 400 을 반환합니다."
+    )
+    public SearchDto.SearchCursorResponse searchFeed(
+            @ModelAttribute @ParameterObject SearchDto.ListSearchCondition condition,
+            @RequestParam(defaultValue = "16") int size,
             @AuthenticationPrincipal UserDetails userDetails
     ) {
-        return searchService.getSearchList(condition, userDetails, pageable);
+        return searchService.getSearchFeed(condition, userDetails, size);
     }
-}
\ No newline at end of file
+}
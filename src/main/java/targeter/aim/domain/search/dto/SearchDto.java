@@ -2,7 +2,7 @@ package targeter.aim.domain.search.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import targeter.aim.domain.challenge.dto.ChallengeDto;
 import targeter.aim.domain.challenge.entity.ChallengeMode;
 import targeter.aim.domain.file.dto.FileDto;
@@ -39,13 +39,16 @@ public class SearchDto {
 
         @Schema(description = "검색 키워드 (제목 기준 포함 검색)", example = "개발")
         private String keyword;
+
+        @Schema(description = "다음 페이지 커서 (/api/search/feed 전용, 첫 페이지는 비움)")
+        private String cursor;
     }
 
     public enum SortType {
         LATEST,        // 최신순
         OLDEST,        // 오래된순
         LIKED,         // 좋아요순
-        TITLE          // 가나다순
+        TITLE          // 가나다순 (챌린지와 게시글이 섞이는 순서는 DB collation 의 근사)
     }
 
     public enum Type {
@@ -168,16 +171,25 @@ public class SearchDto {
         private List<SearchListResponse> content;
         private PostDto.PageInfo page;
 
-        public static SearchPageResponse from(Page<SearchListResponse> page) {
+        public static SearchPageResponse from(Slice<SearchListResponse> page) {
             return new SearchPageResponse(
                     page.getContent(),
-                    new PostDto.PageInfo(
-                            page.getSize(),
-                            page.getNumber(),
-                            page.getTotalElements(),
-                            page.getTotalPages()
-                    )
+                    PostDto.PageInfo.from(page)
             );
         }
     }
-}
\ No newline at end of file
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Schema(description = "커서 기반 통합 검색 응답")
+    public static class SearchCursorResponse {
+        private List<SearchListResponse> content;
+
+        @Schema(description = "다음 페이지 요청에 그대로 넘길 커서 (마지막 페이지면 null)")
+        private String nextCursor;
+
+        @Schema(description = "다음 페이지 존재 여부", example = "true")
+        private boolean hasNext;
+    }
+}
@@ -0,0 +1,49 @@
+package targeter.aim.domain.search.index;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * 색인 대상 문서 하나. 제목 / 태그 / 분야를 정규화(소문자)한 문자열로 들고 있으며,
+ * restricted 문서(비공개 챌린지)는 allowedUserIds 에 든 유저에게만 보인다.
+ * 검색 결과를 메모리에서 정렬 / 페이징할 수 있도록 원래 제목, 작성 시각, 좋아요 수를 정렬 키로 함께 든다.
+ */
+public record IndexedDocument(
+        long id, String[] texts, boolean restricted, long[] allowedUserIds,
+        String title, LocalDateTime createdAt, int likeCount
+) {
+
+    public static IndexedDocument of(
+            long id, String title, Collection<String> labels, boolean restricted, Collection<Long> allowedUserIds,
+            LocalDateTime createdAt, Integer likeCount
+    ) {
+        String[] texts = new String[1 + labels.size()];
+        texts[0] = normalize(title);
+        int i = 1;
+        for (String label : labels) {
+            texts[i++] = normalize(label);
+        }
+
+        long[] allowed = allowedUserIds.stream().mapToLong(Long::longValue).sorted().toArray();
+        return new IndexedDocument(id, texts, restricted, allowed, title, createdAt, likeCount == null ? 0 : likeCount);
+    }
+
+    static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    // 원래 LIKE '%keyword%' 와 같은 판정: 제목이나 태그 / 분야 중 하나에 그대로 포함되어야 한다
+    boolean matches(String normalizedKeyword) {
+        for (String text : texts) {
+            if (text.contains(normalizedKeyword)) return true;
+        }
+        return false;
+    }
+
+    boolean visibleTo(Long viewerId) {
+        if (!restricted) return true;
+        return viewerId != null && Arrays.binarySearch(allowedUserIds, viewerId) >= 0;
+    }
+}
@@ -0,0 +1,151 @@
+package targeter.aim.domain.search.index;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 한 종류(챌린지 / 게시글) 문서의 역색인.
+ *
+ * 한글은 음절 단위로 의미가 갈리므로 형태소 분석 대신 문자 1-gram / 2-gram 으로 쪼갠다.
+ * 검색어의 모든 2-gram(한 글자면 1-gram)을 가진 문서를 교집합으로 추린 뒤, 원문 포함 여부를 다시 확인해
+ * 기존 LIKE '%keyword%' 와 같은 결과를 돌려준다.
+ * 문서 id 는 내부 ordinal(int) 로 바꿔 posting list 에 담고, 갱신 시 같은 ordinal 을 재사용한다.
+ */
+final class InvertedIndex {
+
+    private static final long BIGRAM = 1L << 32;
+
+    private final Map<Long, PostingList> postings = new HashMap<>();
+    private final Map<Long, Integer> ordinalById = new HashMap<>();
+    private final List<IndexedDocument> documents = new ArrayList<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    void put(IndexedDocument document) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinalById.get(document.id());
+            if (ordinal == null) {
+                ordinal = documents.size();
+                documents.add(null);
+                ordinalById.put(document.id(), ordinal);
+            } else {
+                unindex(ordinal);
+            }
+
+            documents.set(ordinal, document);
+            for (long gram : grams(document.texts())) {
+                postings.computeIfAbsent(gram, g -> new PostingList()).add(ordinal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinalById.get(id);
+            if (ordinal != null) {
+                unindex(ordinal);
+                documents.set(ordinal, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    List<IndexedDocument> search(String keyword, Long viewerId) {
+        String normalized = IndexedDocument.normalize(keyword);
+        if (normalized.isEmpty()) return List.of();
+
+        lock.readLock().lock();
+        try {
+            List<PostingList> lists = new ArrayList<>();
+            for (long gram : queryGrams(normalized)) {
+                PostingList list = postings.get(gram);
+                if (list == null || list.isEmpty()) return List.of();
+                lists.add(list);
+            }
+            lists.sort((a, b) -> Integer.compare(a.size(), b.size()));
+
+            PostingList smallest = lists.get(0);
+            List<IndexedDocument> result = new ArrayList<>();
+            candidates:
+            for (int i = 0; i < smallest.size(); i++) {
+                int ordinal = smallest.get(i);
+                for (int j = 1; j < lists.size(); j++) {
+                    if (!lists.get(j).contains(ordinal)) continue candidates;
+                }
+
+                IndexedDocument document = documents.get(ordinal);
+                if (document != null && document.visibleTo(viewerId) && document.matches(normalized)) {
+                    result.add(document);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return (int) documents.stream().filter(d -> d != null).count();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void unindex(int ordinal) {
+        IndexedDocument previous = documents.get(ordinal);
+        if (previous == null) return;
+
+        for (long gram : grams(previous.texts())) {
+            PostingList list = postings.get(gram);
+            if (list == null) continue;
+            list.remove(ordinal);
+            if (list.isEmpty()) postings.remove(gram);
+        }
+    }
+
+    // 문서 쪽: 모든 1-gram 과 2-gram
+    private static Set<Long> grams(String[] texts) {
+        Set<Long> grams = new LinkedHashSet<>();
+        for (String text : texts) {
+            for (int i = 0; i < text.length(); i++) {
+                grams.add(unigram(text.charAt(i)));
+                if (i + 1 < text.length()) {
+                    grams.add(bigram(text.charAt(i), text.charAt(i + 1)));
+                }
+            }
+        }
+        return grams;
+    }
+
+    // 검색어 쪽: 한 글자면 1-gram, 그 이상이면 2-gram 만으로 충분하다
+    private static Set<Long> queryGrams(String keyword) {
+        Set<Long> grams = new LinkedHashSet<>();
+        if (keyword.length() == 1) {
+            grams.add(unigram(keyword.charAt(0)));
+            return grams;
+        }
+        for (int i = 0; i + 1 < keyword.length(); i++) {
+            grams.add(bigram(keyword.charAt(i), keyword.charAt(i + 1)));
+        }
+        return grams;
+    }
+
+    private static long unigram(char c) {
+        return c;
+    }
+
+    private static long bigram(char first, char second) {
+        return BIGRAM | ((long) first << 16) | second;
+    }
+}
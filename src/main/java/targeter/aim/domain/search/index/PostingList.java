@@ -0,0 +1,49 @@
+package targeter.aim.domain.search.index;
+
+import java.util.Arrays;
+
+/**
+ * 정렬된 int 배열 posting list. 문서 번호(ordinal)를 박싱 없이 담고, 교집합은 이진 탐색으로 확인한다.
+ */
+final class PostingList {
+
+    private int[] docs = new int[4];
+    private int size;
+
+    void add(int doc) {
+        int i = Arrays.binarySearch(docs, 0, size, doc);
+        if (i >= 0) return;
+
+        i = -i - 1;
+        if (size == docs.length) {
+            docs = Arrays.copyOf(docs, size * 2);
+        }
+        System.arraycopy(docs, i, docs, i + 1, size - i);
+        docs[i] = doc;
+        size++;
+    }
+
+    void remove(int doc) {
+        int i = Arrays.binarySearch(docs, 0, size, doc);
+        if (i < 0) return;
+
+        System.arraycopy(docs, i + 1, docs, i, size - i - 1);
+        size--;
+    }
+
+    boolean contains(int doc) {
+        return Arrays.binarySearch(docs, 0, size, doc) >= 0;
+    }
+
+    int get(int index) {
+        return docs[index];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+}
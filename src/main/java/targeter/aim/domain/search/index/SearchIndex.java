@@ -0,0 +1,62 @@
+package targeter.aim.domain.search.index;
+
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 통합 검색용 인메모리 역색인 (챌린지 이름 + 태그 + 분야 / 게시글 제목 + 태그 + 분야).
+ * {@link SearchIndexer} 가 기동 시 만들고 생성 / 수정 / 삭제 이벤트로 갱신한다.
+ * 준비되기 전에는 {@link #isReady()} 가 false 이며, 호출하는 쪽은 DB 검색으로 처리한다.
+ */
+@Component
+public class SearchIndex {
+
+    private volatile InvertedIndex challenges = new InvertedIndex();
+    private volatile InvertedIndex posts = new InvertedIndex();
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 비공개 챌린지는 멤버에게만 보인다. 순서는 정해져 있지 않으므로 정렬은 호출하는 쪽이 한다
+    public List<IndexedDocument> searchChallenges(String keyword, Long viewerId) {
+        return challenges.search(keyword, viewerId);
+    }
+
+    public List<IndexedDocument> searchPosts(String keyword) {
+        return posts.search(keyword, null);
+    }
+
+    void putChallenge(IndexedDocument document) {
+        challenges.put(document);
+    }
+
+    void removeChallenge(long id) {
+        challenges.remove(id);
+    }
+
+    void putPost(IndexedDocument document) {
+        posts.put(document);
+    }
+
+    void removePost(long id) {
+        posts.remove(id);
+    }
+
+    // 전체 재구축 결과로 통째로 교체한다
+    void replace(InvertedIndex challenges, InvertedIndex posts) {
+        this.challenges = challenges;
+        this.posts = posts;
+        this.ready = true;
+    }
+
+    int challengeCount() {
+        return challenges.size();
+    }
+
+    int postCount() {
+        return posts.size();
+    }
+}
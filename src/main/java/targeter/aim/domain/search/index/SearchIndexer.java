@@ -0,0 +1,208 @@
+package targeter.aim.domain.search.index;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import targeter.aim.domain.challenge.event.ChallengeCreatedEvent;
+import targeter.aim.domain.challenge.event.ChallengeLikeToggledEvent;
+import targeter.aim.domain.challenge.event.ChallengeMembershipChangedEvent;
+import targeter.aim.domain.challenge.event.ChallengeUpdatedEvent;
+import targeter.aim.domain.post.event.PostChangedEvent;
+import targeter.aim.domain.post.event.PostLikeToggledEvent;
+import targeter.aim.domain.search.repository.SearchIndexQueryRepository;
+import targeter.aim.system.configuration.search.SearchIndexProperties;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@link SearchIndex} 적재 / 갱신.
+ * 기동 시 id 순 청크로 전체를 읽어 만들고, 이후에는 커밋된 생성 / 수정 / 삭제 / 멤버 변경 / 좋아요 이벤트마다 해당 문서만 다시 읽는다.
+ * 다른 노드에서 생긴 변경도 ClusterEventRelay 가 같은 이벤트로 다시 발행하므로 같은 경로로 반영된다.
+ * rebuildInterval 마다의 전체 재구축은 전달이 빠진 이벤트(브로커 끊김 등)를 메우는 안전망이며,
+ * 스케줄러 스레드를 막지 않도록 전용 스레드에서 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchIndexer {
+
+    private final SearchIndex searchIndex;
+    private final SearchIndexQueryRepository searchIndexQueryRepository;
+    private final SearchIndexProperties properties;
+
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("search-index-build").daemon().factory()
+    );
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    // 재구축 도중 들어온 변경은 교체 후 새 색인에 다시 반영한다
+    private final Set<Long> pendingChallengeIds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> pendingPostIds = ConcurrentHashMap.newKeySet();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (!properties.isEnabled()) return;
+        submitRebuild();
+    }
+
+    @Scheduled(
+            initialDelayString = "#{@searchIndexProperties.rebuildInterval.toMillis()}",
+            fixedDelayString = "#{@searchIndexProperties.rebuildInterval.toMillis()}"
+    )
+    public void scheduledRebuild() {
+        if (!properties.isEnabled() || !searchIndex.isReady()) return;
+        submitRebuild();
+    }
+
+    // 앞선 재구축이 길어져 밀려 있으면 하나만 남긴다
+    private void submitRebuild() {
+        if (!rebuildQueued.compareAndSet(false, true)) return;
+
+        rebuildExecutor.execute(() -> {
+            try {
+                rebuild();
+            } finally {
+                rebuildQueued.set(false);
+            }
+        });
+    }
+
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) return;
+
+        try {
+            long start = System.currentTimeMillis();
+            pendingChallengeIds.clear();
+            pendingPostIds.clear();
+
+            int chunkSize = Math.max(properties.getLoadChunkSize(), 1);
+
+            InvertedIndex challenges = new InvertedIndex();
+            long lastId = 0L;
+            while (true) {
+                List<IndexedDocument> documents = searchIndexQueryRepository.loadChallenges(lastId, chunkSize);
+                if (documents.isEmpty()) break;
+                documents.forEach(challenges::put);
+                lastId = documents.get(documents.size() - 1).id();
+            }
+
+            InvertedIndex posts = new InvertedIndex();
+            lastId = 0L;
+            while (true) {
+                List<IndexedDocument> documents = searchIndexQueryRepository.loadPosts(lastId, chunkSize);
+                if (documents.isEmpty()) break;
+                documents.forEach(posts::put);
+                lastId = documents.get(documents.size() - 1).id();
+            }
+
+            searchIndex.replace(challenges, posts);
+
+            refreshChallenges(drain(pendingChallengeIds));
+            refreshPosts(drain(pendingPostIds));
+
+            log.info("[SearchIndex] 색인 구축 완료: 챌린지 {}건, 게시글 {}건 ({}ms)",
+                    searchIndex.challengeCount(), searchIndex.postCount(), System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            log.warn("[SearchIndex] 색인 구축 실패: {}", e.getMessage());
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChallengeCreated(ChallengeCreatedEvent event) {
+        refreshChallenge(event.challengeId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChallengeUpdated(ChallengeUpdatedEvent event) {
+        refreshChallenge(event.challengeId());
+    }
+
+    // 삭제와 VS 합류(비공개 챌린지 열람 권한)도 이 이벤트로 온다
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipChanged(ChallengeMembershipChangedEvent event) {
+        refreshChallenge(event.challengeId());
+    }
+
+    // 좋아요 수는 LIKED 정렬 키라 색인 문서도 다시 읽는다
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChallengeLikeToggled(ChallengeLikeToggledEvent event) {
+        refreshChallenge(event.challengeId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        refreshPost(event.postId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostLikeToggled(PostLikeToggledEvent event) {
+        refreshPost(event.postId());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    private void refreshChallenge(Long challengeId) {
+        if (!properties.isEnabled()) return;
+        if (rebuilding.get()) pendingChallengeIds.add(challengeId);
+        refreshChallenges(List.of(challengeId));
+    }
+
+    private void refreshPost(Long postId) {
+        if (!properties.isEnabled()) return;
+        if (rebuilding.get()) pendingPostIds.add(postId);
+        refreshPosts(List.of(postId));
+    }
+
+    // DB 에 없으면(삭제 / 검색 대상이 아닌 종류) 색인에서도 뺀다
+    private void refreshChallenges(List<Long> challengeIds) {
+        if (challengeIds.isEmpty()) return;
+        try {
+            Set<Long> missing = new HashSet<>(challengeIds);
+            for (IndexedDocument document : searchIndexQueryRepository.loadChallengesByIds(challengeIds)) {
+                searchIndex.putChallenge(document);
+                missing.remove(document.id());
+            }
+            missing.forEach(searchIndex::removeChallenge);
+        } catch (RuntimeException e) {
+            log.warn("[SearchIndex] 챌린지 색인 갱신 실패 {}: {}", challengeIds, e.getMessage());
+        }
+    }
+
+    private void refreshPosts(List<Long> postIds) {
+        if (postIds.isEmpty()) return;
+        try {
+            Set<Long> missing = new HashSet<>(postIds);
+            for (IndexedDocument document : searchIndexQueryRepository.loadPostsByIds(postIds)) {
+                searchIndex.putPost(document);
+                missing.remove(document.id());
+            }
+            missing.forEach(searchIndex::removePost);
+        } catch (RuntimeException e) {
+            log.warn("[SearchIndex] 게시글 색인 갱신 실패 {}: {}", postIds, e.getMessage());
+        }
+    }
+
+    private List<Long> drain(Set<Long> pending) {
+        List<Long> ids = new ArrayList<>(pending);
+        pending.removeAll(ids);
+        return ids;
+    }
+}
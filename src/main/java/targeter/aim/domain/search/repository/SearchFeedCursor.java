@@ -0,0 +1,96 @@
+package targeter.aim.domain.search.repository;
+
+import org.springframework.util.StringUtils;
+import targeter.aim.domain.search.dto.SearchDto;
+import targeter.aim.system.exception.model.ErrorCode;
+import targeter.aim.system.exception.model.RestException;
+import targeter.aim.system.paging.PageCountCache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 통합 검색 피드 커서.
+ * 정렬 기준과 소스(챌린지/게시글)별로 마지막으로 내보낸 행의 정렬 키 + id 를 담는다.
+ * 위치가 null 이면 그 소스는 아직 처음부터, {@link #EXHAUSTED} 면 더 읽을 행이 없다.
+ * 만들 때의 키워드 해시를 함께 담아, 다른 키워드로 이어 읽으려는 커서는 거절한다.
+ */
+record SearchFeedCursor(SearchDto.SortType sort, String keywordHash, Position challenge, Position post) {
+
+    // 정렬 기준에 해당하는 키 하나만 채워진다
+    record Position(Long id, LocalDateTime createdAt, Integer likeCount, String name) {}
+
+    static final Position EXHAUSTED = new Position(null, null, null, null);
+
+    private static final String SEPARATOR = "|";
+    private static final String EXHAUSTED_TOKEN = "!";
+
+    static SearchFeedCursor first(SearchDto.SortType sort, String keyword) {
+        return new SearchFeedCursor(sort, keywordHash(keyword), null, null);
+    }
+
+    static SearchFeedCursor decode(String value, SearchDto.SortType sort, String keyword) {
+        if (!StringUtils.hasText(value)) return first(sort, keyword);
+
+        try {
+            String payload = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            String[] parts = payload.split("\\|", -1);
+            String hash = keywordHash(keyword);
+            if (parts.length != 4 || SearchDto.SortType.valueOf(parts[0]) != sort || !hash.equals(parts[1])) {
+                throw new RestException(ErrorCode.GLOBAL_INVALID_PARAMETER);
+            }
+            return new SearchFeedCursor(sort, hash, decodePosition(parts[2], sort), decodePosition(parts[3], sort));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new RestException(ErrorCode.GLOBAL_INVALID_PARAMETER);
+        }
+    }
+
+    SearchFeedCursor next(Position challenge, Position post) {
+        return new SearchFeedCursor(sort, keywordHash, challenge, post);
+    }
+
+    String encode() {
+        String payload = sort.name() + SEPARATOR + keywordHash
+                + SEPARATOR + encodePosition(challenge) + SEPARATOR + encodePosition(post);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String encodePosition(Position position) {
+        if (position == null) return "";
+        if (position == EXHAUSTED) return EXHAUSTED_TOKEN;
+
+        String key = switch (sort) {
+            case LATEST, OLDEST -> position.createdAt().toString();
+            case LIKED -> String.valueOf(position.likeCount());
+            // 제목에는 구분자가 들어갈 수 있으므로 한 번 더 감싼다
+            case TITLE -> Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(position.name().getBytes(StandardCharsets.UTF_8));
+        };
+        return position.id() + ":" + key;
+    }
+
+    // 검색과 같은 정규화(trim + 소문자)를 거친 키워드의 해시. 키워드가 없으면 "-"
+    private static String keywordHash(String keyword) {
+        String normalized = PageCountCache.keyword(keyword);
+        return normalized == null ? "-" : Integer.toHexString(normalized.hashCode());
+    }
+
+    private static Position decodePosition(String token, SearchDto.SortType sort) {
+        if (token.isEmpty()) return null;
+        if (EXHAUSTED_TOKEN.equals(token)) return EXHAUSTED;
+
+        int colon = token.indexOf(':');
+        if (colon < 0) throw new IllegalArgumentException("invalid cursor position");
+
+        Long id = Long.valueOf(token.substring(0, colon));
+        String key = token.substring(colon + 1);
+        return switch (sort) {
+            case LATEST, OLDEST -> new Position(id, LocalDateTime.parse(key), null, null);
+            case LIKED -> new Position(id, null, Integer.valueOf(key), null);
+            case TITLE -> new Position(id, null, null,
+                    new String(Base64.getUrlDecoder().decode(key), StandardCharsets.UTF_8));
+        };
+    }
+}
@@ -0,0 +1,31 @@
+package targeter.aim.domain.search.repository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 각각 정렬된 두 소스(챌린지 / 게시글)를 앞에서부터 비교하며 limit 개까지 병합한 결과.
+ * 비교가 같으면 첫 번째 소스(챌린지)를 먼저 꺼낸다.
+ * 각 소스 안의 순서는 건드리지 않으므로, 병합 비교가 DB 정렬과 조금 어긋나도 (TITLE 의 collation) 두 소스가 섞이는 위치만 달라질 뿐
+ * 행이 빠지거나 두 번 나오지 않고, 앞의 n 행은 각 소스의 앞부분만으로 정해진다.
+ */
+record SearchFeedMerge<T>(List<T> rows, int firstConsumed, int secondConsumed, boolean firstExhausted, boolean secondExhausted) {
+
+    static <T> SearchFeedMerge<T> merge(List<T> first, List<T> second, Comparator<? super T> order, int limit) {
+        List<T> rows = new ArrayList<>(Math.min(limit, first.size() + second.size()));
+        int fi = 0;
+        int si = 0;
+        while (rows.size() < limit && (fi < first.size() || si < second.size())) {
+            boolean takeFirst = si >= second.size()
+                    || (fi < first.size() && order.compare(first.get(fi), second.get(si)) <= 0);
+            rows.add(takeFirst ? first.get(fi++) : second.get(si++));
+        }
+        return new SearchFeedMerge<>(rows, fi, si, fi == first.size(), si == second.size());
+    }
+
+    // 두 소스 중 하나라도 꺼내지 않은 행이 남았는지
+    boolean hasNext() {
+        return !firstExhausted || !secondExhausted;
+    }
+}
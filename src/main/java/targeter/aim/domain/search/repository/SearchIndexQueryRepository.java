@@ -0,0 +1,144 @@
+package targeter.aim.domain.search.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import targeter.aim.domain.challenge.entity.ChallengeVisibility;
+import targeter.aim.domain.post.entity.PostType;
+import targeter.aim.domain.search.index.IndexedDocument;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static targeter.aim.domain.challenge.entity.QChallenge.challenge;
+import static targeter.aim.domain.challenge.entity.QChallengeMember.challengeMember;
+import static targeter.aim.domain.label.entity.QField.field;
+import static targeter.aim.domain.label.entity.QTag.tag;
+import static targeter.aim.domain.post.entity.QPost.post;
+
+/**
+ * 검색 색인 적재용 조회. 엔티티를 읽지 않고 제목 / 태그 / 분야 / 비공개 챌린지 멤버와 정렬 키(작성 시각, 좋아요 수)만 가져온다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SearchIndexQueryRepository {
+
+    // 통합 검색에 노출되는 게시글 종류
+    public static final List<PostType> SEARCHABLE_POST_TYPES = List.of(PostType.VS_RECRUIT, PostType.Q_AND_A, PostType.REVIEW);
+
+    private final JPAQueryFactory queryFactory;
+
+    public List<IndexedDocument> loadChallenges(Long afterId, int limit) {
+        return challengeDocuments(queryFactory
+                .select(challenge.id, challenge.name, challenge.visibility, challenge.createdAt, challenge.likeCount)
+                .from(challenge)
+                .where(challenge.id.gt(afterId))
+                .orderBy(challenge.id.asc())
+                .limit(limit)
+                .fetch());
+    }
+
+    public List<IndexedDocument> loadChallengesByIds(Collection<Long> challengeIds) {
+        if (challengeIds == null || challengeIds.isEmpty()) return List.of();
+
+        return challengeDocuments(queryFactory
+                .select(challenge.id, challenge.name, challenge.visibility, challenge.createdAt, challenge.likeCount)
+                .from(challenge)
+                .where(challenge.id.in(challengeIds))
+                .fetch());
+    }
+
+    public List<IndexedDocument> loadPosts(Long afterId, int limit) {
+        return postDocuments(queryFactory
+                .select(post.id, post.title, post.createdAt, post.likeCount)
+                .from(post)
+                .where(searchablePost(), post.id.gt(afterId))
+                .orderBy(post.id.asc())
+                .limit(limit)
+                .fetch());
+    }
+
+    public List<IndexedDocument> loadPostsByIds(Collection<Long> postIds) {
+        if (postIds == null || postIds.isEmpty()) return List.of();
+
+        return postDocuments(queryFactory
+                .select(post.id, post.title, post.createdAt, post.likeCount)
+                .from(post)
+                .where(searchablePost(), post.id.in(postIds))
+                .fetch());
+    }
+
+    private List<IndexedDocument> challengeDocuments(List<Tuple> rows) {
+        if (rows.isEmpty()) return List.of();
+
+        List<Long> ids = rows.stream().map(t -> t.get(challenge.id)).toList();
+        List<Long> privateIds = rows.stream()
+                .filter(t -> t.get(challenge.visibility) == ChallengeVisibility.PRIVATE)
+                .map(t -> t.get(challenge.id))
+                .toList();
+
+        Map<Long, List<String>> labels = new HashMap<>();
+        queryFactory.select(challenge.id, tag.name).from(challenge).join(challenge.tags, tag)
+                .where(challenge.id.in(ids)).fetch()
+                .forEach(t -> labels.computeIfAbsent(t.get(challenge.id), id -> new ArrayList<>()).add(t.get(tag.name)));
+        queryFactory.select(challenge.id, field.name).from(challenge).join(challenge.fields, field)
+                .where(challenge.id.in(ids)).fetch()
+                .forEach(t -> labels.computeIfAbsent(t.get(challenge.id), id -> new ArrayList<>()).add(t.get(field.name)));
+
+        Map<Long, List<Long>> members = new HashMap<>();
+        if (!privateIds.isEmpty()) {
+            queryFactory.select(challengeMember.id.challenge.id, challengeMember.id.user.id)
+                    .from(challengeMember)
+                    .where(challengeMember.id.challenge.id.in(privateIds))
+                    .fetch()
+                    .forEach(t -> members.computeIfAbsent(t.get(challengeMember.id.challenge.id), id -> new ArrayList<>())
+                            .add(t.get(challengeMember.id.user.id)));
+        }
+
+        List<IndexedDocument> documents = new ArrayList<>();
+        for (Tuple t : rows) {
+            Long id = t.get(challenge.id);
+            documents.add(IndexedDocument.of(
+                    id,
+                    t.get(challenge.name),
+                    labels.getOrDefault(id, List.of()),
+                    t.get(challenge.visibility) == ChallengeVisibility.PRIVATE,
+                    members.getOrDefault(id, List.of()),
+                    t.get(challenge.createdAt),
+                    t.get(challenge.likeCount)
+            ));
+        }
+        return documents;
+    }
+
+    private List<IndexedDocument> postDocuments(List<Tuple> rows) {
+        if (rows.isEmpty()) return List.of();
+
+        List<Long> ids = rows.stream().map(t -> t.get(post.id)).toList();
+
+        Map<Long, List<String>> labels = new HashMap<>();
+        queryFactory.select(post.id, tag.name).from(post).join(post.tags, tag)
+                .where(post.id.in(ids)).fetch()
+                .forEach(t -> labels.computeIfAbsent(t.get(post.id), id -> new ArrayList<>()).add(t.get(tag.name)));
+        queryFactory.select(post.id, field.name).from(post).join(post.fields, field)
+                .where(post.id.in(ids)).fetch()
+                .forEach(t -> labels.computeIfAbsent(t.get(post.id), id -> new ArrayList<>()).add(t.get(field.name)));
+
+        List<IndexedDocument> documents = new ArrayList<>();
+        for (Tuple t : rows) {
+            Long id = t.get(post.id);
+            documents.add(IndexedDocument.of(id, t.get(post.title), labels.getOrDefault(id, List.of()), false, List.of(),
+                    t.get(post.createdAt), t.get(post.likeCount)));
+        }
+        return documents;
+    }
+
+    private BooleanExpression searchablePost() {
+        return post.type.in(SEARCHABLE_POST_TYPES);
+    }
+}
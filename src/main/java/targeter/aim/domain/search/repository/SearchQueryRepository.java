@@ -7,9 +7,8 @@ import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 import targeter.aim.domain.challenge.entity.Challenge;
@@ -19,16 +18,22 @@ import targeter.aim.domain.file.dto.FileDto;
 import targeter.aim.domain.label.entity.QField;
 import targeter.aim.domain.label.entity.QTag;
 import targeter.aim.domain.post.entity.Post;
-import targeter.aim.domain.post.entity.PostType;
 import targeter.aim.domain.post.entity.QPost;
 import targeter.aim.domain.search.dto.SearchDto;
+import targeter.aim.domain.search.index.IndexedDocument;
+import targeter.aim.domain.search.index.SearchIndex;
 import targeter.aim.domain.user.entity.User;
+import targeter.aim.system.paging.PageCountCache;
 import targeter.aim.system.security.model.UserDetails;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static targeter.aim.domain.challenge.entity.QChallenge.challenge;
@@ -44,48 +49,193 @@ import static targeter.aim.domain.post.entity.QPostLiked.postLiked;
 public class SearchQueryRepository {
 
     private final JPAQueryFactory queryFactory;
+    private final SearchIndex searchIndex;
+    private final PageCountCache pageCountCache;
 
-    public Page<SearchDto.SearchListResponse> paginateSearchList(
+    /**
+     * 키워드 검색 결과를 소스별로 정렬 순서대로 담은 행 (tuple 없음). 색인이 준비되지 않았으면 null 이고, 이때는 DB LIKE 로 찾는다.
+     * 결과가 아무리 많아도 정렬 / 페이징은 색인 문서의 정렬 키로 메모리에서 하고, SQL 에는 내보낼 페이지의 id 만 넘긴다.
+     */
+    private record IndexHits(List<FeedRow> challenges, List<FeedRow> posts) {}
+
+    public Slice<SearchDto.SearchListResponse> paginateSearchList(
             UserDetails userDetails,
             SearchDto.ListSearchCondition condition,
-            Pageable pageable
+            Pageable pageable,
+            boolean withCount
     ) {
         String keyword = condition.getKeyword();
         SearchDto.SortType sortType = condition.getSort();
 
         // 1. 메모리 병합을 위한 조회 개수 계산 (Offset + Limit)
-        long neededSize = pageable.getOffset() + pageable.getPageSize();
+        int fetchSize = pageCountCache.fetchSize(pageable, withCount);
+        long neededSize = pageable.getOffset() + fetchSize;
+
+        // 키워드는 역색인에서 (공개 범위까지 걸러진) 정렬된 행으로 바꾼다
+        IndexHits hits = searchIndexHits(userDetails, keyword, sortType);
+
+        // 2. Challenge / Post 조회 (색인 결과는 이미 전부 메모리에 있다)
+        List<FeedRow> challengeRows = hits != null
+                ? hits.challenges()
+                : fetchChallengeRows(userDetails, keyword, sortType, null, neededSize);
+        List<FeedRow> postRows = hits != null
+                ? hits.posts()
+                : fetchPostRows(userDetails, keyword, sortType, null, neededSize);
+
+        // 3. 소스별 순서를 그대로 둔 채 앞에서부터 병합하고 페이지 구간만 잘라낸다
+        List<FeedRow> mergedRows = SearchFeedMerge.merge(
+                challengeRows, postRows, feedRowComparator(sortType), (int) Math.min(neededSize, Integer.MAX_VALUE)
+        ).rows();
+
+        int start = (int) Math.min(pageable.getOffset(), mergedRows.size());
+        int end = Math.min(start + fetchSize, mergedRows.size());
+        List<FeedRow> pageRows = mergedRows.subList(start, end);
+
+        // 4. 색인 결과는 페이지 id 만 읽고, Enrich (N+1 해결) 은 실제로 내보내는 행에만
+        List<SearchDto.SearchListResponse> content = enrichRows(hits != null ? loadIndexedRows(userDetails, pageRows) : pageRows);
+
+        if (hits != null) {
+            long total = hits.challenges().size() + hits.posts().size();
+            return pageCountCache.page(content, pageable, withCount, () -> total);
+        }
+        return pageCountCache.page(content, pageable, withCount, () -> countTotal(userDetails, keyword));
+    }
+
+    /**
+     * 커서 기반 통합 검색 피드.
+     * 소스별로 커서 다음 size + 1 행만 읽어 앞에서부터 병합하므로 몇 번째 페이지든 비용이 같다.
+     */
+    public SearchDto.SearchCursorResponse searchFeed(
+            UserDetails userDetails,
+            SearchDto.ListSearchCondition condition,
+            int size
+    ) {
+        String keyword = condition.getKeyword();
+        SearchDto.SortType sortType = condition.getSort();
+        SearchFeedCursor cursor = SearchFeedCursor.decode(condition.getCursor(), sortType, keyword);
+
+        IndexHits hits = searchIndexHits(userDetails, keyword, sortType);
+
+        List<FeedRow> challengeRows;
+        List<FeedRow> postRows;
+        if (cursor.challenge() == SearchFeedCursor.EXHAUSTED) {
+            challengeRows = List.of();
+        } else if (hits != null) {
+            challengeRows = rowsAfter(hits.challenges(), SearchDto.Type.CHALLENGE, sortType, cursor.challenge(), size + 1);
+        } else {
+            challengeRows = fetchChallengeRows(userDetails, keyword, sortType, challengeAfter(sortType, cursor.challenge()), size + 1);
+        }
+        if (cursor.post() == SearchFeedCursor.EXHAUSTED) {
+            postRows = List.of();
+        } else if (hits != null) {
+            postRows = rowsAfter(hits.posts(), SearchDto.Type.POST, sortType, cursor.post(), size + 1);
+        } else {
+            postRows = fetchPostRows(userDetails, keyword, sortType, postAfter(sortType, cursor.post()), size + 1);
+        }
+
+        // 두 목록은 각각 정렬되어 있으므로 앞에서부터 비교하며 size 개만 꺼낸다
+        SearchFeedMerge<FeedRow> merged = SearchFeedMerge.merge(challengeRows, postRows, feedRowComparator(sortType), size);
+
+        String nextCursor = merged.hasNext()
+                ? cursor.next(
+                        nextPosition(cursor.challenge(), merged.firstExhausted(), challengeRows, merged.firstConsumed()),
+                        nextPosition(cursor.post(), merged.secondExhausted(), postRows, merged.secondConsumed())
+                ).encode()
+                : null;
+
+        List<FeedRow> rows = hits != null ? loadIndexedRows(userDetails, merged.rows()) : merged.rows();
+        return new SearchDto.SearchCursorResponse(enrichRows(rows), nextCursor, merged.hasNext());
+    }
 
-        // 2. Challenge 조회
-        JPAQuery<Tuple> challengeQuery = buildChallengeBaseQuery(userDetails, keyword);
-        applyChallengeSorting(challengeQuery, sortType);
-        List<Tuple> challengeTuples = challengeQuery.limit(neededSize).fetch();
+    // 다 소비한 소스는 size + 1 행을 못 채운 것이므로 끝난 것으로 표시한다
+    private SearchFeedCursor.Position nextPosition(
+            SearchFeedCursor.Position current, boolean exhausted, List<FeedRow> rows, int consumed
+    ) {
+        if (exhausted) return SearchFeedCursor.EXHAUSTED;
+        if (consumed == 0) return current;
+        return rows.get(consumed - 1).position();
+    }
 
-        // 3. Post 조회
-        JPAQuery<Tuple> postQuery = buildPostBaseQuery(userDetails, keyword);
-        applyPostSorting(postQuery, sortType);
-        List<Tuple> postTuples = postQuery.limit(neededSize).fetch();
+    private IndexHits searchIndexHits(UserDetails userDetails, String keyword, SearchDto.SortType sortType) {
+        if (!StringUtils.hasText(keyword) || !searchIndex.isReady()) return null;
 
-        // 4. Enrich (N+1 해결) 및 DTO 변환
-        List<SearchDto.SearchListResponse> challenges = enrichChallengeDetails(challengeTuples);
-        List<SearchDto.SearchListResponse> posts = enrichPostDetails(postTuples);
+        String k = keyword.trim();
+        Long viewerId = userDetails == null ? null : userDetails.getUser().getId();
+        Comparator<FeedRow> order = feedRowComparator(sortType);
+        List<FeedRow> challenges = searchIndex.searchChallenges(k, viewerId).stream()
+                .map(d -> FeedRow.ofDocument(SearchDto.Type.CHALLENGE, d))
+                .sorted(order)
+                .toList();
+        List<FeedRow> posts = searchIndex.searchPosts(k).stream()
+                .map(d -> FeedRow.ofDocument(SearchDto.Type.POST, d))
+                .sorted(order)
+                .toList();
+
+        return new IndexHits(challenges, posts);
+    }
 
-        // 5. 리스트 병합 및 최종 정렬 (Java Level)
-        List<SearchDto.SearchListResponse> mergedList = new ArrayList<>();
-        mergedList.addAll(challenges);
-        mergedList.addAll(posts);
+    // 정렬된 색인 결과에서 커서 위치 다음 limit 행. 위치의 행이 그새 빠졌어도 정렬 키로 다음 자리를 찾는다
+    private List<FeedRow> rowsAfter(
+            List<FeedRow> sorted, SearchDto.Type type, SearchDto.SortType sortType,
+            SearchFeedCursor.Position last, int limit
+    ) {
+        int start = 0;
+        if (last != null) {
+            int found = Collections.binarySearch(sorted, FeedRow.at(type, last), feedRowComparator(sortType));
+            start = found >= 0 ? found + 1 : -found - 1;
+        }
+        return sorted.subList(start, Math.min(start + limit, sorted.size()));
+    }
 
-        mergedList.sort(getIntegratedComparator(sortType));
+    /**
+     * 색인으로 고른 페이지 행을 SQL 로 읽는다. 넘기는 id 는 페이지 크기만큼이다.
+     * 그 사이 지워졌거나 공개 범위가 바뀐 행은 DB 조건에서 걸러져 페이지에서 빠진다.
+     */
+    private List<FeedRow> loadIndexedRows(UserDetails userDetails, List<FeedRow> rows) {
+        List<Long> challengeIds = new ArrayList<>();
+        List<Long> postIds = new ArrayList<>();
+        for (FeedRow row : rows) {
+            (row.type() == SearchDto.Type.CHALLENGE ? challengeIds : postIds).add(row.id());
+        }
 
-        // 6. 페이징 처리 (SubList)
-        return paginateMergedList(mergedList, pageable, userDetails, keyword);
+        Map<Long, Tuple> challenges = challengeIds.isEmpty() ? Map.of() : buildChallengeBaseQuery(userDetails,
+                indexedChallengeCondition(userDetails, challengeIds)).fetch().stream()
+                .collect(Collectors.toMap(t -> t.get(0, Challenge.class).getId(), Function.identity()));
+        Map<Long, Tuple> posts = postIds.isEmpty() ? Map.of() : buildPostBaseQuery(userDetails,
+                indexedPostCondition(postIds)).fetch().stream()
+                .collect(Collectors.toMap(t -> t.get(0, Post.class).getId(), Function.identity()));
+
+        List<FeedRow> loaded = new ArrayList<>(rows.size());
+        for (FeedRow row : rows) {
+            Tuple tuple = (row.type() == SearchDto.Type.CHALLENGE ? challenges : posts).get(row.id());
+            if (tuple != null) loaded.add(row.withTuple(tuple));
+        }
+        return loaded;
     }
 
     // =================================================================================
     //  Query Builders
     // =================================================================================
 
-    private JPAQuery<Tuple> buildChallengeBaseQuery(UserDetails userDetails, String keyword) {
+    private List<FeedRow> fetchChallengeRows(
+            UserDetails userDetails, String keyword,
+            SearchDto.SortType sortType, BooleanExpression after, long limit
+    ) {
+        JPAQuery<Tuple> query = buildChallengeBaseQuery(userDetails, challengeCondition(userDetails, keyword)).where(after);
+        applyChallengeSorting(query, sortType);
+        return query.limit(limit).fetch().stream().map(FeedRow::ofChallenge).toList();
+    }
+
+    private List<FeedRow> fetchPostRows(
+            UserDetails userDetails, String keyword,
+            SearchDto.SortType sortType, BooleanExpression after, long limit
+    ) {
+        JPAQuery<Tuple> query = buildPostBaseQuery(userDetails, postCondition(keyword)).where(after);
+        applyPostSorting(query, sortType);
+        return query.limit(limit).fetch().stream().map(FeedRow::ofPost).toList();
+    }
+
+    private JPAQuery<Tuple> buildChallengeBaseQuery(UserDetails userDetails, BooleanExpression condition) {
         return queryFactory
                 .select(
                         challenge,
@@ -104,13 +254,10 @@ public class SearchQueryRepository {
                 .leftJoin(challenge.host).fetchJoin()
                 .leftJoin(challenge.host.tier).fetchJoin()
                 .leftJoin(challenge.host.profileImage).fetchJoin()
-                .where(
-                        visibleToUser(userDetails),
-                        challengeKeywordCondition(keyword)
-                );
+                .where(condition);
     }
 
-    private JPAQuery<Tuple> buildPostBaseQuery(UserDetails userDetails, String keyword) {
+    private JPAQuery<Tuple> buildPostBaseQuery(UserDetails userDetails, BooleanExpression condition) {
         return queryFactory
                 .select(
                         post,
@@ -130,41 +277,73 @@ public class SearchQueryRepository {
                 .leftJoin(post.user.tier).fetchJoin()
                 .leftJoin(post.user.profileImage).fetchJoin()
                 .leftJoin(post.challenge).fetchJoin()
-                .where(
-                        post.type.in(PostType.VS_RECRUIT, PostType.Q_AND_A, PostType.REVIEW),
-                        postKeywordCondition(keyword)
-                );
+                .where(condition);
     }
 
     // =================================================================================
     //  Sorting Logic
     // =================================================================================
 
+    // 커서 조건과 병합 비교가 같은 순서를 쓰도록 id 를 마지막 정렬 키로 둔다
     private void applyChallengeSorting(JPAQuery<?> query, SearchDto.SortType sortType) {
         switch (sortType) {
-            case LATEST -> query.orderBy(challenge.createdAt.desc());
-            case OLDEST -> query.orderBy(challenge.createdAt.asc());
-            case LIKED -> query.orderBy(challenge.likeCount.desc());
-            case TITLE -> query.orderBy(challenge.name.asc(), challenge.createdAt.desc());
+            case LATEST -> query.orderBy(challenge.createdAt.desc(), challenge.id.desc());
+            case OLDEST -> query.orderBy(challenge.createdAt.asc(), challenge.id.asc());
+            case LIKED -> query.orderBy(challenge.likeCount.desc(), challenge.id.desc());
+            case TITLE -> query.orderBy(challenge.name.asc(), challenge.id.desc());
         }
     }
 
     private void applyPostSorting(JPAQuery<?> query, SearchDto.SortType sortType) {
         switch (sortType) {
-            case LATEST -> query.orderBy(post.createdAt.desc());
-            case OLDEST -> query.orderBy(post.createdAt.asc());
-            case LIKED -> query.orderBy(post.likeCount.desc());
-            case TITLE -> query.orderBy(post.title.asc(), post.createdAt.desc());
+            case LATEST -> query.orderBy(post.createdAt.desc(), post.id.desc());
+            case OLDEST -> query.orderBy(post.createdAt.asc(), post.id.asc());
+            case LIKED -> query.orderBy(post.likeCount.desc(), post.id.desc());
+            case TITLE -> query.orderBy(post.title.asc(), post.id.desc());
         }
     }
 
-    private Comparator<SearchDto.SearchListResponse> getIntegratedComparator(SearchDto.SortType sortType) {
+    // 소스가 달라 정렬 키와 id 가 모두 같으면 챌린지를 먼저 둔다
+    private Comparator<FeedRow> feedRowComparator(SearchDto.SortType sortType) {
+        Comparator<FeedRow> byKey = switch (sortType) {
+            case LATEST -> Comparator.comparing(FeedRow::createdAt, Comparator.reverseOrder())
+                    .thenComparing(FeedRow::id, Comparator.reverseOrder());
+            case OLDEST -> Comparator.comparing(FeedRow::createdAt)
+                    .thenComparing(FeedRow::id);
+            case LIKED -> Comparator.comparing(FeedRow::likeCount, Comparator.reverseOrder())
+                    .thenComparing(FeedRow::id, Comparator.reverseOrder());
+            case TITLE -> Comparator.comparing(FeedRow::titleKey)
+                    .thenComparing(FeedRow::id, Comparator.reverseOrder());
+        };
+        return byKey.thenComparing(FeedRow::type);
+    }
+
+    // 커서 위치 다음 행만 남기는 keyset 조건 (정렬 순서와 같은 방향)
+    private BooleanExpression challengeAfter(SearchDto.SortType sortType, SearchFeedCursor.Position last) {
+        if (last == null) return null;
+        return switch (sortType) {
+            case LATEST -> challenge.createdAt.lt(last.createdAt())
+                    .or(challenge.createdAt.eq(last.createdAt()).and(challenge.id.lt(last.id())));
+            case OLDEST -> challenge.createdAt.gt(last.createdAt())
+                    .or(challenge.createdAt.eq(last.createdAt()).and(challenge.id.gt(last.id())));
+            case LIKED -> challenge.likeCount.lt(last.likeCount())
+                    .or(challenge.likeCount.eq(last.likeCount()).and(challenge.id.lt(last.id())));
+            case TITLE -> challenge.name.gt(last.name())
+                    .or(challenge.name.eq(last.name()).and(challenge.id.lt(last.id())));
+        };
+    }
+
+    private BooleanExpression postAfter(SearchDto.SortType sortType, SearchFeedCursor.Position last) {
+        if (last == null) return null;
         return switch (sortType) {
-            case LATEST -> Comparator.comparing(SearchDto.SearchListResponse::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()));
-            case OLDEST -> Comparator.comparing(SearchDto.SearchListResponse::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder()));
-            case LIKED -> Comparator.comparing(SearchDto.SearchListResponse::getLikeCount, Comparator.reverseOrder())
-                    .thenComparing(SearchDto.SearchListResponse::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()));
-            case TITLE -> Comparator.comparing(SearchDto.SearchListResponse::getName);
+            case LATEST -> post.createdAt.lt(last.createdAt())
+                    .or(post.createdAt.eq(last.createdAt()).and(post.id.lt(last.id())));
+            case OLDEST -> post.createdAt.gt(last.createdAt())
+                    .or(post.createdAt.eq(last.createdAt()).and(post.id.gt(last.id())));
+            case LIKED -> post.likeCount.lt(last.likeCount())
+                    .or(post.likeCount.eq(last.likeCount()).and(post.id.lt(last.id())));
+            case TITLE -> post.title.gt(last.name())
+                    .or(post.title.eq(last.name()).and(post.id.lt(last.id())));
         };
     }
 
@@ -172,6 +351,29 @@ public class SearchQueryRepository {
     //  Conditions & Filters
     // =================================================================================
 
+    private BooleanExpression challengeCondition(UserDetails userDetails, String keyword) {
+        BooleanExpression keywordCondition = challengeKeywordCondition(keyword);
+        return keywordCondition == null ? visibleToUser(userDetails) : visibleToUser(userDetails).and(keywordCondition);
+    }
+
+    // 색인이 고른 페이지 id. 색인이 공개 범위를 걸렀어도 갱신 전의 변경이 있을 수 있어 DB 에서 한 번 더 확인한다
+    private BooleanExpression indexedChallengeCondition(UserDetails userDetails, List<Long> challengeIds) {
+        return visibleToUser(userDetails).and(challenge.id.in(challengeIds));
+    }
+
+    private BooleanExpression postCondition(String keyword) {
+        BooleanExpression keywordCondition = postKeywordCondition(keyword);
+        return keywordCondition == null ? searchablePost() : searchablePost().and(keywordCondition);
+    }
+
+    private BooleanExpression indexedPostCondition(List<Long> postIds) {
+        return searchablePost().and(post.id.in(postIds));
+    }
+
+    private BooleanExpression searchablePost() {
+        return post.type.in(SearchIndexQueryRepository.SEARCHABLE_POST_TYPES);
+    }
+
     private BooleanExpression visibleToUser(UserDetails userDetails) {
         BooleanExpression isPublic = challenge.visibility.eq(ChallengeVisibility.PUBLIC);
         if (userDetails == null) return isPublic;
@@ -219,6 +421,76 @@ public class SearchQueryRepository {
     //  Enrichment (N+1 Optimization) & DTO Mapping
     // =================================================================================
 
+    /**
+     * 두 소스를 병합할 때 쓰는 행. 병합 비교는 각 소스의 SQL ORDER BY 와 같은 순서를 따르려 한다.
+     * 날짜 / 좋아요 수는 값 그대로 비교하므로 DB 와 정확히 같다.
+     * 제목은 DB 의 대소문자 무시 정렬을 흉내 내 대문자로 접은 titleKey 로 비교하고, 접은 값이 같으면 id 로 가른다.
+     * 이는 근사치다: utf8mb4_general_ci 의 악센트 / 전각 문자 가중치나 H2 의 collation 과는 다를 수 있어,
+     * TITLE 정렬에서 챌린지와 게시글이 섞이는 위치는 DB 순서와 조금 어긋날 수 있다.
+     * 병합({@link SearchFeedMerge})이 소스 안의 SQL 순서를 그대로 두므로 페이지 사이에 행이 빠지거나 겹치지는 않는다.
+     * 색인 결과 행은 색인 문서의 정렬 키로 만들고, 페이지에 들어간 뒤에야 SQL 로 읽은 tuple 을 채운다.
+     */
+    private record FeedRow(SearchDto.Type type, Long id, LocalDateTime createdAt, int likeCount, String name, String titleKey, Tuple tuple) {
+
+        static FeedRow ofChallenge(Tuple tuple) {
+            Challenge c = tuple.get(0, Challenge.class);
+            return new FeedRow(SearchDto.Type.CHALLENGE, c.getId(), c.getCreatedAt(), likeCountOf(c.getLikeCount()),
+                    c.getName(), titleKeyOf(c.getName()), tuple);
+        }
+
+        static FeedRow ofPost(Tuple tuple) {
+            Post p = tuple.get(0, Post.class);
+            return new FeedRow(SearchDto.Type.POST, p.getId(), p.getCreatedAt(), likeCountOf(p.getLikeCount()),
+                    p.getTitle(), titleKeyOf(p.getTitle()), tuple);
+        }
+
+        // general_ci 는 라틴 문자를 대문자 가중치로 비교한다 (소문자로 접으면 '_' 같은 기호와의 순서가 달라진다). 악센트 접기 등은 하지 않는다
+        static FeedRow ofDocument(SearchDto.Type type, IndexedDocument document) {
+            return new FeedRow(type, document.id(), document.createdAt(), document.likeCount(),
+                    document.title(), titleKeyOf(document.title()), null);
+        }
+
+        // 커서 위치를 같은 정렬 비교에 넣기 위한 행
+        static FeedRow at(SearchDto.Type type, SearchFeedCursor.Position position) {
+            return new FeedRow(type, position.id(), position.createdAt(), likeCountOf(position.likeCount()),
+                    position.name(), titleKeyOf(position.name()), null);
+        }
+
+        FeedRow withTuple(Tuple tuple) {
+            return new FeedRow(type, id, createdAt, likeCount, name, titleKey, tuple);
+        }
+
+        private static String titleKeyOf(String title) {
+            return title == null ? "" : title.toUpperCase(Locale.ROOT);
+        }
+
+        private static int likeCountOf(Integer likeCount) {
+            return likeCount == null ? 0 : likeCount;
+        }
+
+        SearchFeedCursor.Position position() {
+            return new SearchFeedCursor.Position(id, createdAt, likeCount, name);
+        }
+    }
+
+    // 병합된 순서를 유지한 채 소스별로 한 번씩만 분야/태그를 조회한다
+    private List<SearchDto.SearchListResponse> enrichRows(List<FeedRow> rows) {
+        List<Tuple> challengeTuples = new ArrayList<>();
+        List<Tuple> postTuples = new ArrayList<>();
+        for (FeedRow row : rows) {
+            (row.type() == SearchDto.Type.CHALLENGE ? challengeTuples : postTuples).add(row.tuple());
+        }
+
+        Map<Long, SearchDto.SearchListResponse> challenges = enrichChallengeDetails(challengeTuples).stream()
+                .collect(Collectors.toMap(SearchDto.SearchListResponse::getId, Function.identity()));
+        Map<Long, SearchDto.SearchListResponse> posts = enrichPostDetails(postTuples).stream()
+                .collect(Collectors.toMap(SearchDto.SearchListResponse::getId, Function.identity()));
+
+        return rows.stream()
+                .map(row -> (row.type() == SearchDto.Type.CHALLENGE ? challenges : posts).get(row.id()))
+                .toList();
+    }
+
     private List<SearchDto.SearchListResponse> enrichChallengeDetails(List<Tuple> tuples) {
         if (tuples.isEmpty()) return new ArrayList<>();
         List<Long> ids = tuples.stream().map(t -> t.get(0, Challenge.class).getId()).toList();
@@ -305,31 +577,25 @@ public class SearchQueryRepository {
     }
 
     // =================================================================================
-    //  Count & Pagination
+    //  Count
     // =================================================================================
 
-    private Page<SearchDto.SearchListResponse> paginateMergedList(
-            List<SearchDto.SearchListResponse> mergedList,
-            Pageable pageable,
-            UserDetails userDetails,
-            String keyword
-    ) {
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), mergedList.size());
-
-        List<SearchDto.SearchListResponse> content = new ArrayList<>();
-        if (start < mergedList.size()) {
-            content = mergedList.subList(start, end);
-        }
-
-        Long challengeCount = queryFactory.select(challenge.count()).from(challenge)
-                .where(visibleToUser(userDetails), challengeKeywordCondition(keyword)).fetchOne();
-
-        Long postCount = queryFactory.select(post.count()).from(post)
-                .where(post.type.in(PostType.VS_RECRUIT, PostType.Q_AND_A, PostType.REVIEW), postKeywordCondition(keyword)).fetchOne();
-
-        long total = (challengeCount != null ? challengeCount : 0) + (postCount != null ? postCount : 0);
-
-        return new PageImpl<>(content, pageable, total);
+    // 키워드 DB 검색의 개수. 색인 결과의 개수는 메모리에서 바로 센다
+    private long countTotal(UserDetails userDetails, String keyword) {
+        String normalized = PageCountCache.keyword(keyword);
+        long challengeCount = pageCountCache.count(
+                PageCountCache.Scope.CHALLENGE,
+                () -> queryFactory.select(challenge.count()).from(challenge)
+                        .where(challengeCondition(userDetails, keyword)).fetchOne(),
+                "search", normalized, PageCountCache.viewer(userDetails)
+        );
+        long postCount = pageCountCache.count(
+                PageCountCache.Scope.POST,
+                () -> queryFactory.select(post.count()).from(post)
+                        .where(postCondition(keyword)).fetchOne(),
+                "search", normalized
+        );
+
+        return challengeCount + postCount;
     }
-}
\ No newline at end of file
+}
@@ -1,8 +1,8 @@
 package targeter.aim.domain.search.service;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import targeter.aim.domain.challenge.dto.ChallengeDto;
@@ -17,16 +17,28 @@ import targeter.aim.system.security.model.UserDetails;
 @RequiredArgsConstructor
 public class SearchService {
 
+    private static final int MAX_FEED_SIZE = 100;
+
     private final SearchQueryRepository searchQueryRepository;
 
     @Transactional(readOnly = true)
     public SearchDto.SearchPageResponse getSearchList(
             SearchDto.ListSearchCondition condition,
             UserDetails userDetails,
-            Pageable pageable
+            Pageable pageable,
+            boolean withCount
     ) {
-        Page<SearchDto.SearchListResponse> page = searchQueryRepository.paginateSearchList(userDetails, condition, pageable);
+        Slice<SearchDto.SearchListResponse> page = searchQueryRepository.paginateSearchList(userDetails, condition, pageable, withCount);
 
         return SearchDto.SearchPageResponse.from(page);
     }
+
+    @Transactional(readOnly = true)
+    public SearchDto.SearchCursorResponse getSearchFeed(
+            SearchDto.ListSearchCondition condition,
+            UserDetails userDetails,
+            int size
+    ) {
+        return searchQueryRepository.searchFeed(userDetails, condition, Math.max(1, Math.min(size, MAX_FEED_SIZE)));
+    }
 }
\ No newline at end of file
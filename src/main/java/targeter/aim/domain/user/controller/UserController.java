@@ -37,6 +37,28 @@ public class UserController {
         return userService.getTop10UserRank();
     }
 
+    @GetMapping("/rank/me")
+    @Operation(summary = "내 순위 조회", description = "전체 유저 중 내 레벨 순위와 앞뒤 radius 명의 순위를 반환합니다.")
+    public UserDto.MyRankResponse getMyRank(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(defaultValue = "2") int radius
+    ) {
+        if (userDetails == null) {
+            throw new RestException(ErrorCode.AUTH_LOGIN_REQUIRED);
+        }
+        return userService.getMyRank(userDetails.getUser().getId(), radius);
+    }
+
+    @NoJwtAuth
+    @GetMapping("/rank")
+    @Operation(summary = "전체 유저 랭킹 페이지 조회", description = "레벨 내림차순(동일 레벨은 가입 순) 전체 랭킹을 페이지 단위로 반환합니다. size 는 최대 100 입니다.")
+    public UserDto.RankPageResponse getRankPage(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return userService.getRankPage(page, size);
+    }
+
     @GetMapping("/mypage")
     @Operation(
             summary = "마이페이지 레벨/티어 조회",
@@ -0,0 +1,27 @@
+package targeter.aim.domain.user.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import targeter.aim.domain.user.service.UserChallengeStatsService;
+
+/**
+ * 유저 챌린지 통계 재구축용 actuator 엔드포인트 (/actuator/userstats, 관리 포트 전용)
+ * POST: 전체 재계산, onlyMissing=true 면 통계 행이 없는 유저만 백필
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "userstats")
+public class UserStatsEndpoint {
+
+    private final UserChallengeStatsService userChallengeStatsService;
+
+    public record RebuildResult(int rebuiltUsers) {}
+
+    @WriteOperation
+    public RebuildResult rebuild(@Nullable Boolean onlyMissing) {
+        return new RebuildResult(userChallengeStatsService.rebuildAll(Boolean.TRUE.equals(onlyMissing)));
+    }
+}
@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import targeter.aim.domain.user.entity.Tier;
+import targeter.aim.domain.user.entity.TierGrade;
 
 public class TierDto {
 
@@ -24,5 +25,11 @@ public class TierDto {
                     .name(tier.getName())
                     .build();
         }
+
+        public static TierResponse from(TierGrade grade) {
+            return TierResponse.builder()
+                    .name(grade.name())
+                    .build();
+        }
     }
 }
@@ -107,6 +107,47 @@ public class UserDto {
         }
     }
 
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    public static class MyRankResponse {
+
+        @Schema(description = "내 순위", example = "128")
+        private Integer rank;
+
+        @Schema(description = "전체 유저 수", example = "3021")
+        private Integer totalUsers;
+
+        @Schema(description = "내 레벨", example = "12")
+        private Integer level;
+
+        @Schema(description = "내 앞뒤 순위 유저 (나 포함)")
+        private List<RankTop10Response> neighbors;
+    }
+
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    public static class RankPageResponse {
+
+        @Schema(description = "순위 목록")
+        private List<RankTop10Response> content;
+
+        @Schema(description = "페이지 번호 (0부터)", example = "0")
+        private Integer page;
+
+        @Schema(description = "페이지 크기", example = "20")
+        private Integer size;
+
+        @Schema(description = "전체 유저 수", example = "3021")
+        private Integer totalElements;
+
+        @Schema(description = "전체 페이지 수", example = "152")
+        private Integer totalPages;
+    }
+
     @Getter
     @NoArgsConstructor
     @AllArgsConstructor
@@ -0,0 +1,48 @@
+package targeter.aim.domain.user.entity;
+
+/**
+ * 티어 등급과 레벨 구간. TIER 테이블의 name 과 같은 값을 쓴다.
+ */
+public enum TierGrade {
+    BRONZE(1, 30),
+    SILVER(31, 60),
+    GOLD(61, 80),
+    DIAMOND(81, 100);
+
+    private static final TierGrade[] VALUES = values();
+
+    private final int minLevel;
+    private final int maxLevel;
+
+    TierGrade(int minLevel, int maxLevel) {
+        this.minLevel = minLevel;
+        this.maxLevel = maxLevel;
+    }
+
+    public int getMinLevel() {
+        return minLevel;
+    }
+
+    public int getMaxLevel() {
+        return maxLevel;
+    }
+
+    public static TierGrade ofLevel(int level) {
+        for (TierGrade grade : VALUES) {
+            if (level <= grade.maxLevel) return grade;
+        }
+        return DIAMOND;
+    }
+
+    // 마지막 등급이면 null
+    public TierGrade next() {
+        return ordinal() + 1 < VALUES.length ? VALUES[ordinal() + 1] : null;
+    }
+
+    public static TierGrade fromName(String name) {
+        for (TierGrade grade : VALUES) {
+            if (grade.name().equals(name)) return grade;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,89 @@
+package targeter.aim.domain.user.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import targeter.aim.common.auditor.TimeStampedEntity;
+import targeter.aim.domain.challenge.entity.ChallengeMode;
+
+/**
+ * 유저별 챌린지 통계 (읽기 모델).
+ * 정산 결과(시도 / 성공)와 타이머 누적 학습 시간을 미리 쌓아 두어 프로필 / 기록 조회를 한 행 읽기로 만든다.
+ * 원본은 member.result 와 weekly_progress.elapsed_time_seconds 이며 언제든 재계산할 수 있다.
+ */
+@Entity
+@SuperBuilder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Table(name = "user_challenge_stats")
+public class UserChallengeStats extends TimeStampedEntity {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "solo_attempt", nullable = false)
+    @Builder.Default
+    private Integer soloAttempt = 0;
+
+    @Column(name = "solo_success", nullable = false)
+    @Builder.Default
+    private Integer soloSuccess = 0;
+
+    @Column(name = "vs_attempt", nullable = false)
+    @Builder.Default
+    private Integer vsAttempt = 0;
+
+    @Column(name = "vs_success", nullable = false)
+    @Builder.Default
+    private Integer vsSuccess = 0;
+
+    @Column(name = "total_study_seconds", nullable = false)
+    @Builder.Default
+    private Long totalStudySeconds = 0L;
+
+    public static UserChallengeStats empty(Long userId) {
+        return UserChallengeStats.builder().userId(userId).build();
+    }
+
+    public int getAllAttempt() {
+        return soloAttempt + vsAttempt;
+    }
+
+    public int getAllSuccess() {
+        return soloSuccess + vsSuccess;
+    }
+
+    public int attemptOf(ChallengeMode mode) {
+        return mode == ChallengeMode.VS ? vsAttempt : soloAttempt;
+    }
+
+    public int successOf(ChallengeMode mode) {
+        return mode == ChallengeMode.VS ? vsSuccess : soloSuccess;
+    }
+
+    public void addResult(ChallengeMode mode, boolean success) {
+        if (mode == ChallengeMode.VS) {
+            vsAttempt++;
+            if (success) vsSuccess++;
+        } else {
+            soloAttempt++;
+            if (success) soloSuccess++;
+        }
+    }
+
+    public void addStudySeconds(long seconds) {
+        if (seconds > 0) {
+            totalStudySeconds += seconds;
+        }
+    }
+
+    public void overwrite(int soloAttempt, int soloSuccess, int vsAttempt, int vsSuccess, long totalStudySeconds) {
+        this.soloAttempt = soloAttempt;
+        this.soloSuccess = soloSuccess;
+        this.vsAttempt = vsAttempt;
+        this.vsSuccess = vsSuccess;
+        this.totalStudySeconds = totalStudySeconds;
+    }
+}
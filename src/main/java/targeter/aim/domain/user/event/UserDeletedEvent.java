@@ -0,0 +1,5 @@
+package targeter.aim.domain.user.event;
+
+// 유저가 탈퇴 / 삭제되었을 때 발행 (순위 인덱스 등 노드 메모리에서 빼기 위함)
+public record UserDeletedEvent(Long userId) {
+}
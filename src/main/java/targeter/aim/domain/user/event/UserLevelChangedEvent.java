@@ -0,0 +1,5 @@
+package targeter.aim.domain.user.event;
+
+// 레벨업으로 유저 레벨 / 티어가 바뀌었을 때 발행
+public record UserLevelChangedEvent(Long userId, int level) {
+}
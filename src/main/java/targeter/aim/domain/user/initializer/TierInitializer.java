@@ -7,6 +7,8 @@ import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import targeter.aim.domain.user.entity.Tier;
+import targeter.aim.domain.user.entity.TierGrade;
+import targeter.aim.domain.user.registry.TierRegistry;
 import targeter.aim.domain.user.repository.TierRepository;
 
 import java.util.Arrays;
@@ -19,6 +21,7 @@ import java.util.List;
 public class TierInitializer implements CommandLineRunner {
 
     private final TierRepository tierRepository;
+    private final TierRegistry tierRegistry;
 
     @Override
     @Transactional
@@ -26,20 +29,20 @@ public class TierInitializer implements CommandLineRunner {
         // 중복 생성 방지
         if(tierRepository.count() > 0) {
             log.info("[TierInitializer] 티어 정보가 이미 있으므로 초기화 건너뜀.");
+            tierRegistry.load();
             return;
         }
 
         log.info("[TierInitializer] 티어 정보 초기화 진행중...");
 
         // 티어 정보 초기화
-        List<Tier> tiers = Arrays.asList(
-                Tier.builder().name("BRONZE").build(),
-                Tier.builder().name("SILVER").build(),
-                Tier.builder().name("GOLD").build(),
-                Tier.builder().name("DIAMOND").build()
-        );
+        List<Tier> tiers = Arrays.stream(TierGrade.values())
+                .map(grade -> Tier.builder().name(grade.name()).build())
+                .toList();
 
         tierRepository.saveAll(tiers);
         log.info("[TierInitializer] 티어 정보 초기화 완료. (size: {})", tiers.size());
+
+        tierRegistry.load();
     }
 }
@@ -0,0 +1,160 @@
+package targeter.aim.domain.user.rank;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 순위 계산용 order-statistic 트립(treap).
+ * 원소는 (레벨, userId) 이고 레벨 내림차순, 같은 레벨은 userId 오름차순으로 정렬한다.
+ * 노드마다 서브트리 크기를 들고 있어 "앞선 원소 수(rank)" 와 "k 번째 원소(select)" 를 O(log n) 에 구한다.
+ * 동기화는 하지 않으므로 호출 측에서 락으로 감싼다.
+ */
+class RankTree {
+
+    interface Visitor {
+        void visit(long userId, int level);
+    }
+
+    private Node root;
+
+    private static final class Node {
+        final long userId;
+        final int level;
+        final int priority = ThreadLocalRandom.current().nextInt();
+        Node left;
+        Node right;
+        int size = 1;
+
+        Node(long userId, int level) {
+            this.userId = userId;
+            this.level = level;
+        }
+    }
+
+    int size() {
+        return size(root);
+    }
+
+    void insert(long userId, int level) {
+        root = insert(root, userId, level);
+    }
+
+    void remove(long userId, int level) {
+        root = remove(root, userId, level);
+    }
+
+    // (userId, level) 보다 앞선 원소 수 (0부터)
+    int rank(long userId, int level) {
+        int rank = 0;
+        Node node = root;
+        while (node != null) {
+            int cmp = compare(userId, level, node);
+            if (cmp == 0) {
+                return rank + size(node.left);
+            }
+            if (cmp < 0) {
+                node = node.left;
+            } else {
+                rank += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return rank;
+    }
+
+    // from 번째(0부터)부터 count 개를 순서대로 방문한다
+    void range(int from, int count, Visitor visitor) {
+        if (count <= 0 || from >= size()) return;
+        collect(root, Math.max(from, 0), count, visitor);
+    }
+
+    // remaining: 더 방문할 수 있는 원소 수, 방문 후 남은 수를 돌려준다
+    private static int collect(Node node, int from, int remaining, Visitor visitor) {
+        if (node == null || remaining <= 0) return remaining;
+
+        int leftSize = size(node.left);
+        if (from < leftSize) {
+            remaining = collect(node.left, from, remaining, visitor);
+        }
+        if (remaining > 0 && from <= leftSize) {
+            visitor.visit(node.userId, node.level);
+            remaining--;
+        }
+        if (remaining > 0) {
+            remaining = collect(node.right, Math.max(from - leftSize - 1, 0), remaining, visitor);
+        }
+        return remaining;
+    }
+
+    // 레벨 내림차순, 같은 레벨은 userId 오름차순
+    private static int compare(long userId, int level, Node node) {
+        int cmp = Integer.compare(node.level, level);
+        return cmp != 0 ? cmp : Long.compare(userId, node.userId);
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static Node update(Node node) {
+        node.size = 1 + size(node.left) + size(node.right);
+        return node;
+    }
+
+    private static Node insert(Node node, long userId, int level) {
+        if (node == null) return new Node(userId, level);
+
+        int cmp = compare(userId, level, node);
+        if (cmp == 0) return node;
+
+        if (cmp < 0) {
+            node.left = insert(node.left, userId, level);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, userId, level);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        return update(node);
+    }
+
+    private static Node remove(Node node, long userId, int level) {
+        if (node == null) return null;
+
+        int cmp = compare(userId, level, node);
+        if (cmp < 0) {
+            node.left = remove(node.left, userId, level);
+        } else if (cmp > 0) {
+            node.right = remove(node.right, userId, level);
+        } else {
+            if (node.left == null) return node.right;
+            if (node.right == null) return node.left;
+
+            // 우선순위가 높은 자식을 올리고 내려간 노드에서 다시 제거
+            if (node.left.priority > node.right.priority) {
+                node = rotateRight(node);
+                node.right = remove(node.right, userId, level);
+            } else {
+                node = rotateLeft(node);
+                node.left = remove(node.left, userId, level);
+            }
+        }
+        return update(node);
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = update(node);
+        return update(pivot);
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = update(node);
+        return update(pivot);
+    }
+}
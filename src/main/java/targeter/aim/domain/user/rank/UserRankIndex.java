@@ -0,0 +1,219 @@
+package targeter.aim.domain.user.rank;
+
+import com.querydsl.core.Tuple;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import targeter.aim.domain.user.event.UserDeletedEvent;
+import targeter.aim.domain.user.event.UserLevelChangedEvent;
+import targeter.aim.domain.user.repository.UserQueryRepository;
+import targeter.aim.system.configuration.rank.RankProperties;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static targeter.aim.domain.user.entity.QUser.user;
+
+/**
+ * 전체 유저 레벨 순위 인덱스 (레벨 내림차순, 같은 레벨은 id 오름차순).
+ * "내 순위", "N 페이지", "내 주변 순위" 를 테이블 스캔 없이 O(log n) 에 답한다.
+ *
+ * 기동 시 전체를 한 번 읽고 이후에는 레벨업 / 탈퇴 이벤트로 갱신한다.
+ * 다른 노드에서 일어난 레벨업은 rank.index.max-age 마다 백그라운드 재적재로 맞춘다.
+ */
+@Slf4j
+@Component
+public class UserRankIndex {
+
+    private final UserQueryRepository userQueryRepository;
+    private final Duration maxAge;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private RankTree tree = new RankTree();
+    private Map<Long, Integer> levelByUser = new HashMap<>();
+    private volatile Instant loadedAt = Instant.EPOCH;
+
+    // 재적재 중 들어온 갱신은 교체 후 다시 반영 (레벨이 REMOVED 면 삭제)
+    private static final int REMOVED = -1;
+    private final List<long[]> updatesDuringReload = new ArrayList<>();
+    private boolean reloading;
+
+    private final ExecutorService reloadExecutor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("rank-index-reload").daemon().factory()
+    );
+    private final AtomicBoolean reloadQueued = new AtomicBoolean();
+
+    public record Entry(int rank, long userId, int level) {}
+
+    public UserRankIndex(UserQueryRepository userQueryRepository, RankProperties rankProperties) {
+        this.userQueryRepository = userQueryRepository;
+        this.maxAge = rankProperties.getIndex().getMaxAge();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        lock.writeLock().lock();
+        try {
+            reloading = true;
+            updatesDuringReload.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        RankTree loadedTree = new RankTree();
+        Map<Long, Integer> loadedLevels = new HashMap<>();
+        try {
+            for (Tuple row : userQueryRepository.rankRows()) {
+                long userId = row.get(user.id);
+                int level = orDefault(row.get(user.level));
+                loadedTree.insert(userId, level);
+                loadedLevels.put(userId, level);
+            }
+        } finally {
+            lock.writeLock().lock();
+            try {
+                reloading = false;
+                tree = loadedTree;
+                levelByUser = loadedLevels;
+                loadedAt = Instant.now();
+                for (long[] update : updatesDuringReload) {
+                    if (update[1] == REMOVED) {
+                        detach(update[0]);
+                    } else {
+                        apply(update[0], (int) update[1]);
+                    }
+                }
+                updatesDuringReload.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        log.info("[RankIndex] 순위 인덱스 적재: {}명", loadedLevels.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLevelChanged(UserLevelChangedEvent event) {
+        put(event.userId(), event.level());
+    }
+
+    public void put(long userId, int level) {
+        lock.writeLock().lock();
+        try {
+            apply(userId, level);
+            if (reloading) {
+                updatesDuringReload.add(new long[]{ userId, level });
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserDeleted(UserDeletedEvent event) {
+        remove(event.userId());
+    }
+
+    public void remove(long userId) {
+        lock.writeLock().lock();
+        try {
+            detach(userId);
+            if (reloading) {
+                updatesDuringReload.add(new long[]{ userId, REMOVED });
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int totalUsers() {
+        lock.readLock().lock();
+        try {
+            return tree.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return 1부터 시작하는 순위, 인덱스에 없는 유저면 null
+     */
+    public Entry entryOf(long userId) {
+        refreshIfStale();
+        lock.readLock().lock();
+        try {
+            Integer level = levelByUser.get(userId);
+            if (level == null) return null;
+            return new Entry(tree.rank(userId, level) + 1, userId, level);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // offset(0부터) 부터 limit 명
+    public List<Entry> range(int offset, int limit) {
+        refreshIfStale();
+        lock.readLock().lock();
+        try {
+            List<Entry> result = new ArrayList<>(Math.max(Math.min(limit, tree.size()), 0));
+            tree.range(offset, limit, (userId, level) ->
+                    result.add(new Entry(offset + result.size() + 1, userId, level)));
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 내 순위 앞뒤 radius 명 (나 포함)
+    public List<Entry> around(long userId, int radius) {
+        Entry me = entryOf(userId);
+        if (me == null) return List.of();
+
+        int from = Math.max(me.rank() - 1 - radius, 0);
+        return range(from, me.rank() - 1 - from + radius + 1);
+    }
+
+    private void apply(long userId, int level) {
+        Integer previous = levelByUser.put(userId, level);
+        if (previous != null) {
+            tree.remove(userId, previous);
+        }
+        tree.insert(userId, level);
+    }
+
+    private void detach(long userId) {
+        Integer previous = levelByUser.remove(userId);
+        if (previous != null) {
+            tree.remove(userId, previous);
+        }
+    }
+
+    private void refreshIfStale() {
+        if (Duration.between(loadedAt, Instant.now()).compareTo(maxAge) <= 0) return;
+
+        if (reloadQueued.compareAndSet(false, true)) {
+            reloadExecutor.execute(() -> {
+                try {
+                    reload();
+                } catch (RuntimeException e) {
+                    log.warn("[RankIndex] 순위 인덱스 재적재 실패: {}", e.getMessage());
+                } finally {
+                    reloadQueued.set(false);
+                }
+            });
+        }
+    }
+
+    private static int orDefault(Integer level) {
+        return level == null ? 1 : level;
+    }
+}
@@ -0,0 +1,87 @@
+package targeter.aim.domain.user.registry;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import targeter.aim.domain.user.entity.Tier;
+import targeter.aim.domain.user.entity.TierGrade;
+import targeter.aim.domain.user.repository.TierRepository;
+import targeter.aim.system.exception.model.ErrorCode;
+import targeter.aim.system.exception.model.RestException;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 티어 참조 데이터. TierInitializer 가 시드를 넣은 뒤 한 번 읽어 불변 스냅샷으로 들고 있는다.
+ * 등급 -> id 는 enum ordinal 배열, id -> 등급은 맵으로 조회하며 DB 를 거치지 않는다.
+ * 연관관계에 넣을 엔티티는 {@link #reference(TierGrade)} 로 프록시만 만든다 (SELECT 없음).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TierRegistry {
+
+    private final TierRepository tierRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile Snapshot snapshot;
+
+    private record Snapshot(Long[] idByOrdinal, Map<Long, TierGrade> gradeById) {}
+
+    public synchronized void load() {
+        Long[] idByOrdinal = new Long[TierGrade.values().length];
+        Map<Long, TierGrade> gradeById = new HashMap<>();
+
+        for (Tier tier : tierRepository.findAll()) {
+            TierGrade grade = TierGrade.fromName(tier.getName());
+            if (grade == null) {
+                log.warn("[TierRegistry] 알 수 없는 티어 무시: {}", tier.getName());
+                continue;
+            }
+            idByOrdinal[grade.ordinal()] = tier.getId();
+            gradeById.put(tier.getId(), grade);
+        }
+
+        snapshot = new Snapshot(idByOrdinal, Map.copyOf(gradeById));
+        log.info("[TierRegistry] 티어 {}개 적재", gradeById.size());
+    }
+
+    public Long idOf(TierGrade grade) {
+        Long id = snapshot().idByOrdinal()[grade.ordinal()];
+        if (id == null) {
+            throw new RestException(ErrorCode.TIER_NOT_FOUND);
+        }
+        return id;
+    }
+
+    // 프록시의 id 만 읽으므로 Tier 를 초기화하지 않는다
+    public TierGrade gradeOf(Tier tier) {
+        TierGrade grade = tier == null ? null : snapshot().gradeById().get(tier.getId());
+        if (grade == null) {
+            throw new RestException(ErrorCode.TIER_NOT_FOUND);
+        }
+        return grade;
+    }
+
+    public Tier reference(TierGrade grade) {
+        return entityManager.getReference(Tier.class, idOf(grade));
+    }
+
+    public Tier referenceByLevel(int level) {
+        return reference(TierGrade.ofLevel(level));
+    }
+
+    private Snapshot snapshot() {
+        Snapshot s = snapshot;
+        if (s == null) {
+            load();
+            s = snapshot;
+        }
+        return s;
+    }
+}
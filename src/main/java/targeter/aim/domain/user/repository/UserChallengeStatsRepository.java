@@ -0,0 +1,7 @@
+package targeter.aim.domain.user.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import targeter.aim.domain.user.entity.UserChallengeStats;
+
+public interface UserChallengeStatsRepository extends JpaRepository<UserChallengeStats, Long> {
+}
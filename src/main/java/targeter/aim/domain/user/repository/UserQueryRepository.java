@@ -1,21 +1,24 @@
 package targeter.aim.domain.user.repository;
 
-import com.querydsl.core.BooleanBuilder;
-import com.querydsl.core.types.dsl.CaseBuilder;
-import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.Tuple;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.springframework.stereotype.Repository;
-import targeter.aim.domain.challenge.entity.ChallengeMode;
+import targeter.aim.domain.user.entity.UserChallengeStats;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
-import static targeter.aim.domain.challenge.entity.QChallenge.challenge;
-import static targeter.aim.domain.challenge.entity.QWeeklyProgress.weeklyProgress;
 import static targeter.aim.domain.label.entity.QField.field;
 import static targeter.aim.domain.label.entity.QTag.tag;
 import static targeter.aim.domain.user.entity.QUser.user;
+import static targeter.aim.domain.user.entity.QUserChallengeStats.userChallengeStats;
 
 @Repository
 @RequiredArgsConstructor
@@ -23,7 +26,18 @@ public class UserQueryRepository {
 
     private final JPAQueryFactory queryFactory;
 
-    public record Record(long attempt, long success) {}
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile Boolean mysqlFamily;
+
+    // 순위 인덱스 적재용: 전체 유저의 id / 레벨만
+    public List<Tuple> rankRows() {
+        return queryFactory
+                .select(user.id, user.level)
+                .from(user)
+                .fetch();
+    }
 
     public List<String> findUserTagNames(Long userId) {
         return queryFactory
@@ -45,59 +59,108 @@ public class UserQueryRepository {
                 .fetch();
     }
 
-    public Record calcOverallRecord(Long userId) {
-        return calcRecordByMode(userId, null);
+    // 잠금 없이 읽으므로 gap lock 을 잡지 않는다. 이미 행이 있는 유저를 INSERT 시도에서 빼는 용도
+    public List<Long> existingStatsUserIds(List<Long> userIds) {
+        return queryFactory
+                .select(userChallengeStats.userId)
+                .from(userChallengeStats)
+                .where(userChallengeStats.userId.in(userIds))
+                .fetch();
     }
 
-    public Record calcSoloRecord(Long userId) {
-        return calcRecordByMode(userId, ChallengeMode.SOLO);
-    }
+    /**
+     * 0 으로 채운 통계 행을 없는 유저에 대해서만 만든다 (이미 있으면 그 유저는 건너뜀).
+     * 없는 행을 FOR UPDATE 로 먼저 읽으면 MariaDB 는 gap lock 을 잡고, 같은 구간에 INSERT 하려는 트랜잭션끼리 교착된다.
+     * 그래서 행을 먼저 만들고(INSERT 는 그 행의 record lock 만 잡는다) 그 다음에 잠근다.
+     * MariaDB / MySQL 은 여러 행을 INSERT IGNORE 한 번으로, 그 밖(H2)은 행마다 NOT EXISTS 조건부 INSERT 로 만든다.
+     *
+     * @param userIds 유저 id 오름차순 (동시에 만드는 트랜잭션끼리 같은 순서로 잠그도록)
+     * @return 이 호출이 만든 행 수
+     */
+    public int insertMissingStats(List<Long> userIds) {
+        if (userIds.isEmpty()) return 0;
+
+        if (!isMysqlFamily()) {
+            int inserted = 0;
+            for (Long userId : userIds) {
+                inserted += entityManager.createNativeQuery("INSERT INTO user_challenge_stats " + STATS_COLUMNS
+                                + " SELECT ?1, 0, 0, 0, 0, 0, LOCALTIMESTAMP, LOCALTIMESTAMP"
+                                + " WHERE NOT EXISTS (SELECT 1 FROM user_challenge_stats WHERE user_id = ?1)")
+                        .setParameter(1, userId)
+                        .executeUpdate();
+            }
+            return inserted;
+        }
+
+        StringBuilder sql = new StringBuilder("INSERT IGNORE INTO user_challenge_stats ").append(STATS_COLUMNS).append(" VALUES ");
+        for (int i = 1; i <= userIds.size(); i++) {
+            if (i > 1) sql.append(", ");
+            sql.append("(?").append(i).append(", 0, 0, 0, 0, 0, LOCALTIMESTAMP, LOCALTIMESTAMP)");
+        }
 
-    public Record calcVsRecord(Long userId) {
-        return calcRecordByMode(userId, ChallengeMode.VS);
+        Query query = entityManager.createNativeQuery(sql.toString());
+        for (int i = 0; i < userIds.size(); i++) {
+            query.setParameter(i + 1, userIds.get(i));
+        }
+        return query.executeUpdate();
     }
 
-    private Record calcRecordByMode(Long userId, ChallengeMode mode) {
+    // 통계 갱신은 같은 유저끼리 직렬화한다 (정산 / 타이머 STOP 동시 발생). 행이 있는 유저만 넘길 것
+    public List<UserChallengeStats> findAllStatsForUpdate(List<Long> userIds) {
+        return queryFactory
+                .selectFrom(userChallengeStats)
+                .where(userChallengeStats.userId.in(userIds))
+                .orderBy(userChallengeStats.userId.asc())
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .fetch();
+    }
 
-        BooleanBuilder where = new BooleanBuilder();
-        where.and(weeklyProgress.user.id.eq(userId));
+    /**
+     * 학습 시간 증분을 UPDATE 한 번으로 더한다. 행 잠금은 UPDATE 가 잡으므로 따로 읽어 잠그지 않는다.
+     *
+     * @return 갱신한 행 수 (0 이면 아직 통계 행이 없는 유저)
+     */
+    public long addStudySeconds(Long userId, long seconds) {
+        return queryFactory
+                .update(userChallengeStats)
+                .set(userChallengeStats.totalStudySeconds, userChallengeStats.totalStudySeconds.add(seconds))
+                .set(userChallengeStats.lastModifiedAt, LocalDateTime.now())
+                .where(userChallengeStats.userId.eq(userId))
+                .execute();
+    }
 
-        if (mode != null) {
-            where.and(challenge.mode.eq(mode));
-        }
-        Long attempt = queryFactory
-                .select(weeklyProgress.challenge.id.countDistinct())
-                .from(weeklyProgress)
-                .join(weeklyProgress.challenge, challenge)
-                .where(where)
-                .fetchOne();
-
-        long attemptCount = attempt == null ? 0L : attempt;
-
-        NumberExpression<Integer> completeCnt = new CaseBuilder()
-                .when(weeklyProgress.isComplete.isTrue()).then(1)
-                .otherwise(0)
-                .sum();
-
-        NumberExpression<Long> totalCnt = weeklyProgress.id.count();
-
-        NumberExpression<Double> ratio = Expressions.numberTemplate(
-                Double.class,
-                "({0} * 1.0) / {1}",
-                completeCnt,
-                totalCnt
-        );
-        List<Long> successChallengeIds = queryFactory
-                .select(weeklyProgress.challenge.id)
-                .from(weeklyProgress)
-                .join(weeklyProgress.challenge, challenge)
-                .where(where)
-                .groupBy(weeklyProgress.challenge.id)
-                .having(ratio.goe(0.7))
+    /**
+     * 통계 재계산용 유저 id 페이지 (id 오름차순 keyset)
+     *
+     * @param onlyMissingStats true 면 통계 행이 아직 없는 유저만
+     */
+    public List<Long> statsTargetIds(Long afterId, int size, boolean onlyMissingStats) {
+        return queryFactory
+                .select(user.id)
+                .from(user)
+                .leftJoin(userChallengeStats).on(userChallengeStats.userId.eq(user.id))
+                .where(
+                        user.id.gt(afterId),
+                        onlyMissingStats ? userChallengeStats.userId.isNull() : null
+                )
+                .orderBy(user.id.asc())
+                .limit(size)
                 .fetch();
+    }
 
-        long successCount = (successChallengeIds == null) ? 0L : successChallengeIds.size();
-
-        return new Record(attemptCount, successCount);
+    private static final String STATS_COLUMNS = "(user_id, solo_attempt, solo_success, vs_attempt, vs_success,"
+            + " total_study_seconds, created_at, last_modified_at)";
+
+    // MariaDB / MySQL 이면 INSERT IGNORE, 그 밖(H2)은 NOT EXISTS 조건부 INSERT
+    private boolean isMysqlFamily() {
+        Boolean cached = mysqlFamily;
+        if (cached == null) {
+            cached = entityManager.getEntityManagerFactory()
+                    .unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices()
+                    .getDialect() instanceof MySQLDialect;
+            mysqlFamily = cached;
+        }
+        return cached;
     }
 }
@@ -0,0 +1,218 @@
+package targeter.aim.domain.user.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import targeter.aim.domain.challenge.entity.ChallengeMode;
+import targeter.aim.domain.challenge.repository.ChallengeMemberQueryRepository;
+import targeter.aim.domain.challenge.repository.WeeklyProgressQueryRepository;
+import targeter.aim.domain.user.entity.UserChallengeStats;
+import targeter.aim.domain.user.repository.UserChallengeStatsRepository;
+import targeter.aim.domain.user.repository.UserQueryRepository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 유저 챌린지 통계(user_challenge_stats) 관리.
+ * 정산 / 타이머 STOP 트랜잭션 안에서 행을 잠그고 증분 갱신하며, 원본에서 다시 계산하는 재구축도 담당한다.
+ *
+ * 행이 없는 유저는 같은 트랜잭션에서 빈 행을 먼저 만든 뒤 잠그고 원본으로 채운다.
+ * 호출자는 원본(member.result / weekly_progress)을 먼저 바꾸고 부르므로, 이렇게 채운 행에는 이번 변경이 이미 들어 있어 증분을 더하지 않는다.
+ */
+@Slf4j
+@Service
+public class UserChallengeStatsService {
+
+    private static final int REBUILD_CHUNK_SIZE = 500;
+
+    private final UserChallengeStatsRepository userChallengeStatsRepository;
+    private final UserQueryRepository userQueryRepository;
+    private final ChallengeMemberQueryRepository challengeMemberQueryRepository;
+    private final WeeklyProgressQueryRepository weeklyProgressQueryRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("user-stats-rebuild").daemon().factory()
+    );
+
+    // 정산 배치에서 넘기는 멤버 1명의 결과
+    public record SettledResult(Long userId, ChallengeMode mode, boolean success) {}
+
+    public UserChallengeStatsService(
+            UserChallengeStatsRepository userChallengeStatsRepository,
+            UserQueryRepository userQueryRepository,
+            ChallengeMemberQueryRepository challengeMemberQueryRepository,
+            WeeklyProgressQueryRepository weeklyProgressQueryRepository,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.userChallengeStatsRepository = userChallengeStatsRepository;
+        this.userQueryRepository = userQueryRepository;
+        this.challengeMemberQueryRepository = challengeMemberQueryRepository;
+        this.weeklyProgressQueryRepository = weeklyProgressQueryRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public Optional<UserChallengeStats> find(Long userId) {
+        return userChallengeStatsRepository.findById(userId);
+    }
+
+    // 행이 없으면(아직 정산 / 학습 기록이 없는 유저) 0 으로 채운 값을 돌려준다
+    public UserChallengeStats get(Long userId) {
+        return find(userId).orElseGet(() -> UserChallengeStats.empty(userId));
+    }
+
+    @Transactional
+    public void recordResult(Long userId, ChallengeMode mode, boolean success) {
+        Locked locked = lockAll(List.of(userId));
+        if (!locked.created().contains(userId)) {
+            locked.statsByUser().get(userId).addResult(mode, success);
+        }
+    }
+
+    /**
+     * 정산 청크 결과를 한 번에 반영한다. 유저 id 순으로 잠가 병렬 청크끼리 교착되지 않게 한다.
+     *
+     * @return 반영 후 유저별 통계 (현재 트랜잭션이 잠근 상태)
+     */
+    @Transactional
+    public Map<Long, UserChallengeStats> recordResults(List<SettledResult> results) {
+        List<Long> userIds = results.stream().map(SettledResult::userId).toList();
+        if (userIds.isEmpty()) return Map.of();
+
+        Locked locked = lockAll(userIds);
+        for (SettledResult result : results) {
+            if (locked.created().contains(result.userId())) continue;
+            locked.statsByUser().get(result.userId()).addResult(result.mode(), result.success());
+        }
+        return locked.statsByUser();
+    }
+
+    /**
+     * 타이머 STOP 마다 불리므로 행이 있으면 증분 UPDATE 한 번으로 끝낸다.
+     * 행이 없을 때(0 건 갱신)만 만들기 / 잠그기 / 원본으로 채우기 경로를 탄다.
+     */
+    @Transactional
+    public void addStudySeconds(Long userId, long seconds) {
+        if (seconds <= 0) return;
+        if (userQueryRepository.addStudySeconds(userId, seconds) > 0) return;
+
+        Locked locked = lockAll(List.of(userId));
+        if (!locked.created().contains(userId)) {
+            // 그 사이 다른 트랜잭션이 행을 만들었다
+            locked.statsByUser().get(userId).addStudySeconds(seconds);
+        }
+    }
+
+    /**
+     * 전체 재구축. 유저 id 순으로 청크를 나눠 청크마다 별도 트랜잭션에서 다시 계산한다.
+     *
+     * @param onlyMissing true 면 통계 행이 없는 유저만 채운다 (배포 직후 백필)
+     * @return 갱신한 유저 수
+     */
+    public int rebuildAll(boolean onlyMissing) {
+        long lastId = 0L;
+        int total = 0;
+
+        while (true) {
+            List<Long> ids = userQueryRepository.statsTargetIds(lastId, REBUILD_CHUNK_SIZE, onlyMissing);
+            if (ids.isEmpty()) break;
+
+            transactionTemplate.executeWithoutResult(status -> rebuild(ids));
+            total += ids.size();
+            lastId = ids.get(ids.size() - 1);
+        }
+
+        log.info("[UserStats] 통계 재구축 완료 ({}명, onlyMissing={})", total, onlyMissing);
+        return total;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        rebuildExecutor.execute(() -> {
+            try {
+                rebuildAll(true);
+            } catch (RuntimeException e) {
+                log.warn("[UserStats] 백필 실패: {}", e.getMessage());
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    private record Locked(Map<Long, UserChallengeStats> statsByUser, Set<Long> created) {}
+
+    /**
+     * 유저 id 순으로 통계 행을 잠근다. 병렬 청크끼리 교착되지 않도록 만들기 / 잠그기 모두 같은 순서로 한다.
+     * 없던 행은 이 트랜잭션에서 한 번에 만들고 원본으로 채우며, 그 유저는 created 에 담긴다.
+     */
+    private Locked lockAll(List<Long> userIds) {
+        List<Long> sorted = userIds.stream().distinct().sorted().toList();
+
+        Set<Long> existing = new HashSet<>(userQueryRepository.existingStatsUserIds(sorted));
+        List<Long> missing = sorted.stream().filter(id -> !existing.contains(id)).toList();
+
+        Set<Long> created = new HashSet<>();
+        if (!missing.isEmpty()) {
+            int inserted = userQueryRepository.insertMissingStats(missing);
+            if (inserted == missing.size()) {
+                created.addAll(missing);
+            } else if (inserted > 0) {
+                // 일부는 다른 트랜잭션이 먼저 만들었다. 그 행은 이 트랜잭션의 스냅샷(REPEATABLE READ)에 보이지 않으므로
+                // 잠금 없는 읽기에 보이는 행이 이 트랜잭션이 만든 행이다
+                created.addAll(userQueryRepository.existingStatsUserIds(missing));
+            }
+        }
+
+        Map<Long, UserChallengeStats> statsByUser = new HashMap<>();
+        for (UserChallengeStats stats : userQueryRepository.findAllStatsForUpdate(sorted)) {
+            statsByUser.put(stats.getUserId(), stats);
+        }
+        if (!created.isEmpty()) {
+            overwriteFromSource(created, statsByUser);
+        }
+        return new Locked(statsByUser, created);
+    }
+
+    // 행을 먼저 만들고 잠근 뒤 원본을 읽어야 동시에 들어온 증분이 유실되지 않는다
+    private void rebuild(List<Long> userIds) {
+        userQueryRepository.insertMissingStats(userIds);
+
+        Map<Long, UserChallengeStats> statsByUser = new HashMap<>();
+        for (UserChallengeStats stats : userQueryRepository.findAllStatsForUpdate(userIds)) {
+            statsByUser.put(stats.getUserId(), stats);
+        }
+        overwriteFromSource(statsByUser.keySet(), statsByUser);
+    }
+
+    private void overwriteFromSource(Collection<Long> userIds, Map<Long, UserChallengeStats> statsByUser) {
+        Map<Long, int[]> counts = new HashMap<>();
+        for (ChallengeMemberQueryRepository.SettledCount row : challengeMemberQueryRepository.settledCountsByUsers(userIds)) {
+            int[] c = counts.computeIfAbsent(row.userId(), id -> new int[4]);
+            int offset = row.mode() == ChallengeMode.VS ? 2 : 0;
+            c[offset] = (int) row.attempt();
+            c[offset + 1] = (int) row.success();
+        }
+        Map<Long, Long> seconds = weeklyProgressQueryRepository.elapsedSecondsByUsers(userIds);
+
+        for (Long userId : userIds) {
+            int[] c = counts.getOrDefault(userId, new int[4]);
+            statsByUser.get(userId).overwrite(c[0], c[1], c[2], c[3], seconds.getOrDefault(userId, 0L));
+        }
+    }
+}
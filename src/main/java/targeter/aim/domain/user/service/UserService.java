@@ -2,21 +2,24 @@ package targeter.aim.domain.user.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
-import targeter.aim.domain.challenge.entity.ChallengeResult;
-import targeter.aim.domain.challenge.repository.ChallengeMemberQueryRepository;
+import targeter.aim.domain.challenge.repository.ChallengeRankQueryRepository;
 import targeter.aim.domain.file.dto.FileDto;
 import targeter.aim.domain.file.entity.ProfileImage;
 import targeter.aim.domain.file.handler.FileHandler;
 import targeter.aim.domain.user.dto.TierDto;
 import targeter.aim.domain.user.dto.UserDto;
-import targeter.aim.domain.user.entity.Tier;
 import targeter.aim.domain.user.entity.User;
-import targeter.aim.domain.user.repository.TierRepository;
+import targeter.aim.domain.user.entity.TierGrade;
+import targeter.aim.domain.user.entity.UserChallengeStats;
+import targeter.aim.domain.user.event.UserLevelChangedEvent;
+import targeter.aim.domain.user.rank.UserRankIndex;
+import targeter.aim.domain.user.registry.TierRegistry;
 import targeter.aim.domain.user.repository.UserQueryRepository;
 import targeter.aim.domain.user.repository.UserRepository;
 import targeter.aim.system.exception.model.ErrorCode;
@@ -32,11 +35,17 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final UserQueryRepository userQueryRepository;
-    private final TierRepository tierRepository;
-    private final ChallengeMemberQueryRepository challengeMemberQueryRepository;
+    private final TierRegistry tierRegistry;
+    private final UserChallengeStatsService userChallengeStatsService;
+    private final ChallengeRankQueryRepository challengeRankQueryRepository;
+    private final UserRankIndex userRankIndex;
 
     private final PasswordEncoder passwordEncoder;
     private final FileHandler fileHandler;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int MAX_RANK_PAGE_SIZE = 100;
+    private static final int MAX_RANK_RADIUS = 10;
 
     @Transactional(readOnly = true)
     public UserDto.UserResponse getUserProfile(Long userId) {
@@ -48,8 +57,9 @@ public class UserService {
 
     @Transactional
     public void checkAndApplyLevelUp(User user) {
-        int successCount = challengeMemberQueryRepository.countByUserAndResult(user, ChallengeResult.SUCCESS);
-        int totalCount = challengeMemberQueryRepository.countFinishedChallenges(user);
+        UserChallengeStats stats = userChallengeStatsService.get(user.getId());
+        int successCount = stats.getAllSuccess();
+        int totalCount = stats.getAllAttempt();
 
         if (totalCount == 0) return;
 
@@ -61,25 +71,79 @@ public class UserService {
             int newLevel = currentLevel + 1;
             user.setLevel(newLevel);
 
-            Tier newTier = determineTierByLevel(newLevel);
-            user.setTier(newTier);
-            log.info("User {} Level Up! {} -> {}, Tier -> {}", user.getId(), currentLevel, newLevel, newTier.getName());
+            TierGrade newGrade = TierGrade.ofLevel(newLevel);
+            user.setTier(tierRegistry.reference(newGrade));
+            log.info("User {} Level Up! {} -> {}, Tier -> {}", user.getId(), currentLevel, newLevel, newGrade);
+
+            eventPublisher.publishEvent(new UserLevelChangedEvent(user.getId(), newLevel));
         }
     }
 
+    /**
+     * 정산 배치용 레벨업 판정.
+     * 유저 / 티어를 한 번에 읽고, 정산된 순서대로 {@link #checkAndApplyLevelUp(User)} 와 같은 판정을 재생한다.
+     *
+     * @param results      정산 순서대로의 결과 (통계에는 이미 반영된 상태)
+     * @param statsByUser  반영 후 유저별 통계
+     */
+    @Transactional
+    public void applyLevelUps(
+            List<UserChallengeStatsService.SettledResult> results,
+            Map<Long, UserChallengeStats> statsByUser
+    ) {
+        if (results.isEmpty()) return;
+
+        Map<Long, User> users = new HashMap<>();
+        for (User user : userRepository.findAllById(statsByUser.keySet())) {
+            users.put(user.getId(), user);
+        }
+
+        // 이번 청크 반영 전의 누적값에서 출발
+        Map<Long, int[]> counts = new HashMap<>();   // [success, total]
+        for (Map.Entry<Long, UserChallengeStats> e : statsByUser.entrySet()) {
+            counts.put(e.getKey(), new int[]{ e.getValue().getAllSuccess(), e.getValue().getAllAttempt() });
+        }
+        for (UserChallengeStatsService.SettledResult r : results) {
+            int[] c = counts.get(r.userId());
+            c[1]--;
+            if (r.success()) c[0]--;
+        }
+
+        Map<Long, Integer> levels = new HashMap<>();
+        for (UserChallengeStatsService.SettledResult r : results) {
+            User user = users.get(r.userId());
+            if (user == null) continue;
+
+            int[] c = counts.get(r.userId());
+            c[1]++;
+            if (r.success()) c[0]++;
+
+            int currentLevel = levels.getOrDefault(r.userId(), user.getLevel() == null ? 1 : user.getLevel());
+            if (calculateScore(c[0], c[1], currentLevel) >= 1.0) {
+                levels.put(r.userId(), currentLevel + 1);
+            }
+        }
+        if (levels.isEmpty()) return;
+
+        levels.forEach((userId, newLevel) -> {
+            User user = users.get(userId);
+            int oldLevel = user.getLevel() == null ? 1 : user.getLevel();
+            TierGrade newGrade = TierGrade.ofLevel(newLevel);
+
+            user.setLevel(newLevel);
+            user.setTier(tierRegistry.reference(newGrade));
+            log.info("User {} Level Up! {} -> {}, Tier -> {}", userId, oldLevel, newLevel, newGrade);
+
+            eventPublisher.publishEvent(new UserLevelChangedEvent(userId, newLevel));
+        });
+    }
+
     private double calculateScore(double success, double total, double level) {
         double term1 = (success / total) * (0.5 + 0.002 * level);
         double term2 = Math.min(success / (30.0 + 1.2 * level), 1.0) * (0.5 - 0.002 * level);
         return term1 + term2;
     }
 
-    private Tier determineTierByLevel(int level) {
-        if (level <= 30) return tierRepository.findByName("BRONZE").orElseThrow();
-        if (level <= 60) return tierRepository.findByName("SILVER").orElseThrow();
-        if (level <= 80) return tierRepository.findByName("GOLD").orElseThrow();
-        return tierRepository.findByName("DIAMOND").orElseThrow();
-    }
-
     @Transactional(readOnly = true)
     public List<UserDto.RankTop10Response> getTop10UserRank() {
         List<User> users = userRepository
@@ -93,67 +157,93 @@ public class UserService {
         return result;
     }
 
+    @Transactional(readOnly = true)
+    public UserDto.MyRankResponse getMyRank(Long userId, int radius) {
+        UserRankIndex.Entry me = userRankIndex.entryOf(userId);
+        if (me == null) {
+            // 인덱스 적재 이후 가입한 유저
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new RestException(ErrorCode.USER_NOT_FOUND));
+            userRankIndex.put(userId, user.getLevel() == null ? 1 : user.getLevel());
+            me = userRankIndex.entryOf(userId);
+        }
+
+        List<UserRankIndex.Entry> neighbors = userRankIndex.around(userId, Math.min(Math.max(radius, 0), MAX_RANK_RADIUS));
+
+        return UserDto.MyRankResponse.builder()
+                .rank(me.rank())
+                .totalUsers(userRankIndex.totalUsers())
+                .level(me.level())
+                .neighbors(toRankResponses(neighbors))
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public UserDto.RankPageResponse getRankPage(int page, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_RANK_PAGE_SIZE);
+        int pageNumber = Math.max(page, 0);
+        int total = userRankIndex.totalUsers();
+
+        List<UserRankIndex.Entry> entries = userRankIndex.range(pageNumber * pageSize, pageSize);
+
+        return UserDto.RankPageResponse.builder()
+                .content(toRankResponses(entries))
+                .page(pageNumber)
+                .size(pageSize)
+                .totalElements(total)
+                .totalPages((total + pageSize - 1) / pageSize)
+                .build();
+    }
+
+    // 순위는 인덱스 기준, 닉네임 등은 한 번의 IN 조회로 채운다
+    private List<UserDto.RankTop10Response> toRankResponses(List<UserRankIndex.Entry> entries) {
+        if (entries.isEmpty()) return List.of();
+
+        Map<Long, User> usersById = new HashMap<>();
+        for (User u : userRepository.findAllById(entries.stream().map(UserRankIndex.Entry::userId).toList())) {
+            usersById.put(u.getId(), u);
+        }
+
+        List<UserDto.RankTop10Response> result = new ArrayList<>(entries.size());
+        for (UserRankIndex.Entry entry : entries) {
+            User u = usersById.get(entry.userId());
+            if (u != null) {
+                result.add(UserDto.RankTop10Response.of(entry.rank(), u));
+            }
+        }
+        return result;
+    }
+
     @Transactional(readOnly = true)
     public UserDto.MyPageResponse getMyPage(UserDetails userDetails) {
         User user = userRepository.findById(userDetails.getUser().getId())
                 .orElseThrow(() -> new RestException(ErrorCode.USER_NOT_FOUND));
 
         int level = user.getLevel();
-        Tier currentTier = user.getTier();
+        TierGrade currentGrade = tierRegistry.gradeOf(user.getTier());
 
-        int tierProgressPercent = calculateTierProgressPercent(level, currentTier);
-        Tier nextTierEntity = findNextTier(currentTier);
+        int tierProgressPercent = calculateTierProgressPercent(level, currentGrade);
+        TierGrade nextGrade = currentGrade.next();
 
         return new UserDto.MyPageResponse(
                 level,
-                TierDto.TierResponse.from(currentTier),
+                TierDto.TierResponse.from(currentGrade),
                 tierProgressPercent,
-                nextTierEntity == null
+                nextGrade == null
                         ? null
-                        : TierDto.TierResponse.from(nextTierEntity)
+                        : TierDto.TierResponse.from(nextGrade)
         );
     }
 
     // 티어 진행률 계산
-    private int calculateTierProgressPercent(int level, Tier tier) {
-        int start;
-        int end;
-
-        switch (tier.getName()) {
-            case "BRONZE" -> {
-                start = 1;
-                end = 30;
-            }
-            case "SILVER" -> {
-                start = 31;
-                end = 60;
-            }
-            case "GOLD" -> {
-                start = 61;
-                end = 80;
-            }
-            case "DIAMOND" -> {
-                start = 81;
-                end = 100;
-            }
-            default -> throw new RestException(ErrorCode.TIER_NOT_FOUND);
-        }
+    private int calculateTierProgressPercent(int level, TierGrade grade) {
+        int start = grade.getMinLevel();
+        int end = grade.getMaxLevel();
 
         double progress = (double) (level - start) / (end - start);
         return Math.min(100, (int) Math.round(progress * 100));
     }
 
-    // 다음 티어 계산
-    private Tier findNextTier(Tier currentTier) {
-        return switch (currentTier.getName()) {
-            case "BRONZE" -> tierRepository.findByName("SILVER").orElse(null);
-            case "SILVER" -> tierRepository.findByName("GOLD").orElse(null);
-            case "GOLD" -> tierRepository.findByName("DIAMOND").orElse(null);
-            case "DIAMOND" -> null;
-            default -> null;
-        };
-    }
-
     @Transactional(readOnly = true)
     public UserDto.ProfileResponse getProfile(Long targetUserId, UserDetails viewer) {
 
@@ -164,10 +254,10 @@ public class UserService {
         List<String> tags = userQueryRepository.findUserTagNames(targetUserId);
         List<String> fields = userQueryRepository.findUserFieldNames(targetUserId);
 
-        // 챌린지 기록
-        UserQueryRepository.Record overall = userQueryRepository.calcOverallRecord(targetUserId);
-        UserQueryRepository.Record solo = userQueryRepository.calcSoloRecord(targetUserId);
-        UserQueryRepository.Record vs = userQueryRepository.calcVsRecord(targetUserId);
+        // 챌린지 기록 (ALL / SOLO / VS 한 번에)
+        ChallengeRankQueryRepository.ModeRecords records = challengeRankQueryRepository
+                .calcRecordsByUsers(List.of(targetUserId))
+                .getOrDefault(targetUserId, ChallengeRankQueryRepository.ModeRecords.EMPTY);
 
         boolean isMine = viewer != null && viewer.getUser().getId().equals(targetUserId);
 
@@ -175,9 +265,7 @@ public class UserService {
                 .userId(target.getId())
                 .loginId(target.getLoginId())
                 .nickname(target.getNickname())
-                .tier(TierDto.TierResponse.builder()
-                        .name(target.getTier().getName())
-                        .build())
+                .tier(TierDto.TierResponse.from(tierRegistry.gradeOf(target.getTier())))
                 .level(target.getLevel())
                 .profileImage(
                         target.getProfileImage() == null
@@ -186,14 +274,14 @@ public class UserService {
                 )
                 .tags(tags)
                 .fields(fields)
-                .allChallengeRecord(toRecordDto(overall))
-                .soloChallengeRecord(toRecordDto(solo))
-                .vsChallengeRecord(toRecordDto(vs))
+                .allChallengeRecord(toRecordDto(records.all()))
+                .soloChallengeRecord(toRecordDto(records.solo()))
+                .vsChallengeRecord(toRecordDto(records.vs()))
                 .isMine(isMine)
                 .build();
     }
 
-    private UserDto.ChallengeRecord toRecordDto(UserQueryRepository.Record record) {
+    private UserDto.ChallengeRecord toRecordDto(ChallengeRankQueryRepository.Record record) {
         long attempt = record.attempt();
         long success = record.success();
         long fail = attempt - success;
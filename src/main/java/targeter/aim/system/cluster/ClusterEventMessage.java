@@ -0,0 +1,9 @@
+package targeter.aim.system.cluster;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * 다른 노드로 전달되는 도메인 이벤트 하나. type 은 이벤트 클래스의 simple name 이다.
+ */
+public record ClusterEventMessage(String nodeId, String type, JsonNode payload) {
+}
@@ -0,0 +1,129 @@
+package targeter.aim.system.cluster;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import targeter.aim.domain.challenge.event.ChallengeCreatedEvent;
+import targeter.aim.domain.challenge.event.ChallengeLikeToggledEvent;
+import targeter.aim.domain.challenge.event.ChallengeMembershipChangedEvent;
+import targeter.aim.domain.challenge.event.ChallengeProgressChangedEvent;
+import targeter.aim.domain.challenge.event.ChallengeSettledEvent;
+import targeter.aim.domain.challenge.event.ChallengeUpdatedEvent;
+import targeter.aim.domain.label.event.TagCreatedEvent;
+import targeter.aim.domain.post.event.PostChangedEvent;
+import targeter.aim.domain.post.event.PostLikeToggledEvent;
+import targeter.aim.domain.user.event.UserDeletedEvent;
+import targeter.aim.domain.user.event.UserLevelChangedEvent;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 커밋된 도메인 이벤트를 다른 노드에 그대로 다시 발행한다.
+ * 캐시 세대 / 버전, 검색 색인, 태그 트라이, 순위 인덱스처럼 노드 메모리에 있는 상태가 다른 노드의 변경도 반영하게 한다.
+ *
+ * 전달된 이벤트는 받은 노드에서 한 번 더 발행되므로, 여기 실린 이벤트의 리스너는 노드 로컬 상태만 고쳐야 한다. (DB 쓰기 금지)
+ * 받은 이벤트는 브로커 연결 스레드를 막지 않도록 전용 스레드 하나에서 도착 순서대로 발행하고,
+ * 다시 전달하지 않도록 그 스레드에 표시를 둔다. (트랜잭션 밖 발행이라 리스너가 같은 스레드에서 바로 실행된다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClusterEventRelay {
+
+    private static final Map<String, Class<?>> REPLICATED = Stream.of(
+            ChallengeCreatedEvent.class,
+            ChallengeUpdatedEvent.class,
+            ChallengeMembershipChangedEvent.class,
+            ChallengeSettledEvent.class,
+            ChallengeProgressChangedEvent.class,
+            ChallengeLikeToggledEvent.class,
+            PostChangedEvent.class,
+            PostLikeToggledEvent.class,
+            TagCreatedEvent.class,
+            UserLevelChangedEvent.class,
+            UserDeletedEvent.class
+    ).collect(Collectors.toUnmodifiableMap(Class::getSimpleName, Function.identity()));
+
+    private static final ThreadLocal<Boolean> REMOTE = new ThreadLocal<>();
+
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("cluster-event").daemon().factory()
+    );
+
+    private final ClusterEventBus clusterEventBus;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+
+    @PostConstruct
+    public void init() {
+        clusterEventBus.subscribeEvents(message -> dispatcher.execute(() -> onRemote(message)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdown();
+    }
+
+    // REPLICATED 와 같은 목록
+    @TransactionalEventListener(
+            fallbackExecution = true,
+            classes = {
+                    ChallengeCreatedEvent.class,
+                    ChallengeUpdatedEvent.class,
+                    ChallengeMembershipChangedEvent.class,
+                    ChallengeSettledEvent.class,
+                    ChallengeProgressChangedEvent.class,
+                    ChallengeLikeToggledEvent.class,
+                    PostChangedEvent.class,
+                    PostLikeToggledEvent.class,
+                    TagCreatedEvent.class,
+                    UserLevelChangedEvent.class,
+                    UserDeletedEvent.class
+            }
+    )
+    public void forward(Object event) {
+        if (Boolean.TRUE.equals(REMOTE.get())) return;
+
+        clusterEventBus.publishEvent(new ClusterEventMessage(
+                clusterEventBus.nodeId(),
+                event.getClass().getSimpleName(),
+                objectMapper.valueToTree(event)
+        ));
+    }
+
+    private void onRemote(ClusterEventMessage message) {
+        Class<?> type = REPLICATED.get(message.type());
+        if (type == null) {
+            log.debug("[ClusterEvent] 알 수 없는 이벤트 {}", message.type());
+            return;
+        }
+
+        Object event;
+        try {
+            event = objectMapper.treeToValue(message.payload(), type);
+        } catch (JsonProcessingException e) {
+            log.warn("[ClusterEvent] {} 이벤트를 읽지 못했습니다: {}", message.type(), e.getMessage());
+            return;
+        }
+
+        REMOTE.set(Boolean.TRUE);
+        try {
+            eventPublisher.publishEvent(event);
+        } catch (RuntimeException e) {
+            log.warn("[ClusterEvent] {} 이벤트 처리 실패: {}", message.type(), e.getMessage());
+        } finally {
+            REMOTE.remove();
+        }
+    }
+}
@@ -7,7 +7,15 @@ import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+import targeter.aim.domain.challenge.timer.TimerFrameOutboundInterceptor;
 import targeter.aim.system.configuration.security.StompAuthChannelInterceptor;
+import targeter.aim.system.configuration.websocket.StompChannelExecutors;
+import targeter.aim.system.configuration.websocket.StompDbConcurrencyLimiter;
+import targeter.aim.system.configuration.websocket.StompDestinationMetrics;
+import targeter.aim.system.configuration.websocket.StompOutboundLimiter;
+import targeter.aim.system.configuration.websocket.StompSessionTracker;
+import targeter.aim.system.configuration.websocket.WebSocketProperties;
 
 @Configuration
 @EnableWebSocketMessageBroker
@@ -15,21 +23,69 @@ import targeter.aim.system.configuration.security.StompAuthChannelInterceptor;
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+    private final StompChannelExecutors stompChannelExecutors;
+    private final StompDbConcurrencyLimiter stompDbConcurrencyLimiter;
+    private final TimerFrameOutboundInterceptor timerFrameOutboundInterceptor;
+    private final StompSessionTracker stompSessionTracker;
+    private final StompOutboundLimiter stompOutboundLimiter;
+    private final StompDestinationMetrics stompDestinationMetrics;
+    private final WebSocketProperties webSocketProperties;
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         registry.addEndpoint("/ws-stomp")
                 .setAllowedOriginPatterns("*");
+
+        // 가상 스레드는 작업 순서를 보장하지 않으므로 세션 단위 수신 순서를 보존
+        registry.setPreserveReceiveOrder(stompChannelExecutors.isVirtual());
     }
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         registry.setApplicationDestinationPrefixes("/pub");
-        registry.enableSimpleBroker("/sub");
+        WebSocketProperties.Broker broker = webSocketProperties.getBroker();
+        if (broker.getMode() == WebSocketProperties.BrokerMode.RELAY) {
+            // 여러 노드가 /sub 구독을 외부 브로커에서 공유하므로 방 상대가 다른 노드에 붙어도 이벤트를 받는다
+            registry.enableStompBrokerRelay("/sub")
+                    .setRelayHost(broker.getRelayHost())
+                    .setRelayPort(broker.getRelayPort())
+                    .setClientLogin(broker.getClientLogin())
+                    .setClientPasscode(broker.getClientPasscode())
+                    .setSystemLogin(broker.getSystemLogin())
+                    .setSystemPasscode(broker.getSystemPasscode())
+                    .setVirtualHost(broker.getVirtualHost());
+        } else {
+            registry.enableSimpleBroker("/sub");
+        }
+        // 송신 순서는 실행 모드(POOLED / VIRTUAL)와 관계없이 clientOutbound Executor 가 세션 단위로 지킨다. (StompChannelExecutors)
+        // preservePublishOrder 는 채널 앞에서 메시지를 쌓아 두므로 StompOutboundLimiter 가 대기열을 보지 못해 쓰지 않는다
+        registry.configureBrokerChannel()
+                .executor(stompChannelExecutors.getBroker())
+                .interceptors(stompDestinationMetrics);
     }
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        registration.interceptors(stompAuthChannelInterceptor);
+        registration.interceptors(stompAuthChannelInterceptor, stompDbConcurrencyLimiter);
+        registration.executor(stompChannelExecutors.getInbound());
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        // 대기열 상한을 먼저 적용하고, 남은 메시지만 세션 형식으로 인코딩
+        registration.interceptors(stompOutboundLimiter, timerFrameOutboundInterceptor);
+        registration.executor(stompChannelExecutors.getOutbound());
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        WebSocketProperties.Transport transport = webSocketProperties.getTransport();
+
+        registration
+                .setSendTimeLimit((int) transport.getSendTimeLimit().toMillis())
+                .setSendBufferSizeLimit((int) transport.getSendBufferSizeLimit().toBytes())
+                .setMessageSizeLimit((int) transport.getMessageSizeLimit().toBytes())
+                .setTimeToFirstMessage((int) transport.getTimeToFirstMessage().toMillis())
+                .addDecoratorFactory(stompSessionTracker);
     }
-}
\ No newline at end of file
+}
@@ -4,4 +4,7 @@ public final class CacheNames {
     private CacheNames() {}
 
     public static final String REFRESH_TOKEN_UUID = "refreshTokenUuid";
+    public static final String VS_OVERVIEW = "vsOverview";
+    public static final String VS_OVERVIEW_LIKED = "vsOverviewLiked";
+    public static final String PAGE_COUNT = "pageCount";
 }
\ No newline at end of file
@@ -5,21 +5,37 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
 @Getter
 @Setter
 @Component
-@ConfigurationProperties(prefix = "cache.specs")
+@ConfigurationProperties(prefix = "cache")
 public class CacheProperties {
 
+    // 설정이 없는 캐시의 만료 (CustomCaffeineCacheManager 의 기본값과 같다)
+    public static final Duration DEFAULT_EXPIRE_AFTER_WRITE = Duration.ofDays(7);
+
     private Map<String, Spec> specs = new HashMap<>();
 
+    public Duration expireAfterWriteOf(String cacheName) {
+        Spec spec = specs.get(cacheName);
+        return spec == null ? DEFAULT_EXPIRE_AFTER_WRITE : spec.effectiveExpireAfterWrite();
+    }
+
     @Getter
     @Setter
     public static class Spec {
         private long expirationWeek;
         private long maximumSize;
+
+        // 주 단위보다 짧은 만료가 필요한 캐시용. 지정하면 expirationWeek 보다 우선한다
+        private Duration expireAfterWrite;
+
+        public Duration effectiveExpireAfterWrite() {
+            return expireAfterWrite != null ? expireAfterWrite : Duration.ofDays(expirationWeek * 7);
+        }
     }
 }
\ No newline at end of file
@@ -22,10 +22,18 @@ public class CustomCaffeineCacheManager extends CaffeineCacheManager {
             log.warn("No cache spec found for key '{}', using default settings", cacheKeyName);
             return new CaffeineCache(cacheKeyName,
                     Caffeine.newBuilder()
-                            .expireAfterWrite(7, TimeUnit.DAYS)
+                            .expireAfterWrite(CacheProperties.DEFAULT_EXPIRE_AFTER_WRITE)
                             .maximumSize(10000)
                             .build());
         }
+        if (spec.getExpireAfterWrite() != null) {
+            log.info("Creating cache for key '{}': expireAfterWrite={}, maximumSize={}", cacheKeyName, spec.getExpireAfterWrite(), spec.getMaximumSize());
+            return new CaffeineCache(cacheKeyName,
+                    Caffeine.newBuilder()
+                            .expireAfterWrite(spec.getExpireAfterWrite())
+                            .maximumSize(spec.getMaximumSize())
+                            .build());
+        }
         log.info("Creating cache for key '{}': expireAfterWrite={}weeks, maximumSize={}", cacheKeyName, spec.getExpirationWeek(), spec.getMaximumSize());
         return new CaffeineCache(cacheKeyName,
                 Caffeine.newBuilder()
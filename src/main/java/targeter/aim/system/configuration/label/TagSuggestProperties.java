@@ -0,0 +1,19 @@
+package targeter.aim.system.configuration.label;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "tag.suggest")
+public class TagSuggestProperties {
+
+    private boolean enabled = true;     // false 면 자동완성이 빈 목록을 돌려준다
+    private int deltaRebuildThreshold = 256;    // 트라이 밖에 쌓인 새 태그가 이만큼이면 다시 만든다
+    private Duration rebuildInterval = Duration.ofMinutes(10);  // 사용 수 / 다른 노드의 새 태그 반영 주기
+}
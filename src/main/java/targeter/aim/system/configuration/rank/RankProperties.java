@@ -0,0 +1,30 @@
+package targeter.aim.system.configuration.rank;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "rank")
+public class RankProperties {
+
+    private Snapshot snapshot = new Snapshot();
+    private Index index = new Index();
+
+    @Getter
+    @Setter
+    public static class Snapshot {
+        private Duration maxAge = Duration.ofMinutes(10);   // 이벤트 없이도 이 시간이 지나면 백그라운드 재계산 (닉네임/프로필 변경 반영)
+    }
+
+    @Getter
+    @Setter
+    public static class Index {
+        private Duration maxAge = Duration.ofMinutes(30);   // 다른 노드의 레벨업 / 신규 가입 반영을 위한 전체 재적재 주기
+    }
+}
@@ -0,0 +1,20 @@
+package targeter.aim.system.configuration.scheduler;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "scheduler.lock")
+public class SchedulerLockProperties {
+
+    private String nodeId = UUID.randomUUID().toString();   // 리스 소유자 식별자 (노드마다 달라야 함)
+    private Duration leaseDuration = Duration.ofMinutes(2); // 갱신 없이 이 시간이 지나면 다른 노드가 가져갈 수 있다
+    private Duration renewInterval = Duration.ofSeconds(30); // 작업 중 리스 갱신 주기 (leaseDuration 보다 충분히 짧게)
+}
@@ -0,0 +1,19 @@
+package targeter.aim.system.configuration.search;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "search.index")
+public class SearchIndexProperties {
+
+    private boolean enabled = true;     // false 면 통합 검색을 DB LIKE 로만 처리
+    private int loadChunkSize = 1000;   // 재구축 시 한 번에 읽는 문서 수
+    private Duration rebuildInterval = Duration.ofMinutes(10);  // 전달이 빠진 변경을 메우기 위한 전체 재구축 주기
+}
@@ -0,0 +1,16 @@
+package targeter.aim.system.configuration.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+// 관리 포트(actuator) HTTP Basic 계정. password 가 비어 있으면 health 외 엔드포인트는 모두 거부한다
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "actuator")
+public class ActuatorProperties {
+    private String username = "actuator";
+    private String password;
+}
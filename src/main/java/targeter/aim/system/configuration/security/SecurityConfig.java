@@ -2,15 +2,26 @@ package targeter.aim.system.configuration.security;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.util.StringUtils;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -26,11 +37,34 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    private static final String ACTUATOR_ROLE = "ACTUATOR";
+
     private final JwtAutoConfigurerFactory jwtAutoConfigurerFactory;
+    private final ActuatorProperties actuatorProperties;
 
     @Value("${app.cors.allowed-origins}")
     private String[] allowedOrigins;
 
+    // 관리 포트(actuator): health 만 열고, 나머지(재계산 / 백필 같은 쓰기 작업 포함)는 관리 계정 HTTP Basic 으로만
+    @Bean
+    @Order(1)
+    public SecurityFilterChain actuatorSecurityFilterChain(HttpSecurity httpSecurity) throws Exception {
+        httpSecurity
+                .securityMatcher(EndpointRequest.toAnyEndpoint())
+                .csrf(csrf -> csrf.disable())
+                .authorizeHttpRequests(auth -> auth
+                        .requestMatchers(EndpointRequest.to(HealthEndpoint.class)).permitAll()
+                        .anyRequest().hasRole(ACTUATOR_ROLE)
+                )
+                .httpBasic(Customizer.withDefaults())
+                .authenticationManager(actuatorAuthenticationManager())
+                .sessionManagement(session ->
+                        session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+                );
+
+        return httpSecurity.build();
+    }
+
     @Bean
     public SecurityFilterChain securityFilterChain(
             HttpSecurity httpSecurity,
@@ -49,7 +83,7 @@ public class SecurityConfig {
                                 "/v3/api-docs/**",
                                 "/h2-console/**"
                         ).permitAll()
-                        .requestMatchers(HttpMethod.GET, "/api/files/**", "/api/challenges/**", "/api/posts/**", "/api/users/rank/**", "/api/search/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/files/**", "/api/challenges/**", "/api/posts/**", "/api/users/rank/**", "/api/search/**", "/api/tags/**").permitAll()
                         .requestMatchers("/api/**").authenticated()
                         .anyRequest().permitAll()
                 )
@@ -103,6 +137,24 @@ public class SecurityConfig {
         return source;
     }
 
+    // 관리 계정은 actuator 체인에서만 쓰므로 빈으로 노출하지 않는다 (JWT 인증의 UserDetailsService 와 섞이지 않게)
+    private AuthenticationManager actuatorAuthenticationManager() {
+        if (!StringUtils.hasText(actuatorProperties.getPassword())) {
+            return authentication -> {
+                throw new BadCredentialsException("관리 계정이 설정되지 않았습니다.");
+            };
+        }
+
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider(new InMemoryUserDetailsManager(
+                User.withUsername(actuatorProperties.getUsername())
+                        .password(passwordEncoder().encode(actuatorProperties.getPassword()))
+                        .roles(ACTUATOR_ROLE)
+                        .build()
+        ));
+        provider.setPasswordEncoder(passwordEncoder());
+        return new ProviderManager(provider);
+    }
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
@@ -7,8 +7,11 @@ import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.stereotype.Component;
+import targeter.aim.domain.challenge.timer.TimerSessionContextRegistry;
+import targeter.aim.domain.challenge.timer.TimerWireFormat;
 import targeter.aim.domain.user.entity.User;
 import targeter.aim.domain.user.repository.UserRepository;
+import targeter.aim.system.configuration.websocket.WebSocketProperties;
 import targeter.aim.system.security.utility.jwt.JwtTokenResolver;
 
 @Component
@@ -17,6 +20,8 @@ public class StompAuthChannelInterceptor implements ChannelInterceptor {
 
     private final JwtTokenResolver jwtTokenResolver;
     private final UserRepository userRepository;
+    private final TimerSessionContextRegistry timerSessionContextRegistry;
+    private final WebSocketProperties webSocketProperties;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -43,6 +48,18 @@ public class StompAuthChannelInterceptor implements ChannelInterceptor {
             User user = userRepository.findById(userId)
                     .orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다."));
 
+            // 이후 타이머 프레임에서 유저 / 참가 정보를 다시 조회하지 않도록 연결 컨텍스트 생성
+            // timer-format 헤더로 타이머 프레임 형식(JSON | COMPACT | CBOR)을 고를 수 있다
+            // 유저당 연결 수 상한은 등록과 함께 원자적으로 확인한다
+            if (timerSessionContextRegistry.open(
+                    accessor.getSessionId(),
+                    user.getId(),
+                    TimerWireFormat.from(accessor.getFirstNativeHeader(TimerWireFormat.HEADER)),
+                    webSocketProperties.getLimits().getMaxSessionsPerUser()
+            ) == null) {
+                throw new IllegalStateException("동시 접속 가능한 연결 수를 초과했습니다.");
+            }
+
             accessor.setUser(new StompUserPrincipal(user.getId()));
             accessor.getSessionAttributes().put("userId", user.getId());
         }
@@ -0,0 +1,20 @@
+package targeter.aim.system.configuration.settlement;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "settlement")
+public class SettlementProperties {
+
+    private int chunkSize = 100;    // 청크(트랜잭션) 하나에서 정산할 챌린지 수
+    private int parallelism = 4;    // 동시에 처리할 청크 수
+    private boolean catchUpOnStartup = true;    // 기동 시 오늘 정산 기록이 없으면 바로 실행 (자정에 내려가 있던 경우)
+    private Duration takeoverCheckInterval = Duration.ofMinutes(1); // 멈춘 정산(다른 노드 장애)을 이어받을지 확인하는 주기
+}
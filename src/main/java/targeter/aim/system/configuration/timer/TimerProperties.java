@@ -0,0 +1,56 @@
+package targeter.aim.system.configuration.timer;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "timer")
+public class TimerProperties {
+
+    private Journal journal = new Journal();
+    private Reaper reaper = new Reaper();
+    private Broadcast broadcast = new Broadcast();
+    private Cluster cluster = new Cluster();
+
+    @Getter
+    @Setter
+    public static class Journal {
+        private boolean enabled = true;
+        private String path = "./.timer/sessions.journal";
+        private int capacityBytes = 4 * 1024 * 1024;
+        private boolean forceOnWrite = false;   // true 면 매 레코드마다 fsync (전원 장애까지 대비)
+        private Duration heartbeatInterval = Duration.ofSeconds(5);   // 복구 시 이 간격 이내의 오차로 중단 시간을 뺀다
+    }
+
+    @Getter
+    @Setter
+    public static class Reaper {
+        private Duration maxSessionLength = Duration.ofHours(6);
+        private Duration idleTimeout = Duration.ZERO;       // 0 이면 HEARTBEAT 기반 유휴 종료 비활성화
+        private boolean stopOnDisconnect = true;            // 유저의 마지막 STOMP 연결이 끊기면 자동 종료
+        private Duration disconnectGrace = Duration.ofSeconds(30);   // 이 시간 안에 다시 연결하면 멈추지 않음 (0 이면 즉시)
+        private int stopRetryAttempts = 3;                          // DB 장애 등으로 자동 종료 기록이 실패했을 때 시도 횟수 (첫 시도 포함)
+        private Duration stopRetryDelay = Duration.ofSeconds(5);
+        private Duration tick = Duration.ofSeconds(1);
+        private int wheelSize = 512;
+    }
+
+    @Getter
+    @Setter
+    public static class Cluster {
+        private Duration heartbeatInterval = Duration.ofSeconds(5);   // relay 모드에서 노드 생존(ALIVE) 알림 주기
+        private Duration nodeTimeout = Duration.ofSeconds(30);        // 이 시간 동안 메시지가 없는 노드의 세션은 남은 노드가 넘겨받는다
+    }
+
+    @Getter
+    @Setter
+    public static class Broadcast {
+        private Duration coalesceWindow = Duration.ofMillis(50);   // 0 이면 전환마다 즉시 전송
+    }
+}
@@ -0,0 +1,43 @@
+package targeter.aim.system.configuration.websocket;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import targeter.aim.domain.challenge.timer.TimerClusterBus;
+import targeter.aim.domain.challenge.timer.TimerClusterMessage;
+import targeter.aim.system.cluster.ClusterEventBus;
+import targeter.aim.system.cluster.ClusterEventMessage;
+
+import java.util.function.Consumer;
+
+// simple broker 모드: 노드가 하나뿐이므로 다른 노드로 보낼 메시지가 없다
+@Component
+@ConditionalOnProperty(prefix = "websocket.broker", name = "mode", havingValue = "SIMPLE", matchIfMissing = true)
+public class LocalTimerClusterBus implements TimerClusterBus, ClusterEventBus {
+
+    private final String nodeId;
+
+    public LocalTimerClusterBus(WebSocketProperties properties) {
+        this.nodeId = properties.getBroker().getNodeId();
+    }
+
+    @Override
+    public String nodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public void publish(TimerClusterMessage message) {
+    }
+
+    @Override
+    public void subscribe(Consumer<TimerClusterMessage> listener) {
+    }
+
+    @Override
+    public void publishEvent(ClusterEventMessage message) {
+    }
+
+    @Override
+    public void subscribeEvents(Consumer<ClusterEventMessage> listener) {
+    }
+}
@@ -0,0 +1,131 @@
+package targeter.aim.system.configuration.websocket;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.MessageHandlingRunnable;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * STOMP 채널용 Executor 래퍼.
+ * 대기 중 / 실행 중 작업 수를 센다. (DB 동시성 제한은 {@link StompDbConcurrencyLimiter} 가 핸들러 단위로 건다)
+ *
+ * orderedBySession 이면 같은 세션의 메시지를 도착 순서대로 하나씩 실행한다. (실행 모드와 관계없이 clientOutbound)
+ * 브로커의 preservePublishOrder 는 채널 앞에서 메시지를 세션별로 쌓아 두고 하나씩 흘려보내므로 채널 인터셉터가 밀린 수를 볼 수 없다.
+ * 여기서는 모든 메시지가 preSend 를 거친 뒤 대기하므로 {@link StompOutboundLimiter} 의 상한이 실제 대기열에 걸린다.
+ */
+@Slf4j
+public class StompChannelExecutor implements Executor {
+
+    @Getter
+    private final String channelName;
+    private final Executor delegate;
+    private final boolean orderedBySession;
+
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+
+    // 세션별 대기 작업. 키가 있으면 그 세션의 작업이 실행 중이고, 비면 키를 지운다
+    private final ConcurrentHashMap<String, ArrayDeque<Runnable>> lanes = new ConcurrentHashMap<>();
+
+    public StompChannelExecutor(String channelName, Executor delegate) {
+        this(channelName, delegate, false);
+    }
+
+    public StompChannelExecutor(String channelName, Executor delegate, boolean orderedBySession) {
+        this.channelName = channelName;
+        this.delegate = delegate;
+        this.orderedBySession = orderedBySession;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        queued.incrementAndGet();
+        try {
+            String sessionId = orderedBySession ? sessionIdOf(task) : null;
+            if (sessionId == null) {
+                delegate.execute(() -> run(task));
+            } else if (enqueue(sessionId, task)) {
+                startLane(sessionId, task);
+            }
+        } catch (RuntimeException e) {
+            queued.decrementAndGet();
+            throw e;
+        }
+    }
+
+    // 세션에 실행 중인 작업이 없으면 true (호출한 쪽이 바로 실행), 있으면 뒤에 붙이고 false
+    private boolean enqueue(String sessionId, Runnable task) {
+        boolean[] first = { false };
+        lanes.compute(sessionId, (id, lane) -> {
+            if (lane == null) {
+                first[0] = true;
+                return new ArrayDeque<>();
+            }
+            lane.add(task);
+            return lane;
+        });
+        return first[0];
+    }
+
+    private void startLane(String sessionId, Runnable task) {
+        try {
+            delegate.execute(() -> drain(sessionId, task));
+        } catch (RejectedExecutionException e) {
+            // 풀이 가득 차도 세션 대기열이 실행 중 상태로 남아 멈추지 않도록 호출한 스레드에서 비운다
+            log.warn("[WebSocket] {} Executor 포화로 호출 스레드에서 처리 session={}", channelName, sessionId);
+            drain(sessionId, task);
+        }
+    }
+
+    private void drain(String sessionId, Runnable task) {
+        Runnable next = task;
+        while (next != null) {
+            try {
+                run(next);
+            } catch (RuntimeException e) {
+                // 한 메시지의 실패로 세션의 나머지 메시지가 멈추지 않게 한다
+                log.warn("[WebSocket] {} 메시지 처리 실패 session={}: {}", channelName, sessionId, e.getMessage());
+            }
+            next = poll(sessionId);
+        }
+    }
+
+    private Runnable poll(String sessionId) {
+        Runnable[] next = { null };
+        lanes.computeIfPresent(sessionId, (id, lane) -> {
+            next[0] = lane.poll();
+            return next[0] == null ? null : lane;
+        });
+        return next[0];
+    }
+
+    private void run(Runnable task) {
+        queued.decrementAndGet();
+        active.incrementAndGet();
+        try {
+            task.run();
+        } finally {
+            active.decrementAndGet();
+        }
+    }
+
+    private static String sessionIdOf(Runnable task) {
+        return task instanceof MessageHandlingRunnable handling
+                ? SimpMessageHeaderAccessor.getSessionId(handling.getMessage().getHeaders())
+                : null;
+    }
+
+    public int getQueuedCount() {
+        return queued.get();
+    }
+
+    public int getActiveCount() {
+        return active.get();
+    }
+}
@@ -0,0 +1,89 @@
+package targeter.aim.system.configuration.websocket;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * clientInbound / clientOutbound / broker 채널에 붙일 Executor 를 설정(websocket.execution)에 따라 만든다.
+ *
+ * VIRTUAL 모드에서는 메시지마다 가상 스레드를 띄운다. JPA 트랜잭션이 실행되는 @MessageMapping 핸들러만
+ * {@link StompDbConcurrencyLimiter} 가 db-concurrency 만큼으로 묶어 수천 개의 방 세션이 JDBC 커넥션을 두고 서로를 굶기지 않게 한다.
+ */
+@Slf4j
+@Component
+public class StompChannelExecutors {
+
+    @Getter
+    private final StompChannelExecutor inbound;
+    @Getter
+    private final StompChannelExecutor outbound;
+    @Getter
+    private final StompChannelExecutor broker;
+
+    private final WebSocketProperties.ExecutionMode mode;
+    private final List<ExecutorService> virtualExecutors = new ArrayList<>();
+    private final List<ThreadPoolTaskExecutor> pools = new ArrayList<>();
+
+    public StompChannelExecutors(WebSocketProperties properties, MeterRegistry meterRegistry) {
+        WebSocketProperties.Execution execution = properties.getExecution();
+        this.mode = execution.getMode();
+
+        this.inbound = create("clientInbound", execution, false);
+        // 가상 스레드도, 여러 스레드의 풀도 작업 순서를 보장하지 않으므로 세션 단위 송신 순서는 두 모드 모두 Executor 가 지킨다
+        this.outbound = create("clientOutbound", execution, true);
+        this.broker = create("broker", execution, false);
+
+        for (StompChannelExecutor executor : List.of(inbound, outbound, broker)) {
+            Gauge.builder("stomp.channel.queued", executor, StompChannelExecutor::getQueuedCount)
+                    .tag("channel", executor.getChannelName())
+                    .description("실행 대기 중인 메시지 수")
+                    .register(meterRegistry);
+            Gauge.builder("stomp.channel.active", executor, StompChannelExecutor::getActiveCount)
+                    .tag("channel", executor.getChannelName())
+                    .description("처리 중인 메시지 수")
+                    .register(meterRegistry);
+        }
+
+        log.info("[WebSocket] STOMP 채널 실행 모드: {}", mode);
+    }
+
+    public boolean isVirtual() {
+        return mode == WebSocketProperties.ExecutionMode.VIRTUAL;
+    }
+
+    private StompChannelExecutor create(String name, WebSocketProperties.Execution execution, boolean orderedBySession) {
+        if (isVirtual()) {
+            ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name(name + "-", 0).factory()
+            );
+            virtualExecutors.add(executor);
+            return new StompChannelExecutor(name, executor, orderedBySession);
+        }
+
+        ThreadPoolTaskExecutor pool = new ThreadPoolTaskExecutor();
+        pool.setThreadNamePrefix(name + "-");
+        pool.setCorePoolSize(execution.getPoolCoreSize());
+        pool.setMaxPoolSize(execution.getPoolMaxSize());
+        pool.setQueueCapacity(execution.getPoolQueueCapacity());
+        pool.setAllowCoreThreadTimeOut(true);
+        pool.initialize();
+        pools.add(pool);
+        return new StompChannelExecutor(name, pool);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        virtualExecutors.forEach(ExecutorService::shutdown);
+        pools.forEach(ThreadPoolTaskExecutor::shutdown);
+    }
+}
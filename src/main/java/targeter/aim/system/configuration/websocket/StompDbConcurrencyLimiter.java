@@ -0,0 +1,56 @@
+package targeter.aim.system.configuration.websocket;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.annotation.support.SimpAnnotationMethodMessageHandler;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * VIRTUAL 모드에서 DB 를 쓰는 인바운드 핸들러의 동시 실행 수를 db-concurrency 로 묶는다.
+ * 대상은 /pub 으로 들어온 SEND 를 처리하는 @MessageMapping 핸들러뿐이고,
+ * CONNECT / SUBSCRIBE / HEARTBEAT 등 브로커로 가는 프레임은 세마포어를 거치지 않아 DB 가 밀려도 연결 처리는 멈추지 않는다.
+ */
+@Component
+public class StompDbConcurrencyLimiter implements ExecutorChannelInterceptor {
+
+    private final Semaphore permits;
+
+    public StompDbConcurrencyLimiter(WebSocketProperties properties) {
+        WebSocketProperties.Execution execution = properties.getExecution();
+        this.permits = execution.getMode() == WebSocketProperties.ExecutionMode.VIRTUAL
+                ? new Semaphore(execution.getDbConcurrency(), true)
+                : null;
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        if (!isLimited(message, handler)) return message;
+
+        try {
+            permits.acquire();
+            return message;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null; // 핸들러를 건너뛰며 afterMessageHandled 도 호출되지 않는다
+        }
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        if (isLimited(message, handler)) {
+            permits.release();
+        }
+    }
+
+    private boolean isLimited(Message<?> message, MessageHandler handler) {
+        return permits != null
+                && handler instanceof SimpAnnotationMethodMessageHandler
+                && SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.MESSAGE;
+    }
+}
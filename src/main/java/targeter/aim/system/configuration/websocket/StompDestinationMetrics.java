@@ -0,0 +1,68 @@
+package targeter.aim.system.configuration.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 목적지별 메시지 수 지표.
+ * 브로커 채널에 붙어 발행된 MESSAGE 수(stomp.broker.published)를 세고 (SUBSCRIBE 등 제어 프레임은 제외), 구독자 전달/드롭 수는 {@link StompOutboundLimiter} 가 이 클래스로 기록한다.
+ * 방 id 같은 숫자 경로는 {id} 로 묶어 태그 수가 방 개수만큼 늘지 않게 한다. (예: /sub/challenge/{id})
+ */
+@Component
+@RequiredArgsConstructor
+public class StompDestinationMetrics implements ChannelInterceptor {
+
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentHashMap<String, Counter> counters = new ConcurrentHashMap<>();
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+            return message;
+        }
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        if (destination != null) {
+            increment("stomp.broker.published", destination, null);
+        }
+        return message;
+    }
+
+    void increment(String name, String destination, String reason) {
+        String template = template(destination);
+        String key = name + '|' + template + '|' + reason;
+        counters.computeIfAbsent(key, k -> {
+            Counter.Builder builder = Counter.builder(name).tag("destination", template);
+            if (reason != null) {
+                builder.tag("reason", reason);
+            }
+            return builder.register(meterRegistry);
+        }).increment();
+    }
+
+    static String template(String destination) {
+        if (destination == null) return "none";
+
+        StringBuilder sb = new StringBuilder(destination.length());
+        int start = 0;
+        while (start <= destination.length()) {
+            int end = destination.indexOf('/', start);
+            if (end < 0) end = destination.length();
+
+            String segment = destination.substring(start, end);
+            sb.append(!segment.isEmpty() && segment.chars().allMatch(Character::isDigit) ? "{id}" : segment);
+            if (end < destination.length()) sb.append('/');
+            start = end + 1;
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,121 @@
+package targeter.aim.system.configuration.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * clientOutbound 채널의 세션별 송신 대기열 상한.
+ * 구독 메시지(MESSAGE)만 세고, 대기 중인 수가 outbound-queue-capacity 를 넘으면 정책에 따라
+ * 가장 오래된 메시지를 실행 직전에 건너뛰거나(DROP_OLDEST) 연결을 끊는다(DISCONNECT).
+ * 전송 버퍼에서의 느린 소비자 처리는 websocket.transport 의 send-time / buffer 제한이 맡는다.
+ */
+@Slf4j
+@Component
+public class StompOutboundLimiter implements ExecutorChannelInterceptor {
+
+    private static final String SEQUENCE_HEADER = "stompOutboundSeq";
+
+    private final StompSessionTracker sessionTracker;
+    private final StompDestinationMetrics destinationMetrics;
+    private final int capacity;
+    private final WebSocketProperties.OverflowPolicy policy;
+
+    private final ConcurrentHashMap<String, SessionQueue> queues = new ConcurrentHashMap<>();
+
+    private static final class SessionQueue {
+        private final AtomicLong sequence = new AtomicLong();
+        private final AtomicLong dropUpTo = new AtomicLong();
+        private final AtomicInteger pending = new AtomicInteger();
+    }
+
+    public StompOutboundLimiter(
+            StompSessionTracker sessionTracker,
+            StompDestinationMetrics destinationMetrics,
+            WebSocketProperties properties
+    ) {
+        this.sessionTracker = sessionTracker;
+        this.destinationMetrics = destinationMetrics;
+        this.capacity = properties.getLimits().getOutboundQueueCapacity();
+        this.policy = properties.getLimits().getOverflowPolicy();
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (capacity <= 0 || SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+            return message;
+        }
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (sessionId == null) return message;
+
+        SessionQueue queue = queues.computeIfAbsent(sessionId, id -> new SessionQueue());
+        long seq = queue.sequence.incrementAndGet();
+
+        if (queue.pending.incrementAndGet() > capacity) {
+            if (policy == WebSocketProperties.OverflowPolicy.DISCONNECT) {
+                queue.pending.decrementAndGet();
+                record("stomp.outbound.dropped", message, "disconnect");
+                log.warn("[WebSocket] 송신 대기열 초과로 연결 종료 session={}", sessionId);
+                sessionTracker.close(sessionId, CloseStatus.SESSION_NOT_RELIABLE);
+                return null;
+            }
+            // 최신 capacity 개만 남기고 그 이전 순번은 실행 시점에 건너뛴다
+            queue.dropUpTo.accumulateAndGet(seq - capacity, Math::max);
+        }
+
+        MessageHeaderAccessor accessor = MessageHeaderAccessor.getMutableAccessor(message);
+        accessor.setHeader(SEQUENCE_HEADER, seq);
+        return MessageBuilder.createMessage(message.getPayload(), accessor.getMessageHeaders());
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        Long seq = message.getHeaders().get(SEQUENCE_HEADER, Long.class);
+        if (seq == null) return message;
+
+        SessionQueue queue = queues.get(SimpMessageHeaderAccessor.getSessionId(message.getHeaders()));
+        if (queue == null) return message;
+
+        if (seq <= queue.dropUpTo.get()) {
+            // null 을 돌려주면 afterMessageHandled 가 불리지 않으므로 여기서 차감
+            queue.pending.decrementAndGet();
+            record("stomp.outbound.dropped", message, "drop-oldest");
+            return null;
+        }
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        if (message.getHeaders().get(SEQUENCE_HEADER) == null) return;
+
+        SessionQueue queue = queues.get(SimpMessageHeaderAccessor.getSessionId(message.getHeaders()));
+        if (queue != null) {
+            queue.pending.decrementAndGet();
+        }
+        record("stomp.outbound.delivered", message, null);
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        queues.remove(event.getSessionId());
+    }
+
+    private void record(String name, Message<?> message, String reason) {
+        destinationMetrics.increment(name, SimpMessageHeaderAccessor.getDestination(message.getHeaders()), reason);
+    }
+}
@@ -0,0 +1,194 @@
+package targeter.aim.system.configuration.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.ReactorNettyTcpStompClient;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.stereotype.Component;
+import targeter.aim.domain.challenge.timer.TimerClusterBus;
+import targeter.aim.domain.challenge.timer.TimerClusterMessage;
+import targeter.aim.system.cluster.ClusterEventBus;
+import targeter.aim.system.cluster.ClusterEventMessage;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * relay 모드: 외부 STOMP 브로커에 별도 연결을 하나 열어 클러스터 토픽을 구독/발행한다.
+ * 타이머 소유권 메시지는 cluster-destination, 도메인 이벤트는 event-destination 으로 오간다.
+ * 클러스터 토픽은 클라이언트 prefix(/sub) 밖에 있어 브라우저에서는 구독하거나 보낼 수 없다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "websocket.broker", name = "mode", havingValue = "RELAY")
+public class StompRelayTimerClusterBus implements TimerClusterBus, ClusterEventBus {
+
+    private final WebSocketProperties.Broker props;
+    private final ReactorNettyTcpStompClient client;
+    private final List<Consumer<TimerClusterMessage>> listeners = new CopyOnWriteArrayList<>();
+    private final List<Consumer<ClusterEventMessage>> eventListeners = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService reconnector = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("timer-cluster-reconnect").daemon().factory()
+    );
+
+    private volatile StompSession session;
+    private volatile boolean running = true;
+
+    public StompRelayTimerClusterBus(WebSocketProperties properties, ObjectMapper objectMapper) {
+        this.props = properties.getBroker();
+
+        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+        converter.setObjectMapper(objectMapper);
+
+        this.client = new ReactorNettyTcpStompClient(props.getRelayHost(), props.getRelayPort());
+        this.client.setMessageConverter(converter);
+    }
+
+    @Override
+    public String nodeId() {
+        return props.getNodeId();
+    }
+
+    @Override
+    public void publish(TimerClusterMessage message) {
+        send(props.getClusterDestination(), message, message.type().name());
+    }
+
+    @Override
+    public void subscribe(Consumer<TimerClusterMessage> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void publishEvent(ClusterEventMessage message) {
+        send(props.getEventDestination(), message, message.type());
+    }
+
+    @Override
+    public void subscribeEvents(Consumer<ClusterEventMessage> listener) {
+        eventListeners.add(listener);
+    }
+
+    private void send(String destination, Object message, String type) {
+        StompSession current = session;
+        if (current == null || !current.isConnected()) {
+            log.warn("[TimerCluster] 브로커 미연결 상태라 {} 메시지를 보내지 못했습니다.", type);
+            return;
+        }
+        current.send(destination, message);
+    }
+
+    // 자신이 보낸 메시지는 건너뛴다
+    private <T> void deliver(List<Consumer<T>> targets, String senderNodeId, T message, String type) {
+        if (nodeId().equals(senderNodeId)) return;
+
+        for (Consumer<T> listener : targets) {
+            try {
+                listener.accept(message);
+            } catch (RuntimeException e) {
+                log.warn("[TimerCluster] {} 메시지 처리 실패: {}", type, e.getMessage());
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void connect() {
+        StompHeaders headers = new StompHeaders();
+        headers.setLogin(props.getSystemLogin());
+        headers.setPasscode(props.getSystemPasscode());
+        if (props.getVirtualHost() != null) {
+            headers.setHost(props.getVirtualHost());
+        }
+
+        client.connectAsync(headers, new SessionHandler()).whenComplete((connected, ex) -> {
+            if (ex != null) {
+                log.warn("[TimerCluster] 브로커 연결 실패: {}", ex.getMessage());
+                scheduleReconnect();
+            }
+        });
+    }
+
+    private void scheduleReconnect() {
+        if (!running) return;
+        reconnector.schedule(this::connect, props.getReconnectDelay().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        reconnector.shutdown();
+        StompSession current = session;
+        if (current != null && current.isConnected()) {
+            current.disconnect();
+        }
+        client.shutdown();
+    }
+
+    private class SessionHandler extends StompSessionHandlerAdapter {
+
+        @Override
+        public void afterConnected(StompSession connected, StompHeaders connectedHeaders) {
+            session = connected;
+            connected.subscribe(props.getClusterDestination(), this);
+            connected.subscribe(props.getEventDestination(), new EventFrameHandler());
+            log.info("[TimerCluster] 클러스터 토픽 구독 node={} destination={}, {}",
+                    nodeId(), props.getClusterDestination(), props.getEventDestination());
+
+            // 재연결 중 놓친 소유권 정보를 다시 받는다
+            publish(new TimerClusterMessage(TimerClusterMessage.Type.SYNC, nodeId(), 0, 0, 0, 0));
+        }
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return TimerClusterMessage.class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            TimerClusterMessage message = (TimerClusterMessage) payload;
+            deliver(listeners, message.nodeId(), message, message.type().name());
+        }
+
+        @Override
+        public void handleException(StompSession s, StompCommand command, StompHeaders headers, byte[] payload, Throwable ex) {
+            log.warn("[TimerCluster] 프레임 처리 실패: {}", ex.getMessage());
+        }
+
+        @Override
+        public void handleTransportError(StompSession s, Throwable ex) {
+            log.warn("[TimerCluster] 브로커 연결 끊김: {}", ex.getMessage());
+            if (!s.isConnected()) {
+                session = null;
+                scheduleReconnect();
+            }
+        }
+    }
+
+    private class EventFrameHandler implements StompFrameHandler {
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return ClusterEventMessage.class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            ClusterEventMessage message = (ClusterEventMessage) payload;
+            deliver(eventListeners, message.nodeId(), message, message.type());
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package targeter.aim.system.configuration.websocket;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 열린 WebSocket 세션을 id 로 보관해 채널 인터셉터 쪽에서 연결을 끊을 수 있게 한다.
+ * STOMP 세션 id 는 WebSocket 세션 id 와 같다.
+ */
+@Slf4j
+@Component
+public class StompSessionTracker implements WebSocketHandlerDecoratorFactory {
+
+    private final ConcurrentHashMap<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+
+    public StompSessionTracker(MeterRegistry meterRegistry) {
+        Gauge.builder("stomp.sessions", sessions, ConcurrentHashMap::size)
+                .description("열린 WebSocket 세션 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                sessions.put(session.getId(), session);
+                super.afterConnectionEstablished(session);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                sessions.remove(session.getId());
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    public void close(String sessionId, CloseStatus status) {
+        WebSocketSession session = sessions.get(sessionId);
+        if (session == null) return;
+        try {
+            session.close(status);
+        } catch (IOException e) {
+            log.debug("[WebSocket] 세션 종료 실패 session={}: {}", sessionId, e.getMessage());
+        }
+    }
+}
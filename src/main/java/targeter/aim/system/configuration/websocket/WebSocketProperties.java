@@ -0,0 +1,81 @@
+package targeter.aim.system.configuration.websocket;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "websocket")
+public class WebSocketProperties {
+
+    private Execution execution = new Execution();
+    private Transport transport = new Transport();
+    private Limits limits = new Limits();
+    private Broker broker = new Broker();
+
+    public enum ExecutionMode {
+        POOLED,     // 스프링 기본과 같은 고정 스레드 풀
+        VIRTUAL     // 작업당 가상 스레드 + DB 동시성 세마포어
+    }
+
+    public enum BrokerMode {
+        SIMPLE,     // JVM 내장 simple broker (단일 노드)
+        RELAY       // 외부 STOMP 브로커(ActiveMQ Artemis 등) 중계, 여러 노드가 같은 방을 공유
+    }
+
+    public enum OverflowPolicy {
+        DROP_OLDEST,    // 세션 송신 대기열이 차면 가장 오래된 메시지부터 버림
+        DISCONNECT      // 세션 송신 대기열이 차면 연결을 끊음
+    }
+
+    @Getter
+    @Setter
+    public static class Execution {
+        private ExecutionMode mode = ExecutionMode.POOLED;
+        private int dbConcurrency = 32;         // VIRTUAL 모드에서 동시에 실행될 수 있는 @MessageMapping 핸들러 수 (JDBC 풀 크기 이하 권장)
+        private int poolCoreSize = Runtime.getRuntime().availableProcessors() * 2;
+        private int poolMaxSize = Integer.MAX_VALUE;
+        private int poolQueueCapacity = Integer.MAX_VALUE;
+    }
+
+    @Getter
+    @Setter
+    public static class Transport {
+        private Duration sendTimeLimit = Duration.ofSeconds(10);            // 한 세션에 대한 전송이 이 시간 이상 막히면 연결 종료
+        private DataSize sendBufferSizeLimit = DataSize.ofKilobytes(256);   // 전송 중 쌓일 수 있는 버퍼 크기, 넘으면 연결 종료
+        private DataSize messageSizeLimit = DataSize.ofKilobytes(64);       // 수신 메시지 최대 크기
+        private Duration timeToFirstMessage = Duration.ofSeconds(30);       // 연결 후 CONNECT 프레임까지 기다리는 시간
+    }
+
+    @Getter
+    @Setter
+    public static class Limits {
+        private int outboundQueueCapacity = 256;                            // 세션별 clientOutbound 채널 대기 메시지 상한
+        private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_OLDEST;
+        private int maxSessionsPerUser = 5;                                 // 유저당 동시 STOMP 연결 수 (0 이하면 무제한)
+    }
+
+    @Getter
+    @Setter
+    public static class Broker {
+        private BrokerMode mode = BrokerMode.SIMPLE;
+        private String relayHost = "localhost";
+        private int relayPort = 61613;
+        private String clientLogin = "guest";
+        private String clientPasscode = "guest";
+        private String systemLogin = "guest";
+        private String systemPasscode = "guest";
+        private String virtualHost;
+        private String clusterDestination = "/topic/aim.timer-cluster";    // 노드 간 타이머 소유권 메시지 (클라이언트 prefix 밖)
+        private String eventDestination = "/topic/aim.cluster-events";     // 노드 간 도메인 이벤트 (캐시 / 색인 무효화)
+        private Duration reconnectDelay = Duration.ofSeconds(5);
+        private String nodeId = UUID.randomUUID().toString();
+    }
+}
@@ -0,0 +1,173 @@
+package targeter.aim.system.paging;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import targeter.aim.domain.challenge.event.ChallengeCreatedEvent;
+import targeter.aim.domain.challenge.event.ChallengeLikeToggledEvent;
+import targeter.aim.domain.challenge.event.ChallengeMembershipChangedEvent;
+import targeter.aim.domain.challenge.event.ChallengeSettledEvent;
+import targeter.aim.domain.challenge.event.ChallengeUpdatedEvent;
+import targeter.aim.domain.post.event.PostChangedEvent;
+import targeter.aim.domain.post.event.PostLikeToggledEvent;
+import targeter.aim.system.configuration.cache.CacheNames;
+import targeter.aim.system.security.model.UserDetails;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 페이지 목록의 COUNT 결과 캐시.
+ * 정규화한 필터(쿼리 이름, 모드/타입, 키워드, 분야, 조회자)로 키를 만들고, 짧은 TTL(pageCount 캐시 스펙)로 보관한다.
+ * 챌린지/게시글 변경 이벤트가 커밋되면 해당 범위의 세대를 올려 이전 항목을 버리고,
+ * 좋아요 토글은 그 유저의 좋아요 목록 개수만 버린다.
+ * withCount 가 false 면 (목록 API 의 count=false) COUNT 를 아예 하지 않고 다음 페이지 존재 여부만 담은 Slice 를 돌려준다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PageCountCache {
+
+    // 목록 API 의 count 파라미터 설명 (OpenAPI)
+    public static final String COUNT_DESCRIPTION = "전체 개수 집계 여부. false 면 COUNT 쿼리 없이 조회하고, "
+            + "page.totalElements / page.totalPages 는 null, page.hasNext 로만 다음 페이지 여부를 알려줍니다.";
+
+    public enum Scope { CHALLENGE, POST }
+
+    private final CacheManager cacheManager;
+
+    private final Map<Scope, AtomicLong> generations = new EnumMap<>(Map.of(
+            Scope.CHALLENGE, new AtomicLong(),
+            Scope.POST, new AtomicLong()
+    ));
+    private final ConcurrentHashMap<LikedBy, AtomicLong> likedGenerations = new ConcurrentHashMap<>();
+
+    private record LikedBy(Scope scope, Long userId) {}
+
+    private record Key(Scope scope, long generation, Long likedBy, long likedGeneration, List<Object> filter) {}
+
+    public long count(Scope scope, Supplier<Long> counter, Object... filter) {
+        return cachedCount(scope, null, counter, filter);
+    }
+
+    // COUNT 없이 읽을 때는 다음 페이지 확인용으로 한 행 더 읽는다
+    public int fetchSize(Pageable pageable, boolean withCount) {
+        return withCount ? pageable.getPageSize() : pageable.getPageSize() + 1;
+    }
+
+    public <T> Slice<T> page(List<T> rows, Pageable pageable, boolean withCount, Scope scope, Supplier<Long> counter, Object... filter) {
+        return page(rows, pageable, withCount, () -> cachedCount(scope, null, counter, filter));
+    }
+
+    // 유저의 좋아요 목록처럼 좋아요 토글로 개수가 바뀌는 쿼리용
+    public <T> Slice<T> pageLiked(List<T> rows, Pageable pageable, boolean withCount, Scope scope, Long userId, Supplier<Long> counter, Object... filter) {
+        return page(rows, pageable, withCount, () -> cachedCount(scope, userId, counter, filter));
+    }
+
+    /**
+     * fetchSize 만큼 읽은 행으로 결과를 만든다.
+     * withCount 가 false 면 전체 개수 없이 hasNext 만 담은 Slice 를 돌려준다.
+     * 아니면 Page 를 돌려주되, 첫 페이지가 덜 찼을 때처럼 개수가 뻔한 경우는 COUNT 를 건너뛴다.
+     */
+    public <T> Slice<T> page(List<T> rows, Pageable pageable, boolean withCount, LongSupplier total) {
+        if (!withCount) {
+            boolean hasNext = rows.size() > pageable.getPageSize();
+            List<T> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+            return new SliceImpl<>(content, pageable, hasNext);
+        }
+        return PageableExecutionUtils.getPage(rows, pageable, total);
+    }
+
+    // 키워드 조건은 trim 후 대소문자 무시 포함 검색이므로 같은 결과를 내는 값끼리 묶는다
+    public static String keyword(String keyword) {
+        return keyword == null || keyword.isBlank() ? null : keyword.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public static Long viewer(UserDetails userDetails) {
+        return userDetails == null ? null : userDetails.getUser().getId();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChallengeCreated(ChallengeCreatedEvent event) {
+        bump(Scope.CHALLENGE);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChallengeUpdated(ChallengeUpdatedEvent event) {
+        bump(Scope.CHALLENGE);
+    }
+
+    // 참가 / 탈퇴 / 삭제
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChallengeMembershipChanged(ChallengeMembershipChangedEvent event) {
+        bump(Scope.CHALLENGE);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChallengeSettled(ChallengeSettledEvent event) {
+        bump(Scope.CHALLENGE);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChallengeLikeToggled(ChallengeLikeToggledEvent event) {
+        bumpLiked(Scope.CHALLENGE, event.userId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        bump(Scope.POST);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostLikeToggled(PostLikeToggledEvent event) {
+        bumpLiked(Scope.POST, event.userId());
+    }
+
+    // 세대를 COUNT 전에 읽어 두므로, 세는 도중 바뀐 결과는 이전 세대 키로만 남는다
+    private long cachedCount(Scope scope, Long likedBy, Supplier<Long> counter, Object... filter) {
+        Key key = new Key(
+                scope,
+                generations.get(scope).get(),
+                likedBy,
+                likedBy == null ? 0L : likedGeneration(scope, likedBy),
+                Arrays.asList(filter)
+        );
+
+        Long cached = cache().get(key, Long.class);
+        if (cached != null) return cached;
+
+        Long total = counter.get();
+        long value = total == null ? 0L : total;
+        cache().put(key, value);
+        return value;
+    }
+
+    private long likedGeneration(Scope scope, Long userId) {
+        AtomicLong generation = likedGenerations.get(new LikedBy(scope, userId));
+        return generation == null ? 0L : generation.get();
+    }
+
+    private void bump(Scope scope) {
+        generations.get(scope).incrementAndGet();
+    }
+
+    private void bumpLiked(Scope scope, Long userId) {
+        likedGenerations.computeIfAbsent(new LikedBy(scope, userId), key -> new AtomicLong()).incrementAndGet();
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache(CacheNames.PAGE_COUNT);
+    }
+}
@@ -0,0 +1,26 @@
+package targeter.aim.system.scheduler;
+
+import lombok.Getter;
+
+/**
+ * 이 노드가 쥐고 있는 리스. 보호 대상에 쓰기 전에 fencingToken 으로 자신이 최신 소유자인지 확인한다.
+ * 갱신에 실패하면 lost 가 되고, 이후 작업은 더 진행하지 않아야 한다.
+ */
+@Getter
+public class HeldLease {
+
+    private final String name;
+    private final String owner;
+    private final long fencingToken;
+    private volatile boolean lost;
+
+    HeldLease(String name, String owner, long fencingToken) {
+        this.name = name;
+        this.owner = owner;
+        this.fencingToken = fencingToken;
+    }
+
+    void markLost() {
+        this.lost = true;
+    }
+}
@@ -0,0 +1,34 @@
+package targeter.aim.system.scheduler;
+
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import targeter.aim.common.auditor.TimeStampedEntity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄러 작업 하나의 리스. 소유 노드, 만료 시각과 가져갈 때마다 1씩 오르는 펜싱 토큰을 기록한다.
+ */
+@Entity
+@Getter
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "scheduler_lease")
+public class SchedulerLease extends TimeStampedEntity {
+
+    @Id
+    @Column(name = "lock_name", length = 100)
+    private String name;
+
+    @Column(length = 100)
+    private String owner;
+
+    @Column(name = "fencing_token", nullable = false)
+    @Builder.Default
+    private Long fencingToken = 0L;
+
+    @Column(name = "lease_until", nullable = false)
+    private LocalDateTime leaseUntil;
+}
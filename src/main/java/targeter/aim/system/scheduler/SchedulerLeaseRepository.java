@@ -0,0 +1,6 @@
+package targeter.aim.system.scheduler;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+}
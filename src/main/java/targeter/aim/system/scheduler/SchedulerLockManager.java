@@ -0,0 +1,256 @@
+package targeter.aim.system.scheduler;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import targeter.aim.system.configuration.scheduler.SchedulerLockProperties;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static targeter.aim.system.scheduler.QSchedulerLease.schedulerLease;
+
+/**
+ * DB(scheduler_lease) 기반 스케줄러 리스.
+ * 여러 노드가 같은 cron 을 돌려도 리스를 잡은 한 노드만 작업하고, 나머지는 건너뛴다.
+ *
+ * - 획득: 비어 있거나 만료된 행만 조건부 UPDATE 로 가져가며, 이때 펜싱 토큰이 1 오른다.
+ * - 갱신: 작업 중 renewInterval 마다 (소유자, 토큰)이 그대로일 때만 만료 시각을 민다.
+ * - 인계: 소유 노드가 죽으면 갱신이 끊기고 leaseDuration 뒤 다른 노드가 새 토큰으로 가져간다.
+ * 보호 대상은 토큰을 함께 기록 / 비교해 만료된 이전 소유자의 늦은 쓰기를 거절한다.
+ *
+ * 만료 시각은 노드 시계가 아니라 DB 시각(LOCALTIMESTAMP)으로 계산 / 비교하므로, 노드 간 시계가 어긋나도 리스가 겹치지 않는다.
+ */
+@Slf4j
+@Component
+public class SchedulerLockManager {
+
+    private final JPAQueryFactory queryFactory;
+    private final TransactionTemplate newTx;
+    private final String nodeId;
+    private final Duration leaseDuration;
+    private final Duration renewInterval;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 같은 프로세스 안에서의 중복 획득 방지 (nodeId 가 고정이면 DB 조건만으로는 구분되지 않음)
+    private final Set<String> heldLocally = ConcurrentHashMap.newKeySet();
+
+    private final ScheduledExecutorService renewer = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("scheduler-lease-renew").daemon().factory()
+    );
+
+    public SchedulerLockManager(
+            JPAQueryFactory queryFactory,
+            PlatformTransactionManager transactionManager,
+            SchedulerLockProperties properties
+    ) {
+        this.queryFactory = queryFactory;
+        this.newTx = new TransactionTemplate(transactionManager);
+        this.newTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.nodeId = properties.getNodeId();
+        this.leaseDuration = properties.getLeaseDuration();
+        this.renewInterval = properties.getRenewInterval();
+    }
+
+    /**
+     * 리스를 잡은 동안에만 task 를 실행하고, 실행 중에는 주기적으로 갱신한다.
+     *
+     * @return 다른 노드가 리스를 쥐고 있으면 empty
+     */
+    public <T> Optional<T> runWithLease(String name, Function<HeldLease, T> task) {
+        Optional<HeldLease> acquired = tryAcquire(name);
+        if (acquired.isEmpty()) {
+            return Optional.empty();
+        }
+
+        HeldLease lease = acquired.get();
+        long intervalMillis = renewInterval.toMillis();
+        ScheduledFuture<?> renewal = renewer.scheduleAtFixedRate(() -> {
+            try {
+                renew(lease);
+            } catch (RuntimeException e) {
+                // 일시적인 DB 오류: 만료 전이면 다음 주기에 다시 갱신된다
+                log.warn("[SchedulerLock] 리스 갱신 실패 {}: {}", name, e.getMessage());
+            }
+        }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+
+        try {
+            return Optional.ofNullable(task.apply(lease));
+        } finally {
+            renewal.cancel(false);
+            release(lease);
+        }
+    }
+
+    public Optional<HeldLease> tryAcquire(String name) {
+        if (!heldLocally.add(name)) {
+            return Optional.empty();
+        }
+
+        try {
+            ensureRow(name);
+
+            Long token = newTx.execute(status -> {
+                LocalDateTime now = dbNow();
+                long updated = queryFactory
+                        .update(schedulerLease)
+                        .set(schedulerLease.owner, nodeId)
+                        .set(schedulerLease.fencingToken, schedulerLease.fencingToken.add(1))
+                        .set(schedulerLease.leaseUntil, now.plus(leaseDuration))
+                        .set(schedulerLease.lastModifiedAt, now)
+                        .where(
+                                schedulerLease.name.eq(name),
+                                schedulerLease.owner.isNull()
+                                        .or(schedulerLease.leaseUntil.lt(now))
+                                        .or(schedulerLease.owner.eq(nodeId))   // 같은 nodeId 로 재기동한 경우
+                        )
+                        .execute();
+
+                if (updated == 0) return null;
+
+                return queryFactory
+                        .select(schedulerLease.fencingToken)
+                        .from(schedulerLease)
+                        .where(schedulerLease.name.eq(name))
+                        .fetchOne();
+            });
+
+            if (token == null) {
+                heldLocally.remove(name);
+                log.debug("[SchedulerLock] {} 리스는 다른 노드가 보유 중", name);
+                return Optional.empty();
+            }
+
+            log.info("[SchedulerLock] {} 리스 획득 node={} token={}", name, nodeId, token);
+            return Optional.of(new HeldLease(name, nodeId, token));
+        } catch (RuntimeException e) {
+            heldLocally.remove(name);
+            throw e;
+        }
+    }
+
+    public boolean renew(HeldLease lease) {
+        if (lease.isLost()) return false;
+
+        Long updated = newTx.execute(status -> {
+            LocalDateTime now = dbNow();
+            return queryFactory
+                    .update(schedulerLease)
+                    .set(schedulerLease.leaseUntil, now.plus(leaseDuration))
+                    .set(schedulerLease.lastModifiedAt, now)
+                    .where(
+                            schedulerLease.name.eq(lease.getName()),
+                            schedulerLease.owner.eq(lease.getOwner()),
+                            schedulerLease.fencingToken.eq(lease.getFencingToken()),
+                            schedulerLease.leaseUntil.gt(now)
+                    )
+                    .execute();
+        });
+
+        if (updated == null || updated == 0) {
+            lease.markLost();
+            log.warn("[SchedulerLock] {} 리스를 잃었습니다 (token={})", lease.getName(), lease.getFencingToken());
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 보호 대상에 쓰기 직전 확인용. 호출한 트랜잭션 안에서 읽으며, 아직 내 토큰이고 만료 전인지 본다.
+     */
+    public boolean isHeld(HeldLease lease) {
+        if (lease.isLost()) return false;
+
+        Long count = queryFactory
+                .select(schedulerLease.count())
+                .from(schedulerLease)
+                .where(
+                        schedulerLease.name.eq(lease.getName()),
+                        schedulerLease.owner.eq(lease.getOwner()),
+                        schedulerLease.fencingToken.eq(lease.getFencingToken()),
+                        schedulerLease.leaseUntil.gt(dbNow())
+                )
+                .fetchOne();
+
+        boolean held = count != null && count > 0;
+        if (!held) {
+            lease.markLost();
+        }
+        return held;
+    }
+
+    public void release(HeldLease lease) {
+        heldLocally.remove(lease.getName());
+        try {
+            newTx.executeWithoutResult(status -> {
+                LocalDateTime now = dbNow();
+                queryFactory
+                        .update(schedulerLease)
+                        .setNull(schedulerLease.owner)
+                        .set(schedulerLease.leaseUntil, now)
+                        .set(schedulerLease.lastModifiedAt, now)
+                        .where(
+                                schedulerLease.name.eq(lease.getName()),
+                                schedulerLease.owner.eq(lease.getOwner()),
+                                schedulerLease.fencingToken.eq(lease.getFencingToken())
+                        )
+                        .execute();
+            });
+        } catch (RuntimeException e) {
+            // 반납에 실패해도 leaseDuration 뒤에는 만료된다
+            log.warn("[SchedulerLock] {} 리스 반납 실패: {}", lease.getName(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renewer.shutdownNow();
+    }
+
+    // merge 는 다른 노드가 막 만든 행을 덮어쓸 수 있으므로 persist(INSERT) 만 시도한다
+    private void ensureRow(String name) {
+        Long exists = queryFactory
+                .select(schedulerLease.count())
+                .from(schedulerLease)
+                .where(schedulerLease.name.eq(name))
+                .fetchOne();
+        if (exists != null && exists > 0) return;
+
+        try {
+            newTx.executeWithoutResult(status -> {
+                entityManager.persist(SchedulerLease.builder()
+                        .name(name)
+                        .leaseUntil(dbNow())
+                        .build());
+                entityManager.flush();
+            });
+        } catch (DataIntegrityViolationException | PersistenceException e) {
+            // flush 중 PK 충돌은 번역되지 않은 PersistenceException 으로 올라온다
+            log.debug("[SchedulerLock] {} 리스 행은 다른 노드가 먼저 생성", name);
+        }
+    }
+
+    // 모든 노드가 같은 시계를 보도록 DB 시각을 쓴다
+    private LocalDateTime dbNow() {
+        return (LocalDateTime) entityManager.createNativeQuery("SELECT LOCALTIMESTAMP(6)", LocalDateTime.class)
+                .getSingleResult();
+    }
+}
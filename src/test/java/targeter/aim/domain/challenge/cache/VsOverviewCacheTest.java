@@ -0,0 +1,74 @@
+package targeter.aim.domain.challenge.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import targeter.aim.domain.challenge.entity.ChallengeVisibility;
+import targeter.aim.domain.challenge.event.ChallengeMembershipChangedEvent;
+import targeter.aim.domain.challenge.event.ChallengeSettledEvent;
+import targeter.aim.domain.challenge.event.ChallengeUpdatedEvent;
+import targeter.aim.system.configuration.cache.CacheProperties;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 정산 / 멤버 변경으로 한 챌린지의 버전 항목을 지워도 다른 챌린지의 캐시는 그대로 읽히고,
+ * 지운 챌린지는 이전에 저장된 결과를 다시 읽지 않는지 확인한다.
+ */
+class VsOverviewCacheTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 1, 5);
+
+    private final VsOverviewCache cache = new VsOverviewCache(new ConcurrentMapCacheManager(), new CacheProperties());
+
+    @Test
+    void pruneLeavesOtherChallengesCached() {
+        cache.onUpdated(new ChallengeUpdatedEvent(2L));
+        long otherChanged = cache.version(2L);
+        long otherUnchanged = cache.version(3L);
+        cache.put(2L, otherChanged, DAY, snapshot());
+        cache.put(3L, otherUnchanged, DAY, snapshot());
+
+        cache.onSettled(new ChallengeSettledEvent(1L));
+
+        assertThat(cache.version(2L)).isEqualTo(otherChanged);
+        assertThat(cache.version(3L)).isEqualTo(otherUnchanged);
+        assertThat(cache.get(2L, cache.version(2L), DAY)).isNotNull();
+        assertThat(cache.get(3L, cache.version(3L), DAY)).isNotNull();
+    }
+
+    @Test
+    void prunedChallengeDoesNotReadEarlierSnapshots() {
+        // 바뀐 적 없는 챌린지 (기본 버전)
+        long initial = cache.version(1L);
+        cache.put(1L, initial, DAY, snapshot());
+
+        // 바뀐 적 있는 챌린지
+        cache.onUpdated(new ChallengeUpdatedEvent(2L));
+        long changed = cache.version(2L);
+        cache.put(2L, changed, DAY, snapshot());
+
+        cache.onSettled(new ChallengeSettledEvent(1L));
+        cache.onMembershipChanged(new ChallengeMembershipChangedEvent(2L));
+
+        assertThat(cache.version(1L)).isNotEqualTo(initial);
+        assertThat(cache.version(2L)).isNotIn(changed, initial);
+        assertThat(cache.get(1L, cache.version(1L), DAY)).isNull();
+        assertThat(cache.get(2L, cache.version(2L), DAY)).isNull();
+    }
+
+    @Test
+    void changeAfterPruneGetsFreshVersion() {
+        cache.onSettled(new ChallengeSettledEvent(1L));
+        long pruned = cache.version(1L);
+
+        cache.onUpdated(new ChallengeUpdatedEvent(1L));
+
+        assertThat(cache.version(1L)).isNotEqualTo(pruned).isPositive();
+    }
+
+    private static VsOverviewCache.Snapshot snapshot() {
+        return new VsOverviewCache.Snapshot(ChallengeVisibility.PUBLIC, 1L, 2L, null, null);
+    }
+}
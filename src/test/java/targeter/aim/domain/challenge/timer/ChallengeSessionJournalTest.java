@@ -0,0 +1,148 @@
+package targeter.aim.domain.challenge.timer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 저널에 쓰고, 파일을 자르거나 깨뜨린 뒤 다시 열어 복구 결과를 확인한다.
+ * 비정상 종료는 close 없이 같은 파일로 새 저널을 여는 것으로 흉내 낸다.
+ */
+class ChallengeSessionJournalTest {
+
+    // 헤더 16 bytes, 레코드 32 bytes (ChallengeSessionJournal 클래스 주석의 형식)
+    private static final int HEADER_SIZE = 16;
+    private static final int RECORD_SIZE = 32;
+    private static final int CAPACITY = HEADER_SIZE + RECORD_SIZE * 64;
+
+    @TempDir
+    Path dir;
+
+    private Path path() {
+        return dir.resolve("sessions.journal");
+    }
+
+    private ChallengeSessionJournal open(long nowMillis, List<ChallengeSessionJournal.OpenSession> expected) {
+        ChallengeSessionJournal journal = new ChallengeSessionJournal(path(), CAPACITY, false);
+        assertThat(journal.recover(nowMillis)).containsExactlyElementsOf(expected);
+        return journal;
+    }
+
+    @Test
+    void newFileRecoversNothing() {
+        open(1_000L, List.of());
+        assertThat(Files.exists(path())).isTrue();
+    }
+
+    @Test
+    void recoversOnlyUnstoppedSessionsShiftedByDowntime() {
+        ChallengeSessionJournal journal = open(1_000L, List.of());
+        journal.appendStart(1L, 10L, 1_000L);
+        journal.appendStart(1L, 11L, 1_500L);
+        journal.appendStop(1L, 10L, 2_000L);
+        journal.heartbeat(5_000L);
+
+        // 5초에 마지막으로 살아 있었고 8초에 다시 떴으니 3초는 공부 시간이 아니다
+        open(8_000L, List.of(new ChallengeSessionJournal.OpenSession(1L, 11L, 4_500L)));
+    }
+
+    @Test
+    void laterRecordExtendsLastAliveBeyondHeartbeat() {
+        ChallengeSessionJournal journal = open(1_000L, List.of());
+        journal.heartbeat(2_000L);
+        journal.appendStart(2L, 20L, 3_000L);
+
+        open(4_000L, List.of(new ChallengeSessionJournal.OpenSession(2L, 20L, 4_000L)));
+    }
+
+    @Test
+    void corruptedChecksumEndsReplay() throws IOException {
+        ChallengeSessionJournal journal = open(1_000L, List.of());
+        journal.appendStart(1L, 10L, 1_000L);
+        journal.appendStart(1L, 11L, 1_000L);
+        journal.appendStart(1L, 12L, 1_000L);
+
+        // 두 번째 레코드의 userId 한 바이트를 바꾸면 CRC 가 맞지 않으므로 거기서 멈춘다
+        overwrite(HEADER_SIZE + RECORD_SIZE + 12, (byte) 0x7F);
+
+        open(1_000L, List.of(new ChallengeSessionJournal.OpenSession(1L, 10L, 1_000L)));
+    }
+
+    @Test
+    void recordWithoutTypeIsIgnored() throws IOException {
+        ChallengeSessionJournal journal = open(1_000L, List.of());
+        journal.appendStart(1L, 10L, 1_000L);
+        journal.appendStart(1L, 11L, 1_000L);
+
+        // 본문만 쓰이고 type 바이트를 쓰기 전에 죽은 레코드 (type 을 마지막에 쓴다)
+        overwrite(HEADER_SIZE + RECORD_SIZE, (byte) 0);
+
+        open(1_000L, List.of(new ChallengeSessionJournal.OpenSession(1L, 10L, 1_000L)));
+    }
+
+    @Test
+    void truncatedRecordIsDropped() throws IOException {
+        ChallengeSessionJournal journal = open(1_000L, List.of());
+        journal.appendStart(1L, 10L, 1_000L);
+        journal.appendStart(1L, 11L, 1_000L);
+
+        // 두 번째 레코드 도중에 파일이 잘리면 나머지는 0 으로 읽혀 CRC 가 맞지 않는다
+        try (FileChannel channel = FileChannel.open(path(), StandardOpenOption.WRITE)) {
+            channel.truncate(HEADER_SIZE + RECORD_SIZE + RECORD_SIZE / 2);
+        }
+
+        open(1_000L, List.of(new ChallengeSessionJournal.OpenSession(1L, 10L, 1_000L)));
+    }
+
+    @Test
+    void compactionKeepsOnlyLiveSessions() throws IOException {
+        ChallengeSessionJournal journal = open(1_000L, List.of());
+        // 한 번 늘어날 만큼 START / STOP 을 쌓는다
+        for (long userId = 100; userId < 150; userId++) {
+            journal.appendStart(3L, userId, 1_000L);
+            journal.appendStop(3L, userId, 1_000L);
+        }
+        journal.appendStart(3L, 7L, 1_000L);
+        assertThat(Files.size(path())).isGreaterThan(CAPACITY);
+
+        ChallengeSessionJournal.OpenSession live = new ChallengeSessionJournal.OpenSession(3L, 7L, 1_000L);
+        journal.compactIfNeeded(() -> List.of(live));
+        assertThat(Files.size(path())).isEqualTo(CAPACITY);
+
+        // 압축 뒤에 쓴 레코드도 이어서 복구된다
+        journal.appendStop(3L, 7L, 1_000L);
+        journal.appendStart(3L, 8L, 1_000L);
+
+        // 압축이 현재 시각으로 생존 시각을 남기므로 시작 시각은 비교하지 않는다
+        ChallengeSessionJournal reopened = new ChallengeSessionJournal(path(), CAPACITY, false);
+        assertThat(reopened.recover(System.currentTimeMillis()))
+                .extracting(ChallengeSessionJournal.OpenSession::challengeId, ChallengeSessionJournal.OpenSession::userId)
+                .containsExactly(tuple(3L, 8L));
+        reopened.close(List.of(), System.currentTimeMillis());
+    }
+
+    @Test
+    void gracefulCloseKeepsLiveSessionsAndCountsDowntimeFromClose() {
+        ChallengeSessionJournal journal = open(1_000L, List.of());
+        journal.appendStart(4L, 40L, 1_000L);
+        journal.close(List.of(new ChallengeSessionJournal.OpenSession(4L, 40L, 1_000L)), 6_000L);
+
+        open(10_000L, List.of(new ChallengeSessionJournal.OpenSession(4L, 40L, 5_000L)));
+    }
+
+    private void overwrite(long position, byte value) throws IOException {
+        try (FileChannel channel = FileChannel.open(path(), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{value}), position);
+        }
+    }
+}
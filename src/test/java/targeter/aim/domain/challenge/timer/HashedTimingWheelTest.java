@@ -0,0 +1,158 @@
+package targeter.aim.domain.challenge.timer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 만료 작업은 휠 스레드에서 바로 실행한다 (executor = Runnable::run).
+ * 틱을 짧게 두고 마감보다 일찍 실행되지 않는지, 한 바퀴보다 먼 마감과 취소가 맞게 처리되는지 확인한다.
+ */
+class HashedTimingWheelTest {
+
+    private static final long TICK_MILLIS = 5;
+
+    private HashedTimingWheel wheel;
+
+    private HashedTimingWheel wheel(int wheelSize) {
+        wheel = new HashedTimingWheel("test-wheel", TICK_MILLIS, TimeUnit.MILLISECONDS, wheelSize, Runnable::run);
+        return wheel;
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (wheel != null) {
+            wheel.stop();
+        }
+    }
+
+    @Test
+    void rejectsWheelSizeThatIsNotPowerOfTwo() {
+        assertThatThrownBy(() -> new HashedTimingWheel("bad", 1, TimeUnit.MILLISECONDS, 6, Runnable::run))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void runsTaskNotBeforeDeadline() throws InterruptedException {
+        HashedTimingWheel wheel = wheel(8);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(30);
+        AtomicLong firedAt = new AtomicLong();
+        CountDownLatch fired = new CountDownLatch(1);
+
+        wheel.schedule(() -> {
+            firedAt.set(System.nanoTime());
+            fired.countDown();
+        }, deadline);
+
+        assertThat(fired.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(firedAt.get()).isGreaterThanOrEqualTo(deadline);
+        assertThat(wheel.pendingCount()).isZero();
+    }
+
+    @Test
+    void deadlineBeyondOneRoundWaitsForRemainingRounds() throws InterruptedException {
+        // 4칸 * 5ms = 한 바퀴 20ms, 마감은 다섯 바퀴 뒤
+        HashedTimingWheel wheel = wheel(4);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100);
+        AtomicLong firedAt = new AtomicLong();
+        CountDownLatch fired = new CountDownLatch(1);
+
+        wheel.schedule(() -> {
+            firedAt.set(System.nanoTime());
+            fired.countDown();
+        }, deadline);
+
+        assertThat(fired.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(firedAt.get()).isGreaterThanOrEqualTo(deadline);
+    }
+
+    @Test
+    void pastDeadlineRunsOnNextTick() throws InterruptedException {
+        HashedTimingWheel wheel = wheel(8);
+        CountDownLatch fired = new CountDownLatch(1);
+
+        wheel.schedule(fired::countDown, System.nanoTime() - TimeUnit.SECONDS.toNanos(1));
+
+        assertThat(fired.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void cancelledTaskNeverRuns() throws InterruptedException {
+        HashedTimingWheel wheel = wheel(8);
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch marker = new CountDownLatch(1);
+
+        HashedTimingWheel.Timeout cancelled =
+                wheel.schedule(runs::incrementAndGet, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(20));
+        assertThat(wheel.pendingCount()).isEqualTo(1);
+        assertThat(cancelled.cancel()).isTrue();
+        assertThat(cancelled.cancel()).isFalse();
+        assertThat(wheel.pendingCount()).isZero();
+
+        // 취소한 마감보다 늦은 작업이 실행될 때까지 기다린 뒤 확인
+        wheel.schedule(marker::countDown, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(60));
+        assertThat(marker.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(runs.get()).isZero();
+    }
+
+    @Test
+    void expiredTaskCannotBeCancelled() throws InterruptedException {
+        HashedTimingWheel wheel = wheel(8);
+        CountDownLatch fired = new CountDownLatch(1);
+
+        HashedTimingWheel.Timeout timeout = wheel.schedule(fired::countDown, System.nanoTime());
+
+        assertThat(fired.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(timeout.cancel()).isFalse();
+        assertThat(wheel.pendingCount()).isZero();
+    }
+
+    @Test
+    void manyTimeoutsInSameBucketAllExpireOnce() throws InterruptedException {
+        HashedTimingWheel wheel = wheel(4);
+        int count = 1_000;
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch fired = new CountDownLatch(count);
+        long base = System.nanoTime();
+        HashedTimingWheel.Timeout[] timeouts = new HashedTimingWheel.Timeout[count];
+
+        for (int i = 0; i < count; i++) {
+            timeouts[i] = wheel.schedule(() -> {
+                runs.incrementAndGet();
+                fired.countDown();
+            }, base + TimeUnit.MILLISECONDS.toNanos(100 + i % 50));
+        }
+
+        // 휠 스레드가 버킷에 옮겨 담은 뒤 홀수 번째를 취소: 같은 버킷 안에서 중간 노드 삭제
+        Thread.sleep(20);
+        int cancelled = 0;
+        for (int i = 1; i < count; i += 2) {
+            if (timeouts[i].cancel()) {
+                cancelled++;
+                fired.countDown();
+            }
+        }
+
+        assertThat(cancelled).isPositive();
+        assertThat(fired.await(2, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(50);
+        assertThat(runs.get()).isEqualTo(count - cancelled);
+        assertThat(wheel.pendingCount()).isZero();
+    }
+
+    @Test
+    void scheduleAfterStopIsRejected() {
+        HashedTimingWheel wheel = wheel(8);
+        wheel.stop();
+
+        assertThatThrownBy(() -> wheel.schedule(() -> {}, System.nanoTime()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,105 @@
+package targeter.aim.domain.challenge.timer;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompDecoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.messaging.StompSubProtocolHandler;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 인터셉터가 바꾼 메시지를 실제 StompSubProtocolHandler 로 내보내고, 세션이 받은 WebSocket 메시지를 다시 STOMP 로 읽어
+ * 형식별로 바이너리/텍스트 여부와 본문이 그대로인지 확인한다.
+ */
+class TimerFrameOutboundInterceptorTest {
+
+    private static final TypeReference<Map<String, Object>> BODY = new TypeReference<>() {};
+
+    private final TimerSessionContextRegistry contextRegistry = new TimerSessionContextRegistry(null, null, null, null);
+    private final TimerFrameOutboundInterceptor interceptor =
+            new TimerFrameOutboundInterceptor(contextRegistry, new TimerFrameCodec(new ObjectMapper()));
+
+    @Test
+    void cborFrameIsSentAsBinaryAndDecodesBack() throws Exception {
+        contextRegistry.open("cbor-session", 1L, TimerWireFormat.CBOR, 0);
+
+        WebSocketMessage<?> sent = sendToClient("cbor-session", TimerFrame.off(1L, 3_600L));
+
+        assertThat(sent).isInstanceOf(BinaryMessage.class);
+        Message<byte[]> stomp = decode(((BinaryMessage) sent).getPayload());
+        StompHeaderAccessor headers = StompHeaderAccessor.wrap(stomp);
+
+        assertThat(headers.getCommand()).isEqualTo(StompCommand.MESSAGE);
+        assertThat(headers.getContentType()).isEqualTo(MimeTypeUtils.APPLICATION_OCTET_STREAM);
+        assertThat(headers.getFirstNativeHeader(TimerWireFormat.HEADER)).isEqualTo("CBOR");
+        assertThat(new CBORMapper().readValue(stomp.getPayload(), BODY))
+                .containsEntry("t", "off")
+                .containsEntry("u", 1)
+                .containsEntry("a", 3_600);
+    }
+
+    @Test
+    void compactFrameStaysTextWithoutFormatHeader() throws Exception {
+        contextRegistry.open("compact-session", 2L, TimerWireFormat.COMPACT, 0);
+
+        WebSocketMessage<?> sent = sendToClient("compact-session", TimerFrame.off(2L, 60L));
+
+        assertThat(sent).isInstanceOf(TextMessage.class);
+        Message<byte[]> stomp = decode(ByteBuffer.wrap(((TextMessage) sent).getPayload().getBytes(StandardCharsets.UTF_8)));
+        StompHeaderAccessor headers = StompHeaderAccessor.wrap(stomp);
+
+        assertThat(headers.getContentType().isCompatibleWith(MimeTypeUtils.APPLICATION_JSON)).isTrue();
+        assertThat(headers.getFirstNativeHeader(TimerWireFormat.HEADER)).isNull();
+        assertThat(new ObjectMapper().readValue(stomp.getPayload(), BODY))
+                .containsEntry("t", "off")
+                .containsEntry("a", 60);
+    }
+
+    private WebSocketMessage<?> sendToClient(String sessionId, TimerFrame frame) throws Exception {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId("sub-0");
+        accessor.setDestination("/sub/challenge/1");
+        Message<?> message = MessageBuilder.createMessage(frame, accessor.getMessageHeaders());
+
+        Message<?> encoded = interceptor.preSend(message, null);
+
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(sessionId);
+        when(session.isOpen()).thenReturn(true);
+        new StompSubProtocolHandler().handleMessageToClient(session, encoded);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<WebSocketMessage<?>> captor = ArgumentCaptor.forClass(WebSocketMessage.class);
+        verify(session).sendMessage(captor.capture());
+        return captor.getValue();
+    }
+
+    private static Message<byte[]> decode(ByteBuffer buffer) {
+        List<Message<byte[]>> messages = new StompDecoder().decode(buffer);
+        assertThat(messages).hasSize(1);
+        return messages.get(0);
+    }
+}
@@ -0,0 +1,115 @@
+package targeter.aim.domain.challenge.timer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import targeter.aim.system.configuration.timer.TimerProperties;
+import targeter.aim.system.configuration.websocket.EmbeddedStompBroker;
+import targeter.aim.system.configuration.websocket.StompRelayTimerClusterBus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+/**
+ * 내장 STOMP 브로커로 두 노드를 붙여, 소식이 끊긴 노드의 세션을 남은 노드가 이어받는지 확인한다.
+ */
+class TimerOwnershipTakeoverTest {
+
+    private EmbeddedStompBroker broker;
+    private Node nodeA;
+    private Node nodeB;
+
+    private static final class Node {
+        final StompRelayTimerClusterBus bus;
+        final ChallengeRunningSessionManager sessionManager;
+        final TimerDeadlineScheduler deadlineScheduler;
+        final TimerOwnershipRegistry registry;
+
+        Node(EmbeddedStompBroker broker, String nodeId) {
+            TimerProperties properties = new TimerProperties();
+            properties.getJournal().setEnabled(false);
+            properties.getCluster().setNodeTimeout(Duration.ofSeconds(1));
+
+            bus = new StompRelayTimerClusterBus(broker.properties(nodeId), new ObjectMapper());
+            sessionManager = new ChallengeRunningSessionManager(properties);
+            deadlineScheduler = new TimerDeadlineScheduler(properties);
+            registry = new TimerOwnershipRegistry(bus, sessionManager, deadlineScheduler, properties);
+            registry.init();
+            bus.connect();
+        }
+
+        void shutdown() {
+            bus.shutdown();
+            deadlineScheduler.shutdown();
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        broker = EmbeddedStompBroker.start();
+        nodeA = new Node(broker, "node-a");
+        nodeB = new Node(broker, "node-b");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        nodeA.shutdown();
+        nodeB.shutdown();
+        broker.close();
+    }
+
+    @Test
+    void survivorAdoptsSessionsOfSilentNodeAndDuplicateIsDropped() {
+        LocalDateTime startedAt = nodeB.sessionManager.start(1L, 2L, 300L);
+        long startedAtMillis = nodeB.sessionManager.startedAtMillisOf(1L, 2L);
+
+        await(() -> nodeA.registry.isOwnedElsewhere(1L, 2L), () -> nodeB.registry.claim(1L, 2L, startedAt, 300L));
+
+        // node-b 가 node-timeout 넘게 조용했던 것으로 본다
+        nodeA.registry.takeOverDeadNodes(System.nanoTime() + Duration.ofSeconds(2).toNanos());
+
+        assertThat(nodeA.sessionManager.isRunning(1L, 2L)).isTrue();
+        assertThat(nodeA.sessionManager.startedAtMillisOf(1L, 2L)).isCloseTo(startedAtMillis, offset(1L));
+        assertThat(nodeA.sessionManager.baseSecondsOf(1L, 2L)).isEqualTo(300L);
+        assertThat(nodeA.registry.isOwnedElsewhere(1L, 2L)).isFalse();
+
+        // 실제로는 살아 있던 node-b 는 nodeId 가 더 작은 node-a 의 CLAIM 을 받고 자기 세션을 내려놓는다
+        await(() -> !nodeB.sessionManager.isRunning(1L, 2L), () -> {});
+        await(() -> nodeB.registry.isOwnedElsewhere(1L, 2L), () -> {});
+        assertThat(nodeA.sessionManager.isRunning(1L, 2L)).isTrue();
+    }
+
+    @Test
+    void nodeWithLargerIdYieldsDuplicateSession() {
+        LocalDateTime startedAt = nodeA.sessionManager.start(3L, 4L, 0L);
+
+        await(() -> nodeB.registry.isOwnedElsewhere(3L, 4L), () -> nodeA.registry.claim(3L, 4L, startedAt, 0L));
+
+        // node-b 가 보기에 node-a 가 죽었고, 살아 있는 다른 노드 중 node-b 보다 작은 것이 없으므로 node-b 가 이어받는다
+        nodeB.registry.takeOverDeadNodes(System.nanoTime() + Duration.ofSeconds(2).toNanos());
+        assertThat(nodeB.sessionManager.isRunning(3L, 4L)).isTrue();
+
+        // 돌아온 node-a 의 CLAIM 을 받으면 nodeId 가 큰 node-b 가 내려놓는다
+        await(() -> !nodeB.sessionManager.isRunning(3L, 4L), () -> nodeA.registry.claim(3L, 4L, startedAt, 0L));
+        assertThat(nodeA.sessionManager.isRunning(3L, 4L)).isTrue();
+    }
+
+    private static void await(BooleanSupplier condition, Runnable action) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("클러스터 메시지 대기 시간 초과").isLessThan(deadline);
+            action.run();
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
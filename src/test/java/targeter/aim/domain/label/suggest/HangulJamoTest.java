@@ -0,0 +1,49 @@
+package targeter.aim.domain.label.suggest;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 입력 중인 한글(받침이 다음 음절로 넘어가기 전, 낱자 자모, 겹모음 / 겹받침)이 완성된 태그 키의 접두어가 되는지 확인한다.
+ */
+class HangulJamoTest {
+
+    @Test
+    void decomposesSyllablesIntoJamo() {
+        assertThat(HangulJamo.decompose("개발")).isEqualTo("ㄱㅐㅂㅏㄹ");
+    }
+
+    @Test
+    void partialInputsArePrefixesOfCompletedWord() {
+        String key = HangulJamo.decompose("개발");
+
+        assertThat(key)
+                .startsWith(HangulJamo.decompose("개바"))
+                .startsWith(HangulJamo.decompose("갭"))
+                .startsWith(HangulJamo.decompose("개ㅂ"))
+                .startsWith(HangulJamo.decompose("ㄱ"));
+    }
+
+    @Test
+    void compoundVowelsAndFinalsSplitInTypingOrder() {
+        assertThat(HangulJamo.decompose("과")).startsWith(HangulJamo.decompose("고"));
+        assertThat(HangulJamo.decompose("닭")).startsWith(HangulJamo.decompose("달"));
+        assertThat(HangulJamo.decompose("값")).startsWith(HangulJamo.decompose("갑"));
+        // 낱자로 입력한 겹자모도 같은 키로 푼다
+        assertThat(HangulJamo.decompose("ㅘ")).isEqualTo("ㅗㅏ");
+        assertThat(HangulJamo.decompose("ㄺ")).isEqualTo(HangulJamo.decompose("ㄹㄱ"));
+    }
+
+    @Test
+    void nonHangulIsLowercasedAndWhitespaceNormalized() {
+        assertThat(HangulJamo.decompose("  Spring   Boot ")).isEqualTo("spring boot");
+        assertThat(HangulJamo.decompose("Java개발")).isEqualTo("javaㄱㅐㅂㅏㄹ");
+    }
+
+    @Test
+    void differentWordIsNotPrefix() {
+        assertThat(HangulJamo.decompose("개발")).doesNotStartWith(HangulJamo.decompose("게"));
+        assertThat(HangulJamo.decompose("개발")).doesNotStartWith(HangulJamo.decompose("갭스"));
+    }
+}
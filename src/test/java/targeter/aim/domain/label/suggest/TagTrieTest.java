@@ -0,0 +1,127 @@
+package targeter.aim.domain.label.suggest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 트라이의 노드별 상위 태그(topK)가 해당 접두어를 가진 태그를 RANK 순으로 정렬한 앞부분과 같은지,
+ * 직접 필터링 / 정렬한 결과와 비교한다. BFS 로 만든 자식 구간이 어긋나면 깊은 접두어에서 결과가 달라진다.
+ */
+class TagTrieTest {
+
+    private static final int TOP_K = 3;
+
+    @Test
+    void returnsTopKByUsageThenLengthThenName() {
+        TagTrie trie = TagTrie.build(List.of(
+                entry(1L, "개발", 5),
+                entry(2L, "개발자", 9),
+                entry(3L, "개발팀", 5),
+                entry(4L, "개미", 1),
+                entry(5L, "개발 공부", 5),
+                entry(6L, "디자인", 20)
+        ), TOP_K);
+
+        assertThat(trie.search(HangulJamo.decompose("개"), 10))
+                .extracting(TagTrie.Entry::id)
+                .containsExactly(2L, 1L, 3L);
+        assertThat(trie.search(HangulJamo.decompose("개ㅂ"), 10))
+                .extracting(TagTrie.Entry::id)
+                .containsExactly(2L, 1L, 3L);
+        assertThat(trie.search(HangulJamo.decompose("개미"), 10))
+                .extracting(TagTrie.Entry::id)
+                .containsExactly(4L);
+        // 빈 접두어는 루트: 전체 상위
+        assertThat(trie.search("", 10))
+                .extracting(TagTrie.Entry::id)
+                .containsExactly(6L, 2L, 1L);
+    }
+
+    @Test
+    void exactMatchNodeIncludesTheTagEndingThere() {
+        TagTrie trie = TagTrie.build(List.of(
+                entry(1L, "개발", 1),
+                entry(2L, "개발자", 9)
+        ), TOP_K);
+
+        assertThat(trie.search(HangulJamo.decompose("개발"), 10))
+                .extracting(TagTrie.Entry::id)
+                .containsExactly(2L, 1L);
+        assertThat(trie.search(HangulJamo.decompose("개발자"), 10))
+                .extracting(TagTrie.Entry::id)
+                .containsExactly(2L);
+    }
+
+    @Test
+    void limitAndMissingPrefix() {
+        TagTrie trie = TagTrie.build(List.of(
+                entry(1L, "java", 3),
+                entry(2L, "javascript", 2),
+                entry(3L, "jpa", 1)
+        ), TOP_K);
+
+        assertThat(trie.search("j", 2)).extracting(TagTrie.Entry::id).containsExactly(1L, 2L);
+        assertThat(trie.search("k", 10)).isEmpty();
+        assertThat(trie.search("javaz", 10)).isEmpty();
+        assertThat(trie.size()).isEqualTo(3);
+    }
+
+    @Test
+    void emptyTrieFindsNothing() {
+        TagTrie trie = TagTrie.build(List.of(), TOP_K);
+
+        assertThat(trie.search("", 10)).isEmpty();
+        assertThat(trie.search("ㄱ", 10)).isEmpty();
+    }
+
+    @Test
+    void everyPrefixMatchesBruteForceRanking() {
+        Random random = new Random(7);
+        String[] syllables = {"개", "발", "바", "갭", "과", "닭", "a", "b", "ab", " "};
+        List<TagTrie.Entry> entries = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        for (long id = 1; entries.size() < 300; id++) {
+            StringBuilder name = new StringBuilder();
+            int length = 1 + random.nextInt(4);
+            for (int i = 0; i < length; i++) {
+                name.append(syllables[random.nextInt(syllables.length)]);
+            }
+            String normalized = name.toString().trim().replaceAll("\\s+", " ");
+            if (normalized.isEmpty() || !names.add(normalized)) continue;
+            entries.add(entry(id, normalized, random.nextInt(10)));
+        }
+
+        TagTrie trie = TagTrie.build(entries, TOP_K);
+
+        Set<String> prefixes = new HashSet<>();
+        for (TagTrie.Entry entry : entries) {
+            String key = HangulJamo.decompose(entry.name());
+            for (int i = 0; i <= key.length(); i++) {
+                prefixes.add(key.substring(0, i));
+            }
+        }
+        prefixes.add("ㅋ");
+        prefixes.add("ㄱㅐㅋ");
+
+        for (String prefix : prefixes) {
+            List<TagTrie.Entry> expected = entries.stream()
+                    .filter(entry -> HangulJamo.decompose(entry.name()).startsWith(prefix))
+                    .sorted(TagTrie.RANK)
+                    .limit(TOP_K)
+                    .toList();
+
+            assertThat(trie.search(prefix, 10)).as("prefix '%s'", prefix).containsExactlyElementsOf(expected);
+        }
+    }
+
+    private static TagTrie.Entry entry(Long id, String name, long usage) {
+        return new TagTrie.Entry(id, name, usage);
+    }
+}
@@ -0,0 +1,116 @@
+package targeter.aim.domain.search.repository;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.Test;
+import targeter.aim.domain.search.dto.SearchDto;
+import targeter.aim.system.exception.model.ErrorCode;
+import targeter.aim.system.exception.model.RestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 커서를 인코딩했다가 다시 읽으면 정렬 기준별 위치가 그대로인지,
+ * 다른 키워드 / 정렬 / 깨진 값으로 이어 읽으려 하면 거절하는지 확인한다.
+ */
+class SearchFeedCursorTest {
+
+    @Test
+    void emptyValueStartsFromFirstPage() {
+        SearchFeedCursor cursor = SearchFeedCursor.decode(null, SearchDto.SortType.LATEST, "개발");
+
+        assertThat(cursor.challenge()).isNull();
+        assertThat(cursor.post()).isNull();
+    }
+
+    @Test
+    void latestPositionRoundTrips() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 3, 1, 9, 30, 15, 123_000_000);
+        SearchFeedCursor cursor = SearchFeedCursor.first(SearchDto.SortType.LATEST, "개발")
+                .next(new SearchFeedCursor.Position(7L, createdAt, null, null), null);
+
+        SearchFeedCursor decoded = SearchFeedCursor.decode(cursor.encode(), SearchDto.SortType.LATEST, "개발");
+
+        assertThat(decoded.challenge()).isEqualTo(new SearchFeedCursor.Position(7L, createdAt, null, null));
+        assertThat(decoded.post()).isNull();
+    }
+
+    @Test
+    void likedPositionRoundTrips() {
+        SearchFeedCursor cursor = SearchFeedCursor.first(SearchDto.SortType.LIKED, null)
+                .next(null, new SearchFeedCursor.Position(3L, null, 42, null));
+
+        SearchFeedCursor decoded = SearchFeedCursor.decode(cursor.encode(), SearchDto.SortType.LIKED, null);
+
+        assertThat(decoded.post()).isEqualTo(new SearchFeedCursor.Position(3L, null, 42, null));
+    }
+
+    @Test
+    void titleWithSeparatorsRoundTrips() {
+        String title = "a|b:c 개발|";
+        SearchFeedCursor cursor = SearchFeedCursor.first(SearchDto.SortType.TITLE, "dev")
+                .next(new SearchFeedCursor.Position(5L, null, null, title), null);
+
+        SearchFeedCursor decoded = SearchFeedCursor.decode(cursor.encode(), SearchDto.SortType.TITLE, "dev");
+
+        assertThat(decoded.challenge().name()).isEqualTo(title);
+        assertThat(decoded.challenge().id()).isEqualTo(5L);
+    }
+
+    @Test
+    void exhaustedSourceStaysExhausted() {
+        SearchFeedCursor cursor = SearchFeedCursor.first(SearchDto.SortType.LIKED, "dev")
+                .next(SearchFeedCursor.EXHAUSTED, new SearchFeedCursor.Position(9L, null, 1, null));
+
+        SearchFeedCursor decoded = SearchFeedCursor.decode(cursor.encode(), SearchDto.SortType.LIKED, "dev");
+
+        assertThat(decoded.challenge()).isSameAs(SearchFeedCursor.EXHAUSTED);
+        assertThat(decoded.post().id()).isEqualTo(9L);
+    }
+
+    @Test
+    void keywordIsComparedAfterNormalization() {
+        String value = SearchFeedCursor.first(SearchDto.SortType.LATEST, "Dev").encode();
+
+        assertThat(SearchFeedCursor.decode(value, SearchDto.SortType.LATEST, "  dev ")).isNotNull();
+    }
+
+    @Test
+    void rejectsCursorFromOtherKeyword() {
+        String value = SearchFeedCursor.first(SearchDto.SortType.LATEST, "개발").encode();
+
+        assertInvalid(() -> SearchFeedCursor.decode(value, SearchDto.SortType.LATEST, "디자인"));
+        assertInvalid(() -> SearchFeedCursor.decode(value, SearchDto.SortType.LATEST, null));
+    }
+
+    @Test
+    void rejectsCursorFromOtherSort() {
+        String value = SearchFeedCursor.first(SearchDto.SortType.LATEST, "개발").encode();
+
+        assertInvalid(() -> SearchFeedCursor.decode(value, SearchDto.SortType.OLDEST, "개발"));
+    }
+
+    @Test
+    void rejectsMalformedValues() {
+        assertInvalid(() -> SearchFeedCursor.decode("%%%", SearchDto.SortType.LATEST, null));
+        assertInvalid(() -> SearchFeedCursor.decode(encode("LATEST|-|x"), SearchDto.SortType.LATEST, null));
+        assertInvalid(() -> SearchFeedCursor.decode(encode("LATEST|-|7|"), SearchDto.SortType.LATEST, null));
+        assertInvalid(() -> SearchFeedCursor.decode(encode("LATEST|-|7:yesterday|"), SearchDto.SortType.LATEST, null));
+        assertInvalid(() -> SearchFeedCursor.decode(encode("NEWEST|-||"), SearchDto.SortType.LATEST, null));
+    }
+
+    private static String encode(String payload) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void assertInvalid(ThrowingCallable call) {
+        assertThatThrownBy(call)
+                .isInstanceOf(RestException.class)
+                .extracting(e -> ((RestException) e).getErrorCode())
+                .isEqualTo(ErrorCode.GLOBAL_INVALID_PARAMETER);
+    }
+}
@@ -0,0 +1,100 @@
+package targeter.aim.domain.search.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 정렬된 두 소스의 병합: 비교가 같을 때 첫 소스 우선, 소스 소진 표시,
+ * 병합 비교가 소스의 순서와 어긋나도 페이지를 이어 붙이면 모든 행이 한 번씩만 나오는지 확인한다.
+ */
+class SearchFeedMergeTest {
+
+    private record Row(String source, int key) {}
+
+    private static final Comparator<Row> BY_KEY_DESC = Comparator.comparingInt(Row::key).reversed();
+
+    @Test
+    void mergesInOrderAndPrefersFirstSourceOnTie() {
+        List<Row> first = List.of(new Row("c", 9), new Row("c", 5), new Row("c", 1));
+        List<Row> second = List.of(new Row("p", 7), new Row("p", 5));
+
+        SearchFeedMerge<Row> merged = SearchFeedMerge.merge(first, second, BY_KEY_DESC, 10);
+
+        assertThat(merged.rows()).containsExactly(
+                new Row("c", 9), new Row("p", 7), new Row("c", 5), new Row("p", 5), new Row("c", 1)
+        );
+        assertThat(merged.firstExhausted()).isTrue();
+        assertThat(merged.secondExhausted()).isTrue();
+        assertThat(merged.hasNext()).isFalse();
+    }
+
+    @Test
+    void stopsAtLimitAndReportsConsumedRows() {
+        List<Row> first = List.of(new Row("c", 9), new Row("c", 3));
+        List<Row> second = List.of(new Row("p", 8), new Row("p", 7), new Row("p", 1));
+
+        SearchFeedMerge<Row> merged = SearchFeedMerge.merge(first, second, BY_KEY_DESC, 3);
+
+        assertThat(merged.rows()).extracting(Row::key).containsExactly(9, 8, 7);
+        assertThat(merged.firstConsumed()).isEqualTo(1);
+        assertThat(merged.secondConsumed()).isEqualTo(2);
+        assertThat(merged.firstExhausted()).isFalse();
+        assertThat(merged.secondExhausted()).isFalse();
+        assertThat(merged.hasNext()).isTrue();
+    }
+
+    @Test
+    void marksOnlyTheDrainedSourceExhausted() {
+        List<Row> first = List.of(new Row("c", 9));
+        List<Row> second = List.of(new Row("p", 8), new Row("p", 7));
+
+        SearchFeedMerge<Row> merged = SearchFeedMerge.merge(first, second, BY_KEY_DESC, 2);
+
+        assertThat(merged.firstExhausted()).isTrue();
+        assertThat(merged.secondExhausted()).isFalse();
+        assertThat(merged.hasNext()).isTrue();
+    }
+
+    @Test
+    void emptySourcesAreExhausted() {
+        SearchFeedMerge<Row> merged = SearchFeedMerge.merge(List.<Row>of(), List.of(), BY_KEY_DESC, 5);
+
+        assertThat(merged.rows()).isEmpty();
+        assertThat(merged.hasNext()).isFalse();
+    }
+
+    @Test
+    void pagesCoverEveryRowOnceEvenWhenComparatorDisagreesWithSourceOrder() {
+        // 소스 안의 순서가 병합 비교와 어긋난 경우 (DB collation 과 titleKey 가 다를 때)
+        List<Row> first = List.of(new Row("c", 2), new Row("c", 9), new Row("c", 4), new Row("c", 7));
+        List<Row> second = List.of(new Row("p", 8), new Row("p", 1), new Row("p", 6));
+
+        List<Row> seen = new ArrayList<>();
+        int fi = 0;
+        int si = 0;
+        while (true) {
+            SearchFeedMerge<Row> page = SearchFeedMerge.merge(
+                    first.subList(fi, first.size()), second.subList(si, second.size()), BY_KEY_DESC, 2);
+            seen.addAll(page.rows());
+            fi += page.firstConsumed();
+            si += page.secondConsumed();
+            if (!page.hasNext()) break;
+        }
+
+        assertThat(seen).hasSize(first.size() + second.size())
+                .containsExactlyInAnyOrderElementsOf(concat(first, second));
+        assertThat(seen.stream().filter(r -> r.source().equals("c")).toList()).containsExactlyElementsOf(first);
+        assertThat(seen.stream().filter(r -> r.source().equals("p")).toList()).containsExactlyElementsOf(second);
+    }
+
+    private static List<Row> concat(List<Row> a, List<Row> b) {
+        List<Row> all = new ArrayList<>(a);
+        all.addAll(b);
+        return all;
+    }
+}
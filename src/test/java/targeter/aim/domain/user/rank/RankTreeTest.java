@@ -0,0 +1,123 @@
+package targeter.aim.domain.user.rank;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 트립의 insert / remove / rank / range(select) 를 TreeSet 모델과 비교한다.
+ * 정렬은 레벨 내림차순, 같은 레벨은 userId 오름차순이며 32비트를 넘는 userId 도 섞는다.
+ */
+class RankTreeTest {
+
+    private record Item(long userId, int level) {}
+
+    private static final Comparator<Item> ORDER = Comparator
+            .comparingInt(Item::level).reversed()
+            .thenComparingLong(Item::userId);
+
+    @Test
+    void ordersByLevelDescThenUserIdAsc() {
+        RankTree tree = new RankTree();
+        tree.insert(3L, 5);
+        tree.insert(1L, 5);
+        tree.insert(2L, 9);
+        tree.insert(4L, 1);
+
+        assertThat(range(tree, 0, 10)).containsExactly(
+                new Item(2L, 9), new Item(1L, 5), new Item(3L, 5), new Item(4L, 1)
+        );
+        assertThat(tree.rank(2L, 9)).isZero();
+        assertThat(tree.rank(3L, 5)).isEqualTo(2);
+        assertThat(tree.rank(4L, 1)).isEqualTo(3);
+    }
+
+    @Test
+    void userIdsBeyond32BitsKeepTheirOrderAndValue() {
+        RankTree tree = new RankTree();
+        long big = 1L << 32;
+        tree.insert(big + 1, 3);
+        tree.insert(1L, 3);
+        tree.insert(big, 3);
+        tree.insert(Long.MAX_VALUE, 7);
+
+        // 하위 32비트가 같은 1 과 2^32 + 1 이 서로 다른 원소로 남는다
+        assertThat(range(tree, 0, 10)).containsExactly(
+                new Item(Long.MAX_VALUE, 7), new Item(1L, 3), new Item(big, 3), new Item(big + 1, 3)
+        );
+        assertThat(tree.rank(big + 1, 3)).isEqualTo(3);
+    }
+
+    @Test
+    void duplicateInsertAndMissingRemoveAreNoOps() {
+        RankTree tree = new RankTree();
+        tree.insert(1L, 2);
+        tree.insert(1L, 2);
+        tree.remove(1L, 3);
+        tree.remove(9L, 2);
+
+        assertThat(tree.size()).isEqualTo(1);
+        assertThat(range(tree, 0, 10)).containsExactly(new Item(1L, 2));
+    }
+
+    @Test
+    void rangeClipsToTreeBounds() {
+        RankTree tree = new RankTree();
+        for (long id = 1; id <= 5; id++) {
+            tree.insert(id, 1);
+        }
+
+        assertThat(range(tree, 3, 10)).extracting(Item::userId).containsExactly(4L, 5L);
+        assertThat(range(tree, 5, 10)).isEmpty();
+        assertThat(range(tree, 0, 0)).isEmpty();
+    }
+
+    @Test
+    void matchesSortedModelUnderRandomOperations() {
+        Random random = new Random(42);
+        RankTree tree = new RankTree();
+        TreeSet<Item> model = new TreeSet<>(ORDER);
+
+        for (int step = 0; step < 20_000; step++) {
+            long userId = random.nextBoolean() ? random.nextInt(500) : (1L << 32) + random.nextInt(500);
+            Item item = new Item(userId, random.nextInt(20));
+
+            if (random.nextInt(3) == 0) {
+                tree.remove(item.userId(), item.level());
+                model.remove(item);
+            } else {
+                tree.insert(item.userId(), item.level());
+                model.add(item);
+            }
+
+            if (step % 500 == 0) {
+                assertSameAs(tree, model);
+            }
+        }
+        assertSameAs(tree, model);
+    }
+
+    private static void assertSameAs(RankTree tree, TreeSet<Item> model) {
+        List<Item> expected = new ArrayList<>(model);
+        assertThat(tree.size()).isEqualTo(expected.size());
+        assertThat(range(tree, 0, expected.size())).containsExactlyElementsOf(expected);
+
+        for (int i = 0; i < expected.size(); i += 37) {
+            Item item = expected.get(i);
+            assertThat(tree.rank(item.userId(), item.level())).isEqualTo(i);
+            assertThat(range(tree, i, 3)).containsExactlyElementsOf(expected.subList(i, Math.min(i + 3, expected.size())));
+        }
+    }
+
+    private static List<Item> range(RankTree tree, int from, int count) {
+        List<Item> out = new ArrayList<>();
+        tree.range(from, count, (userId, level) -> out.add(new Item(userId, level)));
+        return out;
+    }
+}
@@ -0,0 +1,131 @@
+package targeter.aim.domain.user.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import targeter.aim.domain.challenge.entity.Challenge;
+import targeter.aim.domain.challenge.entity.ChallengeMode;
+import targeter.aim.domain.challenge.entity.ChallengeStatus;
+import targeter.aim.domain.challenge.entity.ChallengeVisibility;
+import targeter.aim.domain.challenge.entity.WeeklyProgress;
+import targeter.aim.domain.challenge.entity.WeeklyStatus;
+import targeter.aim.domain.challenge.repository.ChallengeRepository;
+import targeter.aim.domain.challenge.repository.WeeklyProgressQueryRepository;
+import targeter.aim.domain.challenge.repository.WeeklyProgressRepository;
+import targeter.aim.domain.user.entity.Tier;
+import targeter.aim.domain.user.entity.User;
+import targeter.aim.domain.user.entity.UserChallengeStats;
+import targeter.aim.domain.user.repository.TierRepository;
+import targeter.aim.domain.user.repository.UserChallengeStatsRepository;
+import targeter.aim.domain.user.repository.UserRepository;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 통계 행이 없는 유저의 첫 타이머 STOP.
+ * STOP 트랜잭션과 같은 순서로 weekly_progress 를 먼저 갱신한 뒤 통계를 반영해, 행이 만들어지고 한 번만 집계되는지 본다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class UserChallengeStatsServiceTest {
+
+    @Autowired
+    private UserChallengeStatsService userChallengeStatsService;
+
+    @Autowired
+    private UserChallengeStatsRepository userChallengeStatsRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TierRepository tierRepository;
+
+    @Autowired
+    private ChallengeRepository challengeRepository;
+
+    @Autowired
+    private WeeklyProgressRepository weeklyProgressRepository;
+
+    @Autowired
+    private WeeklyProgressQueryRepository weeklyProgressQueryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User user;
+    private WeeklyProgress progress;
+
+    @BeforeEach
+    void setUp() {
+        Tier tier = tierRepository.findAll().get(0);
+        user = userRepository.save(User.builder()
+                .nickname("stats-" + UUID.randomUUID().toString().substring(0, 8))
+                .tier(tier)
+                .level(1)
+                .build());
+
+        Challenge challenge = challengeRepository.save(Challenge.builder()
+                .host(user)
+                .name("stats")
+                .job("dev")
+                .startedAt(LocalDate.now())
+                .durationWeek(4)
+                .mode(ChallengeMode.SOLO)
+                .status(ChallengeStatus.IN_PROGRESS)
+                .visibility(ChallengeVisibility.PUBLIC)
+                .build());
+
+        progress = weeklyProgressRepository.save(WeeklyProgress.builder()
+                .challenge(challenge)
+                .user(user)
+                .weekNumber(1)
+                .targetTimeSeconds(3600)
+                .weeklyStatus(WeeklyStatus.PENDING)
+                .isComplete(false)
+                .build());
+    }
+
+    @Test
+    void firstStopCreatesStatsRowAndCountsOnce() {
+        assertThat(userChallengeStatsRepository.findById(user.getId())).isEmpty();
+
+        stop(progress.getId(), 30);
+
+        UserChallengeStats stats = userChallengeStatsRepository.findById(user.getId()).orElseThrow();
+        assertThat(stats.getTotalStudySeconds()).isEqualTo(30L);
+    }
+
+    @Test
+    void stopAfterRowExistsAddsIncrement() {
+        stop(progress.getId(), 30);
+
+        WeeklyProgress next = weeklyProgressRepository.save(WeeklyProgress.builder()
+                .challenge(progress.getChallenge())
+                .user(user)
+                .weekNumber(2)
+                .targetTimeSeconds(3600)
+                .weeklyStatus(WeeklyStatus.PENDING)
+                .isComplete(false)
+                .build());
+        stop(next.getId(), 45);
+
+        UserChallengeStats stats = userChallengeStatsRepository.findById(user.getId()).orElseThrow();
+        assertThat(stats.getTotalStudySeconds()).isEqualTo(75L);
+    }
+
+    // ChallengeTimerService.stopTimer 의 DB 부분과 같은 순서
+    private void stop(Long progressId, int seconds) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            weeklyProgressQueryRepository.completeWithElapsedTime(progressId, seconds);
+            userChallengeStatsService.addStudySeconds(user.getId(), seconds);
+        });
+    }
+}
@@ -0,0 +1,50 @@
+package targeter.aim.system.configuration.cache;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.bind.PropertySourcesPlaceholdersResolver;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.env.PropertySource;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 프로필별 yml 의 cache.specs 가 CacheProperties 의 prefix 로 실제로 바인딩되는지 확인한다.
+ * (prefix 가 어긋나면 specs 가 비어 모든 캐시가 기본값 7일로 만들어진다)
+ */
+class CachePropertiesTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"application-local.yml", "application-remote.yml"})
+    void bindsCacheSpecsFromProfileYaml(String location) throws IOException {
+        CacheProperties properties = bind(location);
+
+        assertThat(properties.getSpecs()).containsKeys(
+                CacheNames.REFRESH_TOKEN_UUID, CacheNames.VS_OVERVIEW, CacheNames.VS_OVERVIEW_LIKED, CacheNames.PAGE_COUNT
+        );
+        assertThat(properties.expireAfterWriteOf(CacheNames.PAGE_COUNT)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(properties.getSpecs().get(CacheNames.PAGE_COUNT).getMaximumSize()).isEqualTo(20_000);
+        assertThat(properties.expireAfterWriteOf(CacheNames.VS_OVERVIEW)).isEqualTo(Duration.ofDays(7));
+        assertThat(properties.getSpecs().get(CacheNames.VS_OVERVIEW).getMaximumSize()).isEqualTo(5_000);
+        assertThat(properties.expireAfterWriteOf(CacheNames.REFRESH_TOKEN_UUID)).isEqualTo(Duration.ofDays(14));
+    }
+
+    private static CacheProperties bind(String location) throws IOException {
+        List<PropertySource<?>> sources = new YamlPropertySourceLoader().load(location, new ClassPathResource(location));
+        Binder binder = new Binder(
+                ConfigurationPropertySources.from(sources),
+                new PropertySourcesPlaceholdersResolver(sources)
+        );
+        String prefix = CacheProperties.class.getAnnotation(ConfigurationProperties.class).prefix();
+        return binder.bind(prefix, Bindable.ofInstance(new CacheProperties())).get();
+    }
+}
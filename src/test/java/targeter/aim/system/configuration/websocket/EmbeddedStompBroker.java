@@ -0,0 +1,69 @@
+package targeter.aim.system.configuration.websocket;
+
+import org.apache.activemq.artemis.core.config.Configuration;
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 테스트용 내장 STOMP 브로커 (docker-compose.relay.yml 의 Artemis 대신).
+ * 빈 포트 하나에 STOMP acceptor 만 열고, 메시지는 메모리에만 둔다.
+ */
+public final class EmbeddedStompBroker implements AutoCloseable {
+
+    private final EmbeddedActiveMQ server;
+    private final int port;
+
+    private EmbeddedStompBroker(EmbeddedActiveMQ server, int port) {
+        this.server = server;
+        this.port = port;
+    }
+
+    public static EmbeddedStompBroker start() throws Exception {
+        int port = freePort();
+        Path dataDir = Files.createTempDirectory("aim-stomp-broker");
+
+        Configuration configuration = new ConfigurationImpl()
+                .setPersistenceEnabled(false)
+                .setSecurityEnabled(false)
+                .setJournalDirectory(dataDir.resolve("journal").toString())
+                .setBindingsDirectory(dataDir.resolve("bindings").toString())
+                .setPagingDirectory(dataDir.resolve("paging").toString())
+                .setLargeMessagesDirectory(dataDir.resolve("large").toString())
+                .addAcceptorConfiguration("stomp", "tcp://127.0.0.1:" + port + "?protocols=STOMP");
+
+        EmbeddedActiveMQ server = new EmbeddedActiveMQ().setConfiguration(configuration);
+        server.start();
+        return new EmbeddedStompBroker(server, port);
+    }
+
+    public int port() {
+        return port;
+    }
+
+    // 이 브로커에 붙는 relay 설정 (nodeId 만 노드마다 다르게)
+    public WebSocketProperties properties(String nodeId) {
+        WebSocketProperties properties = new WebSocketProperties();
+        WebSocketProperties.Broker broker = properties.getBroker();
+        broker.setMode(WebSocketProperties.BrokerMode.RELAY);
+        broker.setRelayHost("127.0.0.1");
+        broker.setRelayPort(port);
+        broker.setNodeId(nodeId);
+        return properties;
+    }
+
+    @Override
+    public void close() throws Exception {
+        server.stop();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package targeter.aim.system.configuration.websocket;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHandlingRunnable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여러 스레드의 풀(POOLED 모드)과 가상 스레드(VIRTUAL 모드) 위에서 세션 단위 송신 순서가 지켜지는지 확인한다.
+ */
+class StompChannelExecutorTest {
+
+    private static final int SESSIONS = 8;
+    private static final int MESSAGES = 2_000;
+
+    @Test
+    void keepsSessionOrderOnPlatformPool() throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            assertOrdered(new StompChannelExecutor("clientOutbound", pool, true), pool);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void keepsSessionOrderOnVirtualThreads() throws InterruptedException {
+        ExecutorService virtual = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            assertOrdered(new StompChannelExecutor("clientOutbound", virtual, true), virtual);
+        } finally {
+            virtual.shutdownNow();
+        }
+    }
+
+    @Test
+    void runsLaneOnCallerWhenDelegateRejects() {
+        List<Integer> received = new ArrayList<>();
+        StompChannelExecutor executor = new StompChannelExecutor("clientOutbound", task -> {
+            throw new RejectedExecutionException("full");
+        }, true);
+
+        executor.execute(runnable("s1", 1, received));
+        executor.execute(runnable("s1", 2, received));
+
+        assertThat(received).containsExactly(1, 2);
+        assertThat(executor.getQueuedCount()).isZero();
+    }
+
+    private void assertOrdered(StompChannelExecutor executor, ExecutorService delegate) throws InterruptedException {
+        Map<String, List<Integer>> received = new ConcurrentHashMap<>();
+        for (int i = 0; i < MESSAGES; i++) {
+            String sessionId = "s" + (i % SESSIONS);
+            executor.execute(runnable(sessionId, i, received.computeIfAbsent(sessionId, id -> new CopyOnWriteArrayList<>())));
+        }
+        delegate.shutdown();
+        assertThat(delegate.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(received).hasSize(SESSIONS);
+        received.values().forEach(list -> assertThat(list).hasSize(MESSAGES / SESSIONS).isSorted());
+        assertThat(executor.getQueuedCount()).isZero();
+    }
+
+    private static MessageHandlingRunnable runnable(String sessionId, int seq, List<Integer> sink) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        Message<Integer> message = MessageBuilder.createMessage(seq, accessor.getMessageHeaders());
+        MessageHandler handler = m -> sink.add((Integer) m.getPayload());
+
+        return new MessageHandlingRunnable() {
+            @Override
+            public Message<?> getMessage() {
+                return message;
+            }
+
+            @Override
+            public MessageHandler getMessageHandler() {
+                return handler;
+            }
+
+            @Override
+            public void run() {
+                handler.handleMessage(message);
+            }
+        };
+    }
+}
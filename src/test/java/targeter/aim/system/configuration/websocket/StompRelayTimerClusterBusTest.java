@@ -0,0 +1,89 @@
+package targeter.aim.system.configuration.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import targeter.aim.domain.challenge.timer.TimerClusterMessage;
+import targeter.aim.system.cluster.ClusterEventMessage;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StompRelayTimerClusterBusTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static EmbeddedStompBroker broker;
+    private static StompRelayTimerClusterBus nodeA;
+    private static StompRelayTimerClusterBus nodeB;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        broker = EmbeddedStompBroker.start();
+        nodeA = new StompRelayTimerClusterBus(broker.properties("node-a"), OBJECT_MAPPER);
+        nodeB = new StompRelayTimerClusterBus(broker.properties("node-b"), OBJECT_MAPPER);
+        nodeA.connect();
+        nodeB.connect();
+    }
+
+    @AfterAll
+    static void tearDown() throws Exception {
+        nodeA.shutdown();
+        nodeB.shutdown();
+        broker.close();
+    }
+
+    @Test
+    void deliversTimerMessagesToOtherNodesOnly() {
+        List<TimerClusterMessage> receivedByA = new CopyOnWriteArrayList<>();
+        List<TimerClusterMessage> receivedByB = new CopyOnWriteArrayList<>();
+        nodeA.subscribe(receivedByA::add);
+        nodeB.subscribe(receivedByB::add);
+
+        TimerClusterMessage claim = new TimerClusterMessage(
+                TimerClusterMessage.Type.CLAIM, "node-a", 1L, 2L, 1_700_000_000_000L, 120L
+        );
+        // 구독이 끝나기 전에 보낸 메시지는 유실될 수 있으므로 받을 때까지 다시 보낸다
+        awaitWhilePublishing(() -> receivedByB.contains(claim), () -> nodeA.publish(claim));
+
+        assertThat(receivedByA).doesNotContain(claim);
+    }
+
+    @Test
+    void deliversDomainEventsToOtherNodes() {
+        List<ClusterEventMessage> receivedByB = new CopyOnWriteArrayList<>();
+        nodeB.subscribeEvents(receivedByB::add);
+
+        ClusterEventMessage event = new ClusterEventMessage(
+                "node-a", "ChallengeUpdatedEvent", OBJECT_MAPPER.createObjectNode().put("challengeId", 7L)
+        );
+        awaitWhilePublishing(() -> !receivedByB.isEmpty(), () -> nodeA.publishEvent(event));
+
+        ClusterEventMessage received = receivedByB.get(0);
+        assertThat(received.type()).isEqualTo("ChallengeUpdatedEvent");
+        assertThat(received.payload().get("challengeId").asLong()).isEqualTo(7L);
+    }
+
+    static void awaitWhilePublishing(BooleanSupplier condition, Runnable publish) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("브로커 전달 대기 시간 초과").isLessThan(deadline);
+            publish.run();
+            sleep(100);
+        }
+    }
+
+    static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package targeter.aim.system.scheduler;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import targeter.aim.system.configuration.scheduler.SchedulerLockProperties;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 H2 DB 를 보는 두 컨텍스트(노드)로 리스 획득 / 만료 인계 / 이전 토큰 거절을 확인한다.
+ */
+class SchedulerLockManagerTest {
+
+    private static final String LOCK_NAME = "test-job";
+    private static final Duration LEASE = Duration.ofSeconds(1);
+
+    private Node nodeA;
+    private Node nodeB;
+
+    private static final class Node {
+        final AnnotationConfigApplicationContext context;
+        final SchedulerLockManager lockManager;
+        final TransactionTemplate tx;
+
+        Node(String url, String nodeId) {
+            SchedulerLockProperties properties = new SchedulerLockProperties();
+            properties.setNodeId(nodeId);
+            properties.setLeaseDuration(LEASE);
+            properties.setRenewInterval(Duration.ofMillis(200));
+
+            context = new AnnotationConfigApplicationContext();
+            context.registerBean("schedulerLockProperties", SchedulerLockProperties.class, () -> properties);
+            context.registerBean("leaseDbUrl", String.class, () -> url);
+            context.register(LeaseContext.class);
+            context.refresh();
+
+            lockManager = context.getBean(SchedulerLockManager.class);
+            tx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        }
+
+        boolean isHeld(HeldLease lease) {
+            return Boolean.TRUE.equals(tx.execute(status -> lockManager.isHeld(lease)));
+        }
+    }
+
+    @Configuration
+    static class LeaseContext {
+
+        @Bean
+        DataSource dataSource(String leaseDbUrl) {
+            return new DriverManagerDataSource(leaseDbUrl, "sa", "");
+        }
+
+        @Bean
+        LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+            LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+            factory.setDataSource(dataSource);
+            factory.setPackagesToScan("targeter.aim.system.scheduler");
+            factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+            factory.setJpaPropertyMap(Map.of("hibernate.hbm2ddl.auto", "update"));
+            return factory;
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+            return new JpaTransactionManager(entityManagerFactory);
+        }
+
+        @Bean
+        JPAQueryFactory jpaQueryFactory(EntityManagerFactory entityManagerFactory) {
+            return new JPAQueryFactory(SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory));
+        }
+
+        @Bean
+        SchedulerLockManager schedulerLockManager(
+                JPAQueryFactory jpaQueryFactory,
+                PlatformTransactionManager transactionManager,
+                SchedulerLockProperties schedulerLockProperties
+        ) {
+            return new SchedulerLockManager(jpaQueryFactory, transactionManager, schedulerLockProperties);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        String url = "jdbc:h2:mem:lease-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        nodeA = new Node(url, "node-a");
+        nodeB = new Node(url, "node-b");
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.context.close();
+        nodeB.context.close();
+    }
+
+    @Test
+    void onlyOneNodeAcquiresAtOnce() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<Optional<HeldLease>>> attempts = new ArrayList<>();
+            for (Node node : List.of(nodeA, nodeB)) {
+                attempts.add(pool.submit(() -> {
+                    start.await();
+                    return node.lockManager.tryAcquire(LOCK_NAME);
+                }));
+            }
+            start.countDown();
+
+            int winners = 0;
+            for (Future<Optional<HeldLease>> attempt : attempts) {
+                if (attempt.get().isPresent()) winners++;
+            }
+            assertThat(winners).isEqualTo(1);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void expiredLeaseIsTakenOverWithNewToken() throws Exception {
+        HeldLease leaseA = nodeA.lockManager.tryAcquire(LOCK_NAME).orElseThrow();
+        assertThat(nodeB.lockManager.tryAcquire(LOCK_NAME)).isEmpty();
+
+        // A 가 갱신하지 않으면 leaseDuration 뒤 B 가 가져간다
+        Thread.sleep(LEASE.toMillis() + 300);
+        HeldLease leaseB = nodeB.lockManager.tryAcquire(LOCK_NAME).orElseThrow();
+
+        assertThat(leaseB.getFencingToken()).isEqualTo(leaseA.getFencingToken() + 1);
+        assertThat(nodeB.isHeld(leaseB)).isTrue();
+    }
+
+    @Test
+    void staleTokenIsRejectedAfterTakeover() throws Exception {
+        HeldLease leaseA = nodeA.lockManager.tryAcquire(LOCK_NAME).orElseThrow();
+        Thread.sleep(LEASE.toMillis() + 300);
+        HeldLease leaseB = nodeB.lockManager.tryAcquire(LOCK_NAME).orElseThrow();
+
+        assertThat(nodeA.isHeld(leaseA)).isFalse();
+        assertThat(leaseA.isLost()).isTrue();
+        assertThat(nodeA.lockManager.renew(leaseA)).isFalse();
+
+        // 이전 소유자의 반납은 새 소유자의 리스를 건드리지 않는다
+        nodeA.lockManager.release(leaseA);
+        assertThat(nodeB.isHeld(leaseB)).isTrue();
+    }
+}